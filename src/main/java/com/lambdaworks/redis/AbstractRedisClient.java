@@ -145,6 +145,23 @@ public abstract class AbstractRedisClient {
         return (T) initializeChannel(connectionBuilder);
     }
 
+    /**
+     * Apply the write buffer water marks through the individual options that are available across all Netty 4.0 and 4.1
+     * versions. The channel validates each mark against the current value of the other one so the order depends on the
+     * Netty defaults ({@literal 32 KiB} low and {@literal 64 KiB} high water mark).
+     */
+    @SuppressWarnings("deprecation")
+    private static void setWriteBufferWaterMarks(Bootstrap bootstrap, ClientOptions options) {
+
+        if (options.getWriteBufferHighWaterMark() < 32 * 1024) {
+            bootstrap.option(ChannelOption.WRITE_BUFFER_LOW_WATER_MARK, options.getWriteBufferLowWaterMark());
+            bootstrap.option(ChannelOption.WRITE_BUFFER_HIGH_WATER_MARK, options.getWriteBufferHighWaterMark());
+        } else {
+            bootstrap.option(ChannelOption.WRITE_BUFFER_HIGH_WATER_MARK, options.getWriteBufferHighWaterMark());
+            bootstrap.option(ChannelOption.WRITE_BUFFER_LOW_WATER_MARK, options.getWriteBufferLowWaterMark());
+        }
+    }
+
     /**
      * Populate connection builder with necessary resources.
      *
@@ -158,8 +175,7 @@ public abstract class AbstractRedisClient {
             Supplier<SocketAddress> socketAddressSupplier, ConnectionBuilder connectionBuilder, RedisURI redisURI) {
 
         Bootstrap redisBootstrap = new Bootstrap();
-        redisBootstrap.option(ChannelOption.WRITE_BUFFER_HIGH_WATER_MARK, 32 * 1024);
-        redisBootstrap.option(ChannelOption.WRITE_BUFFER_LOW_WATER_MARK, 8 * 1024);
+        setWriteBufferWaterMarks(redisBootstrap, getOptions());
         redisBootstrap.option(ChannelOption.ALLOCATOR, BUF_ALLOCATOR);
 
         SocketOptions socketOptions = getOptions().getSocketOptions();
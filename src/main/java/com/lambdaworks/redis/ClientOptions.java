@@ -35,6 +35,14 @@ public class ClientOptions implements Serializable {
     public static final DisconnectedBehavior DEFAULT_DISCONNECTED_BEHAVIOR = DisconnectedBehavior.DEFAULT;
     public static final SocketOptions DEFAULT_SOCKET_OPTIONS = SocketOptions.create();
     public static final SslOptions DEFAULT_SSL_OPTIONS = SslOptions.create();
+    public static final boolean DEFAULT_CONSOLIDATE_FLUSHES = false;
+    public static final int DEFAULT_MAX_COMMANDS_PER_FLUSH = 256;
+    public static final boolean DEFAULT_TIMEOUT_COMMANDS = false;
+    public static final int DEFAULT_WRITE_BUFFER_LOW_WATER_MARK = 8 * 1024;
+    public static final int DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK = 32 * 1024;
+    public static final BackpressureBehavior DEFAULT_BACKPRESSURE_BEHAVIOR = BackpressureBehavior.DEFAULT;
+    public static final HedgedReadOptions DEFAULT_HEDGED_READ_OPTIONS = HedgedReadOptions.create();
+    public static final PubSubDispatchOptions DEFAULT_PUB_SUB_DISPATCH_OPTIONS = PubSubDispatchOptions.create();
 
     private final boolean pingBeforeActivateConnection;
     private final boolean autoReconnect;
@@ -44,6 +52,14 @@ public class ClientOptions implements Serializable {
     private final DisconnectedBehavior disconnectedBehavior;
     private final SocketOptions socketOptions;
     private final SslOptions sslOptions;
+    private final boolean consolidateFlushes;
+    private final int maxCommandsPerFlush;
+    private final boolean timeoutCommands;
+    private final int writeBufferLowWaterMark;
+    private final int writeBufferHighWaterMark;
+    private final BackpressureBehavior backpressureBehavior;
+    private final HedgedReadOptions hedgedReadOptions;
+    private final PubSubDispatchOptions pubSubDispatchOptions;
 
     protected ClientOptions(Builder builder) {
         pingBeforeActivateConnection = builder.pingBeforeActivateConnection;
@@ -54,6 +70,14 @@ public class ClientOptions implements Serializable {
         disconnectedBehavior = builder.disconnectedBehavior;
         socketOptions = builder.socketOptions;
         sslOptions = builder.sslOptions;
+        consolidateFlushes = builder.consolidateFlushes;
+        maxCommandsPerFlush = builder.maxCommandsPerFlush;
+        timeoutCommands = builder.timeoutCommands;
+        writeBufferLowWaterMark = builder.writeBufferLowWaterMark;
+        writeBufferHighWaterMark = builder.writeBufferHighWaterMark;
+        backpressureBehavior = builder.backpressureBehavior;
+        hedgedReadOptions = builder.hedgedReadOptions;
+        pubSubDispatchOptions = builder.pubSubDispatchOptions;
     }
 
     protected ClientOptions(ClientOptions original) {
@@ -65,6 +89,14 @@ public class ClientOptions implements Serializable {
         this.disconnectedBehavior = original.getDisconnectedBehavior();
         this.socketOptions = original.getSocketOptions();
         this.sslOptions = original.getSslOptions();
+        this.consolidateFlushes = original.isConsolidateFlushes();
+        this.maxCommandsPerFlush = original.getMaxCommandsPerFlush();
+        this.timeoutCommands = original.isTimeoutCommands();
+        this.writeBufferLowWaterMark = original.getWriteBufferLowWaterMark();
+        this.writeBufferHighWaterMark = original.getWriteBufferHighWaterMark();
+        this.backpressureBehavior = original.getBackpressureBehavior();
+        this.hedgedReadOptions = original.getHedgedReadOptions();
+        this.pubSubDispatchOptions = original.getPubSubDispatchOptions();
     }
 
     /**
@@ -108,6 +140,14 @@ public class ClientOptions implements Serializable {
         private DisconnectedBehavior disconnectedBehavior = DEFAULT_DISCONNECTED_BEHAVIOR;
         private SocketOptions socketOptions = DEFAULT_SOCKET_OPTIONS;
         private SslOptions sslOptions = DEFAULT_SSL_OPTIONS;
+        private boolean consolidateFlushes = DEFAULT_CONSOLIDATE_FLUSHES;
+        private int maxCommandsPerFlush = DEFAULT_MAX_COMMANDS_PER_FLUSH;
+        private boolean timeoutCommands = DEFAULT_TIMEOUT_COMMANDS;
+        private int writeBufferLowWaterMark = DEFAULT_WRITE_BUFFER_LOW_WATER_MARK;
+        private int writeBufferHighWaterMark = DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK;
+        private BackpressureBehavior backpressureBehavior = DEFAULT_BACKPRESSURE_BEHAVIOR;
+        private HedgedReadOptions hedgedReadOptions = DEFAULT_HEDGED_READ_OPTIONS;
+        private PubSubDispatchOptions pubSubDispatchOptions = DEFAULT_PUB_SUB_DISPATCH_OPTIONS;
 
         /**
          * @deprecated Use {@link ClientOptions#builder()}
@@ -220,6 +260,118 @@ public class ClientOptions implements Serializable {
             return this;
         }
 
+        /**
+         * Enables or disables flush consolidation. If enabled, commands written while auto-flush is enabled are queued and
+         * written by the event loop that flushes the channel once per event loop run instead of once per command. Flushes are
+         * issued earlier if {@link #maxCommandsPerFlush(int)} is reached or the channel becomes non-writable. Defaults to
+         * {@literal false}. See {@link #DEFAULT_CONSOLIDATE_FLUSHES}.
+         *
+         * @param consolidateFlushes true/false
+         * @return {@code this}
+         */
+        public Builder consolidateFlushes(boolean consolidateFlushes) {
+            this.consolidateFlushes = consolidateFlushes;
+            return this;
+        }
+
+        /**
+         * Sets the maximal number of commands that are written before flushing the channel when flush consolidation is
+         * enabled. Defaults to {@literal 256}. See {@link #DEFAULT_MAX_COMMANDS_PER_FLUSH}.
+         *
+         * @param maxCommandsPerFlush number of commands, must be greater {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder maxCommandsPerFlush(int maxCommandsPerFlush) {
+
+            LettuceAssert.isTrue(maxCommandsPerFlush > 0, "MaxCommandsPerFlush must be greater 0");
+            this.maxCommandsPerFlush = maxCommandsPerFlush;
+            return this;
+        }
+
+        /**
+         * Enables or disables command timeouts. If enabled, each command is completed with a
+         * {@link RedisCommandTimeoutException} once the connection timeout elapses without a response. This applies to the
+         * asynchronous and reactive API as well. Commands that time out before they are written are not sent to Redis.
+         * Blocking commands require a connection timeout that exceeds their blocking time. Defaults to {@literal false}. See
+         * {@link #DEFAULT_TIMEOUT_COMMANDS}.
+         *
+         * @param timeoutCommands true/false
+         * @return {@code this}
+         * @since 4.5
+         */
+        public Builder timeoutCommands(boolean timeoutCommands) {
+            this.timeoutCommands = timeoutCommands;
+            return this;
+        }
+
+        /**
+         * Sets the low and high water mark of the channel write buffer in bytes. The channel becomes non-writable once the
+         * number of pending outbound bytes exceeds the high water mark and writable again once it drops below the low water
+         * mark. Defaults to {@literal 8 KiB} and {@literal 32 KiB}. See {@link #DEFAULT_WRITE_BUFFER_LOW_WATER_MARK} and
+         * {@link #DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK}.
+         *
+         * @param low low water mark in bytes, must be greater or equal to {@literal 0}.
+         * @param high high water mark in bytes, must be greater or equal to {@code low}.
+         * @return {@code this}
+         * @since 4.5
+         * @see #backpressureBehavior(BackpressureBehavior)
+         */
+        public Builder writeBufferWaterMark(int low, int high) {
+
+            LettuceAssert.isTrue(low >= 0, "Low water mark must be greater or equal to 0");
+            LettuceAssert.isTrue(high >= low, "High water mark must be greater or equal to the low water mark");
+
+            this.writeBufferLowWaterMark = low;
+            this.writeBufferHighWaterMark = high;
+            return this;
+        }
+
+        /**
+         * Sets the behavior for commands that are written while the channel is not writable because the write buffer exceeds
+         * its high water mark. Defaults to {@link BackpressureBehavior#DEFAULT}. See {@link #DEFAULT_BACKPRESSURE_BEHAVIOR}.
+         *
+         * @param backpressureBehavior must not be {@literal null}.
+         * @return {@code this}
+         * @since 4.5
+         * @see #writeBufferWaterMark(int, int)
+         */
+        public Builder backpressureBehavior(BackpressureBehavior backpressureBehavior) {
+
+            LettuceAssert.notNull(backpressureBehavior, "BackpressureBehavior must not be null");
+            this.backpressureBehavior = backpressureBehavior;
+            return this;
+        }
+
+        /**
+         * Sets the {@link HedgedReadOptions} for read-only commands on Master/Slave and Redis Cluster connections. Hedged
+         * reads are disabled by default. See {@link #DEFAULT_HEDGED_READ_OPTIONS}.
+         *
+         * @param hedgedReadOptions must not be {@literal null}.
+         * @return {@code this}
+         * @since 4.5
+         */
+        public Builder hedgedReadOptions(HedgedReadOptions hedgedReadOptions) {
+
+            LettuceAssert.notNull(hedgedReadOptions, "HedgedReadOptions must not be null");
+            this.hedgedReadOptions = hedgedReadOptions;
+            return this;
+        }
+
+        /**
+         * Sets the {@link PubSubDispatchOptions} that control how pub/sub listeners are notified. Listeners are notified on the
+         * I/O thread by default. See {@link #DEFAULT_PUB_SUB_DISPATCH_OPTIONS}.
+         *
+         * @param pubSubDispatchOptions must not be {@literal null}.
+         * @return {@code this}
+         * @since 4.5
+         */
+        public Builder pubSubDispatchOptions(PubSubDispatchOptions pubSubDispatchOptions) {
+
+            LettuceAssert.notNull(pubSubDispatchOptions, "PubSubDispatchOptions must not be null");
+            this.pubSubDispatchOptions = pubSubDispatchOptions;
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClientOptions}.
          *
@@ -313,6 +465,88 @@ public class ClientOptions implements Serializable {
         return sslOptions;
     }
 
+    /**
+     * Flag, whether to consolidate flushes of commands written with auto-flush enabled. If {@literal true} (default is
+     * {@literal false}), commands are queued and written in batches by the event loop which issues a single flush per batch.
+     *
+     * @return {@literal true} if flush consolidation is enabled.
+     */
+    public boolean isConsolidateFlushes() {
+        return consolidateFlushes;
+    }
+
+    /**
+     * Maximal number of commands that are written before flushing the channel when flush consolidation is enabled. Defaults
+     * to {@literal 256}.
+     *
+     * @return the maximal number of commands per flush.
+     */
+    public int getMaxCommandsPerFlush() {
+        return maxCommandsPerFlush;
+    }
+
+    /**
+     * Flag, whether commands are timed out using the connection timeout. If {@literal true} (default is {@literal false}),
+     * commands that do not complete within the connection timeout are completed with a {@link RedisCommandTimeoutException}.
+     *
+     * @return {@literal true} if commands are timed out.
+     * @since 4.5
+     */
+    public boolean isTimeoutCommands() {
+        return timeoutCommands;
+    }
+
+    /**
+     * Low water mark of the channel write buffer in bytes. Defaults to {@literal 8 KiB}.
+     *
+     * @return the low water mark in bytes.
+     * @since 4.5
+     */
+    public int getWriteBufferLowWaterMark() {
+        return writeBufferLowWaterMark;
+    }
+
+    /**
+     * High water mark of the channel write buffer in bytes. Defaults to {@literal 32 KiB}.
+     *
+     * @return the high water mark in bytes.
+     * @since 4.5
+     */
+    public int getWriteBufferHighWaterMark() {
+        return writeBufferHighWaterMark;
+    }
+
+    /**
+     * Behavior for commands that are written while the channel is not writable. Defaults to
+     * {@link BackpressureBehavior#DEFAULT}.
+     *
+     * @return the behavior for commands written while the channel is not writable.
+     * @since 4.5
+     */
+    public BackpressureBehavior getBackpressureBehavior() {
+        return backpressureBehavior;
+    }
+
+    /**
+     * Returns the {@link HedgedReadOptions}.
+     *
+     * @return the {@link HedgedReadOptions}.
+     * @since 4.5
+     */
+    public HedgedReadOptions getHedgedReadOptions() {
+        return hedgedReadOptions;
+    }
+
+    /**
+     * Returns the {@link PubSubDispatchOptions}.
+     *
+     * @return the {@link PubSubDispatchOptions}.
+     * @since 4.5
+     */
+    public PubSubDispatchOptions getPubSubDispatchOptions() {
+        return pubSubDispatchOptions;
+    }
+
     /**
      * Behavior of connections in disconnected state.
      */
@@ -333,4 +567,30 @@ public class ClientOptions implements Serializable {
          */
         REJECT_COMMANDS,
     }
+
+    /**
+     * Behavior of connections whose channel is not writable because the write buffer exceeds its high water mark.
+     *
+     * @since 4.5
+     */
+    public enum BackpressureBehavior {
+
+        /**
+         * Accept commands regardless of the channel writability.
+         */
+        DEFAULT,
+
+        /**
+         * Reject commands while the channel is not writable.
+         */
+        REJECT_COMMANDS,
+
+        /**
+         * Park the calling thread until the channel becomes writable again or the connection timeout expires. Commands
+         * written from an event loop thread are accepted without parking. Parking applies to every caller that writes a
+         * command: threads invoking the asynchronous API and threads subscribing to reactive commands are blocked as well,
+         * not only synchronous callers.
+         */
+        PARK_CALLERS,
+    }
 }
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis;
+
+import java.util.concurrent.TimeUnit;
+
+import com.lambdaworks.redis.internal.LettuceAssert;
+import com.lambdaworks.redis.metrics.CommandLatencyCollector;
+
+/**
+ * Options to configure hedged reads for Master/Slave and Redis Cluster connections. A hedged read sends a read-only command
+ * to a second node selected by the {@link ReadFrom} setting if the first node did not respond within the hedge delay or failed
+ * without a response. The first response completes the command, the other response is discarded.
+ * <p>
+ * The hedge delay is the {@link #getPercentile() percentile} of the command completion latency per command type that is
+ * reported by the {@link CommandLatencyCollector} with each {@link com.lambdaworks.redis.event.metrics.CommandLatencyEvent}.
+ * The {@link #getInitialDelay() initial delay} applies until latencies for a command type are published.
+ *
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public class HedgedReadOptions {
+
+    public static final boolean DEFAULT_ENABLED = false;
+    public static final double DEFAULT_PERCENTILE = 99.0;
+    public static final long DEFAULT_INITIAL_DELAY = 20;
+    public static final TimeUnit DEFAULT_INITIAL_DELAY_UNIT = TimeUnit.MILLISECONDS;
+    public static final long DEFAULT_MIN_DELAY = 1;
+    public static final TimeUnit DEFAULT_MIN_DELAY_UNIT = TimeUnit.MILLISECONDS;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long initialDelay;
+    private final TimeUnit initialDelayUnit;
+    private final long minDelay;
+    private final TimeUnit minDelayUnit;
+
+    protected HedgedReadOptions(Builder builder) {
+
+        this.enabled = builder.enabled;
+        this.percentile = builder.percentile;
+        this.initialDelay = builder.initialDelay;
+        this.initialDelayUnit = builder.initialDelayUnit;
+        this.minDelay = builder.minDelay;
+        this.minDelayUnit = builder.minDelayUnit;
+    }
+
+    protected HedgedReadOptions(HedgedReadOptions original) {
+
+        this.enabled = original.isEnabled();
+        this.percentile = original.getPercentile();
+        this.initialDelay = original.getInitialDelay();
+        this.initialDelayUnit = original.getInitialDelayUnit();
+        this.minDelay = original.getMinDelay();
+        this.minDelayUnit = original.getMinDelayUnit();
+    }
+
+    /**
+     * Create a copy of {@literal options}
+     *
+     * @param options the original
+     * @return A new instance of {@link HedgedReadOptions} containing the values of {@literal options}
+     */
+    public static HedgedReadOptions copyOf(HedgedReadOptions options) {
+        return new HedgedReadOptions(options);
+    }
+
+    /**
+     * Returns a new {@link HedgedReadOptions.Builder} to construct {@link HedgedReadOptions}.
+     *
+     * @return a new {@link HedgedReadOptions.Builder} to construct {@link HedgedReadOptions}.
+     */
+    public static HedgedReadOptions.Builder builder() {
+        return new HedgedReadOptions.Builder();
+    }
+
+    /**
+     * Create a new {@link HedgedReadOptions} using default settings. Hedged reads are disabled by default.
+     *
+     * @return a new instance of default hedged read options.
+     */
+    public static HedgedReadOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new {@link HedgedReadOptions} with hedged reads enabled using default settings.
+     *
+     * @return a new instance of hedged read options with hedged reads enabled.
+     */
+    public static HedgedReadOptions enabled() {
+        return builder().enabled(true).build();
+    }
+
+    /**
+     * Builder for {@link HedgedReadOptions}.
+     */
+    public static class Builder {
+
+        private boolean enabled = DEFAULT_ENABLED;
+        private double percentile = DEFAULT_PERCENTILE;
+        private long initialDelay = DEFAULT_INITIAL_DELAY;
+        private TimeUnit initialDelayUnit = DEFAULT_INITIAL_DELAY_UNIT;
+        private long minDelay = DEFAULT_MIN_DELAY;
+        private TimeUnit minDelayUnit = DEFAULT_MIN_DELAY_UNIT;
+
+        private Builder() {
+        }
+
+        /**
+         * Enable or disable hedged reads. Defaults to {@literal false}. See {@link #DEFAULT_ENABLED}.
+         *
+         * @param enabled {@literal true} to enable hedged reads.
+         * @return {@code this}
+         */
+        public Builder enabled(boolean enabled) {
+
+            this.enabled = enabled;
+            return this;
+        }
+
+        /**
+         * Set the completion latency percentile that is used as hedge delay. Defaults to {@literal 99.0}. See
+         * {@link #DEFAULT_PERCENTILE}. If the {@link CommandLatencyCollector} does not report the percentile, the next
+         * greater reported percentile is used, falling back to the greatest reported percentile.
+         *
+         * @param percentile the percentile, must be greater {@literal 0} and less or equal to {@literal 100}.
+         * @return {@code this}
+         */
+        public Builder percentile(double percentile) {
+
+            LettuceAssert.isTrue(percentile > 0 && percentile <= 100, "Percentile must be between 0 (exclusive) and 100");
+
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * Set the hedge delay that applies until the latency of a command type is published. Defaults to
+         * {@literal 20 MILLISECONDS}. See {@link #DEFAULT_INITIAL_DELAY} and {@link #DEFAULT_INITIAL_DELAY_UNIT}.
+         *
+         * @param initialDelay the initial delay, must be greater or equal to {@literal 0}.
+         * @param initialDelayUnit unit for {@code initialDelay}, must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder initialDelay(long initialDelay, TimeUnit initialDelayUnit) {
+
+            LettuceAssert.isTrue(initialDelay >= 0, "Initial delay must be greater or equal to 0");
+            LettuceAssert.notNull(initialDelayUnit, "TimeUnit must not be null");
+
+            this.initialDelay = initialDelay;
+            this.initialDelayUnit = initialDelayUnit;
+            return this;
+        }
+
+        /**
+         * Set the lower bound of the hedge delay. The lower bound limits the additional load that hedged reads impose on
+         * very fast nodes. Defaults to {@literal 1 MILLISECONDS}. See {@link #DEFAULT_MIN_DELAY} and
+         * {@link #DEFAULT_MIN_DELAY_UNIT}.
+         *
+         * @param minDelay the minimum delay, must be greater or equal to {@literal 0}.
+         * @param minDelayUnit unit for {@code minDelay}, must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder minDelay(long minDelay, TimeUnit minDelayUnit) {
+
+            LettuceAssert.isTrue(minDelay >= 0, "Minimum delay must be greater or equal to 0");
+            LettuceAssert.notNull(minDelayUnit, "TimeUnit must not be null");
+
+            this.minDelay = minDelay;
+            this.minDelayUnit = minDelayUnit;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link HedgedReadOptions}
+         *
+         * @return new instance of {@link HedgedReadOptions}
+         */
+        public HedgedReadOptions build() {
+            return new HedgedReadOptions(this);
+        }
+    }
+
+    /**
+     * Returns whether hedged reads are enabled.
+     *
+     * @return {@literal true} if hedged reads are enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the completion latency percentile that is used as hedge delay.
+     *
+     * @return the percentile.
+     */
+    public double getPercentile() {
+        return percentile;
+    }
+
+    /**
+     * Returns the hedge delay that applies until the latency of a command type is published.
+     *
+     * @return the initial delay.
+     */
+    public long getInitialDelay() {
+        return initialDelay;
+    }
+
+    /**
+     * Returns the unit of the initial delay.
+     *
+     * @return the unit of the initial delay.
+     */
+    public TimeUnit getInitialDelayUnit() {
+        return initialDelayUnit;
+    }
+
+    /**
+     * Returns the lower bound of the hedge delay.
+     *
+     * @return the minimum delay.
+     */
+    public long getMinDelay() {
+        return minDelay;
+    }
+
+    /**
+     * Returns the unit of the minimum delay.
+     *
+     * @return the unit of the minimum delay.
+     */
+    public TimeUnit getMinDelayUnit() {
+        return minDelayUnit;
+    }
+}
@@ -123,6 +123,10 @@ public class LettuceFutures {
             throw e;
         } catch (ExecutionException e) {
 
+            if (e.getCause() instanceof RedisCommandTimeoutException) {
+                throw ExceptionFactory.createTimeoutException(timeout, unit);
+            }
+
             if (e.getCause() instanceof RedisCommandExecutionException) {
                 throw ExceptionFactory.createExecutionException(e.getCause().getMessage(), e.getCause());
             }
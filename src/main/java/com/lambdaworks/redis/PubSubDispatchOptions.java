@@ -0,0 +1,238 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis;
+
+import com.lambdaworks.redis.internal.LettuceAssert;
+import com.lambdaworks.redis.pubsub.RedisPubSubListener;
+import com.lambdaworks.redis.resource.ClientResources;
+
+/**
+ * Options to configure how pub/sub messages are dispatched to {@link RedisPubSubListener listeners}. By default, listeners are
+ * notified on the I/O thread that decoded the message. An offloaded dispatch hands messages to shards that notify listeners on
+ * the {@link ClientResources#eventExecutorGroup() computation threads} so slow listeners do not stall I/O.
+ * <p>
+ * Messages are assigned to a shard by their channel (or pattern for pattern subscription notifications). Each shard notifies
+ * listeners in the order messages were received, so ordering per channel is retained. Each shard buffers up to
+ * {@link #getQueueCapacity() queue capacity} messages, the {@link OverflowPolicy} determines what happens to messages that
+ * exceed the capacity.
+ *
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public class PubSubDispatchOptions {
+
+    public static final boolean DEFAULT_OFFLOAD = false;
+    public static final int DEFAULT_SHARDS = 0;
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    public static final OverflowPolicy DEFAULT_OVERFLOW_POLICY = OverflowPolicy.DROP_NEWEST;
+
+    private final boolean offload;
+    private final int shards;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+
+    protected PubSubDispatchOptions(Builder builder) {
+
+        this.offload = builder.offload;
+        this.shards = builder.shards;
+        this.queueCapacity = builder.queueCapacity;
+        this.overflowPolicy = builder.overflowPolicy;
+    }
+
+    protected PubSubDispatchOptions(PubSubDispatchOptions original) {
+
+        this.offload = original.isOffload();
+        this.shards = original.getShards();
+        this.queueCapacity = original.getQueueCapacity();
+        this.overflowPolicy = original.getOverflowPolicy();
+    }
+
+    /**
+     * Create a copy of {@literal options}
+     *
+     * @param options the original
+     * @return A new instance of {@link PubSubDispatchOptions} containing the values of {@literal options}
+     */
+    public static PubSubDispatchOptions copyOf(PubSubDispatchOptions options) {
+        return new PubSubDispatchOptions(options);
+    }
+
+    /**
+     * Returns a new {@link PubSubDispatchOptions.Builder} to construct {@link PubSubDispatchOptions}.
+     *
+     * @return a new {@link PubSubDispatchOptions.Builder} to construct {@link PubSubDispatchOptions}.
+     */
+    public static PubSubDispatchOptions.Builder builder() {
+        return new PubSubDispatchOptions.Builder();
+    }
+
+    /**
+     * Create a new {@link PubSubDispatchOptions} using default settings. Listeners are notified on the I/O thread by default.
+     *
+     * @return a new instance of default pub/sub dispatch options.
+     */
+    public static PubSubDispatchOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new {@link PubSubDispatchOptions} with offloaded dispatch using default settings.
+     *
+     * @return a new instance of pub/sub dispatch options with offloaded dispatch.
+     */
+    public static PubSubDispatchOptions offloaded() {
+        return builder().offload(true).build();
+    }
+
+    /**
+     * Builder for {@link PubSubDispatchOptions}.
+     */
+    public static class Builder {
+
+        private boolean offload = DEFAULT_OFFLOAD;
+        private int shards = DEFAULT_SHARDS;
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        private OverflowPolicy overflowPolicy = DEFAULT_OVERFLOW_POLICY;
+
+        private Builder() {
+        }
+
+        /**
+         * Notify listeners on computation threads instead of the I/O thread. Defaults to {@literal false}. See
+         * {@link #DEFAULT_OFFLOAD}.
+         *
+         * @param offload {@literal true} to offload listener notification.
+         * @return {@code this}
+         */
+        public Builder offload(boolean offload) {
+
+            this.offload = offload;
+            return this;
+        }
+
+        /**
+         * Set the number of shards per connection. Defaults to {@literal 0} which uses one shard per computation thread. See
+         * {@link #DEFAULT_SHARDS}.
+         *
+         * @param shards the number of shards, must be greater or equal to {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder shards(int shards) {
+
+            LettuceAssert.isTrue(shards >= 0, "Shards must be greater or equal to 0");
+
+            this.shards = shards;
+            return this;
+        }
+
+        /**
+         * Set the number of messages a shard buffers before applying the {@link OverflowPolicy}. Defaults to
+         * {@literal 1024}. See {@link #DEFAULT_QUEUE_CAPACITY}.
+         *
+         * @param queueCapacity the queue capacity, must be greater {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder queueCapacity(int queueCapacity) {
+
+            LettuceAssert.isTrue(queueCapacity > 0, "Queue capacity must be greater 0");
+
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Set the {@link OverflowPolicy} that applies if a shard queue is full. Defaults to {@link OverflowPolicy#DROP_NEWEST}.
+         * See {@link #DEFAULT_OVERFLOW_POLICY}.
+         *
+         * @param overflowPolicy the overflow policy, must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder overflowPolicy(OverflowPolicy overflowPolicy) {
+
+            LettuceAssert.notNull(overflowPolicy, "OverflowPolicy must not be null");
+
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link PubSubDispatchOptions}
+         *
+         * @return new instance of {@link PubSubDispatchOptions}
+         */
+        public PubSubDispatchOptions build() {
+            return new PubSubDispatchOptions(this);
+        }
+    }
+
+    /**
+     * Returns whether listener notification is offloaded from the I/O thread.
+     *
+     * @return {@literal true} if listener notification is offloaded.
+     */
+    public boolean isOffload() {
+        return offload;
+    }
+
+    /**
+     * Returns the number of shards per connection. {@literal 0} uses one shard per computation thread.
+     *
+     * @return the number of shards.
+     */
+    public int getShards() {
+        return shards;
+    }
+
+    /**
+     * Returns the number of messages a shard buffers.
+     *
+     * @return the queue capacity.
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Returns the {@link OverflowPolicy}.
+     *
+     * @return the {@link OverflowPolicy}.
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Behavior of a shard if its queue is full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Discard the message that exceeds the queue capacity.
+         */
+        DROP_NEWEST,
+
+        /**
+         * Discard the oldest queued message to make room for the new message.
+         */
+        DROP_OLDEST,
+
+        /**
+         * Stop reading from the connection while the queue is full and resume reading once the queue has drained to half of
+         * its capacity. Messages are not discarded and the I/O thread is not blocked.
+         */
+        BLOCK;
+    }
+}
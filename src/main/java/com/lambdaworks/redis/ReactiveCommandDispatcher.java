@@ -98,7 +98,7 @@ public class ReactiveCommandDispatcher<K, V, T> implements Observable.OnSubscrib
 
         private final Subscriber<? super T> subscriber;
         private final boolean dissolve;
-        private boolean completed = false;
+        private volatile boolean completed = false;
 
         public ObservableCommand(RedisCommand<K, V, T> command, Subscriber<? super T> subscriber, boolean dissolve) {
             super(command);
@@ -147,6 +147,11 @@ public class ReactiveCommandDispatcher<K, V, T> implements Observable.OnSubscrib
             }
         }
 
+        @Override
+        public boolean isDone() {
+            return completed || super.isDone();
+        }
+
         @Override
         public void cancel() {
 
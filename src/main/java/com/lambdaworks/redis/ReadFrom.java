@@ -17,6 +17,7 @@ package com.lambdaworks.redis;
 
 import java.util.List;
 
+import com.lambdaworks.redis.metrics.ConnectionLoad;
 import com.lambdaworks.redis.models.role.RedisNodeDescription;
 
 /**
@@ -55,6 +56,15 @@ public abstract class ReadFrom {
      */
     public static final ReadFrom NEAREST = new ReadFromImpl.ReadFromNearest();
 
+    /**
+     * Setting to read from the node with the lowest live latency. Nodes are ranked for each command by their
+     * {@link ConnectionLoad#getCost() cost} which combines the average command completion latency and the number of
+     * outstanding commands. Falls back to the topology latency order of {@link #NEAREST} for nodes without load indicators.
+     *
+     * @since 4.5
+     */
+    public static final ReadFrom LOWEST_LATENCY = new ReadFromImpl.ReadFromLowestLatency();
+
     /**
      * Chooses the nodes from the matching Redis nodes that match this read selector.
      *
@@ -63,6 +73,18 @@ public abstract class ReadFrom {
      */
     public abstract List<RedisNodeDescription> select(Nodes nodes);
 
+    /**
+     * Returns whether the selection depends on the live {@link ConnectionLoad} of the nodes. Connection providers that cache
+     * selected nodes choose the least loaded connection among the cached candidates for each command if this method
+     * returns {@literal true}.
+     *
+     * @return {@literal true} if the selection depends on the live connection load.
+     * @since 4.5
+     */
+    public boolean isLoadAware() {
+        return false;
+    }
+
     /**
      * Retrieve the {@link ReadFrom} preset by name.
      *
@@ -96,6 +118,10 @@ public abstract class ReadFrom {
             return NEAREST;
         }
 
+        if (name.equalsIgnoreCase("lowestLatency")) {
+            return LOWEST_LATENCY;
+        }
+
         throw new IllegalArgumentException("ReadFrom " + name + " not supported");
     }
 
@@ -111,5 +137,16 @@ public abstract class ReadFrom {
          *
          */
         List<RedisNodeDescription> getNodes();
+
+        /**
+         * Returns the live load of the connection to {@code node}.
+         *
+         * @param node the node.
+         * @return the {@link ConnectionLoad} or {@literal null} if the node is not connected or the load is unknown.
+         * @since 4.5
+         */
+        default ConnectionLoad getLoad(RedisNodeDescription node) {
+            return null;
+        }
     }
 }
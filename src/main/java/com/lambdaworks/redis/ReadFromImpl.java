@@ -16,10 +16,12 @@
 package com.lambdaworks.redis;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import com.lambdaworks.redis.internal.LettuceLists;
+import com.lambdaworks.redis.metrics.ConnectionLoad;
 import com.lambdaworks.redis.models.role.RedisInstance;
 import com.lambdaworks.redis.models.role.RedisNodeDescription;
 
@@ -131,4 +133,45 @@ class ReadFromImpl {
             return nodes.getNodes();
         }
     }
+
+    /**
+     * Read from the node with the lowest live latency. Nodes without a {@link ConnectionLoad} keep their topology order and
+     * are preferred to connected nodes so they get sampled.
+     */
+    static final class ReadFromLowestLatency extends ReadFrom {
+
+        @Override
+        public List<RedisNodeDescription> select(Nodes nodes) {
+
+            List<RedisNodeDescription> candidates = nodes.getNodes();
+
+            if (candidates.size() < 2) {
+                return candidates;
+            }
+
+            long[] costs = new long[candidates.size()];
+            Integer[] order = new Integer[candidates.size()];
+
+            for (int i = 0; i < costs.length; i++) {
+
+                ConnectionLoad load = nodes.getLoad(candidates.get(i));
+                costs[i] = load != null ? load.getCost() : 0;
+                order[i] = i;
+            }
+
+            Arrays.sort(order, (o1, o2) -> Long.compare(costs[o1], costs[o2]));
+
+            List<RedisNodeDescription> result = new ArrayList<>(costs.length);
+            for (Integer index : order) {
+                result.add(candidates.get(index));
+            }
+
+            return result;
+        }
+
+        @Override
+        public boolean isLoadAware() {
+            return true;
+        }
+    }
 }
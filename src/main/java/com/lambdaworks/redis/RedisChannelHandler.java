@@ -133,6 +133,22 @@ public abstract class RedisChannelHandler<K, V> extends ChannelInboundHandlerAda
         return channelWriter.write(cmd);
     }
 
+    /**
+     * Dispatch multiple commands as one batch through the {@link RedisChannelWriter}.
+     *
+     * @param commands the commands.
+     * @return the dispatched commands.
+     * @since 4.5
+     */
+    public Collection<RedisCommand<K, V, ?>> dispatch(Collection<? extends RedisCommand<K, V, ?>> commands) {
+
+        if (debugEnabled) {
+            logger.debug("dispatching commands {}", commands);
+        }
+
+        return channelWriter.write(commands);
+    }
+
     /**
      * Register Closeable resources. Internal access only.
      *
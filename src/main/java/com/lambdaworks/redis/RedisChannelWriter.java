@@ -16,6 +16,9 @@
 package com.lambdaworks.redis;
 
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import com.lambdaworks.redis.protocol.RedisCommand;
 
@@ -40,6 +43,26 @@ public interface RedisChannelWriter<K, V> extends Closeable {
      */
     <T, C extends RedisCommand<K, V, T>> C write(C command);
 
+    /**
+     * Write multiple commands on the channel. Implementations may write the commands as one batch with a single flush. The
+     * default implementation writes each command through {@link #write(RedisCommand)}.
+     *
+     * @param commands the redis commands
+     * @return the written redis commands
+     * @since 4.5
+     */
+    @SuppressWarnings("unchecked")
+    default Collection<RedisCommand<K, V, ?>> write(Collection<? extends RedisCommand<K, V, ?>> commands) {
+
+        List<RedisCommand<K, V, ?>> written = new ArrayList<>(commands.size());
+
+        for (RedisCommand<K, V, ?> command : commands) {
+            written.add(write((RedisCommand<K, V, Object>) command));
+        }
+
+        return written;
+    }
+
     @Override
     void close();
 
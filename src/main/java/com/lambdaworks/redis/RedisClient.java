@@ -34,6 +34,7 @@ import com.lambdaworks.redis.codec.StringCodec;
 import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.protocol.CommandHandler;
 import com.lambdaworks.redis.pubsub.PubSubCommandHandler;
+import com.lambdaworks.redis.pubsub.PubSubDispatcher;
 import com.lambdaworks.redis.pubsub.StatefulRedisPubSubConnection;
 import com.lambdaworks.redis.pubsub.StatefulRedisPubSubConnectionImpl;
 import com.lambdaworks.redis.resource.ClientResources;
@@ -615,6 +616,7 @@ public class RedisClient extends AbstractRedisClient {
         PubSubCommandHandler<K, V> handler = new PubSubCommandHandler<>(clientOptions, clientResources, codec);
         StatefulRedisPubSubConnectionImpl<K, V> connection = newStatefulRedisPubSubConnection(handler, codec, timeout.timeout,
                 timeout.timeUnit);
+        connection.setPubSubDispatcher(PubSubDispatcher.create(clientOptions.getPubSubDispatchOptions(), clientResources));
 
         ConnectionFuture<StatefulRedisConnectionImpl<K, V>> future = connectStatefulAsync(handler, connection, redisURI);
 
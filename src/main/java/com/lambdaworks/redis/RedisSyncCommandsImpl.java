@@ -0,0 +1,73 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis;
+
+import java.util.concurrent.TimeUnit;
+
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.api.sync.RedisCommands;
+import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
+
+/**
+ * A synchronous and thread-safe API for a Redis connection. Commands are invoked on the asynchronous API and awaited
+ * directly.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public class RedisSyncCommandsImpl<K, V> extends AbstractRedisSyncCommands<K, V> implements RedisCommands<K, V>,
+        RedisClusterCommands<K, V> {
+
+    private final StatefulRedisConnection<K, V> connection;
+
+    /**
+     * Initialize a new instance.
+     *
+     * @param connection the connection to operate on
+     * @param async the asynchronous API to delegate to
+     */
+    public RedisSyncCommandsImpl(StatefulRedisConnection<K, V> connection, AbstractRedisAsyncCommands<K, V> async) {
+        super(connection, async);
+        this.connection = connection;
+    }
+
+    @Override
+    public void setTimeout(long timeout, TimeUnit unit) {
+        async.setTimeout(timeout, unit);
+    }
+
+    @Override
+    public String auth(String password) {
+        return async.auth(password);
+    }
+
+    @Override
+    public String select(int db) {
+        return async.select(db);
+    }
+
+    @Override
+    public String swapdb(int db1, int db2) {
+        return await(async.swapdb(db1, db2));
+    }
+
+    @Override
+    public StatefulRedisConnection<K, V> getStatefulConnection() {
+        return connection;
+    }
+}
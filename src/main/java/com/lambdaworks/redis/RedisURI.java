@@ -989,7 +989,7 @@ public class RedisURI implements Serializable, ConnectionPoint {
         public static Builder redis(String host, int port) {
 
             LettuceAssert.notEmpty(host, "Host must not be empty");
-            LettuceAssert.isTrue(isValidPort(port), String.format("Port out of range: %s", port));
+            LettuceAssert.isTrue(isValidPort(port), () -> String.format("Port out of range: %s", port));
 
             Builder builder = RedisURI.builder();
             return builder.withHost(host).withPort(port);
@@ -1019,7 +1019,7 @@ public class RedisURI implements Serializable, ConnectionPoint {
         public static Builder sentinel(String host, int port) {
 
             LettuceAssert.notEmpty(host, "Host must not be empty");
-            LettuceAssert.isTrue(isValidPort(port), String.format("Port out of range: %s", port));
+            LettuceAssert.isTrue(isValidPort(port), () -> String.format("Port out of range: %s", port));
 
             Builder builder = RedisURI.builder();
             return builder.withSentinel(host, port);
@@ -1047,7 +1047,7 @@ public class RedisURI implements Serializable, ConnectionPoint {
         public static Builder sentinel(String host, int port, String masterId) {
 
             LettuceAssert.notEmpty(host, "Host must not be empty");
-            LettuceAssert.isTrue(isValidPort(port), String.format("Port out of range: %s", port));
+            LettuceAssert.isTrue(isValidPort(port), () -> String.format("Port out of range: %s", port));
 
             Builder builder = RedisURI.builder();
             return builder.withSentinelMasterId(masterId).withSentinel(host, port);
@@ -1074,7 +1074,7 @@ public class RedisURI implements Serializable, ConnectionPoint {
 
             LettuceAssert.assertState(this.host == null, "Cannot use with Redis mode.");
             LettuceAssert.notEmpty(host, "Host must not be empty");
-            LettuceAssert.isTrue(isValidPort(port), String.format("Port out of range: %s", port));
+            LettuceAssert.isTrue(isValidPort(port), () -> String.format("Port out of range: %s", port));
 
             sentinels.add(HostAndPort.of(host, port));
             return this;
@@ -1104,7 +1104,7 @@ public class RedisURI implements Serializable, ConnectionPoint {
         public Builder withPort(int port) {
 
             LettuceAssert.assertState(this.host != null, "Host is null. Cannot use in Sentinel mode.");
-            LettuceAssert.isTrue(isValidPort(port), String.format("Port out of range: %s", port));
+            LettuceAssert.isTrue(isValidPort(port), () -> String.format("Port out of range: %s", port));
 
             this.port = port;
             return this;
@@ -0,0 +1,1708 @@
+/*
+ * Copyright 2011-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.cluster;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.lambdaworks.redis.*;
+import com.lambdaworks.redis.api.async.RedisAsyncCommands;
+import com.lambdaworks.redis.cluster.api.sync.Executions;
+import com.lambdaworks.redis.cluster.api.sync.NodeSelectionCommands;
+import com.lambdaworks.redis.output.KeyStreamingChannel;
+import com.lambdaworks.redis.output.KeyValueStreamingChannel;
+import com.lambdaworks.redis.output.ScoredValueStreamingChannel;
+import com.lambdaworks.redis.output.ValueStreamingChannel;
+import com.lambdaworks.redis.protocol.CommandType;
+
+/**
+ * Abstract class implementing the synchronous node selection API by invoking each command on the asynchronous API of the
+ * selected nodes. Calls are dispatched without reflection.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.5
+ * @generated by com.lambdaworks.apigenerator.CreateSyncNodeSelectionClusterApiImplementation
+ */
+abstract class AbstractNodeSelectionSyncCommands<K, V> implements NodeSelectionCommands<K, V> {
+
+    /**
+     * Invoke the command on the asynchronous API of each selected node and await the results.
+     *
+     * @param command function invoking the command.
+     * @param <T> result type.
+     * @return the executions.
+     */
+    protected abstract <T> Executions<T> execute(Function<RedisAsyncCommands<K, V>, RedisFuture<T>> command);
+
+    /**
+     * Close the connections of the selected nodes.
+     */
+    @Override
+    public abstract void close();
+
+    @Override
+    public Executions<Long> hdel(K key, K... fields) {
+        return execute(it -> it.hdel(key, fields));
+    }
+
+    @Override
+    public Executions<Boolean> hexists(K key, K field) {
+        return execute(it -> it.hexists(key, field));
+    }
+
+    @Override
+    public Executions<V> hget(K key, K field) {
+        return execute(it -> it.hget(key, field));
+    }
+
+    @Override
+    public Executions<Long> hincrby(K key, K field, long amount) {
+        return execute(it -> it.hincrby(key, field, amount));
+    }
+
+    @Override
+    public Executions<Double> hincrbyfloat(K key, K field, double amount) {
+        return execute(it -> it.hincrbyfloat(key, field, amount));
+    }
+
+    @Override
+    public Executions<Map<K, V>> hgetall(K key) {
+        return execute(it -> it.hgetall(key));
+    }
+
+    @Override
+    public Executions<Long> hgetall(KeyValueStreamingChannel<K, V> channel, K key) {
+        return execute(it -> it.hgetall(channel, key));
+    }
+
+    @Override
+    public Executions<List<K>> hkeys(K key) {
+        return execute(it -> it.hkeys(key));
+    }
+
+    @Override
+    public Executions<Long> hkeys(KeyStreamingChannel<K> channel, K key) {
+        return execute(it -> it.hkeys(channel, key));
+    }
+
+    @Override
+    public Executions<Long> hlen(K key) {
+        return execute(it -> it.hlen(key));
+    }
+
+    @Override
+    public Executions<List<V>> hmget(K key, K... fields) {
+        return execute(it -> it.hmget(key, fields));
+    }
+
+    @Override
+    public Executions<Long> hmget(ValueStreamingChannel<V> channel, K key, K... fields) {
+        return execute(it -> it.hmget(channel, key, fields));
+    }
+
+    @Override
+    public Executions<String> hmset(K key, Map<K, V> map) {
+        return execute(it -> it.hmset(key, map));
+    }
+
+    @Override
+    public Executions<MapScanCursor<K, V>> hscan(K key) {
+        return execute(it -> it.hscan(key));
+    }
+
+    @Override
+    public Executions<MapScanCursor<K, V>> hscan(K key, ScanArgs scanArgs) {
+        return execute(it -> it.hscan(key, scanArgs));
+    }
+
+    @Override
+    public Executions<MapScanCursor<K, V>> hscan(K key, ScanCursor scanCursor, ScanArgs scanArgs) {
+        return execute(it -> it.hscan(key, scanCursor, scanArgs));
+    }
+
+    @Override
+    public Executions<MapScanCursor<K, V>> hscan(K key, ScanCursor scanCursor) {
+        return execute(it -> it.hscan(key, scanCursor));
+    }
+
+    @Override
+    public Executions<StreamScanCursor> hscan(KeyValueStreamingChannel<K, V> channel, K key) {
+        return execute(it -> it.hscan(channel, key));
+    }
+
+    @Override
+    public Executions<StreamScanCursor> hscan(KeyValueStreamingChannel<K, V> channel, K key, ScanArgs scanArgs) {
+        return execute(it -> it.hscan(channel, key, scanArgs));
+    }
+
+    @Override
+    public Executions<StreamScanCursor> hscan(KeyValueStreamingChannel<K, V> channel, K key, ScanCursor scanCursor,
+            ScanArgs scanArgs) {
+        return execute(it -> it.hscan(channel, key, scanCursor, scanArgs));
+    }
+
+    @Override
+    public Executions<StreamScanCursor> hscan(KeyValueStreamingChannel<K, V> channel, K key, ScanCursor scanCursor) {
+        return execute(it -> it.hscan(channel, key, scanCursor));
+    }
+
+    @Override
+    public Executions<Boolean> hset(K key, K field, V value) {
+        return execute(it -> it.hset(key, field, value));
+    }
+
+    @Override
+    public Executions<Boolean> hsetnx(K key, K field, V value) {
+        return execute(it -> it.hsetnx(key, field, value));
+    }
+
+    @Override
+    public Executions<Long> hstrlen(K key, K field) {
+        return execute(it -> it.hstrlen(key, field));
+    }
+
+    @Override
+    public Executions<List<V>> hvals(K key) {
+        return execute(it -> it.hvals(key));
+    }
+
+    @Override
+    public Executions<Long> hvals(ValueStreamingChannel<V> channel, K key) {
+        return execute(it -> it.hvals(channel, key));
+    }
+
+    @Override
+    public Executions<Long> pfadd(K key, V... values) {
+        return execute(it -> it.pfadd(key, values));
+    }
+
+    @Override
+    public Executions<String> pfmerge(K destkey, K... sourcekeys) {
+        return execute(it -> it.pfmerge(destkey, sourcekeys));
+    }
+
+    @Override
+    public Executions<Long> pfcount(K... keys) {
+        return execute(it -> it.pfcount(keys));
+    }
+
+    @Override
+    public Executions<Long> del(K... keys) {
+        return execute(it -> it.del(keys));
+    }
+
+    @Override
+    public Executions<Long> unlink(K... keys) {
+        return execute(it -> it.unlink(keys));
+    }
+
+    @Override
+    public Executions<byte[]> dump(K key) {
+        return execute(it -> it.dump(key));
+    }
+
+    @Override
+    public Executions<Long> exists(K... keys) {
+        return execute(it -> it.exists(keys));
+    }
+
+    @Override
+    public Executions<Boolean> expire(K key, long seconds) {
+        return execute(it -> it.expire(key, seconds));
+    }
+
+    @Override
+    public Executions<Boolean> expireat(K key, Date timestamp) {
+        return execute(it -> it.expireat(key, timestamp));
+    }
+
+    @Override
+    public Executions<Boolean> expireat(K key, long timestamp) {
+        return execute(it -> it.expireat(key, timestamp));
+    }
+
+    @Override
+    public Executions<List<K>> keys(K pattern) {
+        return execute(it -> it.keys(pattern));
+    }
+
+    @Override
+    public Executions<Long> keys(KeyStreamingChannel<K> channel, K pattern) {
+        return execute(it -> it.keys(channel, pattern));
+    }
+
+    @Override
+    public Executions<String> migrate(String host, int port, K key, int db, long timeout) {
+        return execute(it -> it.migrate(host, port, key, db, timeout));
+    }
+
+    @Override
+    public Executions<String> migrate(String host, int port, int db, long timeout, MigrateArgs<K> migrateArgs) {
+        return execute(it -> it.migrate(host, port, db, timeout, migrateArgs));
+    }
+
+    @Override
+    public Executions<Boolean> move(K key, int db) {
+        return execute(it -> it.move(key, db));
+    }
+
+    @Override
+    public Executions<String> objectEncoding(K key) {
+        return execute(it -> it.objectEncoding(key));
+    }
+
+    @Override
+    public Executions<Long> objectIdletime(K key) {
+        return execute(it -> it.objectIdletime(key));
+    }
+
+    @Override
+    public Executions<Long> objectRefcount(K key) {
+        return execute(it -> it.objectRefcount(key));
+    }
+
+    @Override
+    public Executions<Boolean> persist(K key) {
+        return execute(it -> it.persist(key));
+    }
+
+    @Override
+    public Executions<Boolean> pexpire(K key, long milliseconds) {
+        return execute(it -> it.pexpire(key, milliseconds));
+    }
+
+    @Override
+    public Executions<Boolean> pexpireat(K key, Date timestamp) {
+        return execute(it -> it.pexpireat(key, timestamp));
+    }
+
+    @Override
+    public Executions<Boolean> pexpireat(K key, long timestamp) {
+        return execute(it -> it.pexpireat(key, timestamp));
+    }
+
+    @Override
+    public Executions<Long> pttl(K key) {
+        return execute(it -> it.pttl(key));
+    }
+
+    @Override
+    public Executions<V> randomkey() {
+        return execute(it -> it.randomkey());
+    }
+
+    @Override
+    public Executions<String> rename(K key, K newKey) {
+        return execute(it -> it.rename(key, newKey));
+    }
+
+    @Override
+    public Executions<Boolean> renamenx(K key, K newKey) {
+        return execute(it -> it.renamenx(key, newKey));
+    }
+
+    @Override
+    public Executions<String> restore(K key, long ttl, byte[] value) {
+        return execute(it -> it.restore(key, ttl, value));
+    }
+
+    @Override
+    public Executions<List<V>> sort(K key) {
+        return execute(it -> it.sort(key));
+    }
+
+    @Override
+    public Executions<Long> sort(ValueStreamingChannel<V> channel, K key) {
+        return execute(it -> it.sort(channel, key));
+    }
+
+    @Override
+    public Executions<List<V>> sort(K key, SortArgs sortArgs) {
+        return execute(it -> it.sort(key, sortArgs));
+    }
+
+    @Override
+    public Executions<Long> sort(ValueStreamingChannel<V> channel, K key, SortArgs sortArgs) {
+        return execute(it -> it.sort(channel, key, sortArgs));
+    }
+
+    @Override
+    public Executions<Long> sortStore(K key, SortArgs sortArgs, K destination) {
+        return execute(it -> it.sortStore(key, sortArgs, destination));
+    }
+
+    @Override
+    public Executions<Long> touch(K... keys) {
+        return execute(it -> it.touch(keys));
+    }
+
+    @Override
+    public Executions<Long> ttl(K key) {
+        return execute(it -> it.ttl(key));
+    }
+
+    @Override
+    public Executions<String> type(K key) {
+        return execute(it -> it.type(key));
+    }
+
+    @Override
+    public Executions<KeyScanCursor<K>> scan() {
+        return execute(it -> it.scan());
+    }
+
+    @Override
+    public Executions<KeyScanCursor<K>> scan(ScanArgs scanArgs) {
+        return execute(it -> it.scan(scanArgs));
+    }
+
+    @Override
+    public Executions<KeyScanCursor<K>> scan(ScanCursor scanCursor, ScanArgs scanArgs) {
+        return execute(it -> it.scan(scanCursor, scanArgs));
+    }
+
+    @Override
+    public Executions<KeyScanCursor<K>> scan(ScanCursor scanCursor) {
+        return execute(it -> it.scan(scanCursor));
+    }
+
+    @Override
+    public Executions<StreamScanCursor> scan(KeyStreamingChannel<K> channel) {
+        return execute(it -> it.scan(channel));
+    }
+
+    @Override
+    public Executions<StreamScanCursor> scan(KeyStreamingChannel<K> channel, ScanArgs scanArgs) {
+        return execute(it -> it.scan(channel, scanArgs));
+    }
+
+    @Override
+    public Executions<StreamScanCursor> scan(KeyStreamingChannel<K> channel, ScanCursor scanCursor, ScanArgs scanArgs) {
+        return execute(it -> it.scan(channel, scanCursor, scanArgs));
+    }
+
+    @Override
+    public Executions<StreamScanCursor> scan(KeyStreamingChannel<K> channel, ScanCursor scanCursor) {
+        return execute(it -> it.scan(channel, scanCursor));
+    }
+
+    @Override
+    public Executions<KeyValue<K, V>> blpop(long timeout, K... keys) {
+        return execute(it -> it.blpop(timeout, keys));
+    }
+
+    @Override
+    public Executions<KeyValue<K, V>> brpop(long timeout, K... keys) {
+        return execute(it -> it.brpop(timeout, keys));
+    }
+
+    @Override
+    public Executions<V> brpoplpush(long timeout, K source, K destination) {
+        return execute(it -> it.brpoplpush(timeout, source, destination));
+    }
+
+    @Override
+    public Executions<V> lindex(K key, long index) {
+        return execute(it -> it.lindex(key, index));
+    }
+
+    @Override
+    public Executions<Long> linsert(K key, boolean before, V pivot, V value) {
+        return execute(it -> it.linsert(key, before, pivot, value));
+    }
+
+    @Override
+    public Executions<Long> llen(K key) {
+        return execute(it -> it.llen(key));
+    }
+
+    @Override
+    public Executions<V> lpop(K key) {
+        return execute(it -> it.lpop(key));
+    }
+
+    @Override
+    public Executions<Long> lpush(K key, V... values) {
+        return execute(it -> it.lpush(key, values));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<Long> lpushx(K key, V value) {
+        return execute(it -> it.lpushx(key, value));
+    }
+
+    @Override
+    public Executions<Long> lpushx(K key, V... values) {
+        return execute(it -> it.lpushx(key, values));
+    }
+
+    @Override
+    public Executions<List<V>> lrange(K key, long start, long stop) {
+        return execute(it -> it.lrange(key, start, stop));
+    }
+
+    @Override
+    public Executions<Long> lrange(ValueStreamingChannel<V> channel, K key, long start, long stop) {
+        return execute(it -> it.lrange(channel, key, start, stop));
+    }
+
+    @Override
+    public Executions<Long> lrem(K key, long count, V value) {
+        return execute(it -> it.lrem(key, count, value));
+    }
+
+    @Override
+    public Executions<String> lset(K key, long index, V value) {
+        return execute(it -> it.lset(key, index, value));
+    }
+
+    @Override
+    public Executions<String> ltrim(K key, long start, long stop) {
+        return execute(it -> it.ltrim(key, start, stop));
+    }
+
+    @Override
+    public Executions<V> rpop(K key) {
+        return execute(it -> it.rpop(key));
+    }
+
+    @Override
+    public Executions<V> rpoplpush(K source, K destination) {
+        return execute(it -> it.rpoplpush(source, destination));
+    }
+
+    @Override
+    public Executions<Long> rpush(K key, V... values) {
+        return execute(it -> it.rpush(key, values));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<Long> rpushx(K key, V value) {
+        return execute(it -> it.rpushx(key, value));
+    }
+
+    @Override
+    public Executions<Long> rpushx(K key, V... values) {
+        return execute(it -> it.rpushx(key, values));
+    }
+
+    @Override
+    public <T> Executions<T> eval(String script, ScriptOutputType type, K... keys) {
+        return execute(it -> it.eval(script, type, keys));
+    }
+
+    @Override
+    public <T> Executions<T> eval(String script, ScriptOutputType type, K[] keys, V... values) {
+        return execute(it -> it.eval(script, type, keys, values));
+    }
+
+    @Override
+    public <T> Executions<T> evalsha(String digest, ScriptOutputType type, K... keys) {
+        return execute(it -> it.evalsha(digest, type, keys));
+    }
+
+    @Override
+    public <T> Executions<T> evalsha(String digest, ScriptOutputType type, K[] keys, V... values) {
+        return execute(it -> it.evalsha(digest, type, keys, values));
+    }
+
+    @Override
+    public Executions<List<Boolean>> scriptExists(String... digests) {
+        return execute(it -> it.scriptExists(digests));
+    }
+
+    @Override
+    public Executions<String> scriptFlush() {
+        return execute(it -> it.scriptFlush());
+    }
+
+    @Override
+    public Executions<String> scriptKill() {
+        return execute(it -> it.scriptKill());
+    }
+
+    @Override
+    public Executions<String> scriptLoad(V script) {
+        return execute(it -> it.scriptLoad(script));
+    }
+
+    @Override
+    public Executions<String> bgrewriteaof() {
+        return execute(it -> it.bgrewriteaof());
+    }
+
+    @Override
+    public Executions<String> bgsave() {
+        return execute(it -> it.bgsave());
+    }
+
+    @Override
+    public Executions<K> clientGetname() {
+        return execute(it -> it.clientGetname());
+    }
+
+    @Override
+    public Executions<String> clientSetname(K name) {
+        return execute(it -> it.clientSetname(name));
+    }
+
+    @Override
+    public Executions<String> clientKill(String addr) {
+        return execute(it -> it.clientKill(addr));
+    }
+
+    @Override
+    public Executions<Long> clientKill(KillArgs killArgs) {
+        return execute(it -> it.clientKill(killArgs));
+    }
+
+    @Override
+    public Executions<String> clientPause(long timeout) {
+        return execute(it -> it.clientPause(timeout));
+    }
+
+    @Override
+    public Executions<String> clientList() {
+        return execute(it -> it.clientList());
+    }
+
+    @Override
+    public Executions<List<Object>> command() {
+        return execute(it -> it.command());
+    }
+
+    @Override
+    public Executions<List<Object>> commandInfo(String... commands) {
+        return execute(it -> it.commandInfo(commands));
+    }
+
+    @Override
+    public Executions<List<Object>> commandInfo(CommandType... commands) {
+        return execute(it -> it.commandInfo(commands));
+    }
+
+    @Override
+    public Executions<Long> commandCount() {
+        return execute(it -> it.commandCount());
+    }
+
+    @Override
+    public Executions<List<String>> configGet(String parameter) {
+        return execute(it -> it.configGet(parameter));
+    }
+
+    @Override
+    public Executions<String> configResetstat() {
+        return execute(it -> it.configResetstat());
+    }
+
+    @Override
+    public Executions<String> configRewrite() {
+        return execute(it -> it.configRewrite());
+    }
+
+    @Override
+    public Executions<String> configSet(String parameter, String value) {
+        return execute(it -> it.configSet(parameter, value));
+    }
+
+    @Override
+    public Executions<Long> dbsize() {
+        return execute(it -> it.dbsize());
+    }
+
+    @Override
+    public Executions<String> debugCrashAndRecover(Long delay) {
+        return execute(it -> it.debugCrashAndRecover(delay));
+    }
+
+    @Override
+    public Executions<String> debugHtstats(int db) {
+        return execute(it -> it.debugHtstats(db));
+    }
+
+    @Override
+    public Executions<String> debugObject(K key) {
+        return execute(it -> it.debugObject(key));
+    }
+
+    @Override
+    public Executions<String> debugReload() {
+        return execute(it -> it.debugReload());
+    }
+
+    @Override
+    public Executions<String> debugRestart(Long delay) {
+        return execute(it -> it.debugRestart(delay));
+    }
+
+    @Override
+    public Executions<String> debugSdslen(K key) {
+        return execute(it -> it.debugSdslen(key));
+    }
+
+    @Override
+    public Executions<String> flushall() {
+        return execute(it -> it.flushall());
+    }
+
+    @Override
+    public Executions<String> flushallAsync() {
+        return execute(it -> it.flushallAsync());
+    }
+
+    @Override
+    public Executions<String> flushdb() {
+        return execute(it -> it.flushdb());
+    }
+
+    @Override
+    public Executions<String> flushdbAsync() {
+        return execute(it -> it.flushdbAsync());
+    }
+
+    @Override
+    public Executions<String> info() {
+        return execute(it -> it.info());
+    }
+
+    @Override
+    public Executions<String> info(String section) {
+        return execute(it -> it.info(section));
+    }
+
+    @Override
+    public Executions<Date> lastsave() {
+        return execute(it -> it.lastsave());
+    }
+
+    @Override
+    public Executions<String> save() {
+        return execute(it -> it.save());
+    }
+
+    @Override
+    public Executions<String> slaveof(String host, int port) {
+        return execute(it -> it.slaveof(host, port));
+    }
+
+    @Override
+    public Executions<String> slaveofNoOne() {
+        return execute(it -> it.slaveofNoOne());
+    }
+
+    @Override
+    public Executions<List<Object>> slowlogGet() {
+        return execute(it -> it.slowlogGet());
+    }
+
+    @Override
+    public Executions<List<Object>> slowlogGet(int count) {
+        return execute(it -> it.slowlogGet(count));
+    }
+
+    @Override
+    public Executions<Long> slowlogLen() {
+        return execute(it -> it.slowlogLen());
+    }
+
+    @Override
+    public Executions<String> slowlogReset() {
+        return execute(it -> it.slowlogReset());
+    }
+
+    @Override
+    @Deprecated
+    public Executions<String> sync() {
+        return execute(it -> it.sync());
+    }
+
+    @Override
+    public Executions<List<V>> time() {
+        return execute(it -> it.time());
+    }
+
+    @Override
+    public Executions<Long> sadd(K key, V... members) {
+        return execute(it -> it.sadd(key, members));
+    }
+
+    @Override
+    public Executions<Long> scard(K key) {
+        return execute(it -> it.scard(key));
+    }
+
+    @Override
+    public Executions<Set<V>> sdiff(K... keys) {
+        return execute(it -> it.sdiff(keys));
+    }
+
+    @Override
+    public Executions<Long> sdiff(ValueStreamingChannel<V> channel, K... keys) {
+        return execute(it -> it.sdiff(channel, keys));
+    }
+
+    @Override
+    public Executions<Long> sdiffstore(K destination, K... keys) {
+        return execute(it -> it.sdiffstore(destination, keys));
+    }
+
+    @Override
+    public Executions<Set<V>> sinter(K... keys) {
+        return execute(it -> it.sinter(keys));
+    }
+
+    @Override
+    public Executions<Long> sinter(ValueStreamingChannel<V> channel, K... keys) {
+        return execute(it -> it.sinter(channel, keys));
+    }
+
+    @Override
+    public Executions<Long> sinterstore(K destination, K... keys) {
+        return execute(it -> it.sinterstore(destination, keys));
+    }
+
+    @Override
+    public Executions<Boolean> sismember(K key, V member) {
+        return execute(it -> it.sismember(key, member));
+    }
+
+    @Override
+    public Executions<Boolean> smove(K source, K destination, V member) {
+        return execute(it -> it.smove(source, destination, member));
+    }
+
+    @Override
+    public Executions<Set<V>> smembers(K key) {
+        return execute(it -> it.smembers(key));
+    }
+
+    @Override
+    public Executions<Long> smembers(ValueStreamingChannel<V> channel, K key) {
+        return execute(it -> it.smembers(channel, key));
+    }
+
+    @Override
+    public Executions<V> spop(K key) {
+        return execute(it -> it.spop(key));
+    }
+
+    @Override
+    public Executions<Set<V>> spop(K key, long count) {
+        return execute(it -> it.spop(key, count));
+    }
+
+    @Override
+    public Executions<V> srandmember(K key) {
+        return execute(it -> it.srandmember(key));
+    }
+
+    @Override
+    public Executions<List<V>> srandmember(K key, long count) {
+        return execute(it -> it.srandmember(key, count));
+    }
+
+    @Override
+    public Executions<Long> srandmember(ValueStreamingChannel<V> channel, K key, long count) {
+        return execute(it -> it.srandmember(channel, key, count));
+    }
+
+    @Override
+    public Executions<Long> srem(K key, V... members) {
+        return execute(it -> it.srem(key, members));
+    }
+
+    @Override
+    public Executions<Set<V>> sunion(K... keys) {
+        return execute(it -> it.sunion(keys));
+    }
+
+    @Override
+    public Executions<Long> sunion(ValueStreamingChannel<V> channel, K... keys) {
+        return execute(it -> it.sunion(channel, keys));
+    }
+
+    @Override
+    public Executions<Long> sunionstore(K destination, K... keys) {
+        return execute(it -> it.sunionstore(destination, keys));
+    }
+
+    @Override
+    public Executions<ValueScanCursor<V>> sscan(K key) {
+        return execute(it -> it.sscan(key));
+    }
+
+    @Override
+    public Executions<ValueScanCursor<V>> sscan(K key, ScanArgs scanArgs) {
+        return execute(it -> it.sscan(key, scanArgs));
+    }
+
+    @Override
+    public Executions<ValueScanCursor<V>> sscan(K key, ScanCursor scanCursor, ScanArgs scanArgs) {
+        return execute(it -> it.sscan(key, scanCursor, scanArgs));
+    }
+
+    @Override
+    public Executions<ValueScanCursor<V>> sscan(K key, ScanCursor scanCursor) {
+        return execute(it -> it.sscan(key, scanCursor));
+    }
+
+    @Override
+    public Executions<StreamScanCursor> sscan(ValueStreamingChannel<V> channel, K key) {
+        return execute(it -> it.sscan(channel, key));
+    }
+
+    @Override
+    public Executions<StreamScanCursor> sscan(ValueStreamingChannel<V> channel, K key, ScanArgs scanArgs) {
+        return execute(it -> it.sscan(channel, key, scanArgs));
+    }
+
+    @Override
+    public Executions<StreamScanCursor> sscan(ValueStreamingChannel<V> channel, K key, ScanCursor scanCursor,
+            ScanArgs scanArgs) {
+        return execute(it -> it.sscan(channel, key, scanCursor, scanArgs));
+    }
+
+    @Override
+    public Executions<StreamScanCursor> sscan(ValueStreamingChannel<V> channel, K key, ScanCursor scanCursor) {
+        return execute(it -> it.sscan(channel, key, scanCursor));
+    }
+
+    @Override
+    public Executions<Long> zadd(K key, double score, V member) {
+        return execute(it -> it.zadd(key, score, member));
+    }
+
+    @Override
+    public Executions<Long> zadd(K key, Object... scoresAndValues) {
+        return execute(it -> it.zadd(key, scoresAndValues));
+    }
+
+    @Override
+    public Executions<Long> zadd(K key, ScoredValue<V>... scoredValues) {
+        return execute(it -> it.zadd(key, scoredValues));
+    }
+
+    @Override
+    public Executions<Long> zadd(K key, ZAddArgs zAddArgs, double score, V member) {
+        return execute(it -> it.zadd(key, zAddArgs, score, member));
+    }
+
+    @Override
+    public Executions<Long> zadd(K key, ZAddArgs zAddArgs, Object... scoresAndValues) {
+        return execute(it -> it.zadd(key, zAddArgs, scoresAndValues));
+    }
+
+    @Override
+    public Executions<Long> zadd(K key, ZAddArgs zAddArgs, ScoredValue<V>... scoredValues) {
+        return execute(it -> it.zadd(key, zAddArgs, scoredValues));
+    }
+
+    @Override
+    public Executions<Double> zaddincr(K key, double score, V member) {
+        return execute(it -> it.zaddincr(key, score, member));
+    }
+
+    @Override
+    public Executions<Double> zaddincr(K key, ZAddArgs zAddArgs, double score, V member) {
+        return execute(it -> it.zaddincr(key, zAddArgs, score, member));
+    }
+
+    @Override
+    public Executions<Long> zcard(K key) {
+        return execute(it -> it.zcard(key));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<Long> zcount(K key, double min, double max) {
+        return execute(it -> it.zcount(key, min, max));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<Long> zcount(K key, String min, String max) {
+        return execute(it -> it.zcount(key, min, max));
+    }
+
+    @Override
+    public Executions<Long> zcount(K key, Range<? extends Number> range) {
+        return execute(it -> it.zcount(key, range));
+    }
+
+    @Override
+    public Executions<Double> zincrby(K key, double amount, K member) {
+        return execute(it -> it.zincrby(key, amount, member));
+    }
+
+    @Override
+    public Executions<Long> zinterstore(K destination, K... keys) {
+        return execute(it -> it.zinterstore(destination, keys));
+    }
+
+    @Override
+    public Executions<Long> zinterstore(K destination, ZStoreArgs storeArgs, K... keys) {
+        return execute(it -> it.zinterstore(destination, storeArgs, keys));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<Long> zlexcount(K key, String min, String max) {
+        return execute(it -> it.zlexcount(key, min, max));
+    }
+
+    @Override
+    public Executions<Long> zlexcount(K key, Range<? extends V> range) {
+        return execute(it -> it.zlexcount(key, range));
+    }
+
+    @Override
+    public Executions<List<V>> zrange(K key, long start, long stop) {
+        return execute(it -> it.zrange(key, start, stop));
+    }
+
+    @Override
+    public Executions<Long> zrange(ValueStreamingChannel<V> channel, K key, long start, long stop) {
+        return execute(it -> it.zrange(channel, key, start, stop));
+    }
+
+    @Override
+    public Executions<List<ScoredValue<V>>> zrangeWithScores(K key, long start, long stop) {
+        return execute(it -> it.zrangeWithScores(key, start, stop));
+    }
+
+    @Override
+    public Executions<Long> zrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
+        return execute(it -> it.zrangeWithScores(channel, key, start, stop));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<List<V>> zrangebylex(K key, String min, String max) {
+        return execute(it -> it.zrangebylex(key, min, max));
+    }
+
+    @Override
+    public Executions<List<V>> zrangebylex(K key, Range<? extends V> range) {
+        return execute(it -> it.zrangebylex(key, range));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<List<V>> zrangebylex(K key, String min, String max, long offset, long count) {
+        return execute(it -> it.zrangebylex(key, min, max, offset, count));
+    }
+
+    @Override
+    public Executions<List<V>> zrangebylex(K key, Range<? extends V> range, Limit limit) {
+        return execute(it -> it.zrangebylex(key, range, limit));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<List<V>> zrangebyscore(K key, double min, double max) {
+        return execute(it -> it.zrangebyscore(key, min, max));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<List<V>> zrangebyscore(K key, String min, String max) {
+        return execute(it -> it.zrangebyscore(key, min, max));
+    }
+
+    @Override
+    public Executions<List<V>> zrangebyscore(K key, Range<? extends Number> range) {
+        return execute(it -> it.zrangebyscore(key, range));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<List<V>> zrangebyscore(K key, double min, double max, long offset, long count) {
+        return execute(it -> it.zrangebyscore(key, min, max, offset, count));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<List<V>> zrangebyscore(K key, String min, String max, long offset, long count) {
+        return execute(it -> it.zrangebyscore(key, min, max, offset, count));
+    }
+
+    @Override
+    public Executions<List<V>> zrangebyscore(K key, Range<? extends Number> range, Limit limit) {
+        return execute(it -> it.zrangebyscore(key, range, limit));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<Long> zrangebyscore(ValueStreamingChannel<V> channel, K key, double min, double max) {
+        return execute(it -> it.zrangebyscore(channel, key, min, max));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<Long> zrangebyscore(ValueStreamingChannel<V> channel, K key, String min, String max) {
+        return execute(it -> it.zrangebyscore(channel, key, min, max));
+    }
+
+    @Override
+    public Executions<Long> zrangebyscore(ValueStreamingChannel<V> channel, K key, Range<? extends Number> range) {
+        return execute(it -> it.zrangebyscore(channel, key, range));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<Long> zrangebyscore(ValueStreamingChannel<V> channel, K key, double min, double max, long offset,
+            long count) {
+        return execute(it -> it.zrangebyscore(channel, key, min, max, offset, count));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<Long> zrangebyscore(ValueStreamingChannel<V> channel, K key, String min, String max, long offset,
+            long count) {
+        return execute(it -> it.zrangebyscore(channel, key, min, max, offset, count));
+    }
+
+    @Override
+    public Executions<Long> zrangebyscore(ValueStreamingChannel<V> channel, K key, Range<? extends Number> range, Limit limit) {
+        return execute(it -> it.zrangebyscore(channel, key, range, limit));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<List<ScoredValue<V>>> zrangebyscoreWithScores(K key, double min, double max) {
+        return execute(it -> it.zrangebyscoreWithScores(key, min, max));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<List<ScoredValue<V>>> zrangebyscoreWithScores(K key, String min, String max) {
+        return execute(it -> it.zrangebyscoreWithScores(key, min, max));
+    }
+
+    @Override
+    public Executions<List<ScoredValue<V>>> zrangebyscoreWithScores(K key, Range<? extends Number> range) {
+        return execute(it -> it.zrangebyscoreWithScores(key, range));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<List<ScoredValue<V>>> zrangebyscoreWithScores(K key, double min, double max, long offset, long count) {
+        return execute(it -> it.zrangebyscoreWithScores(key, min, max, offset, count));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<List<ScoredValue<V>>> zrangebyscoreWithScores(K key, String min, String max, long offset, long count) {
+        return execute(it -> it.zrangebyscoreWithScores(key, min, max, offset, count));
+    }
+
+    @Override
+    public Executions<List<ScoredValue<V>>> zrangebyscoreWithScores(K key, Range<? extends Number> range, Limit limit) {
+        return execute(it -> it.zrangebyscoreWithScores(key, range, limit));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<Long> zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, double min, double max) {
+        return execute(it -> it.zrangebyscoreWithScores(channel, key, min, max));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<Long> zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, String min, String max) {
+        return execute(it -> it.zrangebyscoreWithScores(channel, key, min, max));
+    }
+
+    @Override
+    public Executions<Long> zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key,
+            Range<? extends Number> range) {
+        return execute(it -> it.zrangebyscoreWithScores(channel, key, range));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<Long> zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, double min, double max,
+            long offset, long count) {
+        return execute(it -> it.zrangebyscoreWithScores(channel, key, min, max, offset, count));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<Long> zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, String min, String max,
+            long offset, long count) {
+        return execute(it -> it.zrangebyscoreWithScores(channel, key, min, max, offset, count));
+    }
+
+    @Override
+    public Executions<Long> zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key,
+            Range<? extends Number> range, Limit limit) {
+        return execute(it -> it.zrangebyscoreWithScores(channel, key, range, limit));
+    }
+
+    @Override
+    public Executions<Long> zrank(K key, V member) {
+        return execute(it -> it.zrank(key, member));
+    }
+
+    @Override
+    public Executions<Long> zrem(K key, V... members) {
+        return execute(it -> it.zrem(key, members));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<Long> zremrangebylex(K key, String min, String max) {
+        return execute(it -> it.zremrangebylex(key, min, max));
+    }
+
+    @Override
+    public Executions<Long> zremrangebylex(K key, Range<? extends V> range) {
+        return execute(it -> it.zremrangebylex(key, range));
+    }
+
+    @Override
+    public Executions<Long> zremrangebyrank(K key, long start, long stop) {
+        return execute(it -> it.zremrangebyrank(key, start, stop));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<Long> zremrangebyscore(K key, double min, double max) {
+        return execute(it -> it.zremrangebyscore(key, min, max));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<Long> zremrangebyscore(K key, String min, String max) {
+        return execute(it -> it.zremrangebyscore(key, min, max));
+    }
+
+    @Override
+    public Executions<Long> zremrangebyscore(K key, Range<? extends Number> range) {
+        return execute(it -> it.zremrangebyscore(key, range));
+    }
+
+    @Override
+    public Executions<List<V>> zrevrange(K key, long start, long stop) {
+        return execute(it -> it.zrevrange(key, start, stop));
+    }
+
+    @Override
+    public Executions<Long> zrevrange(ValueStreamingChannel<V> channel, K key, long start, long stop) {
+        return execute(it -> it.zrevrange(channel, key, start, stop));
+    }
+
+    @Override
+    public Executions<List<ScoredValue<V>>> zrevrangeWithScores(K key, long start, long stop) {
+        return execute(it -> it.zrevrangeWithScores(key, start, stop));
+    }
+
+    @Override
+    public Executions<Long> zrevrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
+        return execute(it -> it.zrevrangeWithScores(channel, key, start, stop));
+    }
+
+    @Override
+    public Executions<List<V>> zrevrangebylex(K key, Range<? extends V> range) {
+        return execute(it -> it.zrevrangebylex(key, range));
+    }
+
+    @Override
+    public Executions<List<V>> zrevrangebylex(K key, Range<? extends V> range, Limit limit) {
+        return execute(it -> it.zrevrangebylex(key, range, limit));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<List<V>> zrevrangebyscore(K key, double max, double min) {
+        return execute(it -> it.zrevrangebyscore(key, max, min));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<List<V>> zrevrangebyscore(K key, String max, String min) {
+        return execute(it -> it.zrevrangebyscore(key, max, min));
+    }
+
+    @Override
+    public Executions<List<V>> zrevrangebyscore(K key, Range<? extends Number> range) {
+        return execute(it -> it.zrevrangebyscore(key, range));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<List<V>> zrevrangebyscore(K key, double max, double min, long offset, long count) {
+        return execute(it -> it.zrevrangebyscore(key, max, min, offset, count));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<List<V>> zrevrangebyscore(K key, String max, String min, long offset, long count) {
+        return execute(it -> it.zrevrangebyscore(key, max, min, offset, count));
+    }
+
+    @Override
+    public Executions<List<V>> zrevrangebyscore(K key, Range<? extends Number> range, Limit limit) {
+        return execute(it -> it.zrevrangebyscore(key, range, limit));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<Long> zrevrangebyscore(ValueStreamingChannel<V> channel, K key, double max, double min) {
+        return execute(it -> it.zrevrangebyscore(channel, key, max, min));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<Long> zrevrangebyscore(ValueStreamingChannel<V> channel, K key, String max, String min) {
+        return execute(it -> it.zrevrangebyscore(channel, key, max, min));
+    }
+
+    @Override
+    public Executions<Long> zrevrangebyscore(ValueStreamingChannel<V> channel, K key, Range<? extends Number> range) {
+        return execute(it -> it.zrevrangebyscore(channel, key, range));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<Long> zrevrangebyscore(ValueStreamingChannel<V> channel, K key, double max, double min, long offset,
+            long count) {
+        return execute(it -> it.zrevrangebyscore(channel, key, max, min, offset, count));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<Long> zrevrangebyscore(ValueStreamingChannel<V> channel, K key, String max, String min, long offset,
+            long count) {
+        return execute(it -> it.zrevrangebyscore(channel, key, max, min, offset, count));
+    }
+
+    @Override
+    public Executions<Long> zrevrangebyscore(ValueStreamingChannel<V> channel, K key, Range<? extends Number> range,
+            Limit limit) {
+        return execute(it -> it.zrevrangebyscore(channel, key, range, limit));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<List<ScoredValue<V>>> zrevrangebyscoreWithScores(K key, double max, double min) {
+        return execute(it -> it.zrevrangebyscoreWithScores(key, max, min));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<List<ScoredValue<V>>> zrevrangebyscoreWithScores(K key, String max, String min) {
+        return execute(it -> it.zrevrangebyscoreWithScores(key, max, min));
+    }
+
+    @Override
+    public Executions<List<ScoredValue<V>>> zrevrangebyscoreWithScores(K key, Range<? extends Number> range) {
+        return execute(it -> it.zrevrangebyscoreWithScores(key, range));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<List<ScoredValue<V>>> zrevrangebyscoreWithScores(K key, double max, double min, long offset, long count) {
+        return execute(it -> it.zrevrangebyscoreWithScores(key, max, min, offset, count));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<List<ScoredValue<V>>> zrevrangebyscoreWithScores(K key, String max, String min, long offset, long count) {
+        return execute(it -> it.zrevrangebyscoreWithScores(key, max, min, offset, count));
+    }
+
+    @Override
+    public Executions<List<ScoredValue<V>>> zrevrangebyscoreWithScores(K key, Range<? extends Number> range, Limit limit) {
+        return execute(it -> it.zrevrangebyscoreWithScores(key, range, limit));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<Long> zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, double max, double min) {
+        return execute(it -> it.zrevrangebyscoreWithScores(channel, key, max, min));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<Long> zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, String max, String min) {
+        return execute(it -> it.zrevrangebyscoreWithScores(channel, key, max, min));
+    }
+
+    @Override
+    public Executions<Long> zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key,
+            Range<? extends Number> range) {
+        return execute(it -> it.zrevrangebyscoreWithScores(channel, key, range));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<Long> zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, double max, double min,
+            long offset, long count) {
+        return execute(it -> it.zrevrangebyscoreWithScores(channel, key, max, min, offset, count));
+    }
+
+    @Override
+    @Deprecated
+    public Executions<Long> zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, String max, String min,
+            long offset, long count) {
+        return execute(it -> it.zrevrangebyscoreWithScores(channel, key, max, min, offset, count));
+    }
+
+    @Override
+    public Executions<Long> zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key,
+            Range<? extends Number> range, Limit limit) {
+        return execute(it -> it.zrevrangebyscoreWithScores(channel, key, range, limit));
+    }
+
+    @Override
+    public Executions<Long> zrevrank(K key, V member) {
+        return execute(it -> it.zrevrank(key, member));
+    }
+
+    @Override
+    public Executions<ScoredValueScanCursor<V>> zscan(K key) {
+        return execute(it -> it.zscan(key));
+    }
+
+    @Override
+    public Executions<ScoredValueScanCursor<V>> zscan(K key, ScanArgs scanArgs) {
+        return execute(it -> it.zscan(key, scanArgs));
+    }
+
+    @Override
+    public Executions<ScoredValueScanCursor<V>> zscan(K key, ScanCursor scanCursor, ScanArgs scanArgs) {
+        return execute(it -> it.zscan(key, scanCursor, scanArgs));
+    }
+
+    @Override
+    public Executions<ScoredValueScanCursor<V>> zscan(K key, ScanCursor scanCursor) {
+        return execute(it -> it.zscan(key, scanCursor));
+    }
+
+    @Override
+    public Executions<StreamScanCursor> zscan(ScoredValueStreamingChannel<V> channel, K key) {
+        return execute(it -> it.zscan(channel, key));
+    }
+
+    @Override
+    public Executions<StreamScanCursor> zscan(ScoredValueStreamingChannel<V> channel, K key, ScanArgs scanArgs) {
+        return execute(it -> it.zscan(channel, key, scanArgs));
+    }
+
+    @Override
+    public Executions<StreamScanCursor> zscan(ScoredValueStreamingChannel<V> channel, K key, ScanCursor scanCursor,
+            ScanArgs scanArgs) {
+        return execute(it -> it.zscan(channel, key, scanCursor, scanArgs));
+    }
+
+    @Override
+    public Executions<StreamScanCursor> zscan(ScoredValueStreamingChannel<V> channel, K key, ScanCursor scanCursor) {
+        return execute(it -> it.zscan(channel, key, scanCursor));
+    }
+
+    @Override
+    public Executions<Double> zscore(K key, V member) {
+        return execute(it -> it.zscore(key, member));
+    }
+
+    @Override
+    public Executions<Long> zunionstore(K destination, K... keys) {
+        return execute(it -> it.zunionstore(destination, keys));
+    }
+
+    @Override
+    public Executions<Long> zunionstore(K destination, ZStoreArgs storeArgs, K... keys) {
+        return execute(it -> it.zunionstore(destination, storeArgs, keys));
+    }
+
+    @Override
+    public Executions<Long> append(K key, V value) {
+        return execute(it -> it.append(key, value));
+    }
+
+    @Override
+    public Executions<Long> bitcount(K key) {
+        return execute(it -> it.bitcount(key));
+    }
+
+    @Override
+    public Executions<Long> bitcount(K key, long start, long end) {
+        return execute(it -> it.bitcount(key, start, end));
+    }
+
+    @Override
+    public Executions<List<Long>> bitfield(K key, BitFieldArgs bitFieldArgs) {
+        return execute(it -> it.bitfield(key, bitFieldArgs));
+    }
+
+    @Override
+    public Executions<Long> bitpos(K key, boolean state) {
+        return execute(it -> it.bitpos(key, state));
+    }
+
+    @Override
+    public Executions<Long> bitpos(K key, boolean state, long start) {
+        return execute(it -> it.bitpos(key, state, start));
+    }
+
+    @Override
+    public Executions<Long> bitpos(K key, boolean state, long start, long end) {
+        return execute(it -> it.bitpos(key, state, start, end));
+    }
+
+    @Override
+    public Executions<Long> bitopAnd(K destination, K... keys) {
+        return execute(it -> it.bitopAnd(destination, keys));
+    }
+
+    @Override
+    public Executions<Long> bitopNot(K destination, K source) {
+        return execute(it -> it.bitopNot(destination, source));
+    }
+
+    @Override
+    public Executions<Long> bitopOr(K destination, K... keys) {
+        return execute(it -> it.bitopOr(destination, keys));
+    }
+
+    @Override
+    public Executions<Long> bitopXor(K destination, K... keys) {
+        return execute(it -> it.bitopXor(destination, keys));
+    }
+
+    @Override
+    public Executions<Long> decr(K key) {
+        return execute(it -> it.decr(key));
+    }
+
+    @Override
+    public Executions<Long> decrby(K key, long amount) {
+        return execute(it -> it.decrby(key, amount));
+    }
+
+    @Override
+    public Executions<V> get(K key) {
+        return execute(it -> it.get(key));
+    }
+
+    @Override
+    public Executions<Long> getbit(K key, long offset) {
+        return execute(it -> it.getbit(key, offset));
+    }
+
+    @Override
+    public Executions<V> getrange(K key, long start, long end) {
+        return execute(it -> it.getrange(key, start, end));
+    }
+
+    @Override
+    public Executions<V> getset(K key, V value) {
+        return execute(it -> it.getset(key, value));
+    }
+
+    @Override
+    public Executions<Long> incr(K key) {
+        return execute(it -> it.incr(key));
+    }
+
+    @Override
+    public Executions<Long> incrby(K key, long amount) {
+        return execute(it -> it.incrby(key, amount));
+    }
+
+    @Override
+    public Executions<Double> incrbyfloat(K key, double amount) {
+        return execute(it -> it.incrbyfloat(key, amount));
+    }
+
+    @Override
+    public Executions<List<V>> mget(K... keys) {
+        return execute(it -> it.mget(keys));
+    }
+
+    @Override
+    public Executions<Long> mget(ValueStreamingChannel<V> channel, K... keys) {
+        return execute(it -> it.mget(channel, keys));
+    }
+
+    @Override
+    public Executions<String> mset(Map<K, V> map) {
+        return execute(it -> it.mset(map));
+    }
+
+    @Override
+    public Executions<Boolean> msetnx(Map<K, V> map) {
+        return execute(it -> it.msetnx(map));
+    }
+
+    @Override
+    public Executions<String> set(K key, V value) {
+        return execute(it -> it.set(key, value));
+    }
+
+    @Override
+    public Executions<String> set(K key, V value, SetArgs setArgs) {
+        return execute(it -> it.set(key, value, setArgs));
+    }
+
+    @Override
+    public Executions<Long> setbit(K key, long offset, int value) {
+        return execute(it -> it.setbit(key, offset, value));
+    }
+
+    @Override
+    public Executions<String> setex(K key, long seconds, V value) {
+        return execute(it -> it.setex(key, seconds, value));
+    }
+
+    @Override
+    public Executions<String> psetex(K key, long milliseconds, V value) {
+        return execute(it -> it.psetex(key, milliseconds, value));
+    }
+
+    @Override
+    public Executions<Boolean> setnx(K key, V value) {
+        return execute(it -> it.setnx(key, value));
+    }
+
+    @Override
+    public Executions<Long> setrange(K key, long offset, V value) {
+        return execute(it -> it.setrange(key, offset, value));
+    }
+
+    @Override
+    public Executions<Long> strlen(K key) {
+        return execute(it -> it.strlen(key));
+    }
+
+    @Override
+    public Executions<Long> publish(K channel, V message) {
+        return execute(it -> it.publish(channel, message));
+    }
+
+    @Override
+    public Executions<List<K>> pubsubChannels() {
+        return execute(it -> it.pubsubChannels());
+    }
+
+    @Override
+    public Executions<List<K>> pubsubChannels(K channel) {
+        return execute(it -> it.pubsubChannels(channel));
+    }
+
+    @Override
+    public Executions<Map<K, Long>> pubsubNumsub(K... channels) {
+        return execute(it -> it.pubsubNumsub(channels));
+    }
+
+    @Override
+    public Executions<Long> pubsubNumpat() {
+        return execute(it -> it.pubsubNumpat());
+    }
+
+    @Override
+    public Executions<V> echo(V msg) {
+        return execute(it -> it.echo(msg));
+    }
+
+    @Override
+    public Executions<List<Object>> role() {
+        return execute(it -> it.role());
+    }
+
+    @Override
+    public Executions<String> ping() {
+        return execute(it -> it.ping());
+    }
+
+    @Override
+    public Executions<String> quit() {
+        return execute(it -> it.quit());
+    }
+
+    @Override
+    public Executions<Long> waitForReplication(int replicas, long timeout) {
+        return execute(it -> it.waitForReplication(replicas, timeout));
+    }
+
+    @Override
+    public Executions<Long> geoadd(K key, double longitude, double latitude, V member) {
+        return execute(it -> it.geoadd(key, longitude, latitude, member));
+    }
+
+    @Override
+    public Executions<Long> geoadd(K key, Object... lngLatMember) {
+        return execute(it -> it.geoadd(key, lngLatMember));
+    }
+
+    @Override
+    public Executions<List<String>> geohash(K key, V... members) {
+        return execute(it -> it.geohash(key, members));
+    }
+
+    @Override
+    public Executions<Set<V>> georadius(K key, double longitude, double latitude, double distance, GeoArgs.Unit unit) {
+        return execute(it -> it.georadius(key, longitude, latitude, distance, unit));
+    }
+
+    @Override
+    public Executions<List<GeoWithin<V>>> georadius(K key, double longitude, double latitude, double distance,
+            GeoArgs.Unit unit, GeoArgs geoArgs) {
+        return execute(it -> it.georadius(key, longitude, latitude, distance, unit, geoArgs));
+    }
+
+    @Override
+    public Executions<Long> georadius(K key, double longitude, double latitude, double distance, GeoArgs.Unit unit,
+            GeoRadiusStoreArgs<K> geoRadiusStoreArgs) {
+        return execute(it -> it.georadius(key, longitude, latitude, distance, unit, geoRadiusStoreArgs));
+    }
+
+    @Override
+    public Executions<Set<V>> georadiusbymember(K key, V member, double distance, GeoArgs.Unit unit) {
+        return execute(it -> it.georadiusbymember(key, member, distance, unit));
+    }
+
+    @Override
+    public Executions<List<GeoWithin<V>>> georadiusbymember(K key, V member, double distance, GeoArgs.Unit unit,
+            GeoArgs geoArgs) {
+        return execute(it -> it.georadiusbymember(key, member, distance, unit, geoArgs));
+    }
+
+    @Override
+    public Executions<Long> georadiusbymember(K key, V member, double distance, GeoArgs.Unit unit,
+            GeoRadiusStoreArgs<K> geoRadiusStoreArgs) {
+        return execute(it -> it.georadiusbymember(key, member, distance, unit, geoRadiusStoreArgs));
+    }
+
+    @Override
+    public Executions<List<GeoCoordinates>> geopos(K key, V... members) {
+        return execute(it -> it.geopos(key, members));
+    }
+
+    @Override
+    public Executions<Double> geodist(K key, V from, V to, GeoArgs.Unit unit) {
+        return execute(it -> it.geodist(key, from, to, unit));
+    }
+}
@@ -18,8 +18,11 @@ package com.lambdaworks.redis.cluster;
 import java.util.concurrent.TimeUnit;
 
 import com.lambdaworks.redis.ClientOptions;
+import com.lambdaworks.redis.HedgedReadOptions;
+import com.lambdaworks.redis.PubSubDispatchOptions;
 import com.lambdaworks.redis.SocketOptions;
 import com.lambdaworks.redis.SslOptions;
+import com.lambdaworks.redis.internal.LettuceAssert;
 
 /**
  * Client Options to control the behavior of {@link RedisClusterClient}.
@@ -35,9 +38,11 @@ public class ClusterClientOptions extends ClientOptions {
     public static final boolean DEFAULT_CLOSE_STALE_CONNECTIONS = true;
     public static final boolean DEFAULT_VALIDATE_CLUSTER_MEMBERSHIP = true;
     public static final int DEFAULT_MAX_REDIRECTS = 5;
+    public static final int DEFAULT_CONNECTIONS_PER_NODE = 1;
 
     private final boolean validateClusterNodeMembership;
     private final int maxRedirects;
+    private final int connectionsPerNode;
     private final ClusterTopologyRefreshOptions topologyRefreshOptions;
 
     protected ClusterClientOptions(Builder builder) {
@@ -46,6 +51,7 @@ public class ClusterClientOptions extends ClientOptions {
 
         this.validateClusterNodeMembership = builder.validateClusterNodeMembership;
         this.maxRedirects = builder.maxRedirects;
+        this.connectionsPerNode = builder.connectionsPerNode;
 
         ClusterTopologyRefreshOptions refreshOptions = builder.topologyRefreshOptions;
 
@@ -66,6 +72,7 @@ public class ClusterClientOptions extends ClientOptions {
 
         this.validateClusterNodeMembership = original.validateClusterNodeMembership;
         this.maxRedirects = original.maxRedirects;
+        this.connectionsPerNode = original.connectionsPerNode;
         this.topologyRefreshOptions = original.topologyRefreshOptions;
     }
 
@@ -108,6 +115,7 @@ public class ClusterClientOptions extends ClientOptions {
         private boolean closeStaleConnections = DEFAULT_CLOSE_STALE_CONNECTIONS;
         private boolean validateClusterNodeMembership = DEFAULT_VALIDATE_CLUSTER_MEMBERSHIP;
         private int maxRedirects = DEFAULT_MAX_REDIRECTS;
+        private int connectionsPerNode = DEFAULT_CONNECTIONS_PER_NODE;
         private ClusterTopologyRefreshOptions topologyRefreshOptions = null;
 
         /**
@@ -191,6 +199,24 @@ public class ClusterClientOptions extends ClientOptions {
             return this;
         }
 
+        /**
+         * Number of connections to open per cluster node and intent for slot-routed commands. Slots are striped across the
+         * connections to a node ({@code slot % connectionsPerNode}) so commands for the same slot retain their order while
+         * load to a hot node is spread across multiple channels and event loops. Defaults to {@literal 1}. See
+         * {@link ClusterClientOptions#DEFAULT_CONNECTIONS_PER_NODE}.
+         *
+         * @param connectionsPerNode number of connections per node, must be greater {@literal 0}
+         * @return {@code this}
+         * @since 4.5
+         */
+        public Builder connectionsPerNode(int connectionsPerNode) {
+
+            LettuceAssert.isTrue(connectionsPerNode > 0, "ConnectionsPerNode must be greater 0");
+
+            this.connectionsPerNode = connectionsPerNode;
+            return this;
+        }
+
         /**
          * Sets the {@link ClusterTopologyRefreshOptions} for detailed control of topology updates.
          *
@@ -250,6 +276,48 @@ public class ClusterClientOptions extends ClientOptions {
             return this;
         }
 
+        @Override
+        public Builder consolidateFlushes(boolean consolidateFlushes) {
+            super.consolidateFlushes(consolidateFlushes);
+            return this;
+        }
+
+        @Override
+        public Builder maxCommandsPerFlush(int maxCommandsPerFlush) {
+            super.maxCommandsPerFlush(maxCommandsPerFlush);
+            return this;
+        }
+
+        @Override
+        public Builder timeoutCommands(boolean timeoutCommands) {
+            super.timeoutCommands(timeoutCommands);
+            return this;
+        }
+
+        @Override
+        public Builder writeBufferWaterMark(int low, int high) {
+            super.writeBufferWaterMark(low, high);
+            return this;
+        }
+
+        @Override
+        public Builder backpressureBehavior(BackpressureBehavior backpressureBehavior) {
+            super.backpressureBehavior(backpressureBehavior);
+            return this;
+        }
+
+        @Override
+        public Builder hedgedReadOptions(HedgedReadOptions hedgedReadOptions) {
+            super.hedgedReadOptions(hedgedReadOptions);
+            return this;
+        }
+
+        @Override
+        public Builder pubSubDispatchOptions(PubSubDispatchOptions pubSubDispatchOptions) {
+            super.pubSubDispatchOptions(pubSubDispatchOptions);
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClusterClientOptions}
          *
@@ -321,6 +389,17 @@ public class ClusterClientOptions extends ClientOptions {
         return maxRedirects;
     }
 
+    /**
+     * Number of connections per cluster node and intent for slot-routed commands. Defaults to {@literal 1}. See
+     * {@link ClusterClientOptions#DEFAULT_CONNECTIONS_PER_NODE}.
+     *
+     * @return the number of connections per node
+     * @since 4.5
+     */
+    public int getConnectionsPerNode() {
+        return connectionsPerNode;
+    }
+
     /**
      * The {@link ClusterTopologyRefreshOptions} for detailed control of topology updates.
      *
@@ -91,6 +91,27 @@ interface ClusterConnectionProvider extends Closeable {
      */
     void setPartitions(Partitions partitions);
 
+    /**
+     * Invalidate cached connections for a single {@code slot}, e.g. after the slot was moved to a different node. The next
+     * lookup for {@code slot} resolves the connection using the current {@link Partitions}.
+     *
+     * @param slot the slot
+     * @since 4.5
+     */
+    void invalidateSlot(int slot);
+
+    /**
+     * Retrieve an established read connection for {@code slot} other than {@code primary}. Candidates are the cached read
+     * connections that were selected for {@code slot} using the {@link ReadFrom} setting. This method does not connect to
+     * nodes.
+     *
+     * @param slot the slot
+     * @param primary the connection to exclude
+     * @return an open read connection other than {@code primary} or {@literal null} if there is no such connection.
+     * @since 4.5
+     */
+    <K, V> StatefulRedisConnection<K, V> getAlternativeReadConnection(int slot, StatefulRedisConnection<K, V> primary);
+
     /**
      * Disable or enable auto-flush behavior. Default is {@literal true}. If autoFlushCommands is disabled, multiple commands
      * can be issued without writing them actually to the transport. Commands are buffered until a {@link #flushCommands()} is
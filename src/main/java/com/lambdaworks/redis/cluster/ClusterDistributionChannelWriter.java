@@ -19,6 +19,7 @@ import static com.lambdaworks.redis.cluster.SlotHash.getSlot;
 import static com.lambdaworks.redis.protocol.CommandType.CLIENT;
 
 import java.nio.ByteBuffer;
+import java.util.*;
 import java.util.concurrent.CompletableFuture;
 
 import com.lambdaworks.redis.*;
@@ -28,6 +29,7 @@ import com.lambdaworks.redis.internal.HostAndPort;
 import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.protocol.CommandArgs;
 import com.lambdaworks.redis.protocol.CommandKeyword;
+import com.lambdaworks.redis.protocol.HedgedReadDispatcher;
 import com.lambdaworks.redis.protocol.ProtocolKeyword;
 import com.lambdaworks.redis.protocol.RedisCommand;
 
@@ -44,6 +46,7 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
     private final RedisChannelWriter<K, V> defaultWriter;
     private final ClusterEventListener clusterEventListener;
     private final int executionLimit;
+    private final HedgedReadDispatcher hedgedReads;
 
     private ClusterConnectionProvider clusterConnectionProvider;
     private AsyncClusterConnectionProvider asyncClusterConnectionProvider;
@@ -52,6 +55,11 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
 
     ClusterDistributionChannelWriter(ClientOptions clientOptions, RedisChannelWriter<K, V> defaultWriter,
             ClusterEventListener clusterEventListener) {
+        this(clientOptions, defaultWriter, clusterEventListener, HedgedReadDispatcher.disabled());
+    }
+
+    ClusterDistributionChannelWriter(ClientOptions clientOptions, RedisChannelWriter<K, V> defaultWriter,
+            ClusterEventListener clusterEventListener, HedgedReadDispatcher hedgedReads) {
 
         if (clientOptions instanceof ClusterClientOptions) {
             this.executionLimit = ((ClusterClientOptions) clientOptions).getMaxRedirects();
@@ -61,6 +69,7 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
 
         this.defaultWriter = defaultWriter;
         this.clusterEventListener = clusterEventListener;
+        this.hedgedReads = hedgedReads;
     }
 
     @Override
@@ -82,6 +91,7 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
                 boolean asking;
                 if (clusterCommand.isMoved()) {
                     target = getMoveTarget(clusterCommand.getError());
+                    updateSlot(getMovedSlot(clusterCommand.getError()), target);
                     clusterEventListener.onMovedRedirection();
                     asking = false;
                 } else {
@@ -106,29 +116,24 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
         }
 
         ClusterCommand<K, V, ?> commandToSend = getCommandToSend(command);
-        CommandArgs<K, V> args = command.getArgs();
-
-        // exclude CLIENT commands from cluster routing
-        if (args != null && !CLIENT.equals(commandToSend.getType())) {
+        CompletableFuture<StatefulRedisConnection<K, V>> connectFuture = getConnectionAsync(commandToSend);
 
-            ByteBuffer encodedKey = args.getFirstEncodedKey();
-            if (encodedKey != null) {
+        if (connectFuture != null) {
 
-                int hash = getSlot(encodedKey);
-                ClusterConnectionProvider.Intent intent = getIntent(command.getType());
+            if (isSuccessfullyCompleted(connectFuture)) {
 
-                CompletableFuture<StatefulRedisConnection<K, V>> connectFuture = ((AsyncClusterConnectionProvider) clusterConnectionProvider)
-                        .getConnectionAsync(intent, hash);
+                StatefulRedisConnection<K, V> connection = connectFuture.join();
 
-                if (isSuccessfullyCompleted(connectFuture)) {
-                    writeCommand(commandToSend, false, connectFuture.join(), null);
-                } else {
-                    connectFuture.whenComplete((connection, throwable) -> writeCommand(commandToSend, false, connection,
-                            throwable));
+                if (hedgedReads.isEnabled() && writeHedged(command, connection)) {
+                    return command;
                 }
 
-                return (C) commandToSend;
+                writeCommand(commandToSend, false, connection, null);
+            } else {
+                connectFuture.whenComplete((connection, throwable) -> writeCommand(commandToSend, false, connection, throwable));
             }
+
+            return (C) commandToSend;
         }
 
         writeCommand(commandToSend, defaultWriter);
@@ -136,6 +141,132 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
         return (C) commandToSend;
     }
 
+    /**
+     * Write a read-only command as hedged read if the slot has an alternative read connection. Copies of the command are
+     * routed as {@link ClusterCommand}s so that each copy follows redirections independently.
+     *
+     * @param command the command.
+     * @param primary the connection the command is routed to.
+     * @return {@literal true} if the command was written as hedged read.
+     */
+    private boolean writeHedged(RedisCommand<K, V, ?> command, StatefulRedisConnection<K, V> primary) {
+
+        if (command instanceof ClusterCommand || command.getOutput() == null
+                || getIntent(command.getType()) != ClusterConnectionProvider.Intent.READ) {
+            return false;
+        }
+
+        int slot = getSlot(command.getArgs().getFirstEncodedKey());
+        StatefulRedisConnection<K, V> alternative = clusterConnectionProvider.getAlternativeReadConnection(slot, primary);
+
+        if (alternative == null) {
+            return false;
+        }
+
+        hedgedReads.dispatch(command, attempt -> writeCommand(getCommandToSend(attempt), false, primary, null),
+                attempt -> writeCommand(getCommandToSend(attempt), false, alternative, null));
+        return true;
+    }
+
+    /**
+     * Write multiple commands. Commands are grouped by the node connection they are routed to so that each node receives its
+     * commands as one batch with a single flush. Commands are routed the same way as {@link #write(RedisCommand)}: commands
+     * requiring a redirection, read commands that qualify for a hedged read, and commands awaiting a connection that is not
+     * yet established are written individually.
+     *
+     * @param commands the redis commands
+     * @return the written redis commands
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Collection<RedisCommand<K, V, ?>> write(Collection<? extends RedisCommand<K, V, ?>> commands) {
+
+        LettuceAssert.notNull(commands, "Commands must not be null");
+
+        if (closed) {
+            throw new RedisException("Connection is closed");
+        }
+
+        List<RedisCommand<K, V, ?>> written = new ArrayList<>(commands.size());
+        Map<RedisChannelWriter<K, V>, List<RedisCommand<K, V, ?>>> batches = new LinkedHashMap<>();
+
+        for (RedisCommand<K, V, ?> command : commands) {
+
+            if (command instanceof ClusterCommand && !command.isDone()) {
+
+                ClusterCommand<K, V, ?> clusterCommand = (ClusterCommand<K, V, ?>) command;
+                if (clusterCommand.isMoved() || clusterCommand.isAsk()) {
+                    written.add(write((RedisCommand<K, V, Object>) command));
+                    continue;
+                }
+            }
+
+            ClusterCommand<K, V, ?> commandToSend = getCommandToSend(command);
+            CompletableFuture<StatefulRedisConnection<K, V>> connectFuture = getConnectionAsync(commandToSend);
+
+            RedisChannelWriter<K, V> writer;
+            if (connectFuture == null) {
+                writer = defaultWriter;
+            } else if (isSuccessfullyCompleted(connectFuture)) {
+
+                StatefulRedisConnection<K, V> connection = connectFuture.join();
+
+                if (hedgedReads.isEnabled() && writeHedged(command, connection)) {
+                    written.add(command);
+                    continue;
+                }
+
+                writer = getWriterToUse(((RedisChannelHandler<K, V>) connection).getChannelWriter());
+            } else {
+                written.add(commandToSend);
+                connectFuture.whenComplete((connection, throwable) -> writeCommand(commandToSend, false, connection, throwable));
+                continue;
+            }
+
+            written.add(commandToSend);
+            batches.computeIfAbsent(writer, key -> new ArrayList<>()).add(commandToSend);
+        }
+
+        for (Map.Entry<RedisChannelWriter<K, V>, List<RedisCommand<K, V, ?>>> entry : batches.entrySet()) {
+
+            try {
+                entry.getKey().write(entry.getValue());
+            } catch (Exception e) {
+                for (RedisCommand<K, V, ?> command : entry.getValue()) {
+                    command.completeExceptionally(e);
+                }
+            }
+        }
+
+        return written;
+    }
+
+    /**
+     * Obtain the connection for a command routed by the slot of its first key.
+     *
+     * @param command the command.
+     * @return the connection future or {@literal null} if the command is not routed by its key and goes to the default writer.
+     */
+    private CompletableFuture<StatefulRedisConnection<K, V>> getConnectionAsync(RedisCommand<K, V, ?> command) {
+
+        CommandArgs<K, V> args = command.getArgs();
+
+        // exclude CLIENT commands from cluster routing
+        if (args == null || CLIENT.equals(command.getType())) {
+            return null;
+        }
+
+        ByteBuffer encodedKey = args.getFirstEncodedKey();
+        if (encodedKey == null) {
+            return null;
+        }
+
+        int hash = getSlot(encodedKey);
+        ClusterConnectionProvider.Intent intent = getIntent(command.getType());
+
+        return ((AsyncClusterConnectionProvider) clusterConnectionProvider).getConnectionAsync(intent, hash);
+    }
+
     private static boolean isSuccessfullyCompleted(CompletableFuture<?> connectFuture) {
         return connectFuture.isDone() && !connectFuture.isCompletedExceptionally();
     }
@@ -209,6 +340,17 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
         return HostAndPort.parseCompat(movedMessageParts[2]);
     }
 
+    static int getMovedSlot(String errorMessage) {
+
+        LettuceAssert.notEmpty(errorMessage, "ErrorMessage must not be empty");
+
+        int start = errorMessage.indexOf(' ') + 1;
+        int end = errorMessage.indexOf(' ', start);
+        LettuceAssert.isTrue(start > 0 && end > start, "ErrorMessage must consist of 3 tokens (" + errorMessage + ")");
+
+        return Integer.parseInt(errorMessage.substring(start, end));
+    }
+
     static HostAndPort getAskTarget(String errorMessage) {
 
         LettuceAssert.notEmpty(errorMessage, "ErrorMessage must not be empty");
@@ -229,6 +371,7 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
         }
 
         closed = true;
+        hedgedReads.close();
 
         if (defaultWriter != null) {
             defaultWriter.close();
@@ -259,6 +402,20 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
         return clusterConnectionProvider;
     }
 
+    /**
+     * Patch the slot cache of {@link Partitions} and the connection provider with the {@code MOVED} target so subsequent
+     * commands for {@code slot} are routed to the new owner without waiting for a topology refresh. The topology refresh
+     * remains responsible for reconciling the full cluster view.
+     */
+    private void updateSlot(int slot, HostAndPort target) {
+
+        Partitions partitions = this.partitions;
+
+        if (partitions != null && partitions.updateSlotCache(slot, target.getHostText(), target.getPort())) {
+            clusterConnectionProvider.invalidateSlot(slot);
+        }
+    }
+
     @Override
     public void reset() {
         defaultWriter.reset();
@@ -122,17 +122,14 @@ class ClusterNodeCommandHandler<K, V> extends CommandHandler<K, V> {
      */
     private Collection<RedisCommand<K, V, ?>> shiftCommands(Queue<RedisCommand<K, V, ?>> source) {
 
-        synchronized (stateLock) {
+        try {
 
-            try {
-
-                lockWritersExclusive();
+            lockWritersExclusive();
 
-                return drainCommands(source);
+            return drainCommands(source);
 
-            } finally {
-                unlockWritersExclusive();
-            }
+        } finally {
+            unlockWritersExclusive();
         }
     }
 
@@ -41,7 +41,8 @@ interface ClusterNodeConnectionFactory<K, V> extends
     void setPartitions(Partitions partitions);
 
     /**
-     * Connection to identify a connection either by nodeId or host/port.
+     * Connection to identify a connection either by nodeId or host/port. Host/port keys carry a stripe index to distinguish
+     * multiple connections to the same node.
      */
     class ConnectionKey {
 
@@ -49,19 +50,26 @@ interface ClusterNodeConnectionFactory<K, V> extends
         final String nodeId;
         final String host;
         final int port;
+        final int stripe;
 
         public ConnectionKey(Intent intent, String nodeId) {
             this.intent = intent;
             this.nodeId = nodeId;
             this.host = null;
             this.port = 0;
+            this.stripe = 0;
         }
 
         public ConnectionKey(Intent intent, String host, int port) {
+            this(intent, host, port, 0);
+        }
+
+        public ConnectionKey(Intent intent, String host, int port, int stripe) {
             this.intent = intent;
             this.host = host;
             this.port = port;
             this.nodeId = null;
+            this.stripe = stripe;
         }
 
         @Override
@@ -76,6 +84,8 @@ interface ClusterNodeConnectionFactory<K, V> extends
 
             if (port != key.port)
                 return false;
+            if (stripe != key.stripe)
+                return false;
             if (intent != key.intent)
                 return false;
             if (nodeId != null ? !nodeId.equals(key.nodeId) : key.nodeId != null)
@@ -90,6 +100,7 @@ interface ClusterNodeConnectionFactory<K, V> extends
             result = 31 * result + (nodeId != null ? nodeId.hashCode() : 0);
             result = 31 * result + (host != null ? host.hashCode() : 0);
             result = 31 * result + port;
+            result = 31 * result + stripe;
             return result;
         }
 
@@ -102,6 +113,7 @@ interface ClusterNodeConnectionFactory<K, V> extends
             sb.append(", nodeId='").append(nodeId).append('\'');
             sb.append(", host='").append(host).append('\'');
             sb.append(", port=").append(port);
+            sb.append(", stripe=").append(stripe);
             sb.append(']');
             return sb.toString();
         }
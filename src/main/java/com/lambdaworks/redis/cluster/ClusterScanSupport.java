@@ -18,6 +18,11 @@ package com.lambdaworks.redis.cluster;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import rx.Observable;
@@ -26,6 +31,7 @@ import rx.functions.Func1;
 import com.lambdaworks.redis.*;
 import com.lambdaworks.redis.cluster.api.StatefulRedisClusterConnection;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.models.role.RedisNodeDescription;
 
 /**
@@ -209,6 +215,23 @@ class ClusterScanSupport {
         }
     }
 
+    /**
+     * Scan all {@code nodeIds} to completion with at most {@code parallelism} nodes being scanned concurrently.
+     *
+     * @param nodeIds node Ids to scan.
+     * @param parallelism maximum number of concurrently scanned nodes.
+     * @param scanFunction function issuing a streaming {@code SCAN} for a node Id and the cursor to continue from.
+     * @return future completing with the total number of scanned keys.
+     */
+    static CompletableFuture<Long> parallelStreamScan(List<String> nodeIds, int parallelism,
+            BiFunction<String, ScanCursor, CompletionStage<StreamScanCursor>> scanFunction) {
+
+        LettuceAssert.isTrue(parallelism > 0, "Parallelism must be greater than zero");
+        assertHasNodes(nodeIds);
+
+        return new ParallelStreamScan(nodeIds, Math.min(parallelism, nodeIds.size()), scanFunction).execute();
+    }
+
     static <K> ScanCursorMapper<RedisFuture<KeyScanCursor<K>>> asyncClusterKeyScanCursorMapper() {
         return (ScanCursorMapper) futureKeyScanCursorMapper;
     }
@@ -225,6 +248,81 @@ class ClusterScanSupport {
         return reactiveStreamScanCursorMapper;
     }
 
+    /**
+     * Scan state for {@link #parallelStreamScan(List, int, BiFunction)}. Each worker takes the next pending node and scans it
+     * until the node cursor is exhausted. The scan completes once all workers ran out of nodes or with the first error.
+     */
+    private static class ParallelStreamScan {
+
+        private final List<String> nodeIds;
+        private final int workers;
+        private final BiFunction<String, ScanCursor, CompletionStage<StreamScanCursor>> scanFunction;
+        private final CompletableFuture<Long> result = new CompletableFuture<>();
+        private final AtomicInteger nextNode = new AtomicInteger();
+        private final AtomicInteger activeWorkers;
+        private final AtomicLong count = new AtomicLong();
+
+        ParallelStreamScan(List<String> nodeIds, int workers,
+                BiFunction<String, ScanCursor, CompletionStage<StreamScanCursor>> scanFunction) {
+
+            this.nodeIds = nodeIds;
+            this.workers = workers;
+            this.scanFunction = scanFunction;
+            this.activeWorkers = new AtomicInteger(workers);
+        }
+
+        CompletableFuture<Long> execute() {
+
+            for (int i = 0; i < workers; i++) {
+                scanNextNode();
+            }
+
+            return result;
+        }
+
+        private void scanNextNode() {
+
+            int index = nextNode.getAndIncrement();
+
+            if (result.isDone() || index >= nodeIds.size()) {
+
+                if (activeWorkers.decrementAndGet() == 0) {
+                    result.complete(count.get());
+                }
+                return;
+            }
+
+            scanNode(nodeIds.get(index), ScanCursor.INITIAL);
+        }
+
+        private void scanNode(String nodeId, ScanCursor cursor) {
+
+            CompletionStage<StreamScanCursor> stage;
+            try {
+                stage = scanFunction.apply(nodeId, cursor);
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+
+            stage.whenComplete((scanCursor, throwable) -> {
+
+                if (throwable != null) {
+                    result.completeExceptionally(throwable);
+                    return;
+                }
+
+                count.addAndGet(scanCursor.getCount());
+
+                if (scanCursor.isFinished() || result.isDone()) {
+                    scanNextNode();
+                } else {
+                    scanNode(nodeId, scanCursor);
+                }
+            });
+        }
+    }
+
     /**
      * Mapper between the node operation cursor and the cluster scan cursor.
      *
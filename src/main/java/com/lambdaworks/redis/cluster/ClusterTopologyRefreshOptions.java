@@ -37,6 +37,8 @@ public class ClusterTopologyRefreshOptions {
     public static final TimeUnit DEFAULT_ADAPTIVE_REFRESH_TIMEOUT_UNIT = TimeUnit.SECONDS;
     public static final int DEFAULT_REFRESH_TRIGGERS_RECONNECT_ATTEMPTS = 5;
     public static final boolean DEFAULT_CLOSE_STALE_CONNECTIONS = true;
+    public static final TopologySource DEFAULT_TOPOLOGY_SOURCE = TopologySource.CLUSTER_NODES;
+    public static final int DEFAULT_MAX_TOPOLOGY_REFRESH_SOURCES = Integer.MAX_VALUE;
 
     private final boolean periodicRefreshEnabled;
     private final long refreshPeriod;
@@ -47,6 +49,8 @@ public class ClusterTopologyRefreshOptions {
     private final long adaptiveRefreshTimeout;
     private final TimeUnit adaptiveRefreshTimeoutUnit;
     private final int refreshTriggersReconnectAttempts;
+    private final TopologySource topologySource;
+    private final int maxTopologyRefreshSources;
 
     protected ClusterTopologyRefreshOptions(Builder builder) {
 
@@ -59,6 +63,8 @@ public class ClusterTopologyRefreshOptions {
         this.adaptiveRefreshTimeout = builder.adaptiveRefreshTimeout;
         this.adaptiveRefreshTimeoutUnit = builder.adaptiveRefreshTimeoutUnit;
         this.refreshTriggersReconnectAttempts = builder.refreshTriggersReconnectAttempts;
+        this.topologySource = builder.topologySource;
+        this.maxTopologyRefreshSources = builder.maxTopologyRefreshSources;
     }
 
     protected ClusterTopologyRefreshOptions(ClusterTopologyRefreshOptions original) {
@@ -72,6 +78,8 @@ public class ClusterTopologyRefreshOptions {
         this.adaptiveRefreshTimeout = original.adaptiveRefreshTimeout;
         this.adaptiveRefreshTimeoutUnit = original.adaptiveRefreshTimeoutUnit;
         this.refreshTriggersReconnectAttempts = original.refreshTriggersReconnectAttempts;
+        this.topologySource = original.topologySource;
+        this.maxTopologyRefreshSources = original.maxTopologyRefreshSources;
     }
 
     /**
@@ -125,6 +133,8 @@ public class ClusterTopologyRefreshOptions {
         private long adaptiveRefreshTimeout = DEFAULT_ADAPTIVE_REFRESH_TIMEOUT;
         private TimeUnit adaptiveRefreshTimeoutUnit = DEFAULT_ADAPTIVE_REFRESH_TIMEOUT_UNIT;
         private int refreshTriggersReconnectAttempts = DEFAULT_REFRESH_TRIGGERS_RECONNECT_ATTEMPTS;
+        private TopologySource topologySource = DEFAULT_TOPOLOGY_SOURCE;
+        private int maxTopologyRefreshSources = DEFAULT_MAX_TOPOLOGY_REFRESH_SOURCES;
 
         /**
          * @deprecated Use {@link ClusterTopologyRefreshOptions#builder()}
@@ -275,6 +285,40 @@ public class ClusterTopologyRefreshOptions {
             return this;
         }
 
+        /**
+         * Set the {@link TopologySource} used to obtain the cluster topology. {@link TopologySource#CLUSTER_SLOTS} uses the
+         * compact {@code CLUSTER SLOTS} reply and skips {@code CLIENT LIST} which reduces refresh bandwidth and parsing cost.
+         * Defaults to {@link TopologySource#CLUSTER_NODES}. See {@link #DEFAULT_TOPOLOGY_SOURCE}.
+         *
+         * @param topologySource the topology source, must not be {@literal null}
+         * @return {@code this}
+         * @since 4.5
+         */
+        public Builder topologySource(TopologySource topologySource) {
+
+            LettuceAssert.notNull(topologySource, "TopologySource must not be null");
+
+            this.topologySource = topologySource;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of nodes that are queried per topology refresh. Each refresh queries a different subset of
+         * the refresh sources. Only applies to {@link TopologySource#CLUSTER_SLOTS} as each {@code CLUSTER SLOTS} reply
+         * contains the full slot assignment. Defaults to all nodes. See {@link #DEFAULT_MAX_TOPOLOGY_REFRESH_SOURCES}.
+         *
+         * @param maxTopologyRefreshSources maximum number of nodes to query, must be greater {@literal 0}
+         * @return {@code this}
+         * @since 4.5
+         */
+        public Builder maxTopologyRefreshSources(int maxTopologyRefreshSources) {
+
+            LettuceAssert.isTrue(maxTopologyRefreshSources > 0, "MaxTopologyRefreshSources must be greater 0");
+
+            this.maxTopologyRefreshSources = maxTopologyRefreshSources;
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClusterTopologyRefreshOptions}
          *
@@ -376,6 +420,47 @@ public class ClusterTopologyRefreshOptions {
         return refreshTriggersReconnectAttempts;
     }
 
+    /**
+     * Returns the {@link TopologySource} used to obtain the cluster topology. Defaults to
+     * {@link TopologySource#CLUSTER_NODES}.
+     *
+     * @return the {@link TopologySource}
+     * @since 4.5
+     */
+    public TopologySource getTopologySource() {
+        return topologySource;
+    }
+
+    /**
+     * Maximum number of nodes that are queried per topology refresh when using {@link TopologySource#CLUSTER_SLOTS}. Defaults
+     * to all nodes.
+     *
+     * @return maximum number of nodes to query per topology refresh
+     * @since 4.5
+     */
+    public int getMaxTopologyRefreshSources() {
+        return maxTopologyRefreshSources;
+    }
+
+    /**
+     * Source of the cluster topology.
+     *
+     * @since 4.5
+     */
+    public enum TopologySource {
+
+        /**
+         * Obtain the topology using {@code CLUSTER NODES} and the client count using {@code CLIENT LIST} from each node.
+         */
+        CLUSTER_NODES,
+
+        /**
+         * Obtain the topology using {@code CLUSTER SLOTS}. Requires Redis 4.0 or newer to report node Ids. Masters without
+         * slots are not visible and connected client counts are not obtained.
+         */
+        CLUSTER_SLOTS,
+    }
+
     /**
      * Available refresh triggers to signal early topology refreshing.
      */
@@ -161,19 +161,38 @@ class NodeSelectionInvocationHandler extends AbstractInvocationHandler {
         Map<RedisClusterNode, CompletionStage<?>> asyncExecutions = (Map) executions;
 
         if (executionModel == ExecutionModel.SYNC) {
+            return awaitExecutions(asyncExecutions, timeout, unit);
+        }
 
-            if (!awaitAll(timeout, unit, asyncExecutions.values())) {
-                throw createTimeoutException(asyncExecutions, timeout, unit);
-            }
+        return new AsyncExecutionsImpl<>(asyncExecutions);
+    }
 
-            if (atLeastOneFailed(asyncExecutions)) {
-                throw createExecutionException(asyncExecutions);
-            }
+    /**
+     * Await completion of all {@code executions} and return the synchronous {@link SyncExecutionsImpl result}.
+     *
+     * @param executions the executions per node.
+     * @param timeout timeout value.
+     * @param unit timeout unit.
+     * @param <T> result type.
+     * @return the synchronous executions.
+     * @throws RedisCommandTimeoutException if at least one execution did not complete in time.
+     * @throws RedisCommandExecutionException if at least one execution failed.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    static <T> SyncExecutionsImpl<T> awaitExecutions(Map<RedisClusterNode, ? extends CompletionStage<? extends T>> executions,
+            long timeout, TimeUnit unit) throws ExecutionException, InterruptedException {
 
-            return new SyncExecutionsImpl<>(asyncExecutions);
+        Map<RedisClusterNode, CompletionStage<?>> asyncExecutions = (Map) executions;
+
+        if (!awaitAll(timeout, unit, asyncExecutions.values())) {
+            throw createTimeoutException(asyncExecutions, timeout, unit);
         }
 
-        return new AsyncExecutionsImpl<>(asyncExecutions);
+        if (atLeastOneFailed(asyncExecutions)) {
+            throw createExecutionException(asyncExecutions);
+        }
+
+        return new SyncExecutionsImpl<>((Map) asyncExecutions);
     }
 
     private static boolean awaitAll(long timeout, TimeUnit unit, Collection<CompletionStage<?>> futures) {
@@ -208,12 +227,12 @@ class NodeSelectionInvocationHandler extends AbstractInvocationHandler {
         return complete;
     }
 
-    private boolean atLeastOneFailed(Map<RedisClusterNode, CompletionStage<?>> executions) {
+    private static boolean atLeastOneFailed(Map<RedisClusterNode, CompletionStage<?>> executions) {
         return executions.values().stream()
                 .anyMatch(completionStage -> completionStage.toCompletableFuture().isCompletedExceptionally());
     }
 
-    private RedisCommandTimeoutException createTimeoutException(Map<RedisClusterNode, CompletionStage<?>> executions,
+    private static RedisCommandTimeoutException createTimeoutException(Map<RedisClusterNode, CompletionStage<?>> executions,
             long timeout, TimeUnit unit) {
 
         List<RedisClusterNode> notFinished = new ArrayList<>();
@@ -227,7 +246,8 @@ class NodeSelectionInvocationHandler extends AbstractInvocationHandler {
         return ExceptionFactory.createTimeoutException("Command timed out for node(s): " + description, timeout, unit);
     }
 
-    private RedisCommandExecutionException createExecutionException(Map<RedisClusterNode, CompletionStage<?>> executions) {
+    private static RedisCommandExecutionException createExecutionException(
+            Map<RedisClusterNode, CompletionStage<?>> executions) {
 
         List<RedisClusterNode> failed = new ArrayList<>();
         executions.forEach((redisClusterNode, completionStage) -> {
@@ -258,11 +278,12 @@ class NodeSelectionInvocationHandler extends AbstractInvocationHandler {
         return e;
     }
 
-    private String getNodeDescription(List<RedisClusterNode> notFinished) {
-        return String.join(", ", notFinished.stream().map(this::getDescriptor).collect(Collectors.toList()));
+    private static String getNodeDescription(List<RedisClusterNode> notFinished) {
+        return String.join(", ",
+                notFinished.stream().map(NodeSelectionInvocationHandler::getDescriptor).collect(Collectors.toList()));
     }
 
-    private String getDescriptor(RedisClusterNode redisClusterNode) {
+    private static String getDescriptor(RedisClusterNode redisClusterNode) {
 
         StringBuilder buffer = new StringBuilder(redisClusterNode.getNodeId());
         buffer.append(" (");
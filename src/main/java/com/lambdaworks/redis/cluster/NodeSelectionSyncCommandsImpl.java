@@ -0,0 +1,134 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.cluster;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.lambdaworks.redis.RedisCommandExecutionException;
+import com.lambdaworks.redis.RedisCommandInterruptedException;
+import com.lambdaworks.redis.RedisFuture;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.api.async.RedisAsyncCommands;
+import com.lambdaworks.redis.api.sync.RedisCommands;
+import com.lambdaworks.redis.cluster.api.sync.Executions;
+import com.lambdaworks.redis.cluster.api.sync.NodeSelection;
+import com.lambdaworks.redis.cluster.api.sync.NodeSelectionCommands;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+import com.lambdaworks.redis.internal.LettuceAssert;
+
+/**
+ * Synchronous {@link NodeSelection} that invokes commands on the asynchronous API of each selected node and awaits all
+ * results.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.5
+ */
+class NodeSelectionSyncCommandsImpl<K, V> extends AbstractNodeSelectionSyncCommands<K, V> implements NodeSelection<K, V> {
+
+    private final AbstractNodeSelection<RedisCommands<K, V>, NodeSelectionCommands<K, V>, K, V> selection;
+    private final long timeout;
+    private final TimeUnit unit;
+
+    NodeSelectionSyncCommandsImpl(AbstractNodeSelection<RedisCommands<K, V>, NodeSelectionCommands<K, V>, K, V> selection,
+            long timeout, TimeUnit unit) {
+
+        LettuceAssert.isTrue(timeout > 0, "Timeout must be greater 0");
+        LettuceAssert.notNull(unit, "Unit must not be null");
+
+        this.selection = selection;
+        this.timeout = timeout;
+        this.unit = unit;
+    }
+
+    @Override
+    protected <T> Executions<T> execute(Function<RedisAsyncCommands<K, V>, RedisFuture<T>> command) {
+        return executeOnConnections(it -> command.apply(it.async()));
+    }
+
+    @Override
+    public void close() {
+        executeOnConnections(it -> {
+            it.close();
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    private <T> Executions<T> executeOnConnections(
+            Function<StatefulRedisConnection<K, V>, ? extends CompletionStage<T>> command) {
+
+        Map<RedisClusterNode, CompletableFuture<? extends StatefulRedisConnection<K, V>>> connections = selection
+                .statefulMap();
+        Map<RedisClusterNode, CompletionStage<T>> executions = new LinkedHashMap<>(connections.size(), 1);
+
+        for (Map.Entry<RedisClusterNode, CompletableFuture<? extends StatefulRedisConnection<K, V>>> entry : connections
+                .entrySet()) {
+
+            executions.put(entry.getKey(), entry.getValue().thenCompose(it -> {
+
+                try {
+                    return command.apply(it);
+                } catch (Exception e) {
+
+                    CompletableFuture<T> future = new CompletableFuture<>();
+                    future.completeExceptionally(e);
+                    return future;
+                }
+            }));
+        }
+
+        try {
+            return NodeSelectionInvocationHandler.awaitExecutions(executions, timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisCommandInterruptedException(e);
+        } catch (ExecutionException e) {
+            throw new RedisCommandExecutionException(e.getCause());
+        }
+    }
+
+    @Override
+    public int size() {
+        return selection.size();
+    }
+
+    @Override
+    public NodeSelectionCommands<K, V> commands() {
+        return this;
+    }
+
+    @Override
+    public RedisCommands<K, V> commands(int index) {
+        return selection.commands(index);
+    }
+
+    @Override
+    public RedisClusterNode node(int index) {
+        return selection.node(index);
+    }
+
+    @Override
+    public Map<RedisClusterNode, RedisCommands<K, V>> asMap() {
+        return selection.asMap();
+    }
+}
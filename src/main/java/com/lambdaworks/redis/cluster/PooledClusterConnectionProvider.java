@@ -16,12 +16,13 @@
 package com.lambdaworks.redis.cluster;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -34,6 +35,7 @@ import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
 import com.lambdaworks.redis.codec.RedisCodec;
 import com.lambdaworks.redis.internal.HostAndPort;
 import com.lambdaworks.redis.internal.LettuceAssert;
+import com.lambdaworks.redis.metrics.ConnectionLoad;
 import com.lambdaworks.redis.models.role.RedisInstance;
 import com.lambdaworks.redis.models.role.RedisNodeDescription;
 
@@ -53,20 +55,24 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
     private static final InternalLogger logger = InternalLoggerFactory.getInstance(PooledClusterConnectionProvider.class);
 
-    // Contains NodeId-identified and HostAndPort-identified connections.
-    private final Object stateLock = new Object();
     private final boolean debugEnabled = logger.isDebugEnabled();
-    private final CompletableFuture<StatefulRedisConnection<K, V>> writers[] = new CompletableFuture[SlotHash.SLOT_COUNT];
-    private final CompletableFuture<StatefulRedisConnection<K, V>> readers[][] = new CompletableFuture[SlotHash.SLOT_COUNT][];
     private final RedisClusterClient redisClusterClient;
     private final ClusterNodeConnectionFactory<K, V> connectionFactory;
     private final RedisChannelWriter<K, V> clusterWriter;
     private final RedisCodec<K, V> redisCodec;
     private final SynchronizingClusterConnectionProvider<K, V> connectionProvider;
 
-    private Partitions partitions;
-    private boolean autoFlushCommands = true;
-    private ReadFrom readFrom;
+    // Slot caches are replaced as a whole when invalidated. Lookups read the current generation without locking, cache misses
+    // populate a slot in the generation they were started with so that results from a previous topology are discarded.
+    private volatile AtomicReferenceArray<CompletableFuture<StatefulRedisConnection<K, V>>> writers = newSlotCache();
+    private volatile AtomicReferenceArray<CompletableFuture<StatefulRedisConnection<K, V>>[]> readers = newSlotCache();
+
+    // Incremented by invalidateSlot(…). Cache misses publish their result only if the slot was not invalidated meanwhile.
+    private final AtomicIntegerArray slotVersions = new AtomicIntegerArray(SlotHash.SLOT_COUNT);
+
+    private volatile Partitions partitions;
+    private volatile boolean autoFlushCommands = true;
+    private volatile ReadFrom readFrom;
 
     public PooledClusterConnectionProvider(RedisClusterClient redisClusterClient, RedisChannelWriter<K, V> clusterWriter,
             RedisCodec<K, V> redisCodec) {
@@ -110,12 +116,12 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
     private CompletableFuture<StatefulRedisConnection<K, V>> getWriteConnection(int slot) {
 
-        CompletableFuture<StatefulRedisConnection<K, V>> writer;// avoid races when reconfiguring partitions.
-        synchronized (stateLock) {
-            writer = writers[slot];
-        }
+        AtomicReferenceArray<CompletableFuture<StatefulRedisConnection<K, V>>> writers = this.writers;
+        CompletableFuture<StatefulRedisConnection<K, V>> writer = writers.get(slot);
 
         if (writer == null) {
+
+            int version = slotVersions.get(slot);
             RedisClusterNode partition = partitions.getPartitionBySlot(slot);
             if (partition == null) {
                 throw new RedisException("Cannot determine a partition for slot " + slot + " (Partitions: " + partitions + ")");
@@ -124,15 +130,10 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
             // Use always host and port for slot-oriented operations. We don't want to get reconnected on a different
             // host because the nodeId can be handled by a different host.
             RedisURI uri = partition.getUri();
-            ConnectionKey key = new ConnectionKey(Intent.WRITE, uri.getHost(), uri.getPort());
+            ConnectionKey key = new ConnectionKey(Intent.WRITE, uri.getHost(), uri.getPort(), getStripe(slot));
             return getConnectionAsync(key).thenApply(connection -> {
 
-                synchronized (stateLock) {
-                    if (writers[slot] == null) {
-                        writers[slot] = CompletableFuture.completedFuture(connection);
-                    }
-                }
-
+                publish(writers, slot, version, CompletableFuture.completedFuture(connection));
                 return connection;
             });
         }
@@ -142,13 +143,12 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
     protected CompletableFuture<StatefulRedisConnection<K, V>> getReadConnection(int slot) {
 
-        CompletableFuture<StatefulRedisConnection<K, V>> readerCandidates[];// avoid races when reconfiguring partitions.
+        AtomicReferenceArray<CompletableFuture<StatefulRedisConnection<K, V>>[]> readers = this.readers;
+        ReadFrom readFrom = this.readFrom;
+        CompletableFuture<StatefulRedisConnection<K, V>> readerCandidates[] = readers.get(slot);
 
         boolean cached = true;
-
-        synchronized (stateLock) {
-            readerCandidates = readers[slot];
-        }
+        int version = slotVersions.get(slot);
 
         if (readerCandidates == null) {
 
@@ -176,7 +176,7 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
                         + partitions + ") with setting " + readFrom);
             }
 
-            readerCandidates = getReadFromConnections(selection);
+            readerCandidates = getReadFromConnections(selection, getStripe(slot));
             cached = false;
         }
 
@@ -184,17 +184,8 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
         if (cached) {
 
-            return CompletableFuture.allOf(readerCandidates).thenCompose(v -> {
-
-                for (CompletableFuture<StatefulRedisConnection<K, V>> candidate : selectedReaderCandidates) {
-
-                    if (candidate.join().isOpen()) {
-                        return candidate;
-                    }
-                }
-
-                return selectedReaderCandidates[0];
-            });
+            return CompletableFuture.allOf(readerCandidates).thenApply(
+                    v -> selectReader(selectedReaderCandidates, readFrom.isLoadAware()));
         }
 
         CompletableFuture<StatefulRedisConnection<K, V>[]> filteredReaderCandidates = new CompletableFuture<>();
@@ -225,20 +216,46 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
                     for (int i = 0; i < toCache.length; i++) {
                         toCache[i] = CompletableFuture.completedFuture(statefulRedisConnections[i]);
                     }
-                    synchronized (stateLock) {
-                        readers[slot] = toCache;
-                    }
+                    publish(readers, slot, version, toCache);
 
-                    for (StatefulRedisConnection<K, V> candidate : statefulRedisConnections) {
-                        if (candidate.isOpen()) {
-                            return candidate;
-                        }
-                    }
-
-                    return statefulRedisConnections[0];
+                    return selectReader(toCache, readFrom.isLoadAware());
                 });
     }
 
+    /**
+     * Select the first open connection or, if {@code loadAware}, the open connection with the lowest
+     * {@link ConnectionLoad#getCost() cost}. Falls back to the first connection if no connection is open.
+     */
+    private static <K, V> StatefulRedisConnection<K, V> selectReader(
+            CompletableFuture<StatefulRedisConnection<K, V>>[] candidates, boolean loadAware) {
+
+        StatefulRedisConnection<K, V> selected = null;
+        long lowestCost = Long.MAX_VALUE;
+
+        for (CompletableFuture<StatefulRedisConnection<K, V>> future : candidates) {
+
+            StatefulRedisConnection<K, V> candidate = future.join();
+
+            if (!candidate.isOpen()) {
+                continue;
+            }
+
+            if (!loadAware) {
+                return candidate;
+            }
+
+            ConnectionLoad load = ConnectionLoad.from(candidate);
+            long cost = load != null ? load.getCost() : 0;
+
+            if (selected == null || cost < lowestCost) {
+                selected = candidate;
+                lowestCost = cost;
+            }
+        }
+
+        return selected != null ? selected : candidates[0].join();
+    }
+
     private StatefulRedisConnection<K, V>[] getConnections(
             CompletableFuture<StatefulRedisConnection<K, V>>[] selectedReaderCandidates) {
 
@@ -273,7 +290,8 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
         });
     }
 
-    private CompletableFuture<StatefulRedisConnection<K, V>>[] getReadFromConnections(List<RedisNodeDescription> selection) {
+    private CompletableFuture<StatefulRedisConnection<K, V>>[] getReadFromConnections(List<RedisNodeDescription> selection,
+            int stripe) {
 
         CompletableFuture<StatefulRedisConnection<K, V>>[] readerCandidates;
         // Use always host and port for slot-oriented operations. We don't want to get reconnected on a different
@@ -287,7 +305,7 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
             RedisURI uri = redisClusterNode.getUri();
             ConnectionKey key = new ConnectionKey(redisClusterNode.getRole() == RedisInstance.Role.MASTER ? Intent.WRITE
-                    : Intent.READ, uri.getHost(), uri.getPort());
+                    : Intent.READ, uri.getHost(), uri.getPort(), stripe);
 
             readerCandidates[i] = getConnectionAsync(key);
         }
@@ -422,29 +440,64 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
         connectionProvider.forEach(StatefulRedisConnection::reset);
     }
 
-    /**
-     * Synchronize on {@code stateLock} to initiate a happens-before relation and clear the thread caches of other threads.
-     *
-     * @param partitions the new partitions.
-     */
     @Override
     public void setPartitions(Partitions partitions) {
 
-        boolean reconfigurePartitions = false;
+        boolean reconfigurePartitions = this.partitions != null;
 
-        synchronized (stateLock) {
-            if (this.partitions != null) {
-                reconfigurePartitions = true;
-            }
-            this.partitions = partitions;
-            this.connectionFactory.setPartitions(partitions);
-        }
+        this.partitions = partitions;
+        this.connectionFactory.setPartitions(partitions);
 
         if (reconfigurePartitions) {
             reconfigurePartitions();
         }
     }
 
+    @Override
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public StatefulRedisConnection<K, V> getAlternativeReadConnection(int slot, StatefulRedisConnection primary) {
+
+        CompletableFuture<StatefulRedisConnection<K, V>> candidates[] = readers.get(slot);
+
+        if (candidates == null) {
+            return null;
+        }
+
+        for (CompletableFuture<StatefulRedisConnection<K, V>> future : candidates) {
+
+            if (!future.isDone() || future.isCompletedExceptionally()) {
+                continue;
+            }
+
+            StatefulRedisConnection<K, V> candidate = future.join();
+            if (candidate != primary && candidate.isOpen()) {
+                return candidate;
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public void invalidateSlot(int slot) {
+
+        slotVersions.incrementAndGet(slot);
+        writers.set(slot, null);
+        readers.set(slot, null);
+    }
+
+    /**
+     * Publish a cache fill for {@code slot} resolved at slot {@code version}. The version is checked after publishing and the
+     * entry is removed again if {@link #invalidateSlot(int)} ran concurrently, so a fill that resolved the previous slot owner
+     * cannot undo the invalidation.
+     */
+    private <T> void publish(AtomicReferenceArray<T> cache, int slot, int version, T value) {
+
+        if (cache.compareAndSet(slot, null, value) && slotVersions.get(slot) != version) {
+            cache.compareAndSet(slot, value, null);
+        }
+    }
+
     protected Partitions getPartitions() {
         return partitions;
     }
@@ -489,17 +542,14 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     }
 
     /**
-     * Set auto-flush on all commands. Synchronize on {@code stateLock} to initiate a happens-before relation and clear the
-     * thread caches of other threads.
+     * Set auto-flush on all commands.
      *
      * @param autoFlush state of autoFlush.
      */
     @Override
     public void setAutoFlushCommands(boolean autoFlush) {
 
-        synchronized (stateLock) {
-            this.autoFlushCommands = autoFlush;
-        }
+        this.autoFlushCommands = autoFlush;
 
         connectionProvider.forEach(connection -> connection.setAutoFlushCommands(autoFlush));
     }
@@ -512,10 +562,8 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     @Override
     public void setReadFrom(ReadFrom readFrom) {
 
-        synchronized (stateLock) {
-            this.readFrom = readFrom;
-            Arrays.fill(readers, null);
-        }
+        this.readFrom = readFrom;
+        this.readers = newSlotCache();
     }
 
     @Override
@@ -533,16 +581,16 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
     /**
      * Reset the internal connection cache. This is necessary because the {@link Partitions} have no reference to the connection
-     * cache.
-     *
-     * Synchronize on {@code stateLock} to initiate a happens-before relation and clear the thread caches of other threads.
+     * cache. Pending cache fills complete into the previous cache generation and do not become visible.
      */
     private void resetFastConnectionCache() {
 
-        synchronized (stateLock) {
-            Arrays.fill(writers, null);
-            Arrays.fill(readers, null);
-        }
+        this.writers = newSlotCache();
+        this.readers = newSlotCache();
+    }
+
+    private static <T> AtomicReferenceArray<T> newSlotCache() {
+        return new AtomicReferenceArray<>(SlotHash.SLOT_COUNT);
     }
 
     private static RuntimeException invalidConnectionPoint(String message) {
@@ -550,6 +598,24 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
                 + " not allowed. This connection point is not known in the cluster view");
     }
 
+    /**
+     * Determine the connection stripe for a slot. Slots map to a fixed stripe so that commands for the same slot are written
+     * to the same connection and retain their order.
+     *
+     * @param slot the slot.
+     * @return the stripe index.
+     */
+    int getStripe(int slot) {
+
+        ClusterClientOptions options = redisClusterClient.getClusterClientOptions();
+
+        if (options == null || options.getConnectionsPerNode() == 1) {
+            return 0;
+        }
+
+        return slot % options.getConnectionsPerNode();
+    }
+
     boolean validateClusterNodeMembership() {
         return redisClusterClient.getClusterClientOptions() == null
                 || redisClusterClient.getClusterClientOptions().isValidateClusterNodeMembership();
@@ -611,9 +677,7 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
             }
 
             connection = connection.thenApply(c -> {
-                synchronized (stateLock) {
-                    c.setAutoFlushCommands(autoFlushCommands);
-                }
+                c.setAutoFlushCommands(autoFlushCommands);
                 return c;
             });
 
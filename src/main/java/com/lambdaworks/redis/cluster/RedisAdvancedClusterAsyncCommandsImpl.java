@@ -25,6 +25,7 @@ import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -45,12 +46,10 @@ import com.lambdaworks.redis.cluster.api.async.RedisClusterAsyncCommands;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
 import com.lambdaworks.redis.codec.RedisCodec;
-import com.lambdaworks.redis.output.IntegerOutput;
-import com.lambdaworks.redis.output.KeyStreamingChannel;
-import com.lambdaworks.redis.output.ValueStreamingChannel;
-import com.lambdaworks.redis.protocol.AsyncCommand;
-import com.lambdaworks.redis.protocol.Command;
-import com.lambdaworks.redis.protocol.CommandType;
+import com.lambdaworks.redis.internal.LettuceAssert;
+import com.lambdaworks.redis.internal.LettuceLists;
+import com.lambdaworks.redis.output.*;
+import com.lambdaworks.redis.protocol.*;
 
 /**
  * An advanced asynchronous and thread-safe API for a Redis Cluster connection.
@@ -62,6 +61,12 @@ import com.lambdaworks.redis.protocol.CommandType;
 public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAsyncCommands<K, V> implements
         RedisAdvancedClusterAsyncConnection<K, V>, RedisAdvancedClusterAsyncCommands<K, V> {
 
+    // Commands dispatched by the current thread while it builds a partitioned batch, see dispatchPartitioned(…).
+    private final ThreadLocal<List<RedisCommand<K, V, ?>>> partitionedBatch = new ThreadLocal<>();
+
+    // Number of threads building a partitioned batch, lets dispatch(…) skip the thread-local lookup otherwise.
+    private final AtomicInteger partitionedDispatches = new AtomicInteger();
+
     /**
      * Initialize a new connection.
      *
@@ -146,18 +151,13 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     @Override
     public RedisFuture<Long> del(Iterable<K> keys) {
 
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
+        KeyPartitions<K> partitioned = KeyPartitions.of(codec, keys);
 
         if (partitioned.size() < 2) {
             return super.del(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> del = super.del(entry.getValue());
-            executions.put(entry.getKey(), del);
-        }
+        Map<Integer, RedisFuture<Long>> executions = dispatchPartitioned(partitioned, super::del);
 
         return MultiNodeExecution.aggregateAsync(executions);
     }
@@ -169,18 +169,13 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     public RedisFuture<Long> exists(Iterable<K> keys) {
 
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
+        KeyPartitions<K> partitioned = KeyPartitions.of(codec, keys);
 
         if (partitioned.size() < 2) {
             return super.exists(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> exists = super.exists(entry.getValue());
-            executions.put(entry.getKey(), exists);
-        }
+        Map<Integer, RedisFuture<Long>> executions = dispatchPartitioned(partitioned, super::exists);
 
         return MultiNodeExecution.aggregateAsync(executions);
     }
@@ -266,29 +261,25 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     @Override
     public RedisFuture<List<V>> mget(Iterable<K> keys) {
 
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
+        KeyPartitions<K> partitioned = KeyPartitions.of(codec, keys);
 
         if (partitioned.size() < 2) {
             return super.mget(keys);
         }
 
-        Map<K, Integer> slots = SlotHash.getSlots(partitioned);
-        Map<Integer, RedisFuture<List<V>>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<List<V>> mget = super.mget(entry.getValue());
-            executions.put(entry.getKey(), mget);
-        }
+        Map<Integer, RedisFuture<List<V>>> executions = dispatchPartitioned(partitioned, super::mget);
 
         // restore order of key
         return new PipelinedRedisFuture<>(executions, objectPipelinedRedisFuture -> {
-            List<V> result = new ArrayList<>();
-            for (K opKey : keys) {
-                int slot = slots.get(opKey);
 
-                int position = partitioned.get(slot).indexOf(opKey);
-                RedisFuture<List<V>> listRedisFuture = executions.get(slot);
-                result.add(MultiNodeExecution.execute(() -> listRedisFuture.get().get(position)));
+            Map<Integer, List<V>> values = new HashMap<>(executions.size());
+            for (Map.Entry<Integer, RedisFuture<List<V>>> entry : executions.entrySet()) {
+                values.put(entry.getKey(), MultiNodeExecution.execute(entry.getValue()::get));
+            }
+
+            List<V> result = new ArrayList<>(partitioned.keyCount());
+            for (int i = 0; i < partitioned.keyCount(); i++) {
+                result.add(values.get(partitioned.getSlot(i)).get(partitioned.getPosition(i)));
             }
 
             return result;
@@ -303,18 +294,14 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     @Override
     public RedisFuture<Long> mget(ValueStreamingChannel<V> channel, Iterable<K> keys) {
 
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
+        KeyPartitions<K> partitioned = KeyPartitions.of(codec, keys);
 
         if (partitioned.size() < 2) {
             return super.mget(channel, keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> del = super.mget(channel, entry.getValue());
-            executions.put(entry.getKey(), del);
-        }
+        Map<Integer, RedisFuture<Long>> executions = dispatchPartitioned(partitioned,
+                slotKeys -> super.mget(channel, slotKeys));
 
         return MultiNodeExecution.aggregateAsync(executions);
     }
@@ -322,22 +309,14 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     @Override
     public RedisFuture<String> mset(Map<K, V> map) {
 
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, map.keySet());
+        KeyPartitions<K> partitioned = KeyPartitions.of(codec, map.keySet());
 
         if (partitioned.size() < 2) {
             return super.mset(map);
         }
 
-        Map<Integer, RedisFuture<String>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-
-            Map<K, V> op = new HashMap<>();
-            entry.getValue().forEach(k -> op.put(k, map.get(k)));
-
-            RedisFuture<String> mset = super.mset(op);
-            executions.put(entry.getKey(), mset);
-        }
+        Map<Integer, RedisFuture<String>> executions = dispatchPartitioned(partitioned,
+                slotKeys -> super.mset(subMap(map, slotKeys)));
 
         return MultiNodeExecution.firstOfAsync(executions);
     }
@@ -345,22 +324,14 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     @Override
     public RedisFuture<Boolean> msetnx(Map<K, V> map) {
 
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, map.keySet());
+        KeyPartitions<K> partitioned = KeyPartitions.of(codec, map.keySet());
 
         if (partitioned.size() < 2) {
             return super.msetnx(map);
         }
 
-        Map<Integer, RedisFuture<Boolean>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-
-            Map<K, V> op = new HashMap<>();
-            entry.getValue().forEach(k -> op.put(k, map.get(k)));
-
-            RedisFuture<Boolean> msetnx = super.msetnx(op);
-            executions.put(entry.getKey(), msetnx);
-        }
+        Map<Integer, RedisFuture<Boolean>> executions = dispatchPartitioned(partitioned,
+                slotKeys -> super.msetnx(subMap(map, slotKeys)));
 
         return new PipelinedRedisFuture<>(executions, objectPipelinedRedisFuture -> {
 
@@ -431,18 +402,14 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     }
 
     public RedisFuture<Long> touch(Iterable<K> keys) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
+
+        KeyPartitions<K> partitioned = KeyPartitions.of(codec, keys);
 
         if (partitioned.size() < 2) {
             return super.touch(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> touch = super.touch(entry.getValue());
-            executions.put(entry.getKey(), touch);
-        }
+        Map<Integer, RedisFuture<Long>> executions = dispatchPartitioned(partitioned, super::touch);
 
         return MultiNodeExecution.aggregateAsync(executions);
     }
@@ -455,18 +422,13 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     @Override
     public RedisFuture<Long> unlink(Iterable<K> keys) {
 
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
+        KeyPartitions<K> partitioned = KeyPartitions.of(codec, keys);
 
         if (partitioned.size() < 2) {
             return super.unlink(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> unlink = super.unlink(entry.getValue());
-            executions.put(entry.getKey(), unlink);
-        }
+        Map<Integer, RedisFuture<Long>> executions = dispatchPartitioned(partitioned, super::unlink);
 
         return MultiNodeExecution.aggregateAsync(executions);
     }
@@ -510,6 +472,64 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
         return executions;
     }
 
+    @Override
+    public <T> AsyncCommand<K, V, T> dispatch(RedisCommand<K, V, T> cmd) {
+
+        if (partitionedDispatches.get() != 0) {
+
+            List<RedisCommand<K, V, ?>> batch = partitionedBatch.get();
+
+            if (batch != null) {
+
+                AsyncCommand<K, V, T> asyncCommand = new AsyncCommand<>(cmd);
+                batch.add(asyncCommand);
+                return asyncCommand;
+            }
+        }
+
+        return super.dispatch(cmd);
+    }
+
+    /**
+     * Create one command per slot partition and dispatch all commands as one batch. Commands are created through the regular
+     * command methods and collected by {@link #dispatch(RedisCommand)} instead of being written one by one. The cluster
+     * channel writer groups the batch by node so each node receives its commands with a single flush.
+     *
+     * @param partitioned keys partitioned by slot
+     * @param commandFactory function invoking the command method for the keys of a single slot
+     * @param <T> result type
+     * @return map of the slot and the command future, in the order of the partitions.
+     */
+    private <T> Map<Integer, RedisFuture<T>> dispatchPartitioned(KeyPartitions<K> partitioned,
+            Function<List<K>, RedisFuture<T>> commandFactory) {
+
+        Map<Integer, RedisFuture<T>> executions = new LinkedHashMap<>(partitioned.size());
+        List<RedisCommand<K, V, ?>> commands = new ArrayList<>(partitioned.size());
+
+        partitionedDispatches.incrementAndGet();
+        partitionedBatch.set(commands);
+
+        try {
+            for (Map.Entry<Integer, List<K>> entry : partitioned.getPartitions().entrySet()) {
+                executions.put(entry.getKey(), commandFactory.apply(entry.getValue()));
+            }
+        } finally {
+            partitionedBatch.remove();
+            partitionedDispatches.decrementAndGet();
+        }
+
+        getStatefulConnection().dispatch(commands);
+
+        return executions;
+    }
+
+    private static <K, V> Map<K, V> subMap(Map<K, V> map, List<K> keys) {
+
+        Map<K, V> op = new LinkedHashMap<>(keys.size());
+        keys.forEach(k -> op.put(k, map.get(k)));
+        return op;
+    }
+
     private RedisClusterAsyncCommands<K, V> findConnectionBySlot(int slot) {
         RedisClusterNode node = getStatefulConnection().getPartitions().getPartitionBySlot(slot);
         if (node != null) {
@@ -631,6 +651,18 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
                 asyncClusterStreamScanCursorMapper());
     }
 
+    @Override
+    public RedisFuture<Long> scanParallel(KeyStreamingChannel<K> channel, ScanArgs scanArgs, int parallelism) {
+
+        LettuceAssert.notNull(channel, "KeyStreamingChannel must not be null");
+
+        List<String> nodeIds = ClusterScanSupport.getNodeIds(getStatefulConnection(), ScanCursor.INITIAL);
+
+        return new PipelinedRedisFuture<>(ClusterScanSupport.parallelStreamScan(nodeIds, parallelism,
+                (nodeId, cursor) -> getConnectionAsync(nodeId).thenCompose(
+                        commands -> scanArgs != null ? commands.scan(channel, cursor, scanArgs) : commands.scan(channel, cursor))));
+    }
+
     private <T extends ScanCursor> RedisFuture<T> clusterScan(ScanCursor cursor,
             BiFunction<RedisKeyAsyncCommands<K, V>, ScanCursor, RedisFuture<T>> scanFunction,
             ScanCursorMapper<RedisFuture<T>> resultMapper) {
@@ -653,4 +685,88 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
         RedisFuture<T> scanCursor = scanFunction.apply(connection.getConnection(currentNodeId).async(), continuationCursor);
         return mapper.map(nodeIds, currentNodeId, scanCursor);
     }
+
+    /**
+     * Keys partitioned by slot-hash along with index arrays to restore the original key order in linear time.
+     *
+     * @param <K> Key type.
+     */
+    static class KeyPartitions<K> {
+
+        private final Map<Integer, List<K>> partitions;
+        private final int[] slots;
+        private final int[] positions;
+
+        private KeyPartitions(Map<Integer, List<K>> partitions, int[] slots, int[] positions) {
+            this.partitions = partitions;
+            this.slots = slots;
+            this.positions = positions;
+        }
+
+        /**
+         * Partition keys by slot-hash. Partitions and keys within a partition honor the order of {@code keys}.
+         *
+         * @param codec codec to encode the key
+         * @param keys iterable of keys
+         * @param <K> Key type.
+         * @return the partitioned keys.
+         */
+        static <K> KeyPartitions<K> of(RedisCodec<K, ?> codec, Iterable<K> keys) {
+
+            LettuceAssert.notNull(keys, "Keys must not be null");
+
+            Collection<K> keyCollection = keys instanceof Collection ? (Collection<K>) keys : LettuceLists.newList(keys);
+            Map<Integer, List<K>> partitions = new LinkedHashMap<>();
+            int[] slots = new int[keyCollection.size()];
+            int[] positions = new int[keyCollection.size()];
+
+            int index = 0;
+            for (K key : keyCollection) {
+
+                int slot = SlotHash.getSlot(codec.encodeKey(key));
+                List<K> partition = partitions.computeIfAbsent(slot, k -> new ArrayList<>());
+
+                slots[index] = slot;
+                positions[index] = partition.size();
+                partition.add(key);
+                index++;
+            }
+
+            return new KeyPartitions<>(partitions, slots, positions);
+        }
+
+        /**
+         * @return number of partitions (slots).
+         */
+        int size() {
+            return partitions.size();
+        }
+
+        /**
+         * @return number of keys.
+         */
+        int keyCount() {
+            return slots.length;
+        }
+
+        Map<Integer, List<K>> getPartitions() {
+            return partitions;
+        }
+
+        /**
+         * @param index index of the key in the original key order.
+         * @return the slot of the key.
+         */
+        int getSlot(int index) {
+            return slots[index];
+        }
+
+        /**
+         * @param index index of the key in the original key order.
+         * @return the position of the key within its slot partition.
+         */
+        int getPosition(int index) {
+            return positions[index];
+        }
+    }
 }
@@ -22,12 +22,14 @@ import static com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode.N
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import rx.Observable;
 import rx.Single;
+import rx.observables.AsyncOnSubscribe;
 
 import com.lambdaworks.redis.*;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
@@ -41,6 +43,7 @@ import com.lambdaworks.redis.cluster.api.rx.RedisClusterReactiveCommands;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
 import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.internal.LettuceLists;
 import com.lambdaworks.redis.output.KeyStreamingChannel;
 import com.lambdaworks.redis.output.ValueStreamingChannel;
@@ -522,6 +525,44 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
                 reactiveClusterStreamScanCursorMapper());
     }
 
+    @Override
+    public Observable<K> scanParallel(ScanArgs scanArgs, int parallelism) {
+
+        LettuceAssert.isTrue(parallelism > 0, "Parallelism must be greater than zero");
+
+        return Observable.defer(() -> {
+
+            List<String> nodeIds = ClusterScanSupport.getNodeIds(getStatefulConnection(), ScanCursor.INITIAL);
+
+            return Observable.merge(Observable.from(nodeIds).map(nodeId -> scanNode(nodeId, scanArgs)), parallelism);
+        });
+    }
+
+    /**
+     * Scan a single node page by page. The next page is requested only after all keys of the previous page were emitted.
+     * Pages are generated iteratively from the last cursor so the call depth does not grow with the number of pages.
+     */
+    private Observable<K> scanNode(String nodeId, ScanArgs scanArgs) {
+
+        return Observable.create(AsyncOnSubscribe.<AtomicReference<ScanCursor>, K> createStateful(
+                () -> new AtomicReference<>(ScanCursor.INITIAL), (state, requested, observer) -> {
+
+                    ScanCursor cursor = state.get();
+
+                    if (cursor.isFinished()) {
+                        observer.onCompleted();
+                        return state;
+                    }
+
+                    observer.onNext(getConnectionReactive(nodeId)
+                            .flatMapObservable(
+                                    commands -> scanArgs != null ? commands.scan(cursor, scanArgs) : commands.scan(cursor))
+                            .doOnNext(state::set).flatMapIterable(KeyScanCursor::getKeys));
+
+                    return state;
+                }));
+    }
+
     @SuppressWarnings("unchecked")
     private <T extends ScanCursor> Observable<T> clusterScan(ScanCursor cursor,
             BiFunction<RedisKeyReactiveCommands<K, V>, ScanCursor, Observable<T>> scanFunction,
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.cluster;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import com.lambdaworks.redis.AbstractRedisSyncCommands;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.api.sync.RedisCommands;
+import com.lambdaworks.redis.cluster.api.StatefulRedisClusterConnection;
+import com.lambdaworks.redis.cluster.api.sync.NodeSelection;
+import com.lambdaworks.redis.cluster.api.sync.NodeSelectionCommands;
+import com.lambdaworks.redis.cluster.api.sync.RedisAdvancedClusterCommands;
+import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+
+/**
+ * An advanced synchronous and thread-safe API for a Redis Cluster connection. Commands are invoked on the asynchronous API
+ * and awaited directly.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public class RedisAdvancedClusterSyncCommandsImpl<K, V> extends AbstractRedisSyncCommands<K, V> implements
+        RedisAdvancedClusterConnection<K, V>, RedisAdvancedClusterCommands<K, V> {
+
+    private final StatefulRedisClusterConnectionImpl<K, V> connection;
+
+    /**
+     * Initialize a new instance.
+     *
+     * @param connection the connection to operate on
+     * @param async the asynchronous API to delegate to
+     */
+    public RedisAdvancedClusterSyncCommandsImpl(StatefulRedisClusterConnectionImpl<K, V> connection,
+            RedisAdvancedClusterAsyncCommandsImpl<K, V> async) {
+        super(connection, async);
+        this.connection = connection;
+    }
+
+    @Override
+    public void setTimeout(long timeout, TimeUnit unit) {
+        async.setTimeout(timeout, unit);
+    }
+
+    @Override
+    public String auth(String password) {
+        return async.auth(password);
+    }
+
+    @Override
+    public StatefulRedisClusterConnection<K, V> getStatefulConnection() {
+        return connection;
+    }
+
+    @Override
+    public RedisClusterCommands<K, V> getConnection(String nodeId) {
+        return connection.getConnection(nodeId).sync();
+    }
+
+    @Override
+    public RedisClusterCommands<K, V> getConnection(String host, int port) {
+        return connection.getConnection(host, port).sync();
+    }
+
+    @Override
+    public NodeSelection<K, V> readonly(Predicate<RedisClusterNode> predicate) {
+        return nodes(predicate, ClusterConnectionProvider.Intent.READ, false);
+    }
+
+    @Override
+    public NodeSelection<K, V> nodes(Predicate<RedisClusterNode> predicate) {
+        return nodes(predicate, ClusterConnectionProvider.Intent.WRITE, false);
+    }
+
+    @Override
+    public NodeSelection<K, V> nodes(Predicate<RedisClusterNode> predicate, boolean dynamic) {
+        return nodes(predicate, ClusterConnectionProvider.Intent.WRITE, dynamic);
+    }
+
+    protected NodeSelection<K, V> nodes(Predicate<RedisClusterNode> predicate, ClusterConnectionProvider.Intent intent,
+            boolean dynamic) {
+
+        AbstractNodeSelection<RedisCommands<K, V>, NodeSelectionCommands<K, V>, K, V> selection;
+
+        if (dynamic) {
+            selection = new DynamicNodeSelection<>(connection.getClusterDistributionChannelWriter(), predicate, intent,
+                    StatefulRedisConnection::sync);
+        } else {
+            selection = new StaticNodeSelection<>(connection.getClusterDistributionChannelWriter(), predicate, intent,
+                    StatefulRedisConnection::sync);
+        }
+
+        return new NodeSelectionSyncCommandsImpl<>(selection, connection.getTimeout(), connection.getTimeoutUnit());
+    }
+}
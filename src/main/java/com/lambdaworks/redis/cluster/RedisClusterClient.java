@@ -46,7 +46,9 @@ import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.internal.LettuceLists;
 import com.lambdaworks.redis.output.ValueStreamingChannel;
 import com.lambdaworks.redis.protocol.CommandHandler;
+import com.lambdaworks.redis.protocol.HedgedReadDispatcher;
 import com.lambdaworks.redis.pubsub.PubSubCommandHandler;
+import com.lambdaworks.redis.pubsub.PubSubDispatcher;
 import com.lambdaworks.redis.pubsub.StatefulRedisPubSubConnection;
 import com.lambdaworks.redis.pubsub.StatefulRedisPubSubConnectionImpl;
 import com.lambdaworks.redis.resource.ClientResources;
@@ -545,6 +547,7 @@ public class RedisClusterClient extends AbstractRedisClient {
         PubSubCommandHandler<K, V> handler = new PubSubCommandHandler<>(clientOptions, clientResources, codec);
         StatefulRedisPubSubConnectionImpl<K, V> connection = new StatefulRedisPubSubConnectionImpl<>(handler, codec, timeout,
                 unit);
+        connection.setPubSubDispatcher(PubSubDispatcher.create(clientOptions.getPubSubDispatchOptions(), clientResources));
 
         ConnectionFuture<StatefulRedisPubSubConnection<K, V>> connectionFuture = connectStatefulAsync(handler, connection,
                 getFirstUri(), socketAddressSupplier);
@@ -578,8 +581,10 @@ public class RedisClusterClient extends AbstractRedisClient {
 
         CommandHandler<K, V> handler = new CommandHandler<>(clientOptions, clientResources);
 
+        HedgedReadDispatcher hedgedReads = new HedgedReadDispatcher(clientOptions.getHedgedReadOptions(), clientResources);
+
         ClusterDistributionChannelWriter<K, V> clusterWriter = new ClusterDistributionChannelWriter<>(clientOptions, handler,
-                clusterTopologyRefreshScheduler);
+                clusterTopologyRefreshScheduler, hedgedReads);
         PooledClusterConnectionProvider<K, V> pooledClusterConnectionProvider = new PooledClusterConnectionProvider<>(this,
                 clusterWriter, codec);
 
@@ -803,6 +808,7 @@ public class RedisClusterClient extends AbstractRedisClient {
                 getResources().eventBus().publish(new ClusterTopologyChangedEvent(before, after));
             }
 
+            // reload unconditionally to discard slot cache entries patched from MOVED redirections
             this.partitions.reload(loadedPartitions.getPartitions());
         }
 
@@ -847,7 +853,7 @@ public class RedisClusterClient extends AbstractRedisClient {
 
         String message = "Cannot retrieve initial cluster partitions from initial URIs " + topologyRefreshSource;
         try {
-            Map<RedisURI, Partitions> partitions = refresh.loadViews(topologyRefreshSource, useDynamicRefreshSources());
+            Map<RedisURI, Partitions> partitions = loadViews(topologyRefreshSource);
 
             if (partitions.isEmpty()) {
                 throw new RedisException(message);
@@ -872,6 +878,21 @@ public class RedisClusterClient extends AbstractRedisClient {
         }
     }
 
+    private Map<RedisURI, Partitions> loadViews(Iterable<RedisURI> topologyRefreshSource) {
+
+        if (getClusterClientOptions() != null) {
+
+            ClusterTopologyRefreshOptions topologyRefreshOptions = getClusterClientOptions().getTopologyRefreshOptions();
+
+            if (topologyRefreshOptions.getTopologySource() == ClusterTopologyRefreshOptions.TopologySource.CLUSTER_SLOTS) {
+                return refresh.loadViewsFromClusterSlots(topologyRefreshSource,
+                        topologyRefreshOptions.getMaxTopologyRefreshSources());
+            }
+        }
+
+        return refresh.loadViews(topologyRefreshSource, useDynamicRefreshSources());
+    }
+
     /**
      * Determines a {@link Partitions topology view} based on the current and the obtain topology views.
      *
@@ -20,7 +20,6 @@ import static com.lambdaworks.redis.protocol.CommandType.READONLY;
 import static com.lambdaworks.redis.protocol.CommandType.READWRITE;
 
 import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Proxy;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
@@ -86,9 +85,7 @@ public class StatefulRedisClusterConnectionImpl<K, V> extends RedisChannelHandle
         this.codec = codec;
 
         this.async = new RedisAdvancedClusterAsyncCommandsImpl<>(this, codec);
-        this.sync = (RedisAdvancedClusterCommands) Proxy.newProxyInstance(AbstractRedisClient.class.getClassLoader(),
-                new Class<?>[] { RedisAdvancedClusterConnection.class, RedisAdvancedClusterCommands.class },
-                syncInvocationHandler());
+        this.sync = new RedisAdvancedClusterSyncCommandsImpl<>(this, async);
         this.reactive = new RedisAdvancedClusterReactiveCommandsImpl<>(this, codec);
     }
 
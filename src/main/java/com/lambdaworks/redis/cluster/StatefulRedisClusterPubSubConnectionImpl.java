@@ -204,6 +204,8 @@ class StatefulRedisClusterPubSubConnectionImpl<K, V> extends StatefulRedisPubSub
             default:
                 throw new UnsupportedOperationException("Operation " + output.type() + " not supported");
         }
+
+        notifyRoutedListeners(output);
     }
 
     protected RedisClusterPubSubListener<K, V> getUpstreamListener() {
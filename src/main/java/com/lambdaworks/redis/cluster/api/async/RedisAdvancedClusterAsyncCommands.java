@@ -364,6 +364,19 @@ public interface RedisAdvancedClusterAsyncCommands<K, V>
      */
     RedisFuture<StreamScanCursor> scan(KeyStreamingChannel<K> channel, ScanCursor scanCursor);
 
+    /**
+     * Iterate the whole keys space of the Cluster by scanning up to {@code parallelism} nodes concurrently. Each node is scanned
+     * until its cursor is exhausted before the next pending node is scanned. Keys are emitted from multiple node connections
+     * concurrently so {@code channel} must be thread-safe.
+     *
+     * @param channel streaming channel that receives a call for every key
+     * @param scanArgs scan arguments, may be {@literal null}
+     * @param parallelism maximum number of nodes to scan concurrently, must be greater than zero
+     * @return Long number of scanned keys once all nodes are scanned.
+     * @since 4.5
+     */
+    RedisFuture<Long> scanParallel(KeyStreamingChannel<K> channel, ScanArgs scanArgs, int parallelism);
+
     /**
      * Touch one or more keys with pipelining. Touch sets the last accessed time for a key. Non-exsitent keys wont get created.
      * Cross-slot keys will result in multiple calls to the particular cluster nodes.
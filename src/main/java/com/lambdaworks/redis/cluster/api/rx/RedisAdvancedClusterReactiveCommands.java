@@ -294,6 +294,18 @@ public interface RedisAdvancedClusterReactiveCommands<K, V> extends RedisCluster
      */
     Observable<StreamScanCursor> scan(KeyStreamingChannel<K> channel, ScanCursor scanCursor);
 
+    /**
+     * Iterate the whole keys space of the Cluster by scanning up to {@code parallelism} nodes concurrently. The resulting
+     * {@link Observable} is demand-aware: a node receives the next {@code SCAN} only after the keys of its previous page were
+     * requested, so the number of prefetched keys per node is bounded.
+     *
+     * @param scanArgs scan arguments, may be {@literal null}
+     * @param parallelism maximum number of nodes to scan concurrently, must be greater than zero
+     * @return K keys of all nodes.
+     * @since 4.5
+     */
+    Observable<K> scanParallel(ScanArgs scanArgs, int parallelism);
+
     /**
      * Touch one or more keys with pipelining. Touch sets the last accessed time for a key. Non-exsitent keys wont get created.
      * Cross-slot keys will result in multiple calls to the particular cluster nodes.
@@ -16,17 +16,20 @@
 package com.lambdaworks.redis.cluster.models.partitions;
 
 import java.util.*;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import com.lambdaworks.redis.LettuceStrings;
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.cluster.SlotHash;
 import com.lambdaworks.redis.internal.HostAndPort;
-import com.lambdaworks.redis.internal.LettuceLists;
 
 /**
  * Parser for node information output of {@code CLUSTER NODES} and {@code CLUSTER SLAVES}.
+ * <p>
+ * The output is parsed in a single pass over the reply text without regular expressions or intermediate token lists. Only
+ * node Id, host and replication source are materialized as {@link String}, numbers, flags and slots are read directly from
+ * the reply.
+ * </p>
  * 
  * @author Mark Paluch
  * @since 3.0
@@ -35,15 +38,17 @@ public class ClusterPartitionParser {
 
     public static final String CONNECTED = "connected";
 
-    private static final String TOKEN_SLOT_IN_TRANSITION = "[";
+    private static final char TOKEN_SLOT_IN_TRANSITION = '[';
     private static final char TOKEN_NODE_SEPARATOR = '\n';
-    private static final Pattern TOKEN_PATTERN = Pattern.compile(Character.toString(TOKEN_NODE_SEPARATOR));
-    private static final Pattern SPACE_PATTERN = Pattern.compile(" ");
-    private static final Pattern DASH_PATTERN = Pattern.compile("\\-");
-    private static final Map<String, RedisClusterNode.NodeFlag> FLAG_MAPPING;
+    private static final char TOKEN_SEPARATOR = ' ';
+    private static final char TOKEN_FLAG_SEPARATOR = ',';
+    private static final char TOKEN_SLOT_RANGE = '-';
+    private static final char TOKEN_CLUSTER_BUS_PORT = '@';
+    private static final String[] FLAG_NAMES;
+    private static final RedisClusterNode.NodeFlag[] FLAG_VALUES;
 
     static {
-        Map<String, RedisClusterNode.NodeFlag> map = new HashMap<>();
+        Map<String, RedisClusterNode.NodeFlag> map = new LinkedHashMap<>();
 
         map.put("noflags", RedisClusterNode.NodeFlag.NOFLAGS);
         map.put("myself", RedisClusterNode.NodeFlag.MYSELF);
@@ -53,7 +58,9 @@ public class ClusterPartitionParser {
         map.put("fail", RedisClusterNode.NodeFlag.FAIL);
         map.put("handshake", RedisClusterNode.NodeFlag.HANDSHAKE);
         map.put("noaddr", RedisClusterNode.NodeFlag.NOADDR);
-        FLAG_MAPPING = Collections.unmodifiableMap(map);
+
+        FLAG_NAMES = map.keySet().toArray(new String[map.size()]);
+        FLAG_VALUES = map.values().toArray(new RedisClusterNode.NodeFlag[map.size()]);
     }
 
     /**
@@ -73,9 +80,27 @@ public class ClusterPartitionParser {
         Partitions result = new Partitions();
 
         try {
-            List<RedisClusterNode> mappedNodes = TOKEN_PATTERN.splitAsStream(nodes).filter(s -> !s.isEmpty())
-                    .map(ClusterPartitionParser::parseNode)
-                    .collect(Collectors.toList());
+            List<RedisClusterNode> mappedNodes = new ArrayList<>();
+            Tokenizer tokenizer = new Tokenizer(nodes);
+
+            int lineStart = 0;
+            int length = nodes.length();
+
+            while (lineStart < length) {
+
+                int lineEnd = nodes.indexOf(TOKEN_NODE_SEPARATOR, lineStart);
+                if (lineEnd == -1) {
+                    lineEnd = length;
+                }
+
+                tokenizer.reset(lineStart, lineEnd);
+                if (tokenizer.hasNext()) {
+                    mappedNodes.add(parseNode(tokenizer));
+                }
+
+                lineStart = lineEnd + 1;
+            }
+
             result.addAll(mappedNodes);
         } catch (Exception e) {
             throw new RedisException("Cannot parse " + nodes, e);
@@ -84,18 +109,16 @@ public class ClusterPartitionParser {
         return result;
     }
 
-    private static RedisClusterNode parseNode(String nodeInformation) {
-
-        Iterator<String> iterator = SPACE_PATTERN.splitAsStream(nodeInformation).iterator();
+    private static RedisClusterNode parseNode(Tokenizer tokenizer) {
 
-        String nodeId = iterator.next();
+        String nodeId = tokenizer.nextString();
         boolean connected = false;
         RedisURI uri = null;
 
-        String hostAndPortPart = iterator.next();
-        if(hostAndPortPart.contains("@")) {
-            hostAndPortPart = hostAndPortPart.substring(0, hostAndPortPart.indexOf('@'));
-        }
+        tokenizer.next();
+        int clusterBusPort = tokenizer.indexOf(TOKEN_CLUSTER_BUS_PORT);
+        String hostAndPortPart = tokenizer.substring(tokenizer.tokenStart, clusterBusPort != -1 ? clusterBusPort
+                : tokenizer.tokenEnd);
 
         HostAndPort hostAndPort = HostAndPort.parseCompat(hostAndPortPart);
 
@@ -103,83 +126,227 @@ public class ClusterPartitionParser {
             uri = RedisURI.Builder.redis(hostAndPort.getHostText(), hostAndPort.getPort()).build();
         }
 
-        String flags = iterator.next();
-        List<String> flagStrings = LettuceLists.newList(flags.split("\\,"));
+        tokenizer.next();
+        Set<RedisClusterNode.NodeFlag> nodeFlags = readFlags(tokenizer);
 
-        Set<RedisClusterNode.NodeFlag> nodeFlags = readFlags(flagStrings);
+        tokenizer.next(); // (nodeId or -)
+        String slaveOf = tokenizer.tokenEquals("-") ? null : tokenizer.token();
 
-        String slaveOfString = iterator.next(); // (nodeId or -)
-        String slaveOf = "-".equals(slaveOfString) ? null : slaveOfString;
+        long pingSentTs = tokenizer.hasNext() ? tokenizer.nextLong() : 0;
+        long pongReceivedTs = tokenizer.hasNext() ? tokenizer.nextLong() : 0;
+        long configEpoch = tokenizer.hasNext() ? tokenizer.nextLong() : 0;
 
-        long pingSentTs = getLongFromIterator(iterator, 0);
-        long pongReceivedTs = getLongFromIterator(iterator, 0);
-        long configEpoch = getLongFromIterator(iterator, 0);
+        tokenizer.next(); // "connected" : "disconnected"
 
-        String connectedFlags = iterator.next(); // "connected" : "disconnected"
-
-        if (CONNECTED.equals(connectedFlags)) {
+        if (tokenizer.tokenEquals(CONNECTED)) {
             connected = true;
         }
 
-        List<String> slotStrings = LettuceLists.newList(iterator); // slot, from-to [slot->-nodeID] [slot-<-nodeID]
-        List<Integer> slots = readSlots(slotStrings);
+        BitSet slots = readSlots(tokenizer); // slot, from-to [slot->-nodeID] [slot-<-nodeID]
 
-        RedisClusterNode partition = new RedisClusterNode(uri, nodeId, connected, slaveOf, pingSentTs, pongReceivedTs,
-                configEpoch, slots, nodeFlags);
+        return new RedisClusterNode(uri, nodeId, connected, slaveOf, pingSentTs, pongReceivedTs, configEpoch, slots,
+                nodeFlags);
+    }
 
-        return partition;
+    private static Set<RedisClusterNode.NodeFlag> readFlags(Tokenizer tokenizer) {
 
-    }
+        Set<RedisClusterNode.NodeFlag> flags = EnumSet.noneOf(RedisClusterNode.NodeFlag.class);
 
-    private static Set<RedisClusterNode.NodeFlag> readFlags(List<String> flagStrings) {
+        int flagStart = tokenizer.tokenStart;
+        while (flagStart <= tokenizer.tokenEnd) {
 
-        Set<RedisClusterNode.NodeFlag> flags = new HashSet<>();
-        for (String flagString : flagStrings) {
-            if (FLAG_MAPPING.containsKey(flagString)) {
-                flags.add(FLAG_MAPPING.get(flagString));
+            int flagEnd = tokenizer.indexOf(TOKEN_FLAG_SEPARATOR, flagStart);
+            if (flagEnd == -1) {
+                flagEnd = tokenizer.tokenEnd;
+            }
+
+            for (int i = 0; i < FLAG_NAMES.length; i++) {
+                if (tokenizer.regionEquals(flagStart, flagEnd, FLAG_NAMES[i])) {
+                    flags.add(FLAG_VALUES[i]);
+                    break;
+                }
             }
+
+            flagStart = flagEnd + 1;
         }
+
         return Collections.unmodifiableSet(flags);
     }
 
-    private static List<Integer> readSlots(List<String> slotStrings) {
+    private static BitSet readSlots(Tokenizer tokenizer) {
+
+        // slaves and masters without slots don't need to allocate a full slot bit set
+        BitSet slots = null;
 
-        List<Integer> slots = new ArrayList<>();
-        for (String slotString : slotStrings) {
+        while (tokenizer.hasNext()) {
 
-            if (slotString.startsWith(TOKEN_SLOT_IN_TRANSITION)) {
+            tokenizer.next();
+
+            if (tokenizer.charAt(tokenizer.tokenStart) == TOKEN_SLOT_IN_TRANSITION) {
                 // not interesting
                 continue;
+            }
 
+            if (slots == null) {
+                slots = new BitSet(SlotHash.SLOT_COUNT);
             }
 
-            if (slotString.contains("-")) {
-                // slot range
-                Iterator<String> it = DASH_PATTERN.splitAsStream(slotString).iterator();
-                int from = Integer.parseInt(it.next());
-                int to = Integer.parseInt(it.next());
+            int dash = tokenizer.indexOf(TOKEN_SLOT_RANGE);
 
-                for (int slot = from; slot <= to; slot++) {
-                    slots.add(slot);
+            if (dash != -1) {
+                // slot range
+                int from = (int) tokenizer.parseLong(tokenizer.tokenStart, dash);
+                int to = (int) tokenizer.parseLong(dash + 1, tokenizer.tokenEnd);
 
-                }
+                slots.set(from, to + 1);
                 continue;
             }
 
-            slots.add(Integer.parseInt(slotString));
+            slots.set((int) tokenizer.parseLong(tokenizer.tokenStart, tokenizer.tokenEnd));
         }
 
-        return Collections.unmodifiableList(slots);
+        return slots != null ? slots : new BitSet();
     }
 
-    private static long getLongFromIterator(Iterator<?> iterator, long defaultValue) {
-        if (iterator.hasNext()) {
-            Object object = iterator.next();
-            if (object instanceof String) {
-                return Long.parseLong((String) object);
+    /**
+     * Space-separated token cursor over a line of the {@code CLUSTER NODES} output. The current token spans
+     * {@code [tokenStart, tokenEnd)}.
+     */
+    static class Tokenizer {
+
+        private final String input;
+        private int position;
+        private int end;
+
+        int tokenStart;
+        int tokenEnd;
+
+        Tokenizer(String input) {
+            this.input = input;
+        }
+
+        void reset(int start, int end) {
+            this.position = start;
+            this.end = end;
+            this.tokenStart = start;
+            this.tokenEnd = start;
+        }
+
+        boolean hasNext() {
+
+            skipSeparators();
+            return position < end;
+        }
+
+        void next() {
+
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more tokens in " + input.substring(tokenStart, end));
+            }
+
+            int tokenEnd = position;
+            while (tokenEnd < end && input.charAt(tokenEnd) != TOKEN_SEPARATOR) {
+                tokenEnd++;
+            }
+
+            this.tokenStart = position;
+            this.position = tokenEnd;
+
+            if (input.charAt(tokenEnd - 1) == '\r') {
+                tokenEnd--;
+            }
+
+            this.tokenEnd = tokenEnd;
+        }
+
+        String nextString() {
+
+            next();
+            return token();
+        }
+
+        long nextLong() {
+
+            next();
+            return parseLong(tokenStart, tokenEnd);
+        }
+
+        String token() {
+            return input.substring(tokenStart, tokenEnd);
+        }
+
+        boolean tokenEquals(String value) {
+            return regionEquals(tokenStart, tokenEnd, value);
+        }
+
+        boolean regionEquals(int from, int to, String value) {
+            return to - from == value.length() && input.regionMatches(from, value, 0, value.length());
+        }
+
+        /**
+         * @return index of {@code c} within the current token or {@literal -1}.
+         */
+        int indexOf(char c) {
+            return indexOf(c, tokenStart);
+        }
+
+        int indexOf(char c, int from) {
+
+            for (int index = from; index < tokenEnd; index++) {
+                if (input.charAt(index) == c) {
+                    return index;
+                }
             }
+
+            return -1;
+        }
+
+        char charAt(int index) {
+            return input.charAt(index);
         }
-        return defaultValue;
-    }
 
+        String substring(int from, int to) {
+            return input.substring(from, to);
+        }
+
+        long parseLong(int from, int to) {
+
+            if (from >= to) {
+                throw new NumberFormatException("Empty number at " + from);
+            }
+
+            boolean negative = input.charAt(from) == '-';
+            int index = negative ? from + 1 : from;
+            long result = 0;
+
+            if (index == to) {
+                throw new NumberFormatException(input.substring(from, to));
+            }
+
+            for (; index < to; index++) {
+
+                int digit = input.charAt(index) - '0';
+                if (digit < 0 || digit > 9) {
+                    throw new NumberFormatException(input.substring(from, to));
+                }
+
+                result = result * 10 + digit;
+            }
+
+            return negative ? -result : result;
+        }
+
+        private void skipSeparators() {
+
+            while (position < end) {
+
+                char c = input.charAt(position);
+                if (c != TOKEN_SEPARATOR && c != '\r') {
+                    break;
+                }
+
+                position++;
+            }
+        }
+    }
 }
@@ -17,6 +17,7 @@ package com.lambdaworks.redis.cluster.models.partitions;
 
 import java.util.*;
 
+import com.lambdaworks.redis.RedisURI;
 import com.lambdaworks.redis.cluster.SlotHash;
 import com.lambdaworks.redis.internal.LettuceAssert;
 
@@ -103,9 +104,7 @@ public class Partitions implements Collection<RedisClusterNode> {
             for (RedisClusterNode partition : partitions) {
 
                 readView.add(partition);
-                for (Integer integer : partition.getSlots()) {
-                    slotCache[integer.intValue()] = partition;
-                }
+                partition.forEachSlot(slot -> slotCache[slot] = partition);
             }
 
             this.slotCache = slotCache;
@@ -113,6 +112,54 @@ public class Partitions implements Collection<RedisClusterNode> {
         }
     }
 
+    /**
+     * Assign {@code slot} to the node reachable at {@code host} and {@code port} within the slot cache. This is a point update
+     * for the slot cache, typically in response to a {@code MOVED} redirection, that does not require a full topology reload.
+     * {@link RedisClusterNode#getSlots()} remain unchanged. The patched entry is discarded by the next {@link #reload(List)} or
+     * {@link #updateCache()}, which rebuild the slot cache from the node slots. Callers must therefore rebuild the cache on
+     * every completed topology refresh, even if the topology did not change.
+     *
+     * @param slot the slot
+     * @param host the host of the new slot owner
+     * @param port the port of the new slot owner
+     * @return {@literal true} if the slot cache was updated; {@literal false} if the node is not known or if the node is
+     *         already associated with {@code slot}.
+     * @since 4.5
+     */
+    public boolean updateSlotCache(int slot, String host, int port) {
+
+        LettuceAssert.isTrue(slot >= 0 && slot < SlotHash.SLOT_COUNT, () -> "Slot must be between 0 and " + SlotHash.SLOT_COUNT);
+        LettuceAssert.notNull(host, "Host must not be null");
+
+        synchronized (partitions) {
+
+            RedisClusterNode[] slotCache = this.slotCache;
+            if (slotCache == EMPTY) {
+                return false;
+            }
+
+            RedisClusterNode owner = null;
+            for (RedisClusterNode partition : nodeReadView) {
+
+                RedisURI uri = partition.getUri();
+                if (uri != null && port == uri.getPort() && host.equals(uri.getHost())) {
+                    owner = partition;
+                    break;
+                }
+            }
+
+            if (owner == null || slotCache[slot] == owner) {
+                return false;
+            }
+
+            slotCache[slot] = owner;
+
+            // volatile write to publish the updated slot to readers.
+            this.slotCache = slotCache;
+            return true;
+        }
+    }
+
     /**
      * Returns an iterator over the {@link RedisClusterNode nodes} in this {@link Partitions} from the read-view. The
      * {@link Iterator} remains consistent during partition updates with the nodes that have been part of the {@link Partitions}
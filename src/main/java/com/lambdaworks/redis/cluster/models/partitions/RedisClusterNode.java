@@ -15,12 +15,16 @@
  */
 package com.lambdaworks.redis.cluster.models.partitions;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.function.IntConsumer;
 
 import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.cluster.SlotHash;
 import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.internal.LettuceSets;
 import com.lambdaworks.redis.models.role.RedisNodeDescription;
@@ -30,12 +34,26 @@ import com.lambdaworks.redis.models.role.RedisNodeDescription;
  * {@link RedisClusterNode} can be a {@link #getRole() responsible master} for zero to
  * {@link com.lambdaworks.redis.cluster.SlotHash#SLOT_COUNT 16384} slots, a slave of one {@link #getSlaveOf() master} of carry
  * different {@link com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode.NodeFlag flags}.
+ * <p>
+ * Slot ownership is held in a compact bit set. {@link #getSlots()} exposes the slots as {@link List} view in ascending order.
+ * </p>
  * 
  * @author Mark Paluch
  * @since 3.0
  */
-@SuppressWarnings("serial")
 public class RedisClusterNode implements Serializable, RedisNodeDescription {
+
+    private static final long serialVersionUID = 6485083323617372139L;
+
+    /**
+     * Serialized form of versions before 4.5 that held slots in a {@link List}.
+     */
+    private static final ObjectStreamField[] serialPersistentFields = { new ObjectStreamField("uri", RedisURI.class),
+            new ObjectStreamField("nodeId", String.class), new ObjectStreamField("connected", Boolean.TYPE),
+            new ObjectStreamField("slaveOf", String.class), new ObjectStreamField("pingSentTimestamp", Long.TYPE),
+            new ObjectStreamField("pongReceivedTimestamp", Long.TYPE), new ObjectStreamField("configEpoch", Long.TYPE),
+            new ObjectStreamField("slots", List.class), new ObjectStreamField("flags", Set.class) };
+
     private RedisURI uri;
     private String nodeId;
 
@@ -45,7 +63,7 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
     private long pongReceivedTimestamp;
     private long configEpoch;
 
-    private List<Integer> slots;
+    private BitSet slots = new BitSet(SlotHash.SLOT_COUNT);
     private Set<NodeFlag> flags;
 
     public RedisClusterNode() {
@@ -61,6 +79,19 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
         this.pingSentTimestamp = pingSentTimestamp;
         this.pongReceivedTimestamp = pongReceivedTimestamp;
         this.configEpoch = configEpoch;
+        this.slots = toBitSet(slots);
+        this.flags = flags;
+    }
+
+    RedisClusterNode(RedisURI uri, String nodeId, boolean connected, String slaveOf, long pingSentTimestamp,
+            long pongReceivedTimestamp, long configEpoch, BitSet slots, Set<NodeFlag> flags) {
+        this.uri = uri;
+        this.nodeId = nodeId;
+        this.connected = connected;
+        this.slaveOf = slaveOf;
+        this.pingSentTimestamp = pingSentTimestamp;
+        this.pongReceivedTimestamp = pongReceivedTimestamp;
+        this.configEpoch = configEpoch;
         this.slots = slots;
         this.flags = flags;
     }
@@ -73,7 +104,7 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
         this.pingSentTimestamp = redisClusterNode.pingSentTimestamp;
         this.pongReceivedTimestamp = redisClusterNode.pongReceivedTimestamp;
         this.configEpoch = redisClusterNode.configEpoch;
-        this.slots = new ArrayList<>(redisClusterNode.slots);
+        this.slots = (BitSet) redisClusterNode.slots.clone();
         this.flags = LettuceSets.newHashSet(redisClusterNode.flags);
     }
 
@@ -183,21 +214,70 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
         this.configEpoch = configEpoch;
     }
 
+    /**
+     * Returns a {@link List} view of the slots for which this {@link RedisClusterNode} is responsible. The view lists slots in
+     * ascending order and writes changes through to this node. It follows set semantics: duplicate slots are not retained,
+     * {@link List#add(int, Object)} and {@link List#set(int, Object)} place the slot at its natural position. Indexed access
+     * scans the slots, prefer iteration or {@link #forEachSlot} to visit all slots.
+     * 
+     * @return {@link List} view of the slots.
+     */
     public List<Integer> getSlots() {
-        return slots;
+        return new SlotList();
     }
 
     /**
      * Sets the list of slots for which this {@link RedisClusterNode} is the
      * {@link com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode.NodeFlag#MASTER}. The list is empty if this node
-     * is not a master or the node is not responsible for any slots at all.
+     * is not a master or the node is not responsible for any slots at all. Slots are copied, later changes to {@code slots}
+     * are not reflected by this node.
      * 
      * @param slots list of slots, must not be {@literal null} but may be empty
      */
     public void setSlots(List<Integer> slots) {
         LettuceAssert.notNull(slots, "Slots must not be null");
 
-        this.slots = slots;
+        this.slots = toBitSet(slots);
+    }
+
+    /**
+     * Returns the number of slots for which this {@link RedisClusterNode} is responsible.
+     * 
+     * @return the number of slots.
+     * @since 4.5
+     */
+    public int getSlotCount() {
+        return slots.cardinality();
+    }
+
+    /**
+     * Perform the given {@code action} for each slot in ascending order without boxing slot numbers.
+     * 
+     * @param action the action to perform for each slot, must not be {@literal null}.
+     * @since 4.5
+     */
+    public void forEachSlot(IntConsumer action) {
+
+        LettuceAssert.notNull(action, "Action must not be null");
+
+        BitSet slots = this.slots;
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            action.accept(slot);
+        }
+    }
+
+    /**
+     * Compare the slots of this {@link RedisClusterNode} with the slots of {@code other}.
+     * 
+     * @param other the other node, must not be {@literal null}.
+     * @return {@literal true} if both nodes are responsible for the same slots.
+     * @since 4.5
+     */
+    public boolean hasSameSlotsAs(RedisClusterNode other) {
+
+        LettuceAssert.notNull(other, "Other RedisClusterNode must not be null");
+
+        return slots.equals(other.slots);
     }
 
     public Set<NodeFlag> getFlags() {
@@ -249,9 +329,7 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
         sb.append(", pongReceivedTimestamp=").append(pongReceivedTimestamp);
         sb.append(", configEpoch=").append(configEpoch);
         sb.append(", flags=").append(flags);
-        if (slots != null) {
-            sb.append(", slot count=").append(slots.size());
-        }
+        sb.append(", slot count=").append(getSlotCount());
         sb.append(']');
         return sb.toString();
     }
@@ -271,7 +349,7 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
      * @return true if the slot is contained within the handled slots.
      */
     public boolean hasSlot(int slot) {
-        return getSlots().contains(slot);
+        return slot >= 0 && slots.get(slot);
     }
 
     /**
@@ -285,6 +363,186 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
         return is(NodeFlag.MASTER) ? Role.MASTER : Role.SLAVE;
     }
 
+    private void writeObject(ObjectOutputStream out) throws IOException {
+
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("uri", uri);
+        fields.put("nodeId", nodeId);
+        fields.put("connected", connected);
+        fields.put("slaveOf", slaveOf);
+        fields.put("pingSentTimestamp", pingSentTimestamp);
+        fields.put("pongReceivedTimestamp", pongReceivedTimestamp);
+        fields.put("configEpoch", configEpoch);
+        fields.put("slots", new ArrayList<>(getSlots()));
+        fields.put("flags", flags);
+        out.writeFields();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+
+        ObjectInputStream.GetField fields = in.readFields();
+        uri = (RedisURI) fields.get("uri", null);
+        nodeId = (String) fields.get("nodeId", null);
+        connected = fields.get("connected", false);
+        slaveOf = (String) fields.get("slaveOf", null);
+        pingSentTimestamp = fields.get("pingSentTimestamp", 0L);
+        pongReceivedTimestamp = fields.get("pongReceivedTimestamp", 0L);
+        configEpoch = fields.get("configEpoch", 0L);
+        slots = toBitSet((List<Integer>) fields.get("slots", null));
+        flags = (Set<NodeFlag>) fields.get("flags", null);
+    }
+
+    private static BitSet toBitSet(List<Integer> slots) {
+
+        BitSet bitSet = new BitSet(SlotHash.SLOT_COUNT);
+
+        if (slots != null) {
+            for (Integer slot : slots) {
+                bitSet.set(slot);
+            }
+        }
+
+        return bitSet;
+    }
+
+    /**
+     * Mutable {@link List} view on {@link #slots}. Slots are kept in ascending order, {@link #add(Integer)} places the slot at
+     * its natural position.
+     */
+    private class SlotList extends AbstractList<Integer> {
+
+        @Override
+        public Integer get(int index) {
+
+            if (index >= 0) {
+
+                int slot = slots.nextSetBit(0);
+                for (int i = 0; i < index && slot >= 0; i++) {
+                    slot = slots.nextSetBit(slot + 1);
+                }
+
+                if (slot >= 0) {
+                    return slot;
+                }
+            }
+
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        @Override
+        public Integer set(int index, Integer slot) {
+
+            int previous = get(index);
+            slots.clear(previous);
+            slots.set(slot);
+            modCount++;
+            return previous;
+        }
+
+        @Override
+        public void add(int index, Integer slot) {
+
+            if (index < 0 || index > size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+
+            add(slot);
+        }
+
+        @Override
+        public Integer remove(int index) {
+
+            int slot = get(index);
+            slots.clear(slot);
+            modCount++;
+            return slot;
+        }
+
+        @Override
+        public int size() {
+            return slots.cardinality();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Integer && hasSlot((Integer) o);
+        }
+
+        @Override
+        public boolean add(Integer slot) {
+
+            boolean added = !slots.get(slot);
+            slots.set(slot);
+            modCount++;
+            return added;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+
+            if (!contains(o)) {
+                return false;
+            }
+
+            slots.clear((Integer) o);
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public void clear() {
+
+            slots.clear();
+            modCount++;
+        }
+
+        /**
+         * Slots are always in ascending order, sorting does not change the view.
+         */
+        @Override
+        public void sort(Comparator<? super Integer> c) {
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+
+            return new Iterator<Integer>() {
+
+                int next = slots.nextSetBit(0);
+                int last = -1;
+
+                @Override
+                public boolean hasNext() {
+                    return next >= 0;
+                }
+
+                @Override
+                public Integer next() {
+
+                    if (next < 0) {
+                        throw new NoSuchElementException();
+                    }
+
+                    last = next;
+                    next = slots.nextSetBit(next + 1);
+                    return last;
+                }
+
+                @Override
+                public void remove() {
+
+                    if (last < 0) {
+                        throw new IllegalStateException();
+                    }
+
+                    slots.clear(last);
+                    last = -1;
+                }
+            };
+        }
+    }
+
     /**
      * Redis Cluster node flags.
      */
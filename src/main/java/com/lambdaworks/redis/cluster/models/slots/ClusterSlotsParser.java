@@ -83,9 +83,11 @@ public class ClusterSlotsParser {
             master = getRedisClusterNode(iterator, nodeCache);
             if(master != null) {
                 master.setFlags(Collections.singleton(RedisClusterNode.NodeFlag.MASTER));
-                Set<Integer> slots = new TreeSet<>(master.getSlots());
-                slots.addAll(createSlots(from, to));
-                master.setSlots(new ArrayList<>(slots));
+
+                List<Integer> slots = master.getSlots();
+                for (int slot = from; slot <= to; slot++) {
+                    slots.add(slot);
+                }
             }
         }
 
@@ -101,14 +103,6 @@ public class ClusterSlotsParser {
         return new ClusterSlotRange(from, to, master, Collections.unmodifiableList(slaves));
     }
 
-    private static List<Integer> createSlots(int from, int to) {
-        List<Integer> slots = new ArrayList<>();
-        for (int i = from; i < to + 1; i++) {
-            slots.add(i);
-        }
-        return slots;
-    }
-
     private static RedisClusterNode getRedisClusterNode(Iterator<?> iterator, Map<String, RedisClusterNode> nodeCache) {
         Object element = iterator.next();
         RedisClusterNode redisClusterNode = null;
@@ -149,7 +143,7 @@ public class ClusterSlotsParser {
     private static RedisClusterNode createNode(String host, int port) {
         RedisClusterNode redisClusterNode = new RedisClusterNode();
         redisClusterNode.setUri(RedisURI.create(host, port));
-        redisClusterNode.setSlots(new ArrayList<>());
+        redisClusterNode.setSlots(Collections.emptyList());
         return redisClusterNode;
     }
 
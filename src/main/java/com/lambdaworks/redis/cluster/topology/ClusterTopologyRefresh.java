@@ -15,11 +15,13 @@
  */
 package com.lambdaworks.redis.cluster.topology;
 
+import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -27,7 +29,10 @@ import com.lambdaworks.redis.*;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+import com.lambdaworks.redis.cluster.models.slots.ClusterSlotRange;
+import com.lambdaworks.redis.cluster.models.slots.ClusterSlotsParser;
 import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.resource.ClientResources;
 import com.lambdaworks.redis.resource.SocketAddressResolver;
 
@@ -46,6 +51,7 @@ public class ClusterTopologyRefresh {
 
     private final NodeConnectionFactory nodeConnectionFactory;
     private final ClientResources clientResources;
+    private final AtomicInteger sourceRotation = new AtomicInteger();
 
     public ClusterTopologyRefresh(NodeConnectionFactory nodeConnectionFactory, ClientResources clientResources) {
         this.nodeConnectionFactory = nodeConnectionFactory;
@@ -68,8 +74,8 @@ public class ClusterTopologyRefresh {
         try {
             connections = getConnections(seed).get(commandTimeoutNs, TimeUnit.NANOSECONDS);
 
-            Requests requestedTopology = connections.requestTopology();
-            Requests requestedClients = connections.requestClients();
+            Requests<String> requestedTopology = connections.requestTopology();
+            Requests<String> requestedClients = connections.requestClients();
 
             NodeTopologyViews nodeSpecificViews = getNodeSpecificViews(requestedTopology, requestedClients, commandTimeoutNs);
 
@@ -104,12 +110,176 @@ public class ClusterTopologyRefresh {
         }
     }
 
+    /**
+     * Load partition views using {@code CLUSTER SLOTS} from a collection of {@link RedisURI}s and return the view per
+     * {@link RedisURI}. At most {@code maxSources} nodes of {@code seed} are queried. Subsequent calls rotate through
+     * {@code seed} so that each refresh queries a different subset of nodes. Partitions contain an ordered list of
+     * {@link RedisClusterNode}s. The sort key is latency. Nodes with lower latency come first.
+     * <p>
+     * {@code CLUSTER SLOTS} reports only masters that serve slots and their replicas. Masters without slots are not part of
+     * the views. Node Ids are reported by Redis 4.0 and newer; views without node Ids are discarded.
+     *
+     * @param seed collection of {@link RedisURI}s
+     * @param maxSources maximum number of nodes to query, must be greater {@literal 0}
+     * @return mapping between {@link RedisURI} and {@link Partitions}
+     * @since 4.5
+     */
+    public Map<RedisURI, Partitions> loadViewsFromClusterSlots(Iterable<RedisURI> seed, int maxSources) {
+
+        LettuceAssert.isTrue(maxSources > 0, "MaxSources must be greater 0");
+
+        long commandTimeoutNs = getCommandTimeoutNs(seed);
+
+        Map<RedisURI, SocketAddress> remoteAddresses = new TreeMap<>(TopologyComparators.RedisURIComparator.INSTANCE);
+
+        Connections connections = null;
+        try {
+            connections = getConnections(selectSources(seed, maxSources), remoteAddresses).get(commandTimeoutNs,
+                    TimeUnit.NANOSECONDS);
+
+            Requests<List<Object>> requestedSlots = connections.requestSlots();
+
+            return getClusterSlotsViews(requestedSlots, remoteAddresses, commandTimeoutNs);
+        } catch (InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+            throw new RedisCommandInterruptedException(e);
+        } finally {
+            if (connections != null) {
+                connections.close();
+            }
+        }
+    }
+
+    private List<RedisURI> selectSources(Iterable<RedisURI> seed, int maxSources) {
+
+        List<RedisURI> candidates = new ArrayList<>(toSet(seed));
+        candidates.sort(TopologyComparators.RedisURIComparator.INSTANCE);
+
+        if (candidates.size() <= maxSources) {
+            return candidates;
+        }
+
+        int offset = Math.floorMod(sourceRotation.getAndIncrement() * maxSources, candidates.size());
+        List<RedisURI> sources = new ArrayList<>(maxSources);
+
+        for (int i = 0; i < maxSources; i++) {
+            sources.add(candidates.get((offset + i) % candidates.size()));
+        }
+
+        return sources;
+    }
+
+    Map<RedisURI, Partitions> getClusterSlotsViews(Requests<List<Object>> requestedSlots,
+            Map<RedisURI, SocketAddress> remoteAddresses, long commandTimeoutNs) throws InterruptedException {
+
+        requestedSlots.await(commandTimeoutNs, TimeUnit.NANOSECONDS);
+
+        Map<RedisURI, Partitions> views = new TreeMap<>(TopologyComparators.RedisURIComparator.INSTANCE);
+        List<RedisClusterNodeSnapshot> allNodes = new ArrayList<>();
+        Map<String, Long> latencies = new HashMap<>();
+
+        for (RedisURI node : requestedSlots.nodes()) {
+
+            TimedAsyncCommand<String, String, List<Object>> request = requestedSlots.getRequest(node);
+
+            if (!NodeTopologyView.resultAvailable(request)) {
+                continue;
+            }
+
+            try {
+                List<RedisClusterNodeSnapshot> nodeWithStats = getNodes(ClusterSlotsParser.parse(request.get())).stream() //
+                        .filter(ClusterTopologyRefresh::validNode) //
+                        .map(RedisClusterNodeSnapshot::new).collect(Collectors.toList());
+
+                if (nodeWithStats.stream().anyMatch(partition -> partition.getNodeId() == null)) {
+                    logger.warn(String.format("Cannot use CLUSTER SLOTS view from %s, node Ids are not available", node));
+                    continue;
+                }
+
+                SocketAddress remoteAddress = remoteAddresses.get(node);
+
+                nodeWithStats.stream() //
+                        .filter(partition -> isSameHostAndPort(partition.getUri(), node)
+                                || isSameAddress(partition.getUri(), remoteAddress)) //
+                        .forEach(partition -> latencies.put(partition.getNodeId(), request.duration()));
+
+                allNodes.addAll(nodeWithStats);
+
+                Partitions partitions = new Partitions();
+                partitions.addAll(nodeWithStats);
+                views.put(node, partitions);
+            } catch (ExecutionException e) {
+                logger.warn(String.format("Cannot retrieve partition view from %s, error: %s", node, e));
+            }
+        }
+
+        for (RedisClusterNodeSnapshot node : allNodes) {
+            node.setLatencyNs(latencies.get(node.getNodeId()));
+        }
+
+        for (Partitions partitions : views.values()) {
+            partitions.getPartitions().sort(TopologyComparators.LatencyComparator.INSTANCE);
+            partitions.updateCache();
+        }
+
+        return views;
+    }
+
+    private static Collection<RedisClusterNode> getNodes(List<ClusterSlotRange> ranges) {
+
+        Set<RedisClusterNode> nodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<RedisClusterNode> result = new ArrayList<>();
+
+        for (ClusterSlotRange range : ranges) {
+
+            RedisClusterNode master = range.getMasterNode();
+            if (master != null && nodes.add(master)) {
+                master.setConnected(true);
+                result.add(master);
+            }
+
+            for (RedisClusterNode slave : range.getSlaveNodes()) {
+                if (nodes.add(slave)) {
+                    slave.setConnected(true);
+                    result.add(slave);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private static boolean isSameHostAndPort(RedisURI uri, RedisURI other) {
+        return uri.getPort() == other.getPort() && uri.getHost().equals(other.getHost());
+    }
+
+    /**
+     * Compare the host reported by Redis with the address the queried connection was connected to. Seed URIs may use host
+     * names while {@code CLUSTER SLOTS} reports IP addresses.
+     */
+    private static boolean isSameAddress(RedisURI uri, SocketAddress remoteAddress) {
+
+        if (!(remoteAddress instanceof InetSocketAddress)) {
+            return false;
+        }
+
+        InetSocketAddress address = (InetSocketAddress) remoteAddress;
+
+        if (uri.getPort() != address.getPort()) {
+            return false;
+        }
+
+        return uri.getHost().equals(address.getHostString())
+                || (address.getAddress() != null && uri.getHost().equals(address.getAddress().getHostAddress()));
+    }
+
     private Set<RedisURI> toSet(Iterable<RedisURI> seed) {
         return StreamSupport.stream(seed.spliterator(), false).collect(Collectors.toCollection(HashSet::new));
     }
 
-    NodeTopologyViews getNodeSpecificViews(Requests requestedTopology, Requests requestedClients, long commandTimeoutNs)
-            throws InterruptedException {
+    NodeTopologyViews getNodeSpecificViews(Requests<String> requestedTopology, Requests<String> requestedClients,
+            long commandTimeoutNs) throws InterruptedException {
 
         List<RedisClusterNodeSnapshot> allNodes = new ArrayList<>();
 
@@ -193,6 +363,14 @@ public class ClusterTopologyRefresh {
      * Open connections where an address can be resolved.
      */
     private AsyncConnections getConnections(Iterable<RedisURI> redisURIs) throws InterruptedException {
+        return getConnections(redisURIs, new HashMap<>());
+    }
+
+    /**
+     * Connect to {@code redisURIs} and record the resolved address of each connection in {@code remoteAddresses}.
+     */
+    private AsyncConnections getConnections(Iterable<RedisURI> redisURIs, Map<RedisURI, SocketAddress> remoteAddresses)
+            throws InterruptedException {
 
         AsyncConnections connections = new AsyncConnections();
 
@@ -203,6 +381,7 @@ public class ClusterTopologyRefresh {
 
             try {
                 SocketAddress socketAddress = SocketAddressResolver.resolve(redisURI, clientResources.dnsResolver());
+                remoteAddresses.put(redisURI, socketAddress);
 
                 ConnectionFuture<StatefulRedisConnection<String, String>> connectionFuture = nodeConnectionFactory
                         .connectToNodeAsync(CODEC, socketAddress);
@@ -15,12 +15,14 @@
  */
 package com.lambdaworks.redis.cluster.topology;
 
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
 import com.lambdaworks.redis.RedisURI;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.codec.StringCodec;
+import com.lambdaworks.redis.output.ArrayOutput;
 import com.lambdaworks.redis.output.StatusOutput;
 import com.lambdaworks.redis.protocol.Command;
 import com.lambdaworks.redis.protocol.CommandArgs;
@@ -68,9 +70,9 @@ class Connections {
      *
      * @return the {@link Requests}.
      */
-    public Requests requestTopology() {
+    public Requests<String> requestTopology() {
 
-        Requests requests = new Requests();
+        Requests<String> requests = new Requests<>();
 
         for (Map.Entry<RedisURI, StatefulRedisConnection<String, String>> entry : connections.entrySet()) {
 
@@ -91,9 +93,9 @@ class Connections {
      *
      * @return the {@link Requests}.
      */
-    public Requests requestClients() {
+    public Requests<String> requestClients() {
 
-        Requests requests = new Requests();
+        Requests<String> requests = new Requests<>();
 
         for (Map.Entry<RedisURI, StatefulRedisConnection<String, String>> entry : connections.entrySet()) {
 
@@ -109,6 +111,29 @@ class Connections {
         return requests;
     }
 
+    /*
+     * Initiate {@code CLUSTER SLOTS} on all connections and return the {@link Requests}.
+     *
+     * @return the {@link Requests}.
+     */
+    public Requests<List<Object>> requestSlots() {
+
+        Requests<List<Object>> requests = new Requests<>();
+
+        for (Map.Entry<RedisURI, StatefulRedisConnection<String, String>> entry : connections.entrySet()) {
+
+            CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8).add(CommandKeyword.SLOTS);
+            Command<String, String, List<Object>> command = new Command<>(CommandType.CLUSTER, new ArrayOutput<>(
+                    StringCodec.UTF8), args);
+            TimedAsyncCommand<String, String, List<Object>> timedCommand = new TimedAsyncCommand<>(command);
+
+            entry.getValue().dispatch(timedCommand);
+            requests.addRequest(entry.getKey(), timedCommand);
+        }
+
+        return requests;
+    }
+
     /**
      * Close all connections.
      */
@@ -65,8 +65,8 @@ class NodeTopologyView {
         getOwnPartition().setUri(redisURI);
     }
 
-    static NodeTopologyView from(RedisURI redisURI, Requests clusterNodesRequests, Requests clientListRequests)
-            throws ExecutionException, InterruptedException {
+    static NodeTopologyView from(RedisURI redisURI, Requests<String> clusterNodesRequests,
+            Requests<String> clientListRequests) throws ExecutionException, InterruptedException {
 
         TimedAsyncCommand<String, String, String> nodes = clusterNodesRequests.getRequest(redisURI);
         TimedAsyncCommand<String, String, String> clients = clientListRequests.getRequest(redisURI);
@@ -17,13 +17,15 @@ package com.lambdaworks.redis.codec;
 
 import java.nio.ByteBuffer;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * A {@link RedisCodec} that uses plain byte arrays.
  *
  * @author Mark Paluch
  * @since 3.3
  */
-public class ByteArrayCodec implements RedisCodec<byte[], byte[]> {
+public class ByteArrayCodec implements RedisCodec<byte[], byte[]>, ToByteBufDecoder<byte[], byte[]> {
 
     public static final ByteArrayCodec INSTANCE = new ByteArrayCodec();
     private static final byte[] EMPTY = new byte[0];
@@ -38,6 +40,16 @@ public class ByteArrayCodec implements RedisCodec<byte[], byte[]> {
         return getBytes(bytes);
     }
 
+    @Override
+    public byte[] decodeKey(ByteBuf bytes) {
+        return getBytes(bytes);
+    }
+
+    @Override
+    public byte[] decodeValue(ByteBuf bytes) {
+        return getBytes(bytes);
+    }
+
     @Override
     public ByteBuffer encodeKey(byte[] key) {
 
@@ -71,4 +83,17 @@ public class ByteArrayCodec implements RedisCodec<byte[], byte[]> {
         return b;
     }
 
+    private static byte[] getBytes(ByteBuf buffer) {
+
+        int readable = buffer.readableBytes();
+
+        if (readable == 0) {
+            return EMPTY;
+        }
+
+        byte[] b = new byte[readable];
+        buffer.getBytes(buffer.readerIndex(), b);
+        return b;
+    }
+
 }
@@ -32,12 +32,14 @@ import io.netty.util.CharsetUtil;
 
 /**
  * Optimized String codec. This {@link RedisCodec} encodes and decodes {@link String} keys and values using a specified
- * {@link Charset}. It accepts provided {@link ByteBuf buffers} so it does not need to allocate buffers during encoding.
+ * {@link Charset}. It accepts provided {@link ByteBuf buffers} so it does not need to allocate buffers during encoding and
+ * decodes directly from the response buffer.
  *
  * @author Mark Paluch
  * @since 4.3
  */
-public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder<String, String> {
+public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder<String, String>,
+        ToByteBufDecoder<String, String> {
 
     public static final StringCodec UTF8 = new StringCodec(LettuceCharsets.UTF8);
     public static final StringCodec ASCII = new StringCodec(LettuceCharsets.ASCII);
@@ -47,6 +49,8 @@ public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder
     private final Charset charset;
     private final boolean ascii;
     private final boolean utf8;
+    private final float averageBytesPerChar;
+    private final float maxBytesPerChar;
 
     /**
      * Creates a new {@link StringCodec} with the default {@link Charset#defaultCharset() charset}. The default is determined
@@ -77,6 +81,10 @@ public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder
             ascii = false;
             utf8 = false;
         }
+
+        CharsetEncoder encoder = CharsetUtil.encoder(charset);
+        this.averageBytesPerChar = encoder.averageBytesPerChar();
+        this.maxBytesPerChar = encoder.maxBytesPerChar();
     }
 
     @Override
@@ -101,7 +109,7 @@ public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder
         }
 
         CharsetEncoder encoder = CharsetUtil.encoder(charset);
-        int length = (int) ((double) str.length() * encoder.maxBytesPerChar());
+        int length = (int) ((double) str.length() * maxBytesPerChar);
         target.ensureWritable(length);
         try {
             final ByteBuffer dstBuf = target.nioBuffer(0, length);
@@ -124,8 +132,7 @@ public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder
     public int estimateSize(Object keyOrValue) {
 
         if (keyOrValue instanceof String) {
-            CharsetEncoder encoder = CharsetUtil.encoder(charset);
-            return (int) (encoder.averageBytesPerChar() * ((String) keyOrValue).length());
+            return (int) (averageBytesPerChar * ((String) keyOrValue).length());
         }
         return 0;
     }
@@ -145,6 +152,16 @@ public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder
         return Unpooled.wrappedBuffer(bytes).toString(charset);
     }
 
+    @Override
+    public String decodeKey(ByteBuf bytes) {
+        return bytes.toString(charset);
+    }
+
+    @Override
+    public String decodeValue(ByteBuf bytes) {
+        return bytes.toString(charset);
+    }
+
     @Override
     public ByteBuffer encodeKey(String key) {
         return encodeAndAllocateBuffer(key);
@@ -166,8 +183,7 @@ public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder
             return ByteBuffer.wrap(EMPTY);
         }
 
-        CharsetEncoder encoder = CharsetUtil.encoder(charset);
-        ByteBuffer buffer = ByteBuffer.allocate((int) (encoder.maxBytesPerChar() * key.length()));
+        ByteBuffer buffer = ByteBuffer.allocate((int) (maxBytesPerChar * key.length()));
 
         ByteBuf byteBuf = Unpooled.wrappedBuffer(buffer);
         byteBuf.clear();
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.codec;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Optimized decoder that decodes keys and values directly from the {@link ByteBuf} holding the response. Command outputs use
+ * this decoder for bulk replies if the codec implements it, so responses are not copied into an intermediate buffer before
+ * decoding.
+ * <p>
+ * Classes implementing {@link ToByteBufDecoder} are required to implement {@link RedisCodec} as well. The {@link ByteBuf}
+ * passed to the decoder is a slice of the inbound buffer that is only valid during the decode call. Implementations must
+ * consume the bytes within the call and must neither modify, retain nor release the buffer.
+ * </p>
+ * <p>
+ * Subclasses of {@link StringCodec} and {@link ByteArrayCodec} are not decoded through this interface, so that overrides of
+ * {@link RedisCodec#decodeKey(java.nio.ByteBuffer)} and {@link RedisCodec#decodeValue(java.nio.ByteBuffer)} take effect.
+ * </p>
+ *
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public interface ToByteBufDecoder<K, V> {
+
+    /**
+     * Decode the key output by redis.
+     *
+     * @param bytes slice of the response buffer containing the raw key, must not be {@literal null}.
+     * @return the decoded key, may be {@literal null}.
+     */
+    K decodeKey(ByteBuf bytes);
+
+    /**
+     * Decode the value output by redis.
+     *
+     * @param bytes slice of the response buffer containing the raw value, must not be {@literal null}.
+     * @return the decoded value, may be {@literal null}.
+     */
+    V decodeValue(ByteBuf bytes);
+}
@@ -51,10 +51,10 @@ public class HostAndPort {
      */
     public static HostAndPort of(String host, int port) {
 
-        LettuceAssert.isTrue(isValidPort(port), String.format("Port out of range: %s", port));
+        LettuceAssert.isTrue(isValidPort(port), () -> String.format("Port out of range: %s", port));
 
         HostAndPort parsedHost = parse(host);
-        LettuceAssert.isTrue(!parsedHost.hasPort(), String.format("Host has a port: %s", host));
+        LettuceAssert.isTrue(!parsedHost.hasPort(), () -> String.format("Host has a port: %s", host));
         return new HostAndPort(host, port);
     }
 
@@ -91,13 +91,14 @@ public class HostAndPort {
         if (!LettuceStrings.isEmpty(portString)) {
             // Try to parse the whole port string as a number.
             // JDK7 accepts leading plus signs. We don't want to.
-            LettuceAssert.isTrue(!portString.startsWith("+"), String.format("Unparseable port number: %s", hostPortString));
+            LettuceAssert.isTrue(!portString.startsWith("+"),
+                    () -> String.format("Unparseable port number: %s", hostPortString));
             try {
                 port = Integer.parseInt(portString);
             } catch (NumberFormatException e) {
                 throw new IllegalArgumentException(String.format("Unparseable port number: %s" + hostPortString));
             }
-            LettuceAssert.isTrue(isValidPort(port), String.format("Port number out of range: %s", hostPortString));
+            LettuceAssert.isTrue(isValidPort(port), () -> String.format("Port number out of range: %s", hostPortString));
         }
 
         return new HostAndPort(host, port);
@@ -18,6 +18,7 @@ package com.lambdaworks.redis.internal;
 import com.lambdaworks.redis.LettuceStrings;
 
 import java.util.Collection;
+import java.util.function.Supplier;
 
 /**
  * Assertion utility class that assists in validating arguments. This class is part of the internal API and may change without
@@ -132,6 +133,20 @@ public class LettuceAssert {
         }
     }
 
+    /**
+     * Assert that {@code value} is {@literal true}. The exception message is only created if the assertion fails.
+     *
+     * @param value the value to check
+     * @param messageSupplier the supplier of the exception message to use if the assertion fails
+     * @throws IllegalArgumentException if {@code value} is {@literal false}
+     * @since 4.5
+     */
+    public static void isTrue(boolean value, Supplier<String> messageSupplier) {
+        if (!value) {
+            throw new IllegalArgumentException(messageSupplier.get());
+        }
+    }
+
     /**
      * Ensures the truth of an expression involving the state of the calling instance, but not involving any parameters to the
      * calling method.
@@ -26,6 +26,7 @@ import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.internal.LettuceLists;
 import com.lambdaworks.redis.models.role.RedisInstance;
 import com.lambdaworks.redis.models.role.RedisNodeDescription;
+import com.lambdaworks.redis.protocol.HedgedReadDispatcher;
 
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
@@ -165,7 +166,8 @@ public class MasterSlave {
 
         connectionProvider.setKnownNodes(refresh.getNodes(redisURI));
 
-        MasterSlaveChannelWriter<K, V> channelWriter = new MasterSlaveChannelWriter<>(connectionProvider);
+        MasterSlaveChannelWriter<K, V> channelWriter = new MasterSlaveChannelWriter<>(connectionProvider,
+                newHedgedReadDispatcher(redisClient));
         StatefulRedisMasterSlaveConnectionImpl<K, V> connection = new StatefulRedisMasterSlaveConnectionImpl<>(channelWriter,
                 codec, redisURI.getTimeout(), redisURI.getUnit());
 
@@ -229,7 +231,8 @@ public class MasterSlave {
 
             connectionProvider.setKnownNodes(refresh.getNodes(redisURI));
 
-            MasterSlaveChannelWriter<K, V> channelWriter = new MasterSlaveChannelWriter<>(connectionProvider);
+            MasterSlaveChannelWriter<K, V> channelWriter = new MasterSlaveChannelWriter<>(connectionProvider,
+                newHedgedReadDispatcher(redisClient));
 
             StatefulRedisMasterSlaveConnectionImpl<K, V> connection = new StatefulRedisMasterSlaveConnectionImpl<>(
                     channelWriter, codec, redisURI.getTimeout(), redisURI.getUnit());
@@ -267,7 +270,8 @@ public class MasterSlave {
 
             connectionProvider.setKnownNodes(nodes);
 
-            MasterSlaveChannelWriter<K, V> channelWriter = new MasterSlaveChannelWriter<>(connectionProvider);
+            MasterSlaveChannelWriter<K, V> channelWriter = new MasterSlaveChannelWriter<>(connectionProvider,
+                newHedgedReadDispatcher(redisClient));
 
             StatefulRedisMasterSlaveConnectionImpl<K, V> connection = new StatefulRedisMasterSlaveConnectionImpl<>(
                     channelWriter, codec, seedNode.getTimeout(), seedNode.getUnit());
@@ -284,6 +288,10 @@ public class MasterSlave {
         }
     }
 
+    private static HedgedReadDispatcher newHedgedReadDispatcher(RedisClient redisClient) {
+        return new HedgedReadDispatcher(redisClient.getOptions().getHedgedReadOptions(), redisClient.getResources());
+    }
+
     private static RedisNodeDescription lookupMaster(List<RedisNodeDescription> nodes) {
 
         Optional<RedisNodeDescription> first = nodes.stream().filter(n -> n.getRole() == RedisInstance.Role.MASTER).findFirst();
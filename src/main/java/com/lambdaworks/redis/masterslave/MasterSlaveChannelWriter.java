@@ -21,6 +21,7 @@ import com.lambdaworks.redis.RedisChannelWriter;
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.internal.LettuceAssert;
+import com.lambdaworks.redis.protocol.HedgedReadDispatcher;
 import com.lambdaworks.redis.protocol.ProtocolKeyword;
 import com.lambdaworks.redis.protocol.RedisCommand;
 
@@ -32,10 +33,13 @@ import com.lambdaworks.redis.protocol.RedisCommand;
 class MasterSlaveChannelWriter<K, V> implements RedisChannelWriter<K, V> {
 
     private MasterSlaveConnectionProvider<K, V> masterSlaveConnectionProvider;
+    private final HedgedReadDispatcher hedgedReads;
     private boolean closed = false;
 
-    public MasterSlaveChannelWriter(MasterSlaveConnectionProvider<K, V> masterSlaveConnectionProvider) {
+    public MasterSlaveChannelWriter(MasterSlaveConnectionProvider<K, V> masterSlaveConnectionProvider,
+            HedgedReadDispatcher hedgedReads) {
         this.masterSlaveConnectionProvider = masterSlaveConnectionProvider;
+        this.hedgedReads = hedgedReads;
     }
 
     @Override
@@ -50,6 +54,16 @@ class MasterSlaveChannelWriter<K, V> implements RedisChannelWriter<K, V> {
         MasterSlaveConnectionProvider.Intent intent = getIntent(command.getType());
         StatefulRedisConnection<K, V> connection = masterSlaveConnectionProvider.getConnection(intent);
 
+        if (intent == MasterSlaveConnectionProvider.Intent.READ && hedgedReads.isEnabled() && command.getOutput() != null) {
+
+            StatefulRedisConnection<K, V> alternative = masterSlaveConnectionProvider.getAlternativeReadConnection(connection);
+
+            if (alternative != null) {
+                hedgedReads.dispatch(command, connection::dispatch, alternative::dispatch);
+                return command;
+            }
+        }
+
         return connection.dispatch(command);
     }
 
@@ -70,6 +84,7 @@ class MasterSlaveChannelWriter<K, V> implements RedisChannelWriter<K, V> {
         }
 
         closed = true;
+        hedgedReads.close();
 
         if (masterSlaveConnectionProvider != null) {
             masterSlaveConnectionProvider.close();
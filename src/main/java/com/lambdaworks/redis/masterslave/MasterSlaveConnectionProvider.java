@@ -30,6 +30,7 @@ import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.codec.RedisCodec;
 import com.lambdaworks.redis.internal.LettuceSets;
+import com.lambdaworks.redis.metrics.ConnectionLoad;
 import com.lambdaworks.redis.models.role.RedisInstance;
 import com.lambdaworks.redis.models.role.RedisNodeDescription;
 
@@ -94,17 +95,7 @@ public class MasterSlaveConnectionProvider<K, V> {
         }
 
         if (readFrom != null && intent == Intent.READ) {
-            List<RedisNodeDescription> selection = readFrom.select(new ReadFrom.Nodes() {
-                @Override
-                public List<RedisNodeDescription> getNodes() {
-                    return knownNodes;
-                }
-
-                @Override
-                public Iterator<RedisNodeDescription> iterator() {
-                    return knownNodes.iterator();
-                }
-            });
+            List<RedisNodeDescription> selection = selectReadCandidates(readFrom);
 
             if (selection.isEmpty()) {
                 throw new RedisException(String.format("Cannot determine a node to read (Known nodes: %s) with setting %s",
@@ -128,6 +119,53 @@ public class MasterSlaveConnectionProvider<K, V> {
         return getConnection(getMaster());
     }
 
+    /**
+     * Retrieve an established read connection other than {@code primary} using the {@link ReadFrom} setting. This method
+     * does not connect to nodes.
+     *
+     * @param primary the connection to exclude.
+     * @return an open read connection other than {@code primary} or {@literal null} if there is no such connection.
+     * @since 4.5
+     */
+    StatefulRedisConnection<K, V> getAlternativeReadConnection(StatefulRedisConnection<K, V> primary) {
+
+        ReadFrom readFrom = this.readFrom;
+
+        if (readFrom == null) {
+            return null;
+        }
+
+        for (RedisNodeDescription node : selectReadCandidates(readFrom)) {
+
+            StatefulRedisConnection<K, V> candidate = connections.get(toConnectionKey(node.getUri()));
+            if (candidate != null && candidate != primary && candidate.isOpen()) {
+                return candidate;
+            }
+        }
+
+        return null;
+    }
+
+    private List<RedisNodeDescription> selectReadCandidates(ReadFrom readFrom) {
+
+        return readFrom.select(new ReadFrom.Nodes() {
+            @Override
+            public List<RedisNodeDescription> getNodes() {
+                return knownNodes;
+            }
+
+            @Override
+            public Iterator<RedisNodeDescription> iterator() {
+                return knownNodes.iterator();
+            }
+
+            @Override
+            public ConnectionLoad getLoad(RedisNodeDescription node) {
+                return ConnectionLoad.from(connections.get(toConnectionKey(node.getUri())));
+            }
+        });
+    }
+
     protected StatefulRedisConnection<K, V> getConnection(RedisNodeDescription redisNodeDescription) {
         return connections.computeIfAbsent(
                 new ConnectionKey(redisNodeDescription.getUri().getHost(), redisNodeDescription.getUri().getPort()),
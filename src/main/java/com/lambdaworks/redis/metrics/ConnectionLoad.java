@@ -0,0 +1,79 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import com.lambdaworks.redis.RedisChannelHandler;
+import com.lambdaworks.redis.RedisChannelWriter;
+import com.lambdaworks.redis.api.StatefulConnection;
+
+/**
+ * Live load indicators of a single connection. Values are sampled while commands are processed and can be read from any
+ * thread without synchronization. They are estimates intended for routing decisions, not for exact accounting.
+ *
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public interface ConnectionLoad {
+
+    /**
+     * Returns the exponentially weighted moving average of the command completion latency. Implementations may defer
+     * sampling until the latency is requested for the first time so that connections without a load-aware consumer do not
+     * pay for it. Sampling does not depend on the {@link CommandLatencyCollector}. Implementations may decay the average
+     * over time so that connections without recent samples are tried again.
+     *
+     * @return the average completion latency in {@link TimeUnit#NANOSECONDS}, {@literal 0} if no latency was sampled yet.
+     */
+    long getCompletionLatency();
+
+    /**
+     * Returns the number of commands that were sent and await their response.
+     *
+     * @return the number of outstanding commands.
+     */
+    int getOutstandingCommands();
+
+    /**
+     * Returns the cost of dispatching another command to this connection. The cost grows with the average completion
+     * latency and with the number of outstanding commands. Connections without latency samples are ranked by their
+     * outstanding commands only.
+     *
+     * @return the cost of dispatching another command, lower values are preferable.
+     */
+    default long getCost() {
+        return (getCompletionLatency() + 1) * (getOutstandingCommands() + 1);
+    }
+
+    /**
+     * Obtain the {@link ConnectionLoad} of a {@link StatefulConnection}.
+     *
+     * @param connection the connection, may be {@literal null}.
+     * @return the {@link ConnectionLoad} or {@literal null} if the connection does not provide load indicators.
+     */
+    static ConnectionLoad from(StatefulConnection<?, ?> connection) {
+
+        if (connection instanceof RedisChannelHandler) {
+
+            RedisChannelWriter<?, ?> writer = ((RedisChannelHandler<?, ?>) connection).getChannelWriter();
+            if (writer instanceof ConnectionLoad) {
+                return (ConnectionLoad) writer;
+            }
+        }
+
+        return null;
+    }
+}
@@ -17,9 +17,14 @@ package com.lambdaworks.redis.output;
 
 import java.nio.ByteBuffer;
 
+import com.lambdaworks.redis.codec.ByteArrayCodec;
 import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.codec.StringCodec;
+import com.lambdaworks.redis.codec.ToByteBufDecoder;
 import com.lambdaworks.redis.internal.LettuceAssert;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * Abstract representation of the output of a redis command.
  * 
@@ -31,6 +36,7 @@ import com.lambdaworks.redis.internal.LettuceAssert;
 public abstract class CommandOutput<K, V, T> {
 
     protected final RedisCodec<K, V> codec;
+    protected final ToByteBufDecoder<K, V> byteBufDecoder;
     protected T output;
     protected String error;
 
@@ -43,9 +49,30 @@ public abstract class CommandOutput<K, V, T> {
     public CommandOutput(RedisCodec<K, V> codec, T output) {
         LettuceAssert.notNull(codec, "RedisCodec must not be null");
         this.codec = codec;
+        this.byteBufDecoder = getByteBufDecoder(codec);
         this.output = output;
     }
 
+    /**
+     * Returns the codec as {@link ToByteBufDecoder} if it decodes directly from the response buffer. Subclasses of the built-in
+     * codecs may override {@code decodeKey(ByteBuffer)} and {@code decodeValue(ByteBuffer)} only, so they are decoded through
+     * the {@link RedisCodec} methods.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, V> ToByteBufDecoder<K, V> getByteBufDecoder(RedisCodec<K, V> codec) {
+
+        if (!(codec instanceof ToByteBufDecoder)) {
+            return null;
+        }
+
+        if ((codec instanceof StringCodec && codec.getClass() != StringCodec.class)
+                || (codec instanceof ByteArrayCodec && codec.getClass() != ByteArrayCodec.class)) {
+            return null;
+        }
+
+        return (ToByteBufDecoder<K, V>) codec;
+    }
+
     /**
      * Get the command output.
      * 
@@ -65,6 +92,30 @@ public abstract class CommandOutput<K, V, T> {
         throw new IllegalStateException();
     }
 
+    /**
+     * Set the command output to a bulk reply backed by a slice of the response buffer. This method is called instead of
+     * {@link #set(ByteBuffer)} for non-null bulk replies if {@link #isByteBufDecoding()} returns {@literal true}. The buffer
+     * is only valid during the call and must neither be modified nor retained.
+     *
+     * @param bytes The command output, must not be {@literal null}.
+     * @since 4.5
+     */
+    public void setByteBuf(ByteBuf bytes) {
+        set(bytes.nioBuffer());
+    }
+
+    /**
+     * Returns whether this output decodes bulk replies directly from the response buffer using {@link #setByteBuf(ByteBuf)}.
+     * Outputs overriding {@link #setByteBuf(ByteBuf)} typically return {@literal true} if the codec implements
+     * {@link ToByteBufDecoder}.
+     *
+     * @return {@literal true} if bulk replies are passed to {@link #setByteBuf(ByteBuf)}. Defaults to {@literal false}.
+     * @since 4.5
+     */
+    public boolean isByteBufDecoding() {
+        return false;
+    }
+
     /**
      * Set the command output to a 64-bit signed integer. Concrete {@link CommandOutput} implementations must override this
      * method unless they only receive a byte array value.
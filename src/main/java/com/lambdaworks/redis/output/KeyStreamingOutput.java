@@ -19,6 +19,8 @@ import java.nio.ByteBuffer;
 
 import com.lambdaworks.redis.codec.RedisCodec;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * Streaming-Output of Keys. Returns the count of all keys (including null).
  *
@@ -41,4 +43,16 @@ public class KeyStreamingOutput<K, V> extends CommandOutput<K, V, Long> {
         channel.onKey(bytes == null ? null : codec.decodeKey(bytes));
         output = output.longValue() + 1;
     }
+
+    @Override
+    public void setByteBuf(ByteBuf bytes) {
+
+        channel.onKey(byteBufDecoder.decodeKey(bytes));
+        output = output.longValue() + 1;
+    }
+
+    @Override
+    public boolean isByteBufDecoding() {
+        return byteBufDecoder != null;
+    }
 }
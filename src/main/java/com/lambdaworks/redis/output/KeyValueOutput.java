@@ -20,6 +20,8 @@ import java.nio.ByteBuffer;
 import com.lambdaworks.redis.KeyValue;
 import com.lambdaworks.redis.codec.RedisCodec;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * Key-value pair output.
  *
@@ -48,4 +50,20 @@ public class KeyValueOutput<K, V> extends CommandOutput<K, V, KeyValue<K, V>> {
             }
         }
     }
+
+    @Override
+    public void setByteBuf(ByteBuf bytes) {
+
+        if (key == null) {
+            key = byteBufDecoder.decodeKey(bytes);
+        } else {
+            V value = byteBufDecoder.decodeValue(bytes);
+            output = new KeyValue<>(key, value);
+        }
+    }
+
+    @Override
+    public boolean isByteBufDecoding() {
+        return byteBufDecoder != null;
+    }
 }
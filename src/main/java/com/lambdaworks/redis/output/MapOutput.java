@@ -21,6 +21,8 @@ import java.util.Map;
 
 import com.lambdaworks.redis.codec.RedisCodec;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * {@link Map} of keys and values output.
  *
@@ -51,6 +53,24 @@ public class MapOutput<K, V> extends CommandOutput<K, V, Map<K, V>> {
         key = null;
     }
 
+    @Override
+    public void setByteBuf(ByteBuf bytes) {
+
+        if (key == null) {
+            key = byteBufDecoder.decodeKey(bytes);
+            return;
+        }
+
+        V value = byteBufDecoder.decodeValue(bytes);
+        output.put(key, value);
+        key = null;
+    }
+
+    @Override
+    public boolean isByteBufDecoding() {
+        return byteBufDecoder != null;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public void set(long integer) {
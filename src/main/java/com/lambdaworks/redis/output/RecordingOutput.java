@@ -0,0 +1,194 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.output;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * {@link CommandOutput} that records the decoded response and replays it into another {@link CommandOutput}. Replaying
+ * invokes the same callbacks on the target output that decoding the response would have invoked, so the target output
+ * cannot distinguish a replayed response from a decoded one. Values are copied while recording.
+ * <p>
+ * Calling {@link #setError(String)} with {@literal null} discards the recorded response. This allows reusing the output for
+ * a redirected command.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public class RecordingOutput<K, V> extends CommandOutput<K, V, Void> {
+
+    private static final Object NULL_VALUE = new Object();
+
+    private final List<Object> signals = new ArrayList<>();
+
+    /**
+     * Create a new {@link RecordingOutput} for responses that are replayed into {@code target}.
+     *
+     * @param target the output to replay responses into.
+     */
+    public RecordingOutput(CommandOutput<K, V, ?> target) {
+        super(target.codec, null);
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+        signals.add(bytes == null ? NULL_VALUE : copy(bytes));
+    }
+
+    @Override
+    public void setByteBuf(ByteBuf bytes) {
+
+        ByteBuffer copy = ByteBuffer.allocate(bytes.readableBytes());
+        bytes.getBytes(bytes.readerIndex(), copy);
+        copy.flip();
+
+        signals.add(new Bulk(copy));
+    }
+
+    @Override
+    public boolean isByteBufDecoding() {
+        return true;
+    }
+
+    @Override
+    public void set(long integer) {
+        signals.add(integer);
+    }
+
+    @Override
+    public void setError(ByteBuffer error) {
+
+        super.setError(error);
+        signals.add(new ErrorReply(getError()));
+    }
+
+    @Override
+    public void setError(String error) {
+
+        super.setError(error);
+
+        if (error == null) {
+            signals.clear();
+        } else {
+            signals.add(new ErrorReply(error));
+        }
+    }
+
+    @Override
+    public void complete(int depth) {
+        signals.add(new Complete(depth));
+    }
+
+    @Override
+    public void multi(int count) {
+        signals.add(new Multi(count));
+    }
+
+    /**
+     * Replay the recorded response into {@code target}.
+     *
+     * @param target the target output.
+     */
+    public void replay(CommandOutput<K, V, ?> target) {
+
+        for (Object signal : signals) {
+
+            if (signal == NULL_VALUE) {
+                target.set((ByteBuffer) null);
+            } else if (signal instanceof ByteBuffer) {
+                target.set(((ByteBuffer) signal).duplicate());
+            } else if (signal instanceof Bulk) {
+                replayBulk(target, ((Bulk) signal).value.duplicate());
+            } else if (signal instanceof Long) {
+                target.set((Long) signal);
+            } else if (signal instanceof ErrorReply) {
+                target.setError(((ErrorReply) signal).message);
+            } else if (signal instanceof Multi) {
+                target.multi(((Multi) signal).count);
+            } else if (signal instanceof Complete) {
+                target.complete(((Complete) signal).depth);
+            }
+        }
+    }
+
+    private static void replayBulk(CommandOutput<?, ?, ?> target, ByteBuffer value) {
+
+        if (target instanceof ValueChunkConsumer && ((ValueChunkConsumer) target).isChunked(value.remaining())) {
+
+            ValueChunkConsumer consumer = (ValueChunkConsumer) target;
+            consumer.onChunk(Unpooled.wrappedBuffer(value));
+            consumer.onValueComplete();
+            return;
+        }
+
+        if (target.isByteBufDecoding()) {
+            target.setByteBuf(Unpooled.wrappedBuffer(value));
+        } else {
+            target.set(value);
+        }
+    }
+
+    private static ByteBuffer copy(ByteBuffer bytes) {
+
+        ByteBuffer copy = ByteBuffer.allocate(bytes.remaining());
+        copy.put(bytes.duplicate());
+        copy.flip();
+        return copy;
+    }
+
+    private static class Bulk {
+
+        final ByteBuffer value;
+
+        Bulk(ByteBuffer value) {
+            this.value = value;
+        }
+    }
+
+    private static class ErrorReply {
+
+        final String message;
+
+        ErrorReply(String message) {
+            this.message = message;
+        }
+    }
+
+    private static class Multi {
+
+        final int count;
+
+        Multi(int count) {
+            this.count = count;
+        }
+    }
+
+    private static class Complete {
+
+        final int depth;
+
+        Complete(int depth) {
+            this.depth = depth;
+        }
+    }
+}
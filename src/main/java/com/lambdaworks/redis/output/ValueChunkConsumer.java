@@ -0,0 +1,56 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.output;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Consumer for bulk replies that are passed in chunks as they arrive instead of being aggregated until the whole value is
+ * available. {@link CommandOutput Command outputs} implement this interface to stream large values without allocating a
+ * buffer that holds the whole value.
+ * <p>
+ * For bulk replies that are consumed in chunks, {@link CommandOutput#set(java.nio.ByteBuffer)} is not called. Instead,
+ * {@link #onChunk(ByteBuf)} is called for each received part of the value followed by a single call to
+ * {@link #onValueComplete()}. {@literal null} bulk replies are passed to {@link CommandOutput#set(java.nio.ByteBuffer)}.
+ * </p>
+ *
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public interface ValueChunkConsumer {
+
+    /**
+     * Returns whether a bulk reply of {@code length} bytes should be consumed in chunks.
+     *
+     * @param length the length of the value in bytes.
+     * @return {@literal true} to receive the value in chunks, {@literal false} to receive the value in a single call to
+     *         {@link CommandOutput#set(java.nio.ByteBuffer)}.
+     */
+    boolean isChunked(int length);
+
+    /**
+     * Consume a chunk of the value. The buffer is a slice of the response buffer that is only valid during the call and
+     * must neither be modified nor retained.
+     *
+     * @param chunk the chunk, never {@literal null}.
+     */
+    void onChunk(ByteBuf chunk);
+
+    /**
+     * Called after the last chunk of a value was consumed.
+     */
+    void onValueComplete();
+}
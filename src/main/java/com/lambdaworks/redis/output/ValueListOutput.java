@@ -22,6 +22,8 @@ import java.util.List;
 import com.lambdaworks.redis.codec.RedisCodec;
 import com.lambdaworks.redis.internal.LettuceAssert;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * {@link List} of values output.
  *
@@ -45,6 +47,16 @@ public class ValueListOutput<K, V> extends CommandOutput<K, V, List<V>> implemen
         subscriber.onNext(output, bytes == null ? null : codec.decodeValue(bytes));
     }
 
+    @Override
+    public void setByteBuf(ByteBuf bytes) {
+        subscriber.onNext(output, byteBufDecoder.decodeValue(bytes));
+    }
+
+    @Override
+    public boolean isByteBufDecoding() {
+        return byteBufDecoder != null;
+    }
+
     @Override
     public void multi(int count) {
 
@@ -21,6 +21,8 @@ import java.util.Set;
 
 import com.lambdaworks.redis.codec.RedisCodec;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * {@link Set} of value output.
  *
@@ -42,6 +44,16 @@ public class ValueSetOutput<K, V> extends CommandOutput<K, V, Set<V>> {
         output.add(bytes == null ? null : codec.decodeValue(bytes));
     }
 
+    @Override
+    public void setByteBuf(ByteBuf bytes) {
+        output.add(byteBufDecoder.decodeValue(bytes));
+    }
+
+    @Override
+    public boolean isByteBufDecoding() {
+        return byteBufDecoder != null;
+    }
+
     @Override
     public void multi(int count) {
 
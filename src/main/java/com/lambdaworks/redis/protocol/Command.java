@@ -109,11 +109,11 @@ public class Command<K, V, T> implements RedisCommand<K, V, T> {
     public void encode(ByteBuf buf) {
 
         buf.writeByte('*');
-        CommandArgs.IntegerArgument.writeInteger(buf, 1 + (args != null ? args.count() : 0));
+        CommandArgs.writeInteger(buf, 1 + (args != null ? args.count() : 0));
 
         buf.writeBytes(CommandArgs.CRLF);
 
-        CommandArgs.BytesArgument.writeBytes(buf, type.getBytes());
+        CommandArgs.writeBytes(buf, type.getBytes());
 
         if (args != null) {
             args.encode(buf);
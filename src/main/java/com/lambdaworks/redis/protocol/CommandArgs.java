@@ -16,8 +16,8 @@
 package com.lambdaworks.redis.protocol;
 
 import java.nio.ByteBuffer;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Map;
 
 import com.lambdaworks.redis.codec.ByteArrayCodec;
@@ -52,9 +52,41 @@ public class CommandArgs<K, V> {
 
     static final byte[] CRLF = "\r\n".getBytes(LettuceCharsets.ASCII);
 
+    private static final byte[] LONG_MIN_VALUE = Long.toString(Long.MIN_VALUE).getBytes(LettuceCharsets.ASCII);
+
+    /**
+     * Assumed size of a key or value if the codec does not allow to determine the encoded size upfront.
+     */
+    static final int UNKNOWN_ARGUMENT_SIZE = 16;
+
+    private static final int INITIAL_CAPACITY = 10;
+
+    /**
+     * Largest integral double that {@link Double#toString(double)} renders in plain {@code <digits>.0} notation.
+     */
+    private static final double MAX_PLAIN_INTEGRAL_DOUBLE = 1e7;
+
+    /*
+     * Argument types. Keys, values, strings, char arrays and byte arrays (including keywords) are held in references.
+     * Integers and integral doubles are held in primitives. Other doubles are held in their string representation.
+     */
+    static final byte TYPE_KEY = 1;
+    static final byte TYPE_VALUE = 2;
+    static final byte TYPE_STRING = 3;
+    static final byte TYPE_CHAR_ARRAY = 4;
+    static final byte TYPE_INTEGER = 5;
+    static final byte TYPE_DOUBLE = 6;
+    static final byte TYPE_BYTES = 7;
+    static final byte TYPE_INTEGRAL_DOUBLE = 8;
+
     protected final RedisCodec<K, V> codec;
 
-    final List<SingularArgument> singularArguments = new ArrayList<>(10);
+    byte[] argumentTypes = new byte[INITIAL_CAPACITY];
+    Object[] references = new Object[INITIAL_CAPACITY];
+    long[] primitives;
+    int argumentCount;
+
+    private int encodedLength;
 
     /**
      *
@@ -71,7 +103,7 @@ public class CommandArgs<K, V> {
      * @return the number of arguments.
      */
     public int count() {
-        return singularArguments.size();
+        return argumentCount;
     }
 
     /**
@@ -82,8 +114,7 @@ public class CommandArgs<K, V> {
      */
     public CommandArgs<K, V> addKey(K key) {
 
-        singularArguments.add(KeyArgument.of(key, codec));
-        return this;
+        return addArgument(TYPE_KEY, key, bulkStringLength(estimateSize(codec, key)));
     }
 
     /**
@@ -96,6 +127,10 @@ public class CommandArgs<K, V> {
 
         LettuceAssert.notNull(keys, "Keys must not be null");
 
+        if (keys instanceof Collection) {
+            ensureCapacity(argumentCount + ((Collection<K>) keys).size());
+        }
+
         for (K key : keys) {
             addKey(key);
         }
@@ -112,6 +147,7 @@ public class CommandArgs<K, V> {
 
         LettuceAssert.notNull(keys, "Keys must not be null");
 
+        ensureCapacity(argumentCount + keys.length);
         for (K key : keys) {
             addKey(key);
         }
@@ -126,8 +162,7 @@ public class CommandArgs<K, V> {
      */
     public CommandArgs<K, V> addValue(V value) {
 
-        singularArguments.add(ValueArgument.of(value, codec));
-        return this;
+        return addArgument(TYPE_VALUE, value, bulkStringLength(estimateSize(codec, value)));
     }
 
     /**
@@ -140,6 +175,10 @@ public class CommandArgs<K, V> {
 
         LettuceAssert.notNull(values, "Values must not be null");
 
+        if (values instanceof Collection) {
+            ensureCapacity(argumentCount + ((Collection<V>) values).size());
+        }
+
         for (V value : values) {
             addValue(value);
         }
@@ -156,6 +195,7 @@ public class CommandArgs<K, V> {
 
         LettuceAssert.notNull(values, "Values must not be null");
 
+        ensureCapacity(argumentCount + values.length);
         for (V value : values) {
             addValue(value);
         }
@@ -172,6 +212,7 @@ public class CommandArgs<K, V> {
 
         LettuceAssert.notNull(map, "Map must not be null");
 
+        ensureCapacity(argumentCount + map.size() * 2);
         for (Map.Entry<K, V> entry : map.entrySet()) {
             addKey(entry.getKey()).addValue(entry.getValue());
         }
@@ -186,9 +227,7 @@ public class CommandArgs<K, V> {
      * @return the command args.
      */
     public CommandArgs<K, V> add(String s) {
-
-        singularArguments.add(StringArgument.of(s));
-        return this;
+        return addArgument(TYPE_STRING, s, bulkStringLength(s.length()));
     }
 
     /**
@@ -198,9 +237,7 @@ public class CommandArgs<K, V> {
      * @return the command args.
      */
     public CommandArgs<K, V> add(char[] cs) {
-
-        singularArguments.add(CharArrayArgument.of(cs));
-        return this;
+        return addArgument(TYPE_CHAR_ARRAY, cs, bulkStringLength(cs.length));
     }
 
     /**
@@ -210,9 +247,7 @@ public class CommandArgs<K, V> {
      * @return the command args.
      */
     public CommandArgs<K, V> add(long n) {
-
-        singularArguments.add(IntegerArgument.of(n));
-        return this;
+        return addPrimitive(TYPE_INTEGER, n, bulkStringLength(digits(n)));
     }
 
     /**
@@ -223,8 +258,12 @@ public class CommandArgs<K, V> {
      */
     public CommandArgs<K, V> add(double n) {
 
-        singularArguments.add(DoubleArgument.of(n));
-        return this;
+        if (isPlainIntegral(n)) {
+            return addPrimitive(TYPE_INTEGRAL_DOUBLE, (long) n, bulkStringLength(digits((long) n) + 2));
+        }
+
+        String s = Double.toString(n);
+        return addArgument(TYPE_DOUBLE, s, bulkStringLength(s.length()));
     }
 
     /**
@@ -234,9 +273,7 @@ public class CommandArgs<K, V> {
      * @return the command args.
      */
     public CommandArgs<K, V> add(byte[] value) {
-
-        singularArguments.add(BytesArgument.of(value));
-        return this;
+        return addArgument(TYPE_BYTES, value, bulkStringLength(value.length));
     }
 
     /**
@@ -248,8 +285,7 @@ public class CommandArgs<K, V> {
     public CommandArgs<K, V> add(CommandKeyword keyword) {
 
         LettuceAssert.notNull(keyword, "CommandKeyword must not be null");
-        singularArguments.add(ProtocolKeywordArgument.of(keyword));
-        return this;
+        return add(keyword.getBytes());
     }
 
     /**
@@ -261,8 +297,7 @@ public class CommandArgs<K, V> {
     public CommandArgs<K, V> add(CommandType type) {
 
         LettuceAssert.notNull(type, "CommandType must not be null");
-        singularArguments.add(ProtocolKeywordArgument.of(type));
-        return this;
+        return add(type.getBytes());
     }
 
     /**
@@ -274,17 +309,94 @@ public class CommandArgs<K, V> {
     public CommandArgs<K, V> add(ProtocolKeyword keyword) {
 
         LettuceAssert.notNull(keyword, "CommandKeyword must not be null");
-        singularArguments.add(ProtocolKeywordArgument.of(keyword));
+        return add(keyword.getBytes());
+    }
+
+    private CommandArgs<K, V> addArgument(byte type, Object reference, int length) {
+
+        ensureCapacity(argumentCount + 1);
+
+        argumentTypes[argumentCount] = type;
+        references[argumentCount] = reference;
+        argumentCount++;
+
+        encodedLength += length;
         return this;
     }
 
+    private CommandArgs<K, V> addPrimitive(byte type, long value, int length) {
+
+        ensureCapacity(argumentCount + 1);
+
+        if (primitives == null) {
+            primitives = new long[argumentTypes.length];
+        }
+
+        argumentTypes[argumentCount] = type;
+        primitives[argumentCount] = value;
+        argumentCount++;
+
+        encodedLength += length;
+        return this;
+    }
+
+    private void ensureCapacity(int capacity) {
+
+        if (capacity <= argumentTypes.length) {
+            return;
+        }
+
+        int newCapacity = Math.max(capacity, argumentTypes.length << 1);
+
+        argumentTypes = Arrays.copyOf(argumentTypes, newCapacity);
+        references = Arrays.copyOf(references, newCapacity);
+
+        if (primitives != null) {
+            primitives = Arrays.copyOf(primitives, newCapacity);
+        }
+    }
+
+    private static boolean isPlainIntegral(double value) {
+        return value == (long) value && Math.abs(value) < MAX_PLAIN_INTEGRAL_DOUBLE
+                && Double.doubleToRawLongBits(value) != Double.doubleToRawLongBits(-0d);
+    }
+
+    /**
+     * Returns the index of the first argument of {@code type}.
+     *
+     * @param type the argument type.
+     * @return the index of the first argument of {@code type} or {@literal -1} if there is no such argument.
+     */
+    int indexOf(byte type) {
+
+        for (int i = 0; i < argumentCount; i++) {
+            if (argumentTypes[i] == type) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the number of bytes required to encode all arguments. The length is exact for keywords, numbers, strings and
+     * {@code byte[]} arguments. Keys and values are accounted using {@link ToByteBufEncoder#estimateSize(Object)} if the codec
+     * implements {@link ToByteBufEncoder}.
+     *
+     * @return the number of bytes required to encode all arguments.
+     * @since 4.5
+     */
+    public int encodedLength() {
+        return encodedLength;
+    }
+
     @Override
     public String toString() {
 
         final StringBuilder sb = new StringBuilder();
         sb.append(getClass().getSimpleName());
 
-        ByteBuf buffer = UnpooledByteBufAllocator.DEFAULT.buffer(singularArguments.size() * 10);
+        ByteBuf buffer = UnpooledByteBufAllocator.DEFAULT.buffer(encodedLength);
         encode(buffer);
         buffer.resetReaderIndex();
 
@@ -331,340 +443,254 @@ public class CommandArgs<K, V> {
      *
      * @param buf the target buffer.
      */
+    @SuppressWarnings("unchecked")
     public void encode(ByteBuf buf) {
 
-        for (SingularArgument singularArgument : singularArguments) {
-            singularArgument.encode(buf);
+        for (int i = 0; i < argumentCount; i++) {
+
+            switch (argumentTypes[i]) {
+                case TYPE_KEY:
+                    encodeKey(buf, (K) references[i]);
+                    break;
+                case TYPE_VALUE:
+                    encodeValue(buf, (V) references[i]);
+                    break;
+                case TYPE_STRING:
+                case TYPE_DOUBLE:
+                    writeString(buf, (String) references[i]);
+                    break;
+                case TYPE_CHAR_ARRAY:
+                    writeString(buf, (char[]) references[i]);
+                    break;
+                case TYPE_INTEGER:
+                    writeIntegerString(buf, primitives[i]);
+                    break;
+                case TYPE_INTEGRAL_DOUBLE:
+                    writeIntegralDoubleString(buf, primitives[i]);
+                    break;
+                case TYPE_BYTES:
+                    writeBytes(buf, (byte[]) references[i]);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown argument type " + argumentTypes[i]);
+            }
         }
     }
 
-    /**
-     * Single argument wrapper that can be encoded.
-     */
-    static abstract class SingularArgument {
-
-        /**
-         * Encode the argument and write it to the {@code buffer}.
-         *
-         * @param buffer
-         */
-        abstract void encode(ByteBuf buffer);
-    }
-
-    static class BytesArgument extends SingularArgument {
-
-        final byte[] val;
-
-        private BytesArgument(byte[] val) {
-            this.val = val;
-        }
-
-        static BytesArgument of(byte[] val) {
-            return new BytesArgument(val);
-        }
-
-        @Override
-        void encode(ByteBuf buffer) {
-            writeBytes(buffer, val);
-        }
-
-        static void writeBytes(ByteBuf buffer, byte[] value) {
-
-            buffer.writeByte('$');
+    @SuppressWarnings("unchecked")
+    private void encodeKey(ByteBuf target, K key) {
 
-            IntegerArgument.writeInteger(buffer, value.length);
-            buffer.writeBytes(CRLF);
-
-            buffer.writeBytes(value);
-            buffer.writeBytes(CRLF);
+        if (codec == ExperimentalByteArrayCodec.INSTANCE) {
+            ((ExperimentalByteArrayCodec) codec).encodeKey(target, (byte[]) key);
+            return;
         }
-    }
 
-    static class ProtocolKeywordArgument {
+        if (codec instanceof ToByteBufEncoder) {
 
-        static BytesArgument of(ProtocolKeyword protocolKeyword) {
+            ToByteBufEncoder<K, V> toByteBufEncoder = (ToByteBufEncoder<K, V>) codec;
+            ByteBuf temporaryBuffer = target.alloc().buffer(toByteBufEncoder.estimateSize(key));
+            toByteBufEncoder.encodeKey(key, temporaryBuffer);
 
-            if (protocolKeyword instanceof CommandType) {
-                return CommandTypeCache.cache[((Enum) protocolKeyword).ordinal()];
-            }
+            writeByteBuf(target, temporaryBuffer);
+            temporaryBuffer.release();
 
-            if (protocolKeyword instanceof CommandKeyword) {
-                return CommandKeywordCache.cache[((Enum) protocolKeyword).ordinal()];
-            }
-
-            return BytesArgument.of(protocolKeyword.getBytes());
+            return;
         }
-    }
-
-    static class CommandTypeCache {
-
-        static final CommandArgs.BytesArgument cache[];
 
-        static {
-
-            CommandType[] values = CommandType.values();
-            cache = new BytesArgument[values.length];
-            for (int i = 0; i < cache.length; i++) {
-                cache[i] = new BytesArgument(values[i].getBytes());
-            }
-        }
+        writeByteBuffer(target, codec.encodeKey(key));
     }
 
-    static class CommandKeywordCache {
+    @SuppressWarnings("unchecked")
+    private void encodeValue(ByteBuf target, V value) {
 
-        static final CommandArgs.BytesArgument cache[];
-
-        static {
-
-            CommandKeyword[] values = CommandKeyword.values();
-            cache = new BytesArgument[values.length];
-            for (int i = 0; i < cache.length; i++) {
-                cache[i] = new BytesArgument(values[i].getBytes());
-            }
+        if (codec == ExperimentalByteArrayCodec.INSTANCE) {
+            ((ExperimentalByteArrayCodec) codec).encodeValue(target, (byte[]) value);
+            return;
         }
-    }
-
-    static class ByteBufferArgument {
 
-        static void writeByteBuffer(ByteBuf target, ByteBuffer value) {
+        if (codec instanceof ToByteBufEncoder) {
 
-            target.writeByte('$');
+            ToByteBufEncoder<K, V> toByteBufEncoder = (ToByteBufEncoder<K, V>) codec;
+            ByteBuf temporaryBuffer = target.alloc().buffer(toByteBufEncoder.estimateSize(value));
+            toByteBufEncoder.encodeValue(value, temporaryBuffer);
 
-            IntegerArgument.writeInteger(target, value.remaining());
-            target.writeBytes(CRLF);
+            writeByteBuf(target, temporaryBuffer);
+            temporaryBuffer.release();
 
-            target.writeBytes(value);
-            target.writeBytes(CRLF);
+            return;
         }
 
-        static void writeByteBuf(ByteBuf target, ByteBuf value) {
-
-            target.writeByte('$');
-
-            IntegerArgument.writeInteger(target, value.readableBytes());
-            target.writeBytes(CRLF);
-
-            target.writeBytes(value);
-            target.writeBytes(CRLF);
-        }
+        writeByteBuffer(target, codec.encodeValue(value));
     }
 
-    static class IntegerArgument extends SingularArgument {
-
-        final long val;
-
-        private IntegerArgument(long val) {
-            this.val = val;
-        }
-
-        static IntegerArgument of(long val) {
-
-            if (val >= 0 && val < IntegerCache.cache.length) {
-                return IntegerCache.cache[(int) val];
-            }
+    /**
+     * Returns the number of bytes of a bulk string ({@code $<length>\r\n<payload>\r\n}) with a payload of {@code length}
+     * bytes.
+     *
+     * @param length payload length.
+     * @return the number of bytes of the bulk string.
+     */
+    static int bulkStringLength(int length) {
+        return 1 + digits(length) + CRLF.length + length + CRLF.length;
+    }
 
-            if (val < 0 && -val < IntegerCache.cache.length) {
-                return IntegerCache.negativeCache[(int) -val];
-            }
+    /**
+     * Estimate the payload size of a key or value.
+     *
+     * @param codec the codec.
+     * @param keyOrValue the key or value, may be {@literal null}.
+     * @return the estimated payload size.
+     */
+    static int estimateSize(RedisCodec<?, ?> codec, Object keyOrValue) {
 
-            return new IntegerArgument(val);
+        if (codec instanceof ByteArrayCodec) {
+            return keyOrValue instanceof byte[] ? ((byte[]) keyOrValue).length : 0;
         }
 
-        @Override
-        void encode(ByteBuf target) {
-            StringArgument.writeString(target, Long.toString(val));
+        if (codec instanceof ToByteBufEncoder) {
+            return ((ToByteBufEncoder<?, ?>) codec).estimateSize(keyOrValue);
         }
 
-        static void writeInteger(ByteBuf target, long value) {
-
-            if (value < 10) {
-                target.writeByte((byte) ('0' + value));
-                return;
-            }
+        return UNKNOWN_ARGUMENT_SIZE;
+    }
 
-            String asString = Long.toString(value);
+    /**
+     * Returns the number of characters of the decimal representation of {@code value} including the sign.
+     *
+     * @param value the value.
+     * @return the number of characters.
+     */
+    static int digits(long value) {
 
-            for (int i = 0; i < asString.length(); i++) {
-                target.writeByte((byte) asString.charAt(i));
-            }
+        if (value == Long.MIN_VALUE) {
+            return LONG_MIN_VALUE.length;
         }
-    }
-
-    static class IntegerCache {
 
-        static final IntegerArgument cache[];
-        static final IntegerArgument negativeCache[];
+        int digits = value < 0 ? 2 : 1;
 
-        static {
-            int high = Integer.getInteger("biz.paluch.redis.CommandArgs.IntegerCache", 128);
-            cache = new IntegerArgument[high];
-            negativeCache = new IntegerArgument[high];
-            for (int i = 0; i < high; i++) {
-                cache[i] = new IntegerArgument(i);
-                negativeCache[i] = new IntegerArgument(-i);
-            }
+        for (long remainder = Math.abs(value); remainder >= 10; remainder /= 10) {
+            digits++;
         }
-    }
-
-    static class DoubleArgument extends SingularArgument {
 
-        final double val;
+        return digits;
+    }
 
-        private DoubleArgument(double val) {
-            this.val = val;
-        }
+    /**
+     * Write the decimal representation of {@code value} to {@code target} without allocating an intermediate {@link String}.
+     *
+     * @param target the target buffer.
+     * @param value the value.
+     */
+    static void writeInteger(ByteBuf target, long value) {
 
-        static DoubleArgument of(double val) {
-            return new DoubleArgument(val);
+        if (value >= 0 && value < 10) {
+            target.writeByte((byte) ('0' + value));
+            return;
         }
 
-        @Override
-        void encode(ByteBuf target) {
-            StringArgument.writeString(target, Double.toString(val));
+        if (value == Long.MIN_VALUE) {
+            target.writeBytes(LONG_MIN_VALUE);
+            return;
         }
-    }
 
-    static class StringArgument extends SingularArgument {
+        int digits = digits(value);
+        target.ensureWritable(digits);
 
-        final String val;
+        int start = target.writerIndex();
+        int index = start + digits;
 
-        private StringArgument(String val) {
-            this.val = val;
+        for (long remainder = Math.abs(value); remainder != 0; remainder /= 10) {
+            target.setByte(--index, (int) ('0' + remainder % 10));
         }
 
-        static StringArgument of(String val) {
-            return new StringArgument(val);
+        if (value < 0) {
+            target.setByte(start, '-');
         }
 
-        @Override
-        void encode(ByteBuf target) {
-            writeString(target, val);
-        }
+        target.writerIndex(start + digits);
+    }
 
-        static void writeString(ByteBuf target, String value) {
+    private static void writeIntegerString(ByteBuf target, long value) {
 
-            target.writeByte('$');
+        target.writeByte('$');
 
-            IntegerArgument.writeInteger(target, value.length());
-            target.writeBytes(CRLF);
+        writeInteger(target, digits(value));
+        target.writeBytes(CRLF);
 
-            for (int i = 0; i < value.length(); i++) {
-                target.writeByte((byte) value.charAt(i));
-            }
-            target.writeBytes(CRLF);
-        }
+        writeInteger(target, value);
+        target.writeBytes(CRLF);
     }
 
-    static class CharArrayArgument extends SingularArgument {
+    private static void writeIntegralDoubleString(ByteBuf target, long value) {
 
-        final char[] val;
+        target.writeByte('$');
 
-        private CharArrayArgument(char[] val) {
-            this.val = val;
-        }
+        writeInteger(target, digits(value) + 2);
+        target.writeBytes(CRLF);
 
-        static CharArrayArgument of(char[] val) {
-            return new CharArrayArgument(val);
-        }
+        writeInteger(target, value);
+        target.writeByte('.');
+        target.writeByte('0');
+        target.writeBytes(CRLF);
+    }
 
-        @Override
-        void encode(ByteBuf target) {
-            writeString(target, val);
-        }
+    static void writeBytes(ByteBuf buffer, byte[] value) {
 
-        static void writeString(ByteBuf target, char[] value) {
+        buffer.writeByte('$');
 
-            target.writeByte('$');
+        writeInteger(buffer, value.length);
+        buffer.writeBytes(CRLF);
 
-            IntegerArgument.writeInteger(target, value.length);
-            target.writeBytes(CRLF);
-
-            for (int i = 0; i < value.length; i++) {
-                target.writeByte((byte) value[i]);
-            }
-            target.writeBytes(CRLF);
-        }
-
-        @Override
-        public String toString() {
-            return new String(val);
-        }
+        buffer.writeBytes(value);
+        buffer.writeBytes(CRLF);
     }
 
-    static class KeyArgument<K, V> extends SingularArgument {
-
-        final K key;
-        final RedisCodec<K, V> codec;
+    static void writeByteBuffer(ByteBuf target, ByteBuffer value) {
 
-        private KeyArgument(K key, RedisCodec<K, V> codec) {
-            this.key = key;
-            this.codec = codec;
-        }
-
-        static <K, V> KeyArgument<K, V> of(K key, RedisCodec<K, V> codec) {
-            return new KeyArgument<>(key, codec);
-        }
+        target.writeByte('$');
 
-        @Override
-        void encode(ByteBuf target) {
+        writeInteger(target, value.remaining());
+        target.writeBytes(CRLF);
 
-            if (codec == ExperimentalByteArrayCodec.INSTANCE) {
-                ((ExperimentalByteArrayCodec) codec).encodeKey(target, (byte[]) key);
-                return;
-            }
-
-            if (codec instanceof ToByteBufEncoder) {
+        target.writeBytes(value);
+        target.writeBytes(CRLF);
+    }
 
-                ToByteBufEncoder<K, V> toByteBufEncoder = (ToByteBufEncoder<K, V>) codec;
-                ByteBuf temporaryBuffer = target.alloc().buffer(toByteBufEncoder.estimateSize(key));
-                toByteBufEncoder.encodeKey(key, temporaryBuffer);
+    static void writeByteBuf(ByteBuf target, ByteBuf value) {
 
-                ByteBufferArgument.writeByteBuf(target, temporaryBuffer);
-                temporaryBuffer.release();
+        target.writeByte('$');
 
-                return;
-            }
+        writeInteger(target, value.readableBytes());
+        target.writeBytes(CRLF);
 
-            ByteBufferArgument.writeByteBuffer(target, codec.encodeKey(key));
-        }
+        target.writeBytes(value);
+        target.writeBytes(CRLF);
     }
 
-    static class ValueArgument<K, V> extends SingularArgument {
+    static void writeString(ByteBuf target, String value) {
 
-        final V val;
-        final RedisCodec<K, V> codec;
+        target.writeByte('$');
 
-        private ValueArgument(V val, RedisCodec<K, V> codec) {
-            this.val = val;
-            this.codec = codec;
-        }
+        writeInteger(target, value.length());
+        target.writeBytes(CRLF);
 
-        static <K, V> ValueArgument<K, V> of(V val, RedisCodec<K, V> codec) {
-            return new ValueArgument<>(val, codec);
+        for (int i = 0; i < value.length(); i++) {
+            target.writeByte((byte) value.charAt(i));
         }
+        target.writeBytes(CRLF);
+    }
 
-        @Override
-        void encode(ByteBuf target) {
-
-            if (codec == ExperimentalByteArrayCodec.INSTANCE) {
-                ((ExperimentalByteArrayCodec) codec).encodeValue(target, (byte[]) val);
-                return;
-            }
-
-            if (codec instanceof ToByteBufEncoder) {
-
-                ToByteBufEncoder<K, V> toByteBufEncoder = (ToByteBufEncoder<K, V>) codec;
-                ByteBuf temporaryBuffer = target.alloc().buffer(toByteBufEncoder.estimateSize(val));
-                toByteBufEncoder.encodeValue(val, temporaryBuffer);
+    static void writeString(ByteBuf target, char[] value) {
 
-                ByteBufferArgument.writeByteBuf(target, temporaryBuffer);
-                temporaryBuffer.release();
+        target.writeByte('$');
 
-                return;
-            }
+        writeInteger(target, value.length);
+        target.writeBytes(CRLF);
 
-            ByteBufferArgument.writeByteBuffer(target, codec.encodeValue(val));
+        for (int i = 0; i < value.length; i++) {
+            target.writeByte((byte) value[i]);
         }
+        target.writeBytes(CRLF);
     }
 
     /**
@@ -689,7 +715,7 @@ public class CommandArgs<K, V> {
                 return;
             }
 
-            IntegerArgument.writeInteger(target, key.length);
+            writeInteger(target, key.length);
             target.writeBytes(CRLF);
 
             target.writeBytes(key);
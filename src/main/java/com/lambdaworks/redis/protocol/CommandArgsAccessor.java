@@ -17,11 +17,6 @@ package com.lambdaworks.redis.protocol;
 
 import java.nio.ByteBuffer;
 
-import com.lambdaworks.redis.protocol.CommandArgs.CharArrayArgument;
-import com.lambdaworks.redis.protocol.CommandArgs.KeyArgument;
-import com.lambdaworks.redis.protocol.CommandArgs.SingularArgument;
-import com.lambdaworks.redis.protocol.CommandArgs.StringArgument;
-
 /**
  * Accessor for first encoded key, first string and first {@link Long integer} argument of {@link CommandArgs}. This class is
  * part of the internal API and may change without further notice.
@@ -40,14 +35,8 @@ public class CommandArgsAccessor {
     @SuppressWarnings("unchecked")
     public static <K, V> ByteBuffer encodeFirstKey(CommandArgs<K, V> commandArgs) {
 
-        for (SingularArgument singularArgument : commandArgs.singularArguments) {
-
-            if (singularArgument instanceof KeyArgument) {
-                return commandArgs.codec.encodeKey(((KeyArgument<K, V>) singularArgument).key);
-            }
-        }
-
-        return null;
+        int index = commandArgs.indexOf(CommandArgs.TYPE_KEY);
+        return index != -1 ? commandArgs.codec.encodeKey((K) commandArgs.references[index]) : null;
     }
 
     /**
@@ -59,14 +48,8 @@ public class CommandArgsAccessor {
     @SuppressWarnings("unchecked")
     public static <K, V> String getFirstString(CommandArgs<K, V> commandArgs) {
 
-        for (SingularArgument singularArgument : commandArgs.singularArguments) {
-
-            if (singularArgument instanceof StringArgument) {
-                return ((StringArgument) singularArgument).val;
-            }
-        }
-
-        return null;
+        int index = commandArgs.indexOf(CommandArgs.TYPE_STRING);
+        return index != -1 ? (String) commandArgs.references[index] : null;
     }
 
     /**
@@ -78,14 +61,8 @@ public class CommandArgsAccessor {
     @SuppressWarnings("unchecked")
     public static <K, V> char[] getFirstCharArray(CommandArgs<K, V> commandArgs) {
 
-        for (SingularArgument singularArgument : commandArgs.singularArguments) {
-
-            if (singularArgument instanceof CharArrayArgument) {
-                return ((CharArrayArgument) singularArgument).val;
-            }
-        }
-
-        return null;
+        int index = commandArgs.indexOf(CommandArgs.TYPE_CHAR_ARRAY);
+        return index != -1 ? (char[]) commandArgs.references[index] : null;
     }
 
     /**
@@ -97,13 +74,7 @@ public class CommandArgsAccessor {
     @SuppressWarnings("unchecked")
     public static <K, V> Long getFirstInteger(CommandArgs<K, V> commandArgs) {
 
-        for (SingularArgument singularArgument : commandArgs.singularArguments) {
-
-            if (singularArgument instanceof CommandArgs.IntegerArgument) {
-                return ((CommandArgs.IntegerArgument) singularArgument).val;
-            }
-        }
-
-        return null;
+        int index = commandArgs.indexOf(CommandArgs.TYPE_INTEGER);
+        return index != -1 ? commandArgs.primitives[index] : null;
     }
 }
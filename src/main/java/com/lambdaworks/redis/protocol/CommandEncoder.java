@@ -49,24 +49,59 @@ public class CommandEncoder extends MessageToByteEncoder<Object> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, Object msg, boolean preferDirect) throws Exception {
 
+        int size = 0;
+
+        if (msg instanceof RedisCommand) {
+            size = encodedLength((RedisCommand<?, ?, ?>) msg);
+        }
+
         if (msg instanceof Collection) {
+            for (RedisCommand<?, ?, ?> command : (Collection<RedisCommand<?, ?, ?>>) msg) {
+                size += encodedLength(command);
+            }
+        }
+
+        if (size <= 0) {
 
             if (preferDirect) {
-                return ctx.alloc().ioBuffer(((Collection) msg).size() * 16);
+                return ctx.alloc().ioBuffer();
             } else {
-                return ctx.alloc().heapBuffer(((Collection) msg).size() * 16);
+                return ctx.alloc().heapBuffer();
             }
         }
 
         if (preferDirect) {
-            return ctx.alloc().ioBuffer();
+            return ctx.alloc().ioBuffer(size);
         } else {
-            return ctx.alloc().heapBuffer();
+            return ctx.alloc().heapBuffer(size);
         }
     }
 
+    /**
+     * Returns the number of bytes required to encode {@code command} as RESP array of its type and arguments. Returns
+     * {@literal 0} for commands that do not encode a command type.
+     *
+     * @param command the command.
+     * @return the number of bytes required to encode {@code command}.
+     */
+    static int encodedLength(RedisCommand<?, ?, ?> command) {
+
+        ProtocolKeyword type = command.getType();
+
+        if (type == null) {
+            return 0;
+        }
+
+        CommandArgs<?, ?> args = command.getArgs();
+        int count = 1 + (args != null ? args.count() : 0);
+
+        return 1 + CommandArgs.digits(count) + CommandArgs.CRLF.length
+                + CommandArgs.bulkStringLength(type.getBytes().length) + (args != null ? args.encodedLength() : 0);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     protected void encode(ChannelHandlerContext ctx, Object msg, ByteBuf out) throws Exception {
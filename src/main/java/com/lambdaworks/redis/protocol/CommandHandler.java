@@ -20,8 +20,12 @@ import java.net.SocketAddress;
 import java.nio.channels.ClosedChannelException;
 import java.nio.charset.Charset;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 import com.lambdaworks.redis.*;
 import com.lambdaworks.redis.ConnectionEvents.PingBeforeActivate;
@@ -29,12 +33,14 @@ import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.internal.LettuceClassUtils;
 import com.lambdaworks.redis.internal.LettuceFactories;
 import com.lambdaworks.redis.internal.LettuceSets;
+import com.lambdaworks.redis.metrics.ConnectionLoad;
 import com.lambdaworks.redis.resource.ClientResources;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.*;
 import io.netty.channel.local.LocalAddress;
+import io.netty.util.Timeout;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 import io.netty.util.internal.logging.InternalLogLevel;
@@ -51,16 +57,29 @@ import io.netty.util.internal.logging.InternalLoggerFactory;
  * @author Jongyeol Choi
  */
 @ChannelHandler.Sharable
-public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisChannelWriter<K, V> {
+public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisChannelWriter<K, V>, ConnectionLoad {
 
     private static final InternalLogger logger = InternalLoggerFactory.getInstance(CommandHandler.class);
     private static final AtomicLong CHANNEL_COUNTER = new AtomicLong();
     private static final Class<?> VOID_PROMISE_CLASS;
+    private static final int MAX_BUSY_SPINS = 64;
+    private static final int MAX_YIELD_SPINS = 128;
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int EWMA_WEIGHT = 8;
+    private static final long EWMA_HALF_LIFE_NANOS = TimeUnit.SECONDS.toNanos(1);
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
     private static final AtomicIntegerFieldUpdater<CommandHandler> QUEUE_SIZE = AtomicIntegerFieldUpdater.newUpdater(
             CommandHandler.class, "queueSize");
 
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static final AtomicIntegerFieldUpdater<CommandHandler> FLUSH_SCHEDULED = AtomicIntegerFieldUpdater.newUpdater(
+            CommandHandler.class, "flushScheduled");
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static final AtomicIntegerFieldUpdater<CommandHandler> EXCLUSIVE_WAITERS = AtomicIntegerFieldUpdater
+            .newUpdater(CommandHandler.class, "exclusiveWaiters");
+
     /**
      * When we encounter an unexpected IOException we look for these {@link Throwable#getMessage() messages} (because we have no
      * better way to distinguish) and log them at DEBUG rather than WARN, since they are generally caused by unclean client
@@ -74,10 +93,16 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     protected final ClientResources clientResources;
     protected final Queue<RedisCommand<K, V, ?>> disconnectedBuffer;
     protected final Queue<RedisCommand<K, V, ?>> commandBuffer;
+    protected final Queue<RedisCommand<K, V, ?>> pendingWrites;
     protected final AtomicLong writers = new AtomicLong();
-    protected final Object stateLock = new Object();
     private final boolean latencyMetricsEnabled;
     private final boolean boundedQueue;
+    private final boolean consolidateFlushes;
+    private final int maxCommandsPerFlush;
+    private final boolean timeoutCommands;
+    private final ClientOptions.BackpressureBehavior backpressureBehavior;
+    private final Object writabilityMonitor = new Object();
+    private final Runnable writePendingCommands = this::writePendingCommands;
 
     protected final Deque<RedisCommand<K, V, ?>> stack = new ArrayDeque<>();
     protected final ByteBuf buffer = ByteBufAllocator.DEFAULT.directBuffer(8192 * 8);
@@ -85,6 +110,16 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     protected volatile Channel channel;
     private volatile ConnectionWatchdog connectionWatchdog;
 
+    // Written only from the event loop while decoding responses.
+    private volatile long completionLatencyEwma;
+    private volatile long completionLatencySampled;
+
+    // Mirrors stack.size() for readers outside the event loop, updated by the event loop after each stack change.
+    private volatile int outstandingCommands;
+
+    // Set on the first read of the completion latency, latencies are sampled for ConnectionLoad from then on.
+    private volatile boolean loadSamplingEnabled;
+
     // If TRACE level logging has been enabled at startup.
     private final boolean traceEnabled;
 
@@ -99,11 +134,20 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     @SuppressWarnings("unused")
     private volatile int queueSize = 0;
 
-    private Thread exclusiveLockOwner;
+    // access via FLUSH_SCHEDULED
+    @SuppressWarnings("unused")
+    private volatile int flushScheduled = 0;
+
+    // access via EXCLUSIVE_WAITERS
+    @SuppressWarnings("unused")
+    private volatile int exclusiveWaiters = 0;
+
+    private volatile Thread exclusiveLockOwner;
+    private final Queue<Thread> parkedThreads = new ConcurrentLinkedQueue<>();
     private RedisChannelHandler<K, V> redisChannelHandler;
     private volatile Throwable connectionError;
     private String logPrefix;
-    private boolean autoFlushCommands = true;
+    private volatile boolean autoFlushCommands = true;
     private PristineFallbackCommand fallbackCommand;
     private boolean pristine;
 
@@ -140,7 +184,12 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
         this.disconnectedBuffer = LettuceFactories.newConcurrentQueue(clientOptions.getRequestQueueSize());
         this.commandBuffer = LettuceFactories.newConcurrentQueue(clientOptions.getRequestQueueSize());
+        this.pendingWrites = LettuceFactories.newConcurrentQueue(clientOptions.getRequestQueueSize());
         boundedQueue = clientOptions.getRequestQueueSize() != Integer.MAX_VALUE;
+        this.consolidateFlushes = clientOptions.isConsolidateFlushes();
+        this.maxCommandsPerFlush = clientOptions.getMaxCommandsPerFlush();
+        this.timeoutCommands = clientOptions.isTimeoutCommands();
+        this.backpressureBehavior = clientOptions.getBackpressureBehavior();
     }
 
     @Override
@@ -150,17 +199,13 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
     @Override
     public void setAutoFlushCommands(boolean autoFlush) {
-        synchronized (stateLock) {
-            this.autoFlushCommands = autoFlush;
-        }
+        this.autoFlushCommands = autoFlush;
     }
 
     protected void setState(LifecycleState lifecycleState) {
 
         if (this.lifecycleState != LifecycleState.CLOSED) {
-            synchronized (stateLock) {
-                this.lifecycleState = lifecycleState;
-            }
+            this.lifecycleState = lifecycleState;
         }
     }
 
@@ -168,6 +213,46 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         return lifecycleState;
     }
 
+    /**
+     * {@inheritDoc} Latencies are sampled once this method was called for the first time, typically by a
+     * {@link com.lambdaworks.redis.ReadFrom#isLoadAware() load-aware} {@link com.lambdaworks.redis.ReadFrom} setting, or if
+     * the {@link com.lambdaworks.redis.metrics.CommandLatencyCollector} is enabled. The average halves for every second
+     * without a new sample so that a connection that was slow once gets picked and sampled again.
+     */
+    @Override
+    public long getCompletionLatency() {
+
+        if (!loadSamplingEnabled) {
+            loadSamplingEnabled = true;
+        }
+
+        return getCompletionLatency(nanoTime());
+    }
+
+    long getCompletionLatency(long now) {
+
+        long ewma = completionLatencyEwma;
+        long halfLives = (now - completionLatencySampled) / EWMA_HALF_LIFE_NANOS;
+
+        if (ewma == 0 || halfLives <= 0) {
+            return ewma;
+        }
+
+        return halfLives >= Long.SIZE ? 0 : ewma >>> halfLives;
+    }
+
+    /**
+     * {@inheritDoc} The count is published by the event loop after each change of the command stack.
+     */
+    @Override
+    public int getOutstandingCommands() {
+        return outstandingCommands;
+    }
+
+    private void updateOutstandingCommands() {
+        outstandingCommands = stack.size();
+    }
+
     public boolean isClosed() {
         return lifecycleState == LifecycleState.CLOSED;
     }
@@ -182,9 +267,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             logger.debug("{} Dropping register for a closed channel", logPrefix());
         }
 
-        synchronized (stateLock) {
-            channel = ctx.channel();
-        }
+        channel = ctx.channel();
 
         if (debugEnabled) {
             logPrefix = null;
@@ -217,9 +300,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             cancelCommands("Connection closed");
         }
 
-        synchronized (stateLock) {
-            channel = null;
-        }
+        channel = null;
 
         ctx.fireChannelUnregistered();
     }
@@ -256,14 +337,43 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
                 logger.trace("{} Buffer: {}", logPrefix(), input.toString(Charset.defaultCharset()).trim());
             }
 
-            buffer.writeBytes(input);
+            if (buffer.isReadable()) {
+
+                buffer.writeBytes(input);
+                decode(ctx, buffer);
+            } else {
 
-            decode(ctx, buffer);
+                // nothing accumulated, decode straight from the input and retain only the undecoded remainder
+                buffer.clear();
+                decode(ctx, input);
+
+                if (input.isReadable() && buffer.refCnt() != 0) {
+                    buffer.writeBytes(input);
+                }
+            }
+
+            discardReadBytes();
         } finally {
             input.release();
         }
     }
 
+    /**
+     * Compact the accumulation buffer once per read instead of once per decoded response.
+     */
+    private void discardReadBytes() {
+
+        if (buffer.refCnt() == 0) {
+            return;
+        }
+
+        if (!buffer.isReadable()) {
+            buffer.clear();
+        } else if (buffer.readerIndex() != 0) {
+            buffer.discardReadBytes();
+        }
+    }
+
     protected void decode(ChannelHandlerContext ctx, ByteBuf buffer) {
 
         if (pristine && stack.isEmpty() && buffer.isReadable()) {
@@ -303,6 +413,18 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             } else {
 
                 stack.poll();
+                updateOutstandingCommands();
+
+                if (command.isDone()) {
+
+                    // timed out or cancelled while awaiting its response, the response only keeps the stack in sync
+                    if (debugEnabled) {
+                        logger.debug("{} Discarding response of completed command {}", logPrefix(), command);
+                    }
+
+                    afterComplete(ctx, command);
+                    continue;
+                }
 
                 try {
                     command.complete();
@@ -311,10 +433,6 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
                 }
             }
 
-            if (buffer.refCnt() != 0) {
-                buffer.discardReadBytes();
-            }
-
             afterComplete(ctx, command);
         }
     }
@@ -377,6 +495,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         bufferedCommands.forEach(cmd -> cmd.completeExceptionally(this.connectionError));
         stack.forEach(cmd -> cmd.completeExceptionally(this.connectionError));
         stack.clear();
+        updateOutstandingCommands();
 
         cancelCommands(message);
     }
@@ -396,7 +515,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
     private boolean decode(ByteBuf buffer, RedisCommand<K, V, ?> command) {
 
-        if (latencyMetricsEnabled && command instanceof WithLatency) {
+        if ((latencyMetricsEnabled || loadSamplingEnabled) && command instanceof WithLatency) {
 
             WithLatency withLatency = (WithLatency) command;
             if (withLatency.getFirstResponse() == -1) {
@@ -417,10 +536,19 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
     private void recordLatency(WithLatency withLatency, ProtocolKeyword commandType) {
 
-        if (withLatency != null && latencyMetricsEnabled && channel != null && remote() != null) {
+        if (withLatency != null) {
+
+            long now = nanoTime();
+            long completionLatency = now - withLatency.getSent();
+            long ewma = getCompletionLatency(now);
+            completionLatencyEwma = ewma == 0 ? completionLatency : ewma + (completionLatency - ewma) / EWMA_WEIGHT;
+            completionLatencySampled = now;
+
+            if (!latencyMetricsEnabled || channel == null || remote() == null) {
+                return;
+            }
 
             long firstResponseLatency = withLatency.getSent() - withLatency.getFirstResponse();
-            long completionLatency = nanoTime() - withLatency.getSent();
 
             clientResources.commandLatencyCollector().recordCommandLatency(local(), remote(), commandType,
                     firstResponseLatency, completionLatency);
@@ -440,13 +568,23 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
     @Override
     public <T, C extends RedisCommand<K, V, T>> C write(C command) {
+        return write(command, true);
+    }
+
+    private <T, C extends RedisCommand<K, V, T>> C write(C command, boolean scheduleTimeout) {
 
         LettuceAssert.notNull(command, "Command must not be null");
 
+        potentiallyApplyBackpressure();
+
         try {
             incrementWriters();
 
-            validateWrite();
+            validateWrite(1);
+
+            if (scheduleTimeout) {
+                potentiallyScheduleTimeout(command);
+            }
 
             RedisCommand<K, V, T> commandToSend = potentiallyWrapLatencyCommand(command);
 
@@ -471,7 +609,203 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         return command;
     }
 
-    private void validateWrite() {
+    @Override
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public Collection<RedisCommand<K, V, ?>> write(Collection<? extends RedisCommand<K, V, ?>> commands) {
+
+        LettuceAssert.notNull(commands, "Commands must not be null");
+
+        potentiallyApplyBackpressure();
+
+        try {
+            incrementWriters();
+
+            validateWrite(commands.size());
+
+            List<RedisCommand<K, V, ?>> commandsToSend = new ArrayList<>(commands.size());
+
+            for (RedisCommand<K, V, ?> command : commands) {
+
+                potentiallyScheduleTimeout(command);
+                commandsToSend.add(potentiallyWrapLatencyCommand((RedisCommand) command));
+            }
+
+            if (autoFlushCommands) {
+
+                if (isConnected()) {
+                    writeToChannel(commandsToSend);
+                } else {
+                    for (RedisCommand<K, V, ?> command : commandsToSend) {
+                        writeToDisconnectedBuffer(command);
+                    }
+                }
+
+            } else {
+                for (RedisCommand<K, V, ?> command : commandsToSend) {
+                    bufferCommand(command);
+                }
+            }
+        } finally {
+            decrementWriters();
+            if (debugEnabled) {
+                logger.debug("{} write() done", logPrefix());
+            }
+        }
+
+        return (Collection) commands;
+    }
+
+    /**
+     * Schedule a timeout on the {@link ClientResources#timer() timer} that completes {@code command} with a
+     * {@link RedisCommandTimeoutException} if it does not complete within the connection timeout. Timed out commands are
+     * done and therefore skipped when they are about to be written. Timed out commands that were already written remain on
+     * the stack until their response arrives and the response is discarded. A {@link CommandWrapper} written again, such as a
+     * cluster command following a {@literal MOVED} or {@literal ASK} redirection, replaces its previous timeout.
+     *
+     * @param command the command.
+     */
+    private void potentiallyScheduleTimeout(RedisCommand<K, V, ?> command) {
+
+        if (!timeoutCommands || redisChannelHandler == null || command.isDone()) {
+            return;
+        }
+
+        long timeout = redisChannelHandler.getTimeout();
+        TimeUnit unit = redisChannelHandler.getTimeoutUnit();
+
+        if (timeout <= 0) {
+            return;
+        }
+
+        Timeout commandTimeout = clientResources.timer().newTimeout(t -> {
+
+            if (!command.isDone()) {
+
+                if (debugEnabled) {
+                    logger.debug("{} Command timed out {}", logPrefix(), command);
+                }
+
+                command.completeExceptionally(ExceptionFactory.createTimeoutException(timeout, unit));
+            }
+        }, timeout, unit);
+
+        if (command instanceof CommandWrapper) {
+
+            CommandWrapper<K, V, ?> wrapper = (CommandWrapper<K, V, ?>) command;
+            Timeout previous = wrapper.setTimeout(commandTimeout);
+
+            if (previous != null) {
+                // redirected, the completion callback registered for the previous timeout cancels the current one
+                previous.cancel();
+                return;
+            }
+
+            wrapper.onComplete(result -> {
+
+                Timeout current = wrapper.setTimeout(null);
+                if (current != null) {
+                    current.cancel();
+                }
+            });
+            return;
+        }
+
+        if (command instanceof CompletableFuture) {
+            ((CompletableFuture<?>) command).whenComplete((result, throwable) -> commandTimeout.cancel());
+        } else if (command instanceof CompleteableCommand) {
+            ((CompleteableCommand<?>) command).onComplete(result -> commandTimeout.cancel());
+        }
+    }
+
+    /**
+     * Apply the configured {@link ClientOptions.BackpressureBehavior} if the channel is not writable. Parking happens before
+     * registering as writer so parked callers do not hold up connection state transitions.
+     */
+    private void potentiallyApplyBackpressure() {
+
+        if (backpressureBehavior == ClientOptions.BackpressureBehavior.DEFAULT) {
+            return;
+        }
+
+        Channel channel = this.channel;
+
+        if (channel == null || channel.isWritable()) {
+            return;
+        }
+
+        if (backpressureBehavior == ClientOptions.BackpressureBehavior.REJECT_COMMANDS) {
+            throw new RedisException("Channel is not writable. Commands are not accepted until the write buffer drops below "
+                    + clientOptions.getWriteBufferLowWaterMark() + " bytes.");
+        }
+
+        if (channel.eventLoop().inEventLoop()) {
+            return;
+        }
+
+        awaitWritable(channel);
+    }
+
+    private void awaitWritable(Channel channel) {
+
+        long timeout = redisChannelHandler != null ? redisChannelHandler.getTimeout() : 0;
+        TimeUnit unit = redisChannelHandler != null ? redisChannelHandler.getTimeoutUnit() : TimeUnit.MILLISECONDS;
+        long deadline = timeout > 0 ? nanoTime() + unit.toNanos(timeout) : Long.MAX_VALUE;
+
+        if (debugEnabled) {
+            logger.debug("{} write() channel not writable, parking caller", logPrefix());
+        }
+
+        synchronized (writabilityMonitor) {
+
+            while (!channel.isWritable() && channel.isActive()) {
+
+                long remainingMillis = 0;
+                int remainingNanos = 0;
+
+                if (deadline != Long.MAX_VALUE) {
+
+                    long remaining = deadline - nanoTime();
+
+                    if (remaining <= 0) {
+                        throw ExceptionFactory.createTimeoutException("Channel not writable", timeout, unit);
+                    }
+
+                    remainingMillis = TimeUnit.NANOSECONDS.toMillis(remaining);
+                    remainingNanos = (int) (remaining - TimeUnit.MILLISECONDS.toNanos(remainingMillis));
+                }
+
+                try {
+                    writabilityMonitor.wait(remainingMillis, remainingNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RedisCommandInterruptedException(e);
+                }
+            }
+        }
+    }
+
+    private void signalWritable() {
+
+        if (backpressureBehavior != ClientOptions.BackpressureBehavior.PARK_CALLERS) {
+            return;
+        }
+
+        synchronized (writabilityMonitor) {
+            writabilityMonitor.notifyAll();
+        }
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+
+        if (ctx.channel().isWritable()) {
+            signalWritable();
+        }
+
+        super.channelWritabilityChanged(ctx);
+    }
+
+    private void validateWrite(int commands) {
 
         if (lifecycleState == LifecycleState.CLOSED) {
             throw new RedisException("Connection is closed");
@@ -479,17 +813,17 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
         if (usesBoundedQueues()) {
 
-            if (QUEUE_SIZE.get(this) + 1 > clientOptions.getRequestQueueSize()) {
+            if (QUEUE_SIZE.get(this) + commands > clientOptions.getRequestQueueSize()) {
                 throw new RedisException("Request queue size exceeded: " + clientOptions.getRequestQueueSize()
                         + ". Commands are not accepted until the queue size drops.");
             }
 
-            if (disconnectedBuffer.size() + 1 > clientOptions.getRequestQueueSize()) {
+            if (disconnectedBuffer.size() + commands > clientOptions.getRequestQueueSize()) {
                 throw new RedisException("Request queue size exceeded: " + clientOptions.getRequestQueueSize()
                         + ". Commands are not accepted until the queue size drops.");
             }
 
-            if (commandBuffer.size() + 1 > clientOptions.getRequestQueueSize()) {
+            if (commandBuffer.size() + commands > clientOptions.getRequestQueueSize()) {
                 throw new RedisException("Command buffer size exceeded: " + clientOptions.getRequestQueueSize()
                         + ". Commands are not accepted until the queue size drops.");
             }
@@ -524,6 +858,11 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
         QUEUE_SIZE.incrementAndGet(this);
 
+        if (consolidateFlushes) {
+            writeConsolidated(command);
+            return;
+        }
+
         if (reliability == Reliability.AT_MOST_ONCE) {
             // cancel on exceptions and remove from queue, because there is no housekeeping
             writeAndFlush(command).addListener(new AtMostOnceWriteListener(command));
@@ -539,6 +878,11 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
         QUEUE_SIZE.addAndGet(this, commands.size());
 
+        if (consolidateFlushes) {
+            writeConsolidated(commands);
+            return;
+        }
+
         if (reliability == Reliability.AT_MOST_ONCE) {
             // cancel on exceptions and remove from queue, because there is no housekeeping
             writeAndFlush(commands).addListener(new AtMostOnceWriteListener(commands));
@@ -550,6 +894,126 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         }
     }
 
+    /**
+     * Enqueue a command for a consolidated write. The first command enqueued schedules a write task on the event loop that
+     * writes all pending commands and flushes the channel once.
+     *
+     * @param command the command.
+     */
+    private void writeConsolidated(RedisCommand<K, V, ?> command) {
+
+        if (debugEnabled) {
+            logger.debug("{} write() enqueue command for consolidated flush {}", logPrefix(), command);
+        }
+
+        if (!pendingWrites.offer(command)) {
+            rejectPendingWrite(command);
+            return;
+        }
+
+        scheduleWritePendingCommands();
+    }
+
+    /**
+     * Enqueue commands for a consolidated write. Batches share the queue with single commands so that commands are written in
+     * the order they were issued, even if the caller runs on the event loop.
+     *
+     * @param commands the commands.
+     */
+    private void writeConsolidated(Collection<? extends RedisCommand<K, V, ?>> commands) {
+
+        if (debugEnabled) {
+            logger.debug("{} write() enqueue {} commands for consolidated flush", logPrefix(), commands.size());
+        }
+
+        boolean enqueued = false;
+        for (RedisCommand<K, V, ?> command : commands) {
+
+            if (pendingWrites.offer(command)) {
+                enqueued = true;
+            } else {
+                rejectPendingWrite(command);
+            }
+        }
+
+        if (enqueued) {
+            scheduleWritePendingCommands();
+        }
+    }
+
+    /**
+     * Complete a command that did not fit into the bounded pending write queue.
+     *
+     * @param command the rejected command.
+     */
+    private void rejectPendingWrite(RedisCommand<K, V, ?> command) {
+
+        QUEUE_SIZE.decrementAndGet(this);
+        command.completeExceptionally(new RedisException("Request queue size exceeded: "
+                + clientOptions.getRequestQueueSize() + ". Commands are not accepted until the queue size drops."));
+    }
+
+    private void scheduleWritePendingCommands() {
+
+        Channel channel = this.channel;
+
+        if (channel == null) {
+            // disconnected meanwhile, writePendingCommands() moves pending commands to the disconnected buffer
+            writePendingCommands();
+            return;
+        }
+
+        if (FLUSH_SCHEDULED.compareAndSet(this, 0, 1)) {
+            channel.eventLoop().execute(writePendingCommands);
+        }
+    }
+
+    /**
+     * Write all pending commands to the channel. Flushes the channel after {@link ClientOptions#getMaxCommandsPerFlush()}
+     * commands, as soon as the channel is no longer writable and after the last pending command.
+     */
+    private void writePendingCommands() {
+
+        FLUSH_SCHEDULED.set(this, 0);
+
+        Channel channel = this.channel;
+        int unflushed = 0;
+        RedisCommand<K, V, ?> command;
+
+        while ((command = pendingWrites.poll()) != null) {
+
+            if (channel == null) {
+                QUEUE_SIZE.decrementAndGet(this);
+                writeToDisconnectedBuffer(command);
+                continue;
+            }
+
+            ChannelFuture future = channel.write(command);
+
+            if (reliability == Reliability.AT_MOST_ONCE) {
+                future.addListener(new AtMostOnceWriteListener(command));
+            }
+
+            if (reliability == Reliability.AT_LEAST_ONCE) {
+                future.addListener(new RetryListener(command));
+            }
+
+            if (++unflushed >= maxCommandsPerFlush || !channel.isWritable()) {
+                channel.flush();
+                unflushed = 0;
+            }
+        }
+
+        if (unflushed != 0) {
+
+            if (debugEnabled) {
+                logger.debug("{} writePendingCommands() flushing {} commands", logPrefix(), unflushed);
+            }
+
+            channel.flush();
+        }
+    }
+
     private ChannelFuture writeAndFlush(RedisCommand<?, ?, ?> command) {
 
         if (debugEnabled) {
@@ -578,7 +1042,9 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     }
 
     /**
-     * Wait for stateLock and increment writers. Will wait if stateLock is locked and if writer counter is negative.
+     * Increment writers. Waits while the writer counter is negative (exclusive lock held) or while another thread waits to
+     * acquire the exclusive lock so that a steady stream of writers cannot starve lifecycle transitions and flushes. Waiting
+     * threads spin for a short while and park afterwards until {@link #unlockWritersExclusive()} releases the lock.
      */
     protected void incrementWriters() {
 
@@ -586,14 +1052,17 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             return;
         }
 
-        synchronized (stateLock) {
-            for (;;) {
+        for (int spins = 0;; spins++) {
 
-                if (writers.get() >= 0) {
-                    writers.incrementAndGet();
+            if (exclusiveWaiters == 0) {
+
+                long current = writers.get();
+                if (current >= 0 && writers.compareAndSet(current, current + 1)) {
                     return;
                 }
             }
+
+            backoff(spins, false);
         }
     }
 
@@ -606,12 +1075,14 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             return;
         }
 
-        writers.decrementAndGet();
+        if (writers.decrementAndGet() == 0 && exclusiveWaiters != 0) {
+            unparkWaiters();
+        }
     }
 
     /**
-     * Wait for stateLock and no writers. Must be used in an outer {@code synchronized} block to prevent interleaving with other
-     * methods using writers. Sets writers to a negative value to create a lock for {@link #incrementWriters()}.
+     * Wait for no writers and set writers to a negative value to create a lock for {@link #incrementWriters()}. Exclusive
+     * locks are reentrant: each nested call decrements the writer counter further.
      */
     protected void lockWritersExclusive() {
 
@@ -620,26 +1091,82 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             return;
         }
 
-        synchronized (stateLock) {
-            for (;;) {
+        EXCLUSIVE_WAITERS.incrementAndGet(this);
+        try {
+            for (int spins = 0;; spins++) {
 
                 if (writers.compareAndSet(0, -1)) {
                     exclusiveLockOwner = Thread.currentThread();
                     return;
                 }
+
+                backoff(spins, true);
             }
+        } finally {
+            EXCLUSIVE_WAITERS.decrementAndGet(this);
         }
     }
 
     /**
-     * Unlock writers.
+     * Unlock writers. The owner is cleared before releasing the last lock level so a subsequent owner cannot be overwritten.
      */
     protected void unlockWritersExclusive() {
 
         if (exclusiveLockOwner == Thread.currentThread()) {
-            if (writers.incrementAndGet() == 0) {
+
+            if (writers.get() == -1) {
                 exclusiveLockOwner = null;
             }
+
+            if (writers.incrementAndGet() == 0) {
+                unparkWaiters();
+            }
+        }
+    }
+
+    /**
+     * Back off while waiting for the writer lock: busy-spin first, then yield and eventually park the thread. A parked thread
+     * registers itself before re-checking the lock state so a concurrent release cannot miss it.
+     *
+     * @param spins number of unsuccessful attempts so far.
+     * @param exclusive {@literal true} if waiting for the exclusive lock, {@literal false} if waiting as writer.
+     */
+    private void backoff(int spins, boolean exclusive) {
+
+        if (spins < MAX_BUSY_SPINS) {
+            return;
+        }
+
+        if (spins < MAX_YIELD_SPINS) {
+            Thread.yield();
+            return;
+        }
+
+        Thread thread = Thread.currentThread();
+        parkedThreads.add(thread);
+
+        try {
+            if (!canAcquire(exclusive)) {
+                LockSupport.parkNanos(this, MAX_PARK_NANOS);
+            }
+        } finally {
+            parkedThreads.remove(thread);
+        }
+    }
+
+    private boolean canAcquire(boolean exclusive) {
+
+        if (exclusive) {
+            return writers.get() == 0;
+        }
+
+        return exclusiveWaiters == 0 && writers.get() >= 0;
+    }
+
+    private void unparkWaiters() {
+
+        for (Thread thread : parkedThreads) {
+            LockSupport.unpark(thread);
         }
     }
 
@@ -688,19 +1215,17 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         if (channel != null && isConnected()) {
             List<RedisCommand<K, V, ?>> queuedCommands;
 
-            synchronized (stateLock) {
-                try {
-                    lockWritersExclusive();
-
-                    if (commands.isEmpty()) {
-                        return;
-                    }
+            try {
+                lockWritersExclusive();
 
-                    queuedCommands = new ArrayList<>(commands.size());
-                    drainCommands(commands, queuedCommands);
-                } finally {
-                    unlockWritersExclusive();
+                if (commands.isEmpty()) {
+                    return;
                 }
+
+                queuedCommands = new ArrayList<>(commands.size());
+                drainCommands(commands, queuedCommands);
+            } finally {
+                unlockWritersExclusive();
             }
 
             if (debugEnabled) {
@@ -737,6 +1262,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             throws Exception {
 
         if (!isWriteable(command)) {
+            promise.trySuccess();
             return;
         }
 
@@ -762,7 +1288,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         }
 
         try {
-            validateWrite(commandsToWrite);
+            validateStackSize(commandsToWrite);
         } catch (Exception e) {
 
             for (RedisCommand<?, ?, ?> redisCommand : toWrite) {
@@ -793,13 +1319,15 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
         if (!toWrite.isEmpty()) {
             ctx.write(toWrite, promise);
+        } else {
+            promise.trySuccess();
         }
     }
 
     private void addToStack(RedisCommand<K, V, ?> command, ChannelPromise promise) {
 
         try {
-            validateWrite(1);
+            validateStackSize(1);
 
             if (command.getOutput() == null) {
                 // fire&forget commands are excluded from metrics
@@ -819,10 +1347,12 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
                 if (promise.getClass() == VOID_PROMISE_CLASS) {
                     stack.add(commandToUse);
+                    updateOutstandingCommands();
                 } else {
                     promise.addListener(future -> {
                         if (future.isSuccess()) {
                             stack.add(commandToUse);
+                            updateOutstandingCommands();
                         }
                     });
                 }
@@ -838,7 +1368,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         return boundedQueue;
     }
 
-    private void validateWrite(int commands) {
+    private void validateStackSize(int commands) {
 
         if (usesBoundedQueues()) {
 
@@ -855,7 +1385,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     @SuppressWarnings("unchecked")
     private <T> RedisCommand<K, V, T> potentiallyWrapLatencyCommand(RedisCommand<K, V, T> command) {
 
-        if (!latencyMetricsEnabled) {
+        if (!latencyMetricsEnabled && !loadSamplingEnabled) {
             return command;
         }
 
@@ -883,13 +1413,12 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         if (evt instanceof Reset) {
 
             List<RedisCommand<K, V, ?>> toCancel;
-            synchronized (stateLock) {
-                try {
-                    lockWritersExclusive();
-                    toCancel = drainCommands(stack);
-                } finally {
-                    unlockWritersExclusive();
-                }
+            try {
+                lockWritersExclusive();
+                toCancel = drainCommands(stack);
+                updateOutstandingCommands();
+            } finally {
+                unlockWritersExclusive();
             }
 
             resetInternals();
@@ -901,6 +1430,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             PingBeforeActivate pba = (PingBeforeActivate) evt;
 
             stack.addFirst((RedisCommand<K, V, ?>) pba.getCommand());
+            updateOutstandingCommands();
             ctx.writeAndFlush(pba.getCommand());
         }
 
@@ -922,29 +1452,27 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         pristine = true;
         fallbackCommand = null;
 
-        synchronized (stateLock) {
-            try {
-                lockWritersExclusive();
-                setState(LifecycleState.CONNECTED);
-
-                try {
-                    rebuildQueue();
-                    activateCommandHandlerAndExecuteBufferedCommands(ctx);
-                } catch (Exception e) {
+        try {
+            lockWritersExclusive();
+            setState(LifecycleState.CONNECTED);
 
-                    if (debugEnabled) {
-                        logger.debug("{} channelActive() ran into an exception", logPrefix());
-                    }
+            try {
+                rebuildQueue();
+                activateCommandHandlerAndExecuteBufferedCommands(ctx);
+            } catch (Exception e) {
 
-                    if (clientOptions.isCancelCommandsOnReconnectFailure()) {
-                        reset();
-                    }
+                if (debugEnabled) {
+                    logger.debug("{} channelActive() ran into an exception", logPrefix());
+                }
 
-                    throw e;
+                if (clientOptions.isCancelCommandsOnReconnectFailure()) {
+                    reset();
                 }
-            } finally {
-                unlockWritersExclusive();
+
+                throw e;
             }
+        } finally {
+            unlockWritersExclusive();
         }
 
         super.channelActive(ctx);
@@ -995,28 +1523,28 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             return;
         }
 
-        synchronized (stateLock) {
-            try {
-                lockWritersExclusive();
-                setState(LifecycleState.DISCONNECTED);
+        signalWritable();
 
-                if (redisChannelHandler != null) {
+        try {
+            lockWritersExclusive();
+            setState(LifecycleState.DISCONNECTED);
 
-                    if (debugEnabled) {
-                        logger.debug("{} deactivating channel handler", logPrefix());
-                    }
+            if (redisChannelHandler != null) {
 
-                    setState(LifecycleState.DEACTIVATING);
-                    redisChannelHandler.deactivated();
+                if (debugEnabled) {
+                    logger.debug("{} deactivating channel handler", logPrefix());
                 }
 
-                rebuildQueue();
-                setState(LifecycleState.DEACTIVATED);
-
-                channel = null;
-            } finally {
-                unlockWritersExclusive();
+                setState(LifecycleState.DEACTIVATING);
+                redisChannelHandler.deactivated();
             }
+
+            rebuildQueue();
+            setState(LifecycleState.DEACTIVATED);
+
+            channel = null;
+        } finally {
+            unlockWritersExclusive();
         }
 
         rsm.reset();
@@ -1034,9 +1562,12 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
     private void rebuildQueue() {
 
-        List<RedisCommand<K, V, ?>> queuedCommands = new ArrayList<>(stack.size() + disconnectedBuffer.size());
+        List<RedisCommand<K, V, ?>> queuedCommands = new ArrayList<>(stack.size() + pendingWrites.size()
+                + disconnectedBuffer.size());
 
         drainCommands(stack, queuedCommands);
+        updateOutstandingCommands();
+        drainPendingWrites(queuedCommands);
         drainCommands(disconnectedBuffer, queuedCommands);
 
         try {
@@ -1099,13 +1630,11 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
     private List<RedisCommand<K, V, ?>> getBufferedCommands() {
         List<RedisCommand<K, V, ?>> toCancel;
-        synchronized (stateLock) {
-            try {
-                lockWritersExclusive();
-                toCancel = prepareReset();
-            } finally {
-                unlockWritersExclusive();
-            }
+        try {
+            lockWritersExclusive();
+            toCancel = prepareReset();
+        } finally {
+            unlockWritersExclusive();
         }
         return toCancel;
     }
@@ -1129,16 +1658,26 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
     protected List<RedisCommand<K, V, ?>> prepareReset() {
 
-        int size = disconnectedBuffer.size() + commandBuffer.size();
+        int size = pendingWrites.size() + disconnectedBuffer.size() + commandBuffer.size();
 
         List<RedisCommand<K, V, ?>> toCancel = new ArrayList<>(size);
 
+        drainPendingWrites(toCancel);
         drainCommands(disconnectedBuffer, toCancel);
         drainCommands(commandBuffer, toCancel);
 
         return toCancel;
     }
 
+    private void drainPendingWrites(Collection<RedisCommand<K, V, ?>> target) {
+
+        RedisCommand<K, V, ?> command;
+        while ((command = pendingWrites.poll()) != null) {
+            QUEUE_SIZE.decrementAndGet(this);
+            target.add(command);
+        }
+    }
+
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
 
@@ -1146,6 +1685,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
         if (!stack.isEmpty()) {
             RedisCommand<K, V, ?> command = stack.poll();
+            updateOutstandingCommands();
             if (debugEnabled) {
                 logger.debug("{} Storing exception in {}", logPrefix(), command);
             }
@@ -1232,6 +1772,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         setState(LifecycleState.NOT_CONNECTED);
         disconnectedBuffer.clear();
         stack.clear();
+        updateOutstandingCommands();
 
         Channel currentChannel = this.channel;
         if (currentChannel != null) {
@@ -1382,7 +1923,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         private void requeueCommands() {
             if (sentCommand != null) {
                 try {
-                    write(sentCommand);
+                    write(sentCommand, false);
                 } catch (Exception e) {
                     complete(e);
                 }
@@ -1392,7 +1933,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
                 for (RedisCommand<K, V, ?> command : sentCommands) {
                     try {
-                        write(command);
+                        write(command, false);
                     } catch (Exception e) {
                         complete(e);
                     }
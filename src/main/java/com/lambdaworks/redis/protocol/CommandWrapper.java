@@ -21,6 +21,7 @@ import java.util.function.Consumer;
 import com.lambdaworks.redis.output.CommandOutput;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.util.Timeout;
 
 /**
  * Wrapper for a command.
@@ -33,6 +34,10 @@ public class CommandWrapper<K, V, T> implements RedisCommand<K, V, T>, Completea
     private final static AtomicReferenceFieldUpdater<CommandWrapper, Consumer[]> ONCOMPLETE = AtomicReferenceFieldUpdater
             .newUpdater(CommandWrapper.class, Consumer[].class, "onComplete");
 
+    @SuppressWarnings("rawtypes")
+    private final static AtomicReferenceFieldUpdater<CommandWrapper, Timeout> TIMEOUT = AtomicReferenceFieldUpdater
+            .newUpdater(CommandWrapper.class, Timeout.class, "timeout");
+
     @SuppressWarnings({ "rawtypes", "unchecked" })
     private final static Consumer<?>[] EMPTY = new Consumer[0];
 
@@ -42,6 +47,10 @@ public class CommandWrapper<K, V, T> implements RedisCommand<K, V, T>, Completea
     @SuppressWarnings("unused")
     private volatile Consumer<?>[] onComplete = EMPTY;
 
+    // timeout scheduled by the CommandHandler that wrote this command most recently, accessed via AtomicReferenceFieldUpdater.
+    @SuppressWarnings("unused")
+    private volatile Timeout timeout;
+
     public CommandWrapper(RedisCommand<K, V, T> command) {
         this.command = command;
     }
@@ -122,6 +131,16 @@ public class CommandWrapper<K, V, T> implements RedisCommand<K, V, T>, Completea
         }
     }
 
+    /**
+     * Replace the timeout of this command.
+     *
+     * @param timeout the new timeout, may be {@literal null}.
+     * @return the previous timeout, may be {@literal null}.
+     */
+    Timeout setTimeout(Timeout timeout) {
+        return TIMEOUT.getAndSet(this, timeout);
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
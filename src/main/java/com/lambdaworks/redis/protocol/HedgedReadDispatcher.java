@@ -0,0 +1,338 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.protocol;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.lambdaworks.redis.HedgedReadOptions;
+import com.lambdaworks.redis.event.metrics.CommandLatencyEvent;
+import com.lambdaworks.redis.internal.LettuceAssert;
+import com.lambdaworks.redis.metrics.CommandLatencyId;
+import com.lambdaworks.redis.metrics.CommandMetrics;
+import com.lambdaworks.redis.output.RecordingOutput;
+import com.lambdaworks.redis.resource.ClientResources;
+
+import io.netty.util.concurrent.EventExecutorGroup;
+import io.netty.util.concurrent.ScheduledFuture;
+import rx.Subscription;
+
+/**
+ * Dispatcher for hedged reads. A hedged read writes a copy of the command to a primary node and, if the primary node did not
+ * respond within the hedge delay, another copy to a secondary node. The first response is replayed into the original command
+ * and completes it. If the primary node fails without a response, for example because the connection was reset, the copy is
+ * written to the secondary node right away. The original command is completed exceptionally only if all written copies failed
+ * without a response. No further copy is written once the original command is cancelled or completed, for example by a
+ * timeout.
+ * <p>
+ * Hedge delays are obtained per command type from the {@link CommandLatencyEvent}s published on the
+ * {@link ClientResources#eventBus() event bus} and are therefore updated with the event emit interval.
+ *
+ * @author Mark Paluch
+ * @since 4.5
+ * @see HedgedReadOptions
+ */
+public class HedgedReadDispatcher implements Closeable {
+
+    private static final HedgedReadDispatcher DISABLED = new HedgedReadDispatcher();
+
+    private final HedgedReadOptions options;
+    private final EventExecutorGroup executor;
+    private final Subscription subscription;
+    private final long initialDelay;
+    private final long minDelay;
+
+    private volatile Map<ProtocolKeyword, Long> delays = Collections.emptyMap();
+
+    private HedgedReadDispatcher() {
+
+        this.options = HedgedReadOptions.create();
+        this.executor = null;
+        this.subscription = null;
+        this.initialDelay = 0;
+        this.minDelay = 0;
+    }
+
+    /**
+     * Create a new {@link HedgedReadDispatcher}.
+     *
+     * @param options the hedged read options, must not be {@literal null}.
+     * @param clientResources the client resources, must not be {@literal null}.
+     */
+    public HedgedReadDispatcher(HedgedReadOptions options, ClientResources clientResources) {
+
+        LettuceAssert.notNull(options, "HedgedReadOptions must not be null");
+        LettuceAssert.notNull(clientResources, "ClientResources must not be null");
+
+        this.options = options;
+        this.executor = clientResources.eventExecutorGroup();
+        this.initialDelay = options.getInitialDelayUnit().toNanos(options.getInitialDelay());
+        this.minDelay = options.getMinDelayUnit().toNanos(options.getMinDelay());
+
+        if (options.isEnabled()) {
+            this.subscription = clientResources.eventBus().get().filter(CommandLatencyEvent.class::isInstance)
+                    .subscribe(event -> updateDelays(((CommandLatencyEvent) event).getLatencies()));
+        } else {
+            this.subscription = null;
+        }
+    }
+
+    /**
+     * Returns a {@link HedgedReadDispatcher} that has hedged reads disabled.
+     *
+     * @return a {@link HedgedReadDispatcher} that has hedged reads disabled.
+     */
+    public static HedgedReadDispatcher disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * @return {@literal true} if hedged reads are enabled.
+     */
+    public boolean isEnabled() {
+        return options.isEnabled();
+    }
+
+    /**
+     * Returns the hedge delay for a command type.
+     *
+     * @param commandType the command type.
+     * @return the hedge delay in {@link TimeUnit#NANOSECONDS}.
+     */
+    public long getDelay(ProtocolKeyword commandType) {
+
+        Long delay = delays.get(commandType);
+        return Math.max(minDelay, delay != null ? delay : initialDelay);
+    }
+
+    /**
+     * Dispatch a hedged read. {@code primary} and {@code secondary} write a copy of the command to the respective node. The
+     * copy is written to {@code secondary} only if the primary node did not respond within the
+     * {@link #getDelay(ProtocolKeyword) hedge delay} or failed without a response.
+     *
+     * @param command the original command, must have an output.
+     * @param primary writes a command to the primary node.
+     * @param secondary writes a command to the secondary node.
+     */
+    public <K, V> void dispatch(RedisCommand<K, V, ?> command, Consumer<? super RedisCommand<K, V, ?>> primary,
+            Consumer<? super RedisCommand<K, V, ?>> secondary) {
+
+        LettuceAssert.notNull(command.getOutput(), "Command must have an output");
+
+        Hedge<K, V> hedge = new Hedge<>(command, secondary);
+
+        if (command instanceof CompletionStage) {
+            ((CompletionStage<?>) command).whenComplete((v, throwable) -> hedge.cancel());
+        }
+
+        hedge.write(primary);
+
+        if (hedge.isPending()) {
+            hedge.schedule(executor.schedule(hedge::hedge, getDelay(command.getType()), TimeUnit.NANOSECONDS));
+        }
+    }
+
+    void updateDelays(Map<CommandLatencyId, CommandMetrics> latencies) {
+
+        Map<ProtocolKeyword, long[]> aggregates = new HashMap<>();
+
+        for (Map.Entry<CommandLatencyId, CommandMetrics> entry : latencies.entrySet()) {
+
+            CommandMetrics metrics = entry.getValue();
+            Long latency = getPercentile(metrics.getCompletion().getPercentiles());
+
+            if (latency == null || metrics.getCount() == 0) {
+                continue;
+            }
+
+            long[] aggregate = aggregates.computeIfAbsent(entry.getKey().commandType(), key -> new long[2]);
+            aggregate[0] += metrics.getTimeUnit().toNanos(latency) * metrics.getCount();
+            aggregate[1] += metrics.getCount();
+        }
+
+        Map<ProtocolKeyword, Long> delays = new HashMap<>(aggregates.size());
+        aggregates.forEach((commandType, aggregate) -> delays.put(commandType, aggregate[0] / aggregate[1]));
+
+        this.delays = delays;
+    }
+
+    private Long getPercentile(Map<Double, Long> percentiles) {
+
+        Double selected = null;
+        Double greatest = null;
+
+        for (Double percentile : percentiles.keySet()) {
+
+            if (percentile >= options.getPercentile() && (selected == null || percentile < selected)) {
+                selected = percentile;
+            }
+
+            if (greatest == null || percentile > greatest) {
+                greatest = percentile;
+            }
+        }
+
+        Double key = selected != null ? selected : greatest;
+        return key != null ? percentiles.get(key) : null;
+    }
+
+    @Override
+    public void close() {
+
+        if (subscription != null) {
+            subscription.unsubscribe();
+        }
+    }
+
+    /**
+     * State of a single hedged read.
+     */
+    static class Hedge<K, V> {
+
+        private final RedisCommand<K, V, ?> command;
+        private final Consumer<? super RedisCommand<K, V, ?>> secondary;
+
+        private int written;
+        private int failed;
+        private boolean hedged;
+        private boolean done;
+        private ScheduledFuture<?> timer;
+
+        Hedge(RedisCommand<K, V, ?> command, Consumer<? super RedisCommand<K, V, ?>> secondary) {
+            this.command = command;
+            this.secondary = secondary;
+        }
+
+        /**
+         * Write the copy to the secondary node unless it was already written.
+         */
+        void hedge() {
+
+            synchronized (this) {
+
+                if (hedged) {
+                    return;
+                }
+
+                hedged = true;
+            }
+
+            write(secondary);
+        }
+
+        void write(Consumer<? super RedisCommand<K, V, ?>> writer) {
+
+            AsyncCommand<K, V, Void> attempt;
+
+            synchronized (this) {
+
+                if (done) {
+                    return;
+                }
+
+                if (command.isCancelled() || command.isDone()) {
+                    finish();
+                    return;
+                }
+
+                written++;
+                attempt = new AsyncCommand<>(new Command<>(command.getType(), new RecordingOutput<>(command.getOutput()),
+                        command.getArgs()));
+            }
+
+            attempt.whenComplete((v, throwable) -> onComplete(attempt, throwable));
+
+            try {
+                writer.accept(attempt);
+            } catch (Exception e) {
+                attempt.completeExceptionally(e);
+            }
+        }
+
+        synchronized void schedule(ScheduledFuture<?> timer) {
+
+            if (done || hedged) {
+                timer.cancel(false);
+            } else {
+                this.timer = timer;
+            }
+        }
+
+        /**
+         * Stop hedging because the original command was cancelled or completed elsewhere.
+         */
+        synchronized void cancel() {
+
+            if (!done) {
+                finish();
+            }
+        }
+
+        synchronized boolean isPending() {
+            return !done && !hedged;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void onComplete(AsyncCommand<K, V, Void> attempt, Throwable throwable) {
+
+            boolean responded = throwable == null || attempt.getOutput().hasError();
+            boolean retry = false;
+
+            synchronized (this) {
+
+                if (done) {
+                    return;
+                }
+
+                if (!responded && ++failed < written) {
+                    return;
+                }
+
+                if (!responded && !hedged) {
+                    retry = true;
+                } else {
+                    finish();
+                }
+            }
+
+            if (retry) {
+                hedge();
+                return;
+            }
+
+            if (responded) {
+                ((RecordingOutput<K, V>) attempt.getOutput()).replay(command.getOutput());
+                command.complete();
+            } else {
+                command.completeExceptionally(throwable);
+            }
+        }
+
+        private void finish() {
+
+            done = true;
+
+            if (timer != null) {
+                timer.cancel(false);
+            }
+        }
+    }
+}
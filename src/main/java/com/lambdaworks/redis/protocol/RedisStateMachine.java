@@ -19,11 +19,11 @@ import static com.lambdaworks.redis.protocol.LettuceCharsets.buffer;
 import static com.lambdaworks.redis.protocol.RedisStateMachine.State.Type.*;
 
 import java.nio.ByteBuffer;
-import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.output.CommandOutput;
+import com.lambdaworks.redis.output.ValueChunkConsumer;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufProcessor;
@@ -46,6 +46,8 @@ public class RedisStateMachine<K, V> {
 
     private static final InternalLogger logger = InternalLoggerFactory.getInstance(RedisStateMachine.class);
     private static final ByteBuffer QUEUED = buffer("QUEUED");
+    private static final int RESPONSE_ELEMENT_BUFFER_SIZE = 1024;
+    private static final int RESPONSE_ELEMENT_BUFFER_MAX_RETAINED = 64 * 1024;
 
     private static final boolean USE_NETTY40_BYTEBUF_COMPATIBILITY;
     private static final Class<?> LONG_PROCESSOR_CLASS;
@@ -77,18 +79,26 @@ public class RedisStateMachine<K, V> {
 
     static class State {
         enum Type {
-            SINGLE, ERROR, INTEGER, BULK, MULTI, BYTES
+            SINGLE, ERROR, INTEGER, BULK, MULTI, BYTES, CHUNKED_BYTES
         }
 
         Type type = null;
         int count = -1;
+
+        /**
+         * Reset the state so it can be reused for the next response element.
+         */
+        void reset() {
+            this.type = null;
+            this.count = -1;
+        }
     }
 
     private final State[] stack = new State[32];
     private final boolean debugEnabled = logger.isDebugEnabled();
     private final LongProcessor longProcessor;
     private final IndexOfLineBreakProcessor indexOfLineBreakProcessor;
-    private final ByteBuf responseElementBuffer = PooledByteBufAllocator.DEFAULT.directBuffer(1024);
+    private final ByteBuf responseElementBuffer = PooledByteBufAllocator.DEFAULT.directBuffer(RESPONSE_ELEMENT_BUFFER_SIZE);
     private final AtomicBoolean closed = new AtomicBoolean();
 
     private int stackElements;
@@ -120,6 +130,11 @@ public class RedisStateMachine<K, V> {
 
         this.longProcessor = longProcessor;
         this.indexOfLineBreakProcessor = indexOfLineBreakProcessor;
+
+        // states are preallocated and reused to keep decoding free of allocations
+        for (int i = 0; i < stack.length; i++) {
+            stack[i] = new State();
+        }
     }
 
     /**
@@ -150,7 +165,7 @@ public class RedisStateMachine<K, V> {
         }
 
         if (isEmpty(stack)) {
-            add(stack, new State());
+            addFirst(stack);
         }
 
         if (output == null) {
@@ -201,7 +216,7 @@ public class RedisStateMachine<K, V> {
                     if (length == -1) {
                         safeSet(output, null, command);
                     } else {
-                        state.type = BYTES;
+                        state.type = isChunked(output, length) ? CHUNKED_BYTES : BYTES;
                         state.count = length + 2;
                         buffer.markReaderIndex();
                         continue loop;
@@ -223,14 +238,27 @@ public class RedisStateMachine<K, V> {
                     }
 
                     state.count--;
-                    addFirst(stack, new State());
+                    addFirst(stack);
 
                     continue loop;
                 case BYTES:
+                    if (output.isByteBufDecoding()) {
+                        if (!readBytes(buffer, state.count, output, command)) {
+                            break loop;
+                        }
+                        break;
+                    }
+
                     if ((bytes = readBytes(buffer, state.count)) == null) {
                         break loop;
                     }
                     safeSet(output, bytes, command);
+                    shrinkResponseElementBuffer();
+                    break;
+                case CHUNKED_BYTES:
+                    if (!readChunks(buffer, state, (ValueChunkConsumer) output, command)) {
+                        break loop;
+                    }
                     break;
                 default:
                     throw new IllegalStateException("State " + state.type + " not supported");
@@ -253,7 +281,11 @@ public class RedisStateMachine<K, V> {
      * Reset the state machine.
      */
     public void reset() {
-        Arrays.fill(stack, null);
+
+        for (State state : stack) {
+            state.reset();
+        }
+
         stackElements = 0;
     }
 
@@ -338,24 +370,89 @@ public class RedisStateMachine<K, V> {
         return bytes;
     }
 
+    private static boolean isChunked(CommandOutput<?, ?, ?> output, int length) {
+        return output instanceof ValueChunkConsumer && ((ValueChunkConsumer) output).isChunked(length);
+    }
+
+    /**
+     * Pass the available part of a bulk reply as chunk to the {@link ValueChunkConsumer}. Consumed bytes are deducted from
+     * {@link State#count}.
+     *
+     * @return {@literal true} if the bulk reply was read completely.
+     */
+    private boolean readChunks(ByteBuf buffer, State state, ValueChunkConsumer consumer, RedisCommand<K, V, ?> command) {
+
+        int remaining = state.count - 2;
+        int chunkSize = Math.min(remaining, buffer.readableBytes());
+
+        if (chunkSize > 0) {
+
+            safeChunk(consumer, buffer.slice(buffer.readerIndex(), chunkSize), command);
+            buffer.skipBytes(chunkSize);
+            buffer.markReaderIndex();
+            state.count -= chunkSize;
+        }
+
+        if (state.count > 2 || buffer.readableBytes() < 2) {
+            return false;
+        }
+
+        buffer.skipBytes(2);
+
+        try {
+            consumer.onValueComplete();
+        } catch (Exception e) {
+            command.completeExceptionally(e);
+        }
+
+        return true;
+    }
+
+    /**
+     * Release memory held by {@link #responseElementBuffer} after decoding an oversized reply.
+     */
+    private void shrinkResponseElementBuffer() {
+
+        if (responseElementBuffer.capacity() > RESPONSE_ELEMENT_BUFFER_MAX_RETAINED) {
+            responseElementBuffer.clear();
+            responseElementBuffer.capacity(RESPONSE_ELEMENT_BUFFER_SIZE);
+        }
+    }
+
+    /**
+     * Pass a bulk reply as slice of {@code buffer} to the output without copying it.
+     *
+     * @return {@literal true} if the bulk reply was read.
+     */
+    private boolean readBytes(ByteBuf buffer, int count, CommandOutput<K, V, ?> output, RedisCommand<K, V, ?> command) {
+
+        if (buffer.readableBytes() < count) {
+            return false;
+        }
+
+        int start = buffer.readerIndex();
+        safeSetByteBuf(output, buffer.slice(start, count - 2), command);
+        buffer.readerIndex(start + count);
+
+        return true;
+    }
+
     /**
      * Remove the head element from the stack.
      *
      * @param stack
      */
     private void remove(State[] stack) {
-        stack[stackElements - 1] = null;
         stackElements--;
     }
 
     /**
-     * Add the element to the stack to be the new head element.
+     * Reuse the next preallocated element of the stack as the new head element.
      *
      * @param stack
-     * @param state
      */
-    private void addFirst(State[] stack, State state) {
-        stack[stackElements++] = state;
+    private void addFirst(State[] stack) {
+        stack[stackElements++].reset();
     }
 
     /**
@@ -368,22 +465,6 @@ public class RedisStateMachine<K, V> {
         return stack[stackElements - 1];
     }
 
-    /**
-     * Add a state as tail element. This method shifts the whole stack if the stack is not empty.
-     *
-     * @param stack
-     * @param state
-     */
-    private void add(State[] stack, State state) {
-
-        if (stackElements != 0) {
-            System.arraycopy(stack, 0, stack, 1, stackElements);
-        }
-
-        stack[0] = state;
-        stackElements++;
-    }
-
     /**
      * @param stack
      * @return number of stack elements.
@@ -432,6 +513,39 @@ public class RedisStateMachine<K, V> {
         }
     }
 
+    /**
+     * Safely sets {@link CommandOutput#setByteBuf(ByteBuf)}. Completes a command exceptionally in case an exception occurs.
+     *
+     * @param output
+     * @param bytes
+     * @param command
+     */
+    protected void safeSetByteBuf(CommandOutput<K, V, ?> output, ByteBuf bytes, RedisCommand<K, V, ?> command) {
+
+        try {
+            output.setByteBuf(bytes);
+        } catch (Exception e) {
+            command.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Safely calls {@link ValueChunkConsumer#onChunk(ByteBuf)}. Completes a command exceptionally in case an exception
+     * occurs.
+     *
+     * @param consumer
+     * @param chunk
+     * @param command
+     */
+    protected void safeChunk(ValueChunkConsumer consumer, ByteBuf chunk, RedisCommand<K, V, ?> command) {
+
+        try {
+            consumer.onChunk(chunk);
+        } catch (Exception e) {
+            command.completeExceptionally(e);
+        }
+    }
+
     /**
      * Safely sets {@link CommandOutput#multi(int)}. Completes a command exceptionally in case an exception occurs.
      *
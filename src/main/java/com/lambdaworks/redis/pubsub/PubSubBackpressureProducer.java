@@ -0,0 +1,263 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.pubsub;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import rx.Producer;
+import rx.Subscriber;
+import rx.exceptions.MissingBackpressureException;
+
+import com.lambdaworks.redis.pubsub.api.rx.PubSubBackpressure;
+
+/**
+ * {@link Producer} that emits pub/sub messages according to the demand of a {@link Subscriber}. Messages without outstanding
+ * demand are retained according to the {@link PubSubBackpressure} strategy. A {@link PubSubBackpressure.Strategy#BUFFER}
+ * buffer suspends reading from the connection while it holds {@link PubSubBackpressure#getCapacity() capacity} messages and
+ * applies the {@link PubSubBackpressure#getOverflowStrategy() overflow strategy} to messages that arrive at a full buffer.
+ * Suspending reads stalls all responses on the connection, including replies to {@literal UNSUBSCRIBE} and {@literal PING}.
+ *
+ * @param <T> Message type.
+ * @author Mark Paluch
+ * @since 4.5
+ */
+class PubSubBackpressureProducer<T> implements Producer {
+
+    private final Subscriber<? super T> subscriber;
+    private final PubSubBackpressure backpressure;
+    private final Runnable suspendReading;
+    private final Runnable resumeReading;
+
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+
+    // guarded by this
+    private final ArrayDeque<T> queue = new ArrayDeque<>();
+    private final Map<Object, T> latest = new LinkedHashMap<>();
+    private boolean suspended;
+    private boolean terminated;
+    private Throwable error;
+
+    PubSubBackpressureProducer(Subscriber<? super T> subscriber, PubSubBackpressure backpressure, Runnable suspendReading,
+            Runnable resumeReading) {
+
+        this.subscriber = subscriber;
+        this.backpressure = backpressure;
+        this.suspendReading = suspendReading;
+        this.resumeReading = resumeReading;
+    }
+
+    /**
+     * Accept a message.
+     *
+     * @param channel the channel, used to retain the latest message per channel.
+     * @param message the message.
+     */
+    void onNext(Object channel, T message) {
+
+        synchronized (this) {
+
+            if (terminated || error != null) {
+                return;
+            }
+
+            switch (backpressure.getStrategy()) {
+                case BUFFER:
+                    if (queue.size() >= backpressure.getCapacity()) {
+                        onOverflow(message);
+                        break;
+                    }
+                    queue.add(message);
+                    if (!suspended && queue.size() >= backpressure.getCapacity()) {
+                        suspended = true;
+                        suspendReading.run();
+                    }
+                    break;
+                case DROP_OLDEST:
+                    if (queue.size() >= backpressure.getCapacity()) {
+                        queue.poll();
+                    }
+                    queue.add(message);
+                    break;
+                case LATEST:
+                    Object key = PubSubRoutingIndex.routingKey(channel);
+                    latest.remove(key);
+                    latest.put(key, message);
+                    break;
+                default:
+                    throw new UnsupportedOperationException("Strategy " + backpressure.getStrategy() + " not supported");
+            }
+        }
+
+        drain();
+    }
+
+    @Override
+    public void request(long n) {
+
+        if (n < 0) {
+            throw new IllegalArgumentException("Request must not be negative: " + n);
+        }
+
+        if (n == 0) {
+            return;
+        }
+
+        for (;;) {
+
+            long current = requested.get();
+            long next = current + n;
+
+            if (next < 0) {
+                next = Long.MAX_VALUE;
+            }
+
+            if (requested.compareAndSet(current, next)) {
+                break;
+            }
+        }
+
+        drain();
+    }
+
+    /**
+     * Apply the overflow strategy to a message that arrives at a full buffer. Messages are dropped or the stream fails with
+     * {@link MissingBackpressureException} once the retained messages are emitted.
+     */
+    private void onOverflow(T message) {
+
+        try {
+            if (backpressure.getOverflowStrategy().mayAttemptDrop()) {
+                queue.poll();
+                queue.add(message);
+            }
+        } catch (MissingBackpressureException e) {
+            error = e;
+            resumeIfSuspended();
+        }
+    }
+
+    /**
+     * Discard retained messages and resume reading if reading was suspended.
+     */
+    void terminate() {
+
+        synchronized (this) {
+
+            terminated = true;
+            queue.clear();
+            latest.clear();
+            resumeIfSuspended();
+        }
+    }
+
+    /**
+     * @return number of retained messages.
+     */
+    synchronized int size() {
+        return queue.size() + latest.size();
+    }
+
+    private void drain() {
+
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+
+        do {
+
+            long demand = requested.get();
+            long emitted = 0;
+
+            while (emitted != demand) {
+
+                if (subscriber.isUnsubscribed()) {
+                    terminate();
+                    break;
+                }
+
+                T next = poll();
+
+                if (next == null) {
+                    break;
+                }
+
+                subscriber.onNext(next);
+                emitted++;
+            }
+
+            if (emitted != 0 && demand != Long.MAX_VALUE) {
+                requested.addAndGet(-emitted);
+            }
+
+            Throwable failure = pollError();
+
+            if (failure != null) {
+                subscriber.onError(failure);
+            }
+
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    /**
+     * @return the overflow error once all retained messages are emitted, {@literal null} otherwise.
+     */
+    private synchronized Throwable pollError() {
+
+        if (error == null || terminated || !queue.isEmpty()) {
+            return null;
+        }
+
+        terminated = true;
+        return error;
+    }
+
+    private synchronized T poll() {
+
+        T next;
+
+        if (!latest.isEmpty()) {
+
+            Iterator<T> iterator = latest.values().iterator();
+            next = iterator.next();
+            iterator.remove();
+        } else {
+            next = queue.poll();
+        }
+
+        if (suspended && queue.size() <= backpressure.getCapacity() / 2) {
+            resumeIfSuspended();
+        }
+
+        return next;
+    }
+
+    private void resumeIfSuspended() {
+
+        if (suspended) {
+            suspended = false;
+            resumeReading.run();
+        }
+    }
+}
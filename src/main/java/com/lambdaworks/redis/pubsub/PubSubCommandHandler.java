@@ -15,6 +15,8 @@
  */
 package com.lambdaworks.redis.pubsub;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import com.lambdaworks.redis.ClientOptions;
 import com.lambdaworks.redis.codec.RedisCodec;
 import com.lambdaworks.redis.protocol.CommandHandler;
@@ -22,6 +24,7 @@ import com.lambdaworks.redis.protocol.RedisCommand;
 import com.lambdaworks.redis.resource.ClientResources;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 
@@ -36,8 +39,8 @@ import io.netty.channel.ChannelHandlerContext;
  */
 public class PubSubCommandHandler<K, V> extends CommandHandler<K, V> {
 
-    private final RedisCodec<K, V> codec;
-    private PubSubOutput<K, V, V> output;
+    private final PubSubOutputBatch<K, V> batch;
+    private final AtomicInteger readSuspensions = new AtomicInteger();
 
     /**
      * Initialize a new instance.
@@ -50,10 +53,13 @@ public class PubSubCommandHandler<K, V> extends CommandHandler<K, V> {
 
         super(clientOptions, clientResources);
 
-        this.codec = codec;
-        this.output = new PubSubOutput<>(codec);
+        this.batch = new PubSubOutputBatch<>(codec);
     }
 
+    /**
+     * Decode pub/sub elements into pooled outputs and propagate all elements decoded from {@code buffer} as a single batch.
+     * Outputs are reset and reused after the batch was propagated.
+     */
     @Override
     protected void decode(ChannelHandlerContext ctx, ByteBuf buffer) {
 
@@ -61,19 +67,75 @@ public class PubSubCommandHandler<K, V> extends CommandHandler<K, V> {
 
         while (buffer.isReadable()) {
 
-            if (!rsm.decode(buffer, output)) {
-                return;
+            if (!rsm.decode(buffer, batch.current())) {
+                break;
             }
 
-            ctx.fireChannelRead(output);
-            output = new PubSubOutput<>(codec);
-            buffer.discardReadBytes();
+            batch.commit();
+        }
+
+        if (!batch.isEmpty()) {
+            try {
+                ctx.fireChannelRead(batch);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+
+        super.channelActive(ctx);
+
+        if (readSuspensions.get() != 0) {
+            updateAutoRead();
+        }
+    }
+
+    /**
+     * Stop reading from the transport until each call to {@link #suspendReading()} is balanced with a call to
+     * {@link #resumeReading()}. Suspension applies also to channels of reconnected connections.
+     *
+     * @since 4.5
+     */
+    public void suspendReading() {
+
+        if (readSuspensions.incrementAndGet() == 1) {
+            updateAutoRead();
+        }
+    }
+
+    /**
+     * Resume reading from the transport if no other suspension is active.
+     *
+     * @since 4.5
+     */
+    public void resumeReading() {
+
+        if (readSuspensions.decrementAndGet() == 0) {
+            updateAutoRead();
         }
     }
 
+    /**
+     * Apply the read state on the event loop. The state is evaluated when the task runs so concurrent suspend/resume calls
+     * converge to the current suspension count.
+     */
+    private void updateAutoRead() {
+
+        Channel channel = this.channel;
+
+        if (channel == null) {
+            return;
+        }
+
+        channel.eventLoop().execute(() -> channel.config().setAutoRead(readSuspensions.get() == 0));
+    }
+
     @Override
     protected boolean canDecode(ByteBuf buffer) {
-        return super.canDecode(buffer) && output.type() == null;
+        return super.canDecode(buffer) && batch.current().type() == null;
     }
 
     @Override
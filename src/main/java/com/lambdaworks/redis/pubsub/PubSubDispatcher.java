@@ -0,0 +1,338 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.pubsub;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.lambdaworks.redis.PubSubDispatchOptions;
+import com.lambdaworks.redis.PubSubDispatchOptions.OverflowPolicy;
+import com.lambdaworks.redis.internal.LettuceAssert;
+import com.lambdaworks.redis.resource.ClientResources;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.EventExecutorGroup;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * Dispatcher for pub/sub listener notifications. An offloading dispatcher assigns notifications to shards by a shard key
+ * (channel or pattern). Each shard queues notifications in a bounded queue and runs them sequentially on one
+ * {@link EventExecutor} of the {@link ClientResources#eventExecutorGroup()}, so notifications for the same key retain their
+ * order. An {@link #inline()} dispatcher runs notifications on the calling thread.
+ * <p>
+ * With {@link OverflowPolicy#BLOCK}, a full shard suspends reading from the connection instead of blocking the I/O thread and
+ * resumes reading once the shard has drained to half of its capacity. A dispatcher is therefore bound to a single connection.
+ *
+ * @author Mark Paluch
+ * @since 4.5
+ * @see PubSubDispatchOptions
+ */
+public class PubSubDispatcher implements Closeable {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(PubSubDispatcher.class);
+
+    private static final PubSubDispatcher INLINE = new PubSubDispatcher();
+
+    private final Shard[] shards;
+    private final OverflowPolicy overflowPolicy;
+    private final AtomicLong dropped = new AtomicLong();
+
+    private volatile Runnable suspendReading = () -> {
+    };
+    private volatile Runnable resumeReading = () -> {
+    };
+    private volatile boolean closed;
+
+    private PubSubDispatcher() {
+        this.shards = null;
+        this.overflowPolicy = null;
+    }
+
+    /**
+     * Create a new offloading {@link PubSubDispatcher}.
+     *
+     * @param dispatchOptions the dispatch options, must not be {@literal null}.
+     * @param eventExecutorGroup the executors to run notifications, must not be {@literal null}.
+     */
+    public PubSubDispatcher(PubSubDispatchOptions dispatchOptions, EventExecutorGroup eventExecutorGroup) {
+
+        LettuceAssert.notNull(dispatchOptions, "PubSubDispatchOptions must not be null");
+        LettuceAssert.notNull(eventExecutorGroup, "EventExecutorGroup must not be null");
+
+        List<EventExecutor> executors = new ArrayList<>();
+        eventExecutorGroup.forEach(executors::add);
+
+        LettuceAssert.isTrue(!executors.isEmpty(), "EventExecutorGroup must provide at least one EventExecutor");
+
+        int shardCount = dispatchOptions.getShards() > 0 ? dispatchOptions.getShards() : executors.size();
+
+        this.shards = new Shard[shardCount];
+        this.overflowPolicy = dispatchOptions.getOverflowPolicy();
+
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(executors.get(i % executors.size()), dispatchOptions.getQueueCapacity());
+        }
+    }
+
+    /**
+     * Create a {@link PubSubDispatcher} according to {@link PubSubDispatchOptions#isOffload()}.
+     *
+     * @param dispatchOptions the dispatch options, must not be {@literal null}.
+     * @param clientResources the client resources, must not be {@literal null}.
+     * @return the {@link PubSubDispatcher}.
+     */
+    public static PubSubDispatcher create(PubSubDispatchOptions dispatchOptions, ClientResources clientResources) {
+
+        LettuceAssert.notNull(dispatchOptions, "PubSubDispatchOptions must not be null");
+        LettuceAssert.notNull(clientResources, "ClientResources must not be null");
+
+        if (!dispatchOptions.isOffload()) {
+            return inline();
+        }
+
+        return new PubSubDispatcher(dispatchOptions, clientResources.eventExecutorGroup());
+    }
+
+    /**
+     * @return a {@link PubSubDispatcher} that runs notifications on the calling thread.
+     */
+    public static PubSubDispatcher inline() {
+        return INLINE;
+    }
+
+    /**
+     * Set the callbacks to suspend and resume reading from the connection whose notifications are dispatched. Used with
+     * {@link OverflowPolicy#BLOCK}. Each call to {@code suspendReading} is balanced with a call to {@code resumeReading}.
+     *
+     * @param suspendReading callback to stop reading, must not be {@literal null}.
+     * @param resumeReading callback to resume reading, must not be {@literal null}.
+     */
+    void setReadControl(Runnable suspendReading, Runnable resumeReading) {
+
+        LettuceAssert.notNull(suspendReading, "Suspend callback must not be null");
+        LettuceAssert.notNull(resumeReading, "Resume callback must not be null");
+
+        if (shards == null) {
+            return;
+        }
+
+        this.suspendReading = suspendReading;
+        this.resumeReading = resumeReading;
+    }
+
+    /**
+     * @return {@literal true} if notifications are run on a different thread than the calling thread.
+     */
+    public boolean isOffloading() {
+        return shards != null;
+    }
+
+    /**
+     * Dispatch a notification. Notifications with the same {@code shardKey} are run in the order they were dispatched.
+     *
+     * @param shardKey the shard key, typically the channel or pattern. {@code byte[]} and {@link java.nio.ByteBuffer} keys are
+     *        hashed by their content.
+     * @param notification the notification.
+     */
+    public void dispatch(Object shardKey, Runnable notification) {
+
+        if (shards == null) {
+            notification.run();
+            return;
+        }
+
+        if (closed) {
+            return;
+        }
+
+        shards[Math.abs(hash(shardKey) % shards.length)].offer(notification);
+    }
+
+    /**
+     * @return number of notifications that were discarded due to the {@link OverflowPolicy}.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Stop dispatching. Queued notifications are discarded.
+     */
+    @Override
+    public void close() {
+
+        if (shards == null) {
+            return;
+        }
+
+        closed = true;
+
+        for (Shard shard : shards) {
+            shard.queue.clear();
+            shard.resumeIfDrained();
+        }
+    }
+
+    static int hash(Object key) {
+
+        if (key == null) {
+            return 0;
+        }
+
+        if (key instanceof byte[]) {
+            return Arrays.hashCode((byte[]) key);
+        }
+
+        return key.hashCode();
+    }
+
+    private void drop() {
+
+        long count = dropped.incrementAndGet();
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Dropped pub/sub notification due to {}, {} notifications dropped", overflowPolicy, count);
+        }
+    }
+
+    /**
+     * A shard runs its notifications sequentially. At most one drain task per shard is scheduled at a time. With
+     * {@link OverflowPolicy#BLOCK} the queue is unbounded because notifications decoded before reading stops must still be
+     * queued.
+     */
+    private class Shard implements Runnable {
+
+        private final EventExecutor executor;
+        private final BlockingQueue<Runnable> queue;
+        private final int capacity;
+        private final int resumeThreshold;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        // written while holding the shard monitor
+        private volatile boolean suspended;
+
+        Shard(EventExecutor executor, int queueCapacity) {
+
+            this.executor = executor;
+            this.queue = overflowPolicy == OverflowPolicy.BLOCK ? new LinkedBlockingQueue<>() : new ArrayBlockingQueue<>(
+                    queueCapacity);
+            this.capacity = queueCapacity;
+            this.resumeThreshold = queueCapacity / 2;
+        }
+
+        void offer(Runnable notification) {
+
+            switch (overflowPolicy) {
+                case DROP_NEWEST:
+                    if (!queue.offer(notification)) {
+                        drop();
+                    }
+                    break;
+                case DROP_OLDEST:
+                    while (!queue.offer(notification)) {
+                        Runnable oldest = queue.poll();
+                        if (oldest != null) {
+                            drop();
+                        }
+                    }
+                    break;
+                case BLOCK:
+                    queue.add(notification);
+                    if (queue.size() >= capacity) {
+                        suspendIfFull();
+                    }
+                    break;
+                default:
+                    throw new UnsupportedOperationException("Overflow policy " + overflowPolicy + " not supported");
+            }
+
+            schedule();
+        }
+
+        /**
+         * Suspend reading if the queue is full. State changes and callbacks are serialized so each suspension is balanced
+         * with exactly one resume. Re-checks the queue after suspending as the drain task may have emptied it meanwhile.
+         */
+        private void suspendIfFull() {
+
+            synchronized (this) {
+
+                if (suspended || closed || queue.size() < capacity) {
+                    return;
+                }
+
+                suspended = true;
+                suspendReading.run();
+            }
+
+            resumeIfDrained();
+        }
+
+        private void resumeIfDrained() {
+
+            synchronized (this) {
+
+                if (!suspended || (!closed && queue.size() > resumeThreshold)) {
+                    return;
+                }
+
+                suspended = false;
+                resumeReading.run();
+            }
+        }
+
+        private void schedule() {
+
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+
+            Runnable notification;
+            int drained = 0;
+
+            while (drained++ < capacity && !closed && (notification = queue.poll()) != null) {
+
+                try {
+                    notification.run();
+                } catch (Exception e) {
+                    logger.warn("Pub/sub listener notification failed", e);
+                }
+
+                if (suspended && queue.size() <= resumeThreshold) {
+                    resumeIfDrained();
+                }
+            }
+
+            scheduled.set(false);
+
+            if (!closed && !queue.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
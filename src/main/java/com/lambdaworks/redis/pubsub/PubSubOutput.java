@@ -107,4 +107,34 @@ public class PubSubOutput<K, V, T> extends CommandOutput<K, V, T> {
     public void set(long integer) {
         count = integer;
     }
+
+    /**
+     * Create a copy of this output that remains stable when this output is {@link #reset()}.
+     *
+     * @return a copy of this output.
+     */
+    PubSubOutput<K, V, T> copy() {
+
+        PubSubOutput<K, V, T> copy = new PubSubOutput<>(codec);
+        copy.type = type;
+        copy.channel = channel;
+        copy.pattern = pattern;
+        copy.count = count;
+        copy.output = output;
+        copy.error = error;
+        return copy;
+    }
+
+    /**
+     * Reset this output so it can decode the next pub/sub element.
+     */
+    void reset() {
+
+        type = null;
+        channel = null;
+        pattern = null;
+        count = 0;
+        output = null;
+        error = null;
+    }
 }
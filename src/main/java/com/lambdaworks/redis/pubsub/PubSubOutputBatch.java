@@ -0,0 +1,98 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.pubsub;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+import com.lambdaworks.redis.codec.RedisCodec;
+
+/**
+ * Reusable batch of {@link PubSubOutput pub/sub elements} decoded from a single channel read. Outputs are pooled and reset after
+ * the batch was delivered so a subscriber connection does not allocate outputs per message once warmed up.
+ * <p>
+ * The batch and its elements are only valid while being delivered. Instances are not thread-safe and confined to the event
+ * loop of the connection.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.5
+ */
+class PubSubOutputBatch<K, V> extends AbstractList<PubSubOutput<K, V, V>> implements RandomAccess {
+
+    private final RedisCodec<K, V> codec;
+    private final List<PubSubOutput<K, V, V>> outputs = new ArrayList<>();
+    private int size;
+
+    PubSubOutputBatch(RedisCodec<K, V> codec) {
+        this.codec = codec;
+    }
+
+    /**
+     * @return the output that receives the next decoded element. The output may be partially decoded.
+     */
+    PubSubOutput<K, V, V> current() {
+
+        if (outputs.size() == size) {
+            outputs.add(new PubSubOutput<>(codec));
+        }
+
+        return outputs.get(size);
+    }
+
+    /**
+     * Add the {@link #current()} output to the batch.
+     */
+    void commit() {
+        size++;
+    }
+
+    /**
+     * Reset all outputs of this batch. A partially decoded {@link #current()} output is retained.
+     */
+    @Override
+    public void clear() {
+
+        for (int i = 0; i < size; i++) {
+            outputs.get(i).reset();
+        }
+
+        if (size > 0 && outputs.size() > size) {
+            Collections.swap(outputs, 0, size);
+        }
+
+        size = 0;
+    }
+
+    @Override
+    public PubSubOutput<K, V, V> get(int index) {
+
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        return outputs.get(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.pubsub;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.lambdaworks.redis.internal.LettuceAssert;
+
+/**
+ * Routing index for {@link RedisPubSubListener listeners} registered for a particular channel or pattern. Messages are routed
+ * with a single hash lookup: {@literal message} and channel subscription notifications by their channel, {@literal pmessage}
+ * and pattern subscription notifications by the pattern Redis reports as match. {@code byte[]} keys are compared by content.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.5
+ */
+class PubSubRoutingIndex<K, V> {
+
+    private final ConcurrentMap<Object, List<RedisPubSubListener<K, V>>> channels = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Object, List<RedisPubSubListener<K, V>>> patterns = new ConcurrentHashMap<>();
+
+    void addChannelListener(K channel, RedisPubSubListener<K, V> listener) {
+        add(channels, channel, listener);
+    }
+
+    void removeChannelListener(K channel, RedisPubSubListener<K, V> listener) {
+        remove(channels, channel, listener);
+    }
+
+    void addPatternListener(K pattern, RedisPubSubListener<K, V> listener) {
+        add(patterns, pattern, listener);
+    }
+
+    void removePatternListener(K pattern, RedisPubSubListener<K, V> listener) {
+        remove(patterns, pattern, listener);
+    }
+
+    /**
+     * @return {@literal true} if no listeners are registered.
+     */
+    boolean isEmpty() {
+        return channels.isEmpty() && patterns.isEmpty();
+    }
+
+    /**
+     * Notify listeners registered for the channel or pattern of {@code output}.
+     *
+     * @param output the pub/sub element.
+     */
+    void notifyListeners(PubSubOutput<K, V, V> output) {
+
+        switch (output.type()) {
+            case message:
+                for (RedisPubSubListener<K, V> listener : get(channels, output.channel())) {
+                    listener.message(output.channel(), output.get());
+                }
+                break;
+            case pmessage:
+                for (RedisPubSubListener<K, V> listener : get(patterns, output.pattern())) {
+                    listener.message(output.pattern(), output.channel(), output.get());
+                }
+                break;
+            case psubscribe:
+                for (RedisPubSubListener<K, V> listener : get(patterns, output.pattern())) {
+                    listener.psubscribed(output.pattern(), output.count());
+                }
+                break;
+            case punsubscribe:
+                for (RedisPubSubListener<K, V> listener : get(patterns, output.pattern())) {
+                    listener.punsubscribed(output.pattern(), output.count());
+                }
+                break;
+            case subscribe:
+                for (RedisPubSubListener<K, V> listener : get(channels, output.channel())) {
+                    listener.subscribed(output.channel(), output.count());
+                }
+                break;
+            case unsubscribe:
+                for (RedisPubSubListener<K, V> listener : get(channels, output.channel())) {
+                    listener.unsubscribed(output.channel(), output.count());
+                }
+                break;
+            default:
+                throw new UnsupportedOperationException("Operation " + output.type() + " not supported");
+        }
+    }
+
+    private void add(ConcurrentMap<Object, List<RedisPubSubListener<K, V>>> index, K key,
+            RedisPubSubListener<K, V> listener) {
+
+        LettuceAssert.notNull(key, "Channel/pattern must not be null");
+        LettuceAssert.notNull(listener, "RedisPubSubListener must not be null");
+
+        index.compute(routingKey(key), (k, listeners) -> {
+
+            List<RedisPubSubListener<K, V>> result = listeners != null ? listeners : new CopyOnWriteArrayList<>();
+            result.add(listener);
+            return result;
+        });
+    }
+
+    private void remove(ConcurrentMap<Object, List<RedisPubSubListener<K, V>>> index, K key,
+            RedisPubSubListener<K, V> listener) {
+
+        LettuceAssert.notNull(key, "Channel/pattern must not be null");
+
+        index.computeIfPresent(routingKey(key), (k, listeners) -> {
+
+            listeners.remove(listener);
+            return listeners.isEmpty() ? null : listeners;
+        });
+    }
+
+    private List<RedisPubSubListener<K, V>> get(ConcurrentMap<Object, List<RedisPubSubListener<K, V>>> index, K key) {
+
+        if (key == null || index.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<RedisPubSubListener<K, V>> listeners = index.get(routingKey(key));
+        return listeners != null ? listeners : Collections.emptyList();
+    }
+
+    static Object routingKey(Object key) {
+
+        if (key instanceof byte[]) {
+            return ByteBuffer.wrap((byte[]) key);
+        }
+
+        return key;
+    }
+}
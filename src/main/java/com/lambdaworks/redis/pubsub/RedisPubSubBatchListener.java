@@ -0,0 +1,43 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.pubsub;
+
+import java.util.List;
+
+/**
+ * Listener for pub/sub elements that receives all elements decoded from a single read as one batch. Batch delivery avoids
+ * per-message dispatch overhead for high-throughput subscribers.
+ * <p>
+ * Elements are {@link PubSubOutput} instances that are reused once the listener returns. Listeners must extract
+ * {@link PubSubOutput#channel() channel}, {@link PubSubOutput#pattern() pattern} and {@link PubSubOutput#get() message} during
+ * the callback and must not retain the list or its elements. Batches contain messages and subscription notifications in the
+ * order they were received, use {@link PubSubOutput#type()} to distinguish them.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.5
+ */
+@FunctionalInterface
+public interface RedisPubSubBatchListener<K, V> {
+
+    /**
+     * Pub/sub elements received within a single read.
+     *
+     * @param batch the batch, never empty.
+     */
+    void messages(List<PubSubOutput<K, V, V>> batch);
+}
@@ -20,13 +20,16 @@ import static com.lambdaworks.redis.protocol.CommandType.*;
 import com.lambdaworks.redis.protocol.Command;
 import rx.Observable;
 import rx.Subscriber;
+import rx.subscriptions.Subscriptions;
 
 import com.lambdaworks.redis.RedisReactiveCommandsImpl;
 import com.lambdaworks.redis.api.rx.Success;
 import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.protocol.CommandArgs;
 import com.lambdaworks.redis.pubsub.api.rx.ChannelMessage;
 import com.lambdaworks.redis.pubsub.api.rx.PatternMessage;
+import com.lambdaworks.redis.pubsub.api.rx.PubSubBackpressure;
 import com.lambdaworks.redis.pubsub.api.rx.RedisPubSubReactiveCommands;
 
 import java.util.Map;
@@ -113,6 +116,67 @@ public class RedisPubSubReactiveCommandsImpl<K, V> extends RedisReactiveCommands
         return Observable.create(new PubSubObservable<>(listener));
     }
 
+    @Override
+    public Observable<PatternMessage<K, V>> observePatterns(PubSubBackpressure backpressure) {
+
+        LettuceAssert.notNull(backpressure, "PubSubBackpressure must not be null");
+
+        return Observable.create(subscriber -> {
+
+            PubSubBackpressureProducer<PatternMessage<K, V>> producer = newProducer(subscriber, backpressure);
+            activate(subscriber, producer, new RedisPubSubAdapter<K, V>() {
+                @Override
+                public void message(K pattern, K channel, V message) {
+                    producer.onNext(channel, new PatternMessage<>(pattern, channel, message));
+                }
+            });
+        });
+    }
+
+    @Override
+    public Observable<ChannelMessage<K, V>> observeChannels(PubSubBackpressure backpressure) {
+
+        LettuceAssert.notNull(backpressure, "PubSubBackpressure must not be null");
+
+        return Observable.create(subscriber -> {
+
+            PubSubBackpressureProducer<ChannelMessage<K, V>> producer = newProducer(subscriber, backpressure);
+            activate(subscriber, producer, new RedisPubSubAdapter<K, V>() {
+                @Override
+                public void message(K channel, V message) {
+                    producer.onNext(channel, new ChannelMessage<>(channel, message));
+                }
+            });
+        });
+    }
+
+    private <T> PubSubBackpressureProducer<T> newProducer(Subscriber<? super T> subscriber, PubSubBackpressure backpressure) {
+
+        StatefulRedisPubSubConnection<K, V> connection = getStatefulConnection();
+
+        if (connection instanceof StatefulRedisPubSubConnectionImpl) {
+
+            StatefulRedisPubSubConnectionImpl<K, V> impl = (StatefulRedisPubSubConnectionImpl<K, V>) connection;
+            return new PubSubBackpressureProducer<>(subscriber, backpressure, impl::suspendReading, impl::resumeReading);
+        }
+
+        return new PubSubBackpressureProducer<>(subscriber, backpressure, () -> {
+        }, () -> {
+        });
+    }
+
+    private <T> void activate(Subscriber<? super T> subscriber, PubSubBackpressureProducer<T> producer,
+            RedisPubSubListener<K, V> listener) {
+
+        subscriber.add(Subscriptions.create(() -> {
+            getStatefulConnection().removeListener(listener);
+            producer.terminate();
+        }));
+
+        subscriber.setProducer(producer);
+        getStatefulConnection().addListener(listener);
+    }
+
     /**
      * Remove an existing listener.
      * 
@@ -71,4 +71,74 @@ public interface StatefulRedisPubSubConnection<K, V> extends StatefulRedisConnec
      * @param listener the listener, must not be {@literal null}.
      */
     void removeListener(RedisPubSubListener<K, V> listener);
+
+    /**
+     * Add a {@link RedisPubSubListener listener} that is notified only about messages and subscription notifications for
+     * {@code channel}. Registering a listener does not subscribe to the channel. Connections that do not support channel
+     * listeners throw {@link UnsupportedOperationException}.
+     *
+     * @param channel the channel, must not be {@literal null}.
+     * @param listener the listener, must not be {@literal null}.
+     * @since 4.5
+     */
+    default void addChannelListener(K channel, RedisPubSubListener<K, V> listener) {
+        throw new UnsupportedOperationException("Channel listeners not supported by " + getClass().getSimpleName());
+    }
+
+    /**
+     * Remove a {@link RedisPubSubListener listener} registered for {@code channel}. Connections that do not support channel
+     * listeners ignore the call.
+     *
+     * @param channel the channel, must not be {@literal null}.
+     * @param listener the listener, must not be {@literal null}.
+     * @since 4.5
+     */
+    default void removeChannelListener(K channel, RedisPubSubListener<K, V> listener) {
+    }
+
+    /**
+     * Add a {@link RedisPubSubListener listener} that is notified only about messages and subscription notifications for
+     * {@code pattern}. Messages are routed by the pattern that Redis reports as match. Registering a listener does not
+     * subscribe to the pattern. Connections that do not support pattern listeners throw
+     * {@link UnsupportedOperationException}.
+     *
+     * @param pattern the pattern, must not be {@literal null}.
+     * @param listener the listener, must not be {@literal null}.
+     * @since 4.5
+     */
+    default void addPatternListener(K pattern, RedisPubSubListener<K, V> listener) {
+        throw new UnsupportedOperationException("Pattern listeners not supported by " + getClass().getSimpleName());
+    }
+
+    /**
+     * Remove a {@link RedisPubSubListener listener} registered for {@code pattern}. Connections that do not support pattern
+     * listeners ignore the call.
+     *
+     * @param pattern the pattern, must not be {@literal null}.
+     * @param listener the listener, must not be {@literal null}.
+     * @since 4.5
+     */
+    default void removePatternListener(K pattern, RedisPubSubListener<K, V> listener) {
+    }
+
+    /**
+     * Add a new {@link RedisPubSubBatchListener batch listener} that receives all elements decoded from a single read at once.
+     * Connections that do not support batch listeners throw {@link UnsupportedOperationException}.
+     *
+     * @param listener the listener, must not be {@literal null}.
+     * @since 4.5
+     */
+    default void addBatchListener(RedisPubSubBatchListener<K, V> listener) {
+        throw new UnsupportedOperationException("Batch listeners not supported by " + getClass().getSimpleName());
+    }
+
+    /**
+     * Remove an existing {@link RedisPubSubBatchListener batch listener}. Connections that do not support batch listeners
+     * ignore the call.
+     *
+     * @param listener the listener, must not be {@literal null}.
+     * @since 4.5
+     */
+    default void removeBatchListener(RedisPubSubBatchListener<K, V> listener) {
+    }
 }
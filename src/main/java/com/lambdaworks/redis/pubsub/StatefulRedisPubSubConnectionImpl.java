@@ -22,6 +22,7 @@ import java.util.concurrent.TimeUnit;
 
 import com.lambdaworks.redis.*;
 import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.protocol.CommandType;
 import com.lambdaworks.redis.protocol.ConnectionWatchdog;
 import com.lambdaworks.redis.protocol.RedisCommand;
@@ -30,6 +31,7 @@ import com.lambdaworks.redis.pubsub.api.rx.RedisPubSubReactiveCommands;
 import com.lambdaworks.redis.pubsub.api.sync.RedisPubSubCommands;
 
 import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
 import io.netty.util.internal.ConcurrentSet;
 
 /**
@@ -49,9 +51,14 @@ public class StatefulRedisPubSubConnectionImpl<K, V> extends StatefulRedisConnec
     private static final Set<String> ALLOWED_COMMANDS_SUBSCRIBED;
 
     protected final List<RedisPubSubListener<K, V>> listeners;
+    protected final List<RedisPubSubBatchListener<K, V>> batchListeners;
     protected final Set<K> channels;
     protected final Set<K> patterns;
 
+    private final PubSubRoutingIndex<K, V> routingIndex = new PubSubRoutingIndex<>();
+
+    private volatile PubSubDispatcher dispatcher = PubSubDispatcher.inline();
+
     static {
 
         ALLOWED_COMMANDS_SUBSCRIBED = new HashSet<>(5, 1);
@@ -76,6 +83,7 @@ public class StatefulRedisPubSubConnectionImpl<K, V> extends StatefulRedisConnec
         super(writer, codec, timeout, unit);
 
         listeners = new CopyOnWriteArrayList<>();
+        batchListeners = new CopyOnWriteArrayList<>();
         channels = new ConcurrentSet<>();
         patterns = new ConcurrentSet<>();
     }
@@ -100,6 +108,82 @@ public class StatefulRedisPubSubConnectionImpl<K, V> extends StatefulRedisConnec
         listeners.remove(listener);
     }
 
+    @Override
+    public void addChannelListener(K channel, RedisPubSubListener<K, V> listener) {
+        routingIndex.addChannelListener(channel, listener);
+    }
+
+    @Override
+    public void removeChannelListener(K channel, RedisPubSubListener<K, V> listener) {
+        routingIndex.removeChannelListener(channel, listener);
+    }
+
+    @Override
+    public void addPatternListener(K pattern, RedisPubSubListener<K, V> listener) {
+        routingIndex.addPatternListener(pattern, listener);
+    }
+
+    @Override
+    public void removePatternListener(K pattern, RedisPubSubListener<K, V> listener) {
+        routingIndex.removePatternListener(pattern, listener);
+    }
+
+    /**
+     * Add a new batch listener.
+     *
+     * @param listener Listener.
+     */
+    @Override
+    public void addBatchListener(RedisPubSubBatchListener<K, V> listener) {
+        batchListeners.add(listener);
+    }
+
+    /**
+     * Remove an existing batch listener.
+     *
+     * @param listener Listener.
+     */
+    @Override
+    public void removeBatchListener(RedisPubSubBatchListener<K, V> listener) {
+        batchListeners.remove(listener);
+    }
+
+    /**
+     * Set the {@link PubSubDispatcher} that notifies {@link RedisPubSubListener listeners}. Batch listeners are always notified
+     * on the I/O thread.
+     *
+     * @param dispatcher the dispatcher, must not be {@literal null}.
+     * @since 4.5
+     */
+    public void setPubSubDispatcher(PubSubDispatcher dispatcher) {
+
+        LettuceAssert.notNull(dispatcher, "PubSubDispatcher must not be null");
+
+        dispatcher.setReadControl(this::suspendReading, this::resumeReading);
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Stop reading from the transport. Suspension must be balanced with {@link #resumeReading()}. Has no effect if the
+     * connection does not read through a {@link PubSubCommandHandler}.
+     */
+    void suspendReading() {
+
+        if (getChannelWriter() instanceof PubSubCommandHandler) {
+            ((PubSubCommandHandler<K, V>) getChannelWriter()).suspendReading();
+        }
+    }
+
+    /**
+     * Resume reading from the transport.
+     */
+    void resumeReading() {
+
+        if (getChannelWriter() instanceof PubSubCommandHandler) {
+            ((PubSubCommandHandler<K, V>) getChannelWriter()).resumeReading();
+        }
+    }
+
     @Override
     public RedisPubSubAsyncCommands<K, V> async() {
         return (RedisPubSubAsyncCommands<K, V>) async;
@@ -130,6 +214,25 @@ public class StatefulRedisPubSubConnectionImpl<K, V> extends StatefulRedisConnec
         return new RedisPubSubReactiveCommandsImpl<>(this, codec);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+
+        if (msg instanceof PubSubOutputBatch) {
+
+            List<PubSubOutput<K, V, V>> batch = (List<PubSubOutput<K, V, V>>) msg;
+
+            for (int i = 0; i < batch.size(); i++) {
+                channelRead(batch.get(i));
+            }
+
+            notifyBatchListeners(batch);
+            return;
+        }
+
+        super.channelRead(ctx, msg);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public void channelRead(Object msg) {
@@ -141,7 +244,24 @@ public class StatefulRedisPubSubConnectionImpl<K, V> extends StatefulRedisConnec
         }
 
         updateInternalState(output);
-        notifyListeners(output);
+
+        PubSubDispatcher dispatcher = this.dispatcher;
+
+        if (!dispatcher.isOffloading()) {
+            notifyListeners(output);
+            return;
+        }
+
+        // outputs are reused after the read completes
+        PubSubOutput<K, V, V> copy = output.copy();
+        dispatcher.dispatch(copy.channel() != null ? copy.channel() : copy.pattern(), () -> notifyListeners(copy));
+    }
+
+    @Override
+    public synchronized void close() {
+
+        super.close();
+        dispatcher.close();
     }
 
     @Override
@@ -212,6 +332,28 @@ public class StatefulRedisPubSubConnectionImpl<K, V> extends StatefulRedisConnec
                     throw new UnsupportedOperationException("Operation " + output.type() + " not supported");
             }
         }
+
+        notifyRoutedListeners(output);
+    }
+
+    /**
+     * Notify listeners that are registered for the channel or pattern of {@code output}.
+     *
+     * @param output the pub/sub element.
+     * @since 4.5
+     */
+    protected void notifyRoutedListeners(PubSubOutput<K, V, V> output) {
+
+        if (!routingIndex.isEmpty()) {
+            routingIndex.notifyListeners(output);
+        }
+    }
+
+    protected void notifyBatchListeners(List<PubSubOutput<K, V, V>> batch) {
+
+        for (RedisPubSubBatchListener<K, V> listener : batchListeners) {
+            listener.messages(batch);
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.pubsub.api.rx;
+
+import rx.BackpressureOverflow;
+
+import com.lambdaworks.redis.internal.LettuceAssert;
+
+/**
+ * Backpressure strategy for pub/sub message streams. Messages are emitted according to the demand requested by the subscriber,
+ * messages that arrive without outstanding demand are retained according to the {@link Strategy}.
+ *
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public class PubSubBackpressure {
+
+    /**
+     * Default capacity for {@link #buffer()} and {@link #dropOldest()}.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final Strategy strategy;
+    private final int capacity;
+    private final BackpressureOverflow.Strategy overflow;
+
+    private PubSubBackpressure(Strategy strategy, int capacity, BackpressureOverflow.Strategy overflow) {
+
+        LettuceAssert.isTrue(capacity > 0, "Capacity must be greater 0");
+        LettuceAssert.notNull(overflow, "BackpressureOverflow.Strategy must not be null");
+
+        this.strategy = strategy;
+        this.capacity = capacity;
+        this.overflow = overflow;
+    }
+
+    /**
+     * Buffer messages using the {@link #DEFAULT_CAPACITY}.
+     *
+     * @return the {@link PubSubBackpressure}.
+     * @see #buffer(int)
+     */
+    public static PubSubBackpressure buffer() {
+        return buffer(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Buffer up to {@code capacity} messages and signal {@link rx.exceptions.MissingBackpressureException} on overflow.
+     *
+     * @param capacity the buffer capacity, must be greater {@literal 0}.
+     * @return the {@link PubSubBackpressure}.
+     * @see #buffer(int, BackpressureOverflow.Strategy)
+     */
+    public static PubSubBackpressure buffer(int capacity) {
+        return buffer(capacity, BackpressureOverflow.ON_OVERFLOW_ERROR);
+    }
+
+    /**
+     * Buffer up to {@code capacity} messages. The connection stops reading from the transport once {@code capacity} messages
+     * are buffered and resumes reading once the buffer is drained to half of its capacity. Messages decoded from data that
+     * was already read when the buffer filled up are subject to the {@code overflow} strategy.
+     * <p>
+     * While reading is suspended, the connection receives no responses at all. Commands issued on the same connection, such
+     * as {@literal UNSUBSCRIBE} or {@literal PING}, do not complete until the subscriber requests further messages or
+     * unsubscribes from the stream.
+     * </p>
+     *
+     * @param capacity the buffer capacity, must be greater {@literal 0}.
+     * @param overflow the strategy applied to messages arriving at a full buffer, must not be {@literal null}.
+     * @return the {@link PubSubBackpressure}.
+     */
+    public static PubSubBackpressure buffer(int capacity, BackpressureOverflow.Strategy overflow) {
+        return new PubSubBackpressure(Strategy.BUFFER, capacity, overflow);
+    }
+
+    /**
+     * Retain only the latest message per channel. Older messages of a channel are dropped.
+     *
+     * @return the {@link PubSubBackpressure}.
+     */
+    public static PubSubBackpressure latest() {
+        return new PubSubBackpressure(Strategy.LATEST, Integer.MAX_VALUE, BackpressureOverflow.ON_OVERFLOW_DROP_OLDEST);
+    }
+
+    /**
+     * Buffer messages using the {@link #DEFAULT_CAPACITY} and drop the oldest message on overflow.
+     *
+     * @return the {@link PubSubBackpressure}.
+     * @see #dropOldest(int)
+     */
+    public static PubSubBackpressure dropOldest() {
+        return dropOldest(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Buffer up to {@code capacity} messages and drop the oldest buffered message on overflow.
+     *
+     * @param capacity the buffer capacity, must be greater {@literal 0}.
+     * @return the {@link PubSubBackpressure}.
+     */
+    public static PubSubBackpressure dropOldest(int capacity) {
+        return new PubSubBackpressure(Strategy.DROP_OLDEST, capacity, BackpressureOverflow.ON_OVERFLOW_DROP_OLDEST);
+    }
+
+    /**
+     * @return the {@link Strategy}.
+     */
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * @return the capacity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the strategy applied to messages arriving at a full buffer.
+     */
+    public BackpressureOverflow.Strategy getOverflowStrategy() {
+        return overflow;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [strategy=" + strategy + ", capacity=" + capacity + ']';
+    }
+
+    /**
+     * Strategies to retain messages without outstanding demand.
+     */
+    public enum Strategy {
+
+        /**
+         * Buffer messages, suspend reading from the transport while the buffer is full and apply the overflow strategy to
+         * messages that arrive at a full buffer.
+         */
+        BUFFER,
+
+        /**
+         * Retain the latest message per channel.
+         */
+        LATEST,
+
+        /**
+         * Buffer messages and drop the oldest message on overflow.
+         */
+        DROP_OLDEST;
+    }
+}
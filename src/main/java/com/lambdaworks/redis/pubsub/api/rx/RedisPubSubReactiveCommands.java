@@ -68,6 +68,28 @@ public interface RedisPubSubReactiveCommands<K, V> extends RedisReactiveCommands
      */
     Observable<ChannelMessage<K, V>> observeChannels();
 
+    /**
+     * Observable for messages ({@literal pmessage}) received though pattern subscriptions that emits messages according to the
+     * subscriber's demand. Messages without outstanding demand are retained according to {@code backpressure}. The
+     * connection needs to be subscribed to one or more patterns using {@link #psubscribe(Object[])}.
+     *
+     * @param backpressure the backpressure strategy, must not be {@literal null}.
+     * @return hot observable for subscriptions to {@literal pmessage}'s.
+     * @since 4.5
+     */
+    Observable<PatternMessage<K, V>> observePatterns(PubSubBackpressure backpressure);
+
+    /**
+     * Observable for messages ({@literal message}) received though channel subscriptions that emits messages according to the
+     * subscriber's demand. Messages without outstanding demand are retained according to {@code backpressure}. The
+     * connection needs to be subscribed to one or more channels using {@link #subscribe(Object[])}.
+     *
+     * @param backpressure the backpressure strategy, must not be {@literal null}.
+     * @return hot observable for subscriptions to {@literal message}'s.
+     * @since 4.5
+     */
+    Observable<ChannelMessage<K, V>> observeChannels(PubSubBackpressure backpressure);
+
     /**
      * Listen for messages published to channels matching the given patterns.
      * 
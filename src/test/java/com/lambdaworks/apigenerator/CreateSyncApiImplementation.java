@@ -0,0 +1,148 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.apigenerator;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.ModifierSet;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.type.VoidType;
+import com.lambdaworks.redis.internal.LettuceSets;
+
+/**
+ * Create the abstract synchronous API implementation that delegates to {@link com.lambdaworks.redis.AbstractRedisAsyncCommands}
+ * and awaits command completion.
+ *
+ * @author Mark Paluch
+ */
+public class CreateSyncApiImplementation {
+
+    private Set<String> KEEP_METHOD_RESULT_TYPE = LettuceSets.unmodifiableSet("shutdown", "debugOom", "debugSegfault",
+            "digest", "close", "isOpen", "BaseRedisCommands.reset");
+
+    private Set<String> FILTER_METHODS = LettuceSets.unmodifiableSet("setTimeout", "auth", "getStatefulConnection");
+
+    private Set<String> TRANSACTION_CONTROL_METHODS = LettuceSets.unmodifiableSet("multi", "exec");
+
+    private ImplementationCompilationUnitFactory factory;
+
+    public CreateSyncApiImplementation() {
+
+        List<String> templateNames = Arrays.stream(Constants.TEMPLATE_NAMES)
+                .filter(templateName -> !templateName.contains("Sentinel")).collect(Collectors.toList());
+
+        List<File> templateFiles = templateNames.stream()
+                .map(templateName -> new File(Constants.TEMPLATES, "com/lambdaworks/redis/api/" + templateName + ".java"))
+                .collect(Collectors.toList());
+
+        List<File> additionalFiles = Arrays.asList(
+                new File(Constants.SOURCES, "com/lambdaworks/redis/cluster/api/sync/RedisClusterCommands.java"),
+                new File(Constants.SOURCES, "com/lambdaworks/redis/RedisKeysConnection.java"),
+                new File(Constants.SOURCES, "com/lambdaworks/redis/RedisHLLConnection.java"));
+
+        List<String> imports = Arrays.asList("com.lambdaworks.redis.api.StatefulConnection",
+                "com.lambdaworks.redis.api.StatefulRedisConnection", "com.lambdaworks.redis.api.sync.*",
+                "com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands");
+
+        factory = new ImplementationCompilationUnitFactory(templateFiles, additionalFiles, Constants.SOURCES,
+                "com.lambdaworks.redis", "AbstractRedisSyncCommands", ModifierSet.PUBLIC, typeDoc(),
+                Arrays.asList("RedisClusterCommands<K, V>", "RedisTransactionalCommands<K, V>"), imports, members(),
+                methodFilter(), MethodDeclaration::getType, methodBodyFunction());
+    }
+
+    private String typeDoc() {
+        return "\n * Abstract class implementing the synchronous Redis API by calling the asynchronous API and awaiting the "
+                + "command result.\n * Calls are dispatched without reflection.\n *\n * @param <K> Key type.\n"
+                + " * @param <V> Value type.\n * @author Mark Paluch\n * @since 4.5\n * @generated by "
+                + getClass().getName() + "\n ";
+    }
+
+    private List<String> members() {
+
+        List<String> members = new ArrayList<>();
+
+        members.add("private final StatefulConnection<K, V> connection;");
+        members.add("private final StatefulRedisConnection<K, V> transactionalConnection;");
+        members.add("protected final AbstractRedisAsyncCommands<K, V> async;");
+
+        members.add("/**\n     * Initialize a new instance.\n     *\n     * @param connection the connection.\n"
+                + "     * @param async the asynchronous API to delegate to.\n     */\n"
+                + "    @SuppressWarnings(\"unchecked\")\n"
+                + "    protected AbstractRedisSyncCommands(StatefulConnection<K, V> connection, "
+                + "AbstractRedisAsyncCommands<K, V> async) {"
+                + "this.connection = connection;"
+                + "this.transactionalConnection = connection instanceof StatefulRedisConnection "
+                + "? (StatefulRedisConnection<K, V>) connection : null;"
+                + "this.async = async; }");
+
+        members.add("/**\n     * Await the command result. Returns {@literal null} without waiting if a transaction is "
+                + "active.\n"
+                + "     *\n     * @param future the command future.\n     * @param <T> result type.\n"
+                + "     * @return the command result.\n     */\n"
+                + "    protected <T> T await(RedisFuture<T> future) {"
+                + "if (transactionalConnection != null && transactionalConnection.isMulti()) { return null; }"
+                + "return awaitTransactionControl(future); }");
+
+        members.add("/**\n     * Await the result of a command that controls a transaction.\n"
+                + "     *\n     * @param future the command future.\n     * @param <T> result type.\n"
+                + "     * @return the command result.\n     */\n"
+                + "    protected <T> T awaitTransactionControl(RedisFuture<T> future) {"
+                + "return LettuceFutures.awaitOrCancel(future, connection.getTimeout(), connection.getTimeoutUnit()); }");
+
+        return members;
+    }
+
+    private Predicate<MethodDeclaration> methodFilter() {
+        return method -> !FILTER_METHODS.contains(method.getName());
+    }
+
+    private Function<MethodDeclaration, String> methodBodyFunction() {
+        return method -> {
+
+            ClassOrInterfaceDeclaration classOfMethod = (ClassOrInterfaceDeclaration) method.getParentNode();
+            String call = "async." + method.getName() + "(" + getArguments(method) + ")";
+            boolean isVoid = method.getType() instanceof VoidType;
+
+            if (KEEP_METHOD_RESULT_TYPE.contains(method.getName())
+                    || KEEP_METHOD_RESULT_TYPE.contains(classOfMethod.getName() + "." + method.getName())) {
+                return isVoid ? call + ";" : "return " + call + ";";
+            }
+
+            String await = TRANSACTION_CONTROL_METHODS.contains(method.getName()) ? "awaitTransactionControl" : "await";
+            return isVoid ? await + "(" + call + ");" : "return " + await + "(" + call + ");";
+        };
+    }
+
+    static String getArguments(MethodDeclaration method) {
+        return method.getParameters().stream().map(Parameter::getId).map(Object::toString).collect(Collectors.joining(", "));
+    }
+
+    @Test
+    public void createClass() throws Exception {
+        factory.createClass();
+    }
+}
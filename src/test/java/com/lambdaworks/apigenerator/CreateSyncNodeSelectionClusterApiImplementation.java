@@ -0,0 +1,116 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.apigenerator;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.ReferenceType;
+import com.github.javaparser.ast.type.Type;
+import com.lambdaworks.redis.internal.LettuceSets;
+
+/**
+ * Create the abstract synchronous node selection API implementation that invokes commands on the asynchronous API of each
+ * node.
+ *
+ * @author Mark Paluch
+ */
+public class CreateSyncNodeSelectionClusterApiImplementation {
+
+    private Set<String> FILTER_METHODS = LettuceSets.unmodifiableSet("shutdown", "debugOom", "debugSegfault", "digest", "close",
+            "isOpen", "BaseRedisCommands.reset", "readOnly", "readWrite", "dispatch");
+
+    private ImplementationCompilationUnitFactory factory;
+
+    public CreateSyncNodeSelectionClusterApiImplementation() {
+
+        List<File> templateFiles = Arrays.stream(Constants.TEMPLATE_NAMES)
+                .filter(templateName -> !templateName.contains("Transactional") && !templateName.contains("Sentinel"))
+                .map(templateName -> new File(Constants.TEMPLATES, "com/lambdaworks/redis/api/" + templateName + ".java"))
+                .collect(Collectors.toList());
+
+        List<String> imports = Arrays.asList("java.util.function.Function", "com.lambdaworks.redis.RedisFuture",
+                "com.lambdaworks.redis.api.async.RedisAsyncCommands", "com.lambdaworks.redis.cluster.api.sync.Executions",
+                "com.lambdaworks.redis.cluster.api.sync.NodeSelectionCommands");
+
+        factory = new ImplementationCompilationUnitFactory(templateFiles, Collections.emptyList(), Constants.SOURCES,
+                "com.lambdaworks.redis.cluster", "AbstractNodeSelectionSyncCommands", 0, typeDoc(),
+                Collections.singletonList("NodeSelectionCommands<K, V>"), imports, Arrays.asList(members(), closeMember()),
+                methodFilter(), methodTypeMutator(), methodBodyFunction());
+    }
+
+    private String typeDoc() {
+        return "\n * Abstract class implementing the synchronous node selection API by invoking each command on the "
+                + "asynchronous API of the\n * selected nodes. Calls are dispatched without reflection.\n *\n"
+                + " * @param <K> Key type.\n"
+                + " * @param <V> Value type.\n * @author Mark Paluch\n * @since 4.5\n * @generated by " + getClass().getName()
+                + "\n ";
+    }
+
+    private String members() {
+        return "/**\n     * Invoke the command on the asynchronous API of each selected node and await the results.\n     *\n"
+                + "     * @param command function invoking the command.\n     * @param <T> result type.\n"
+                + "     * @return the executions.\n     */\n"
+                + "    protected abstract <T> Executions<T> execute("
+                + "Function<RedisAsyncCommands<K, V>, RedisFuture<T>> command);";
+    }
+
+    private String closeMember() {
+        return "/**\n     * Close the connections of the selected nodes.\n     */\n"
+                + "    @Override\n    public abstract void close();";
+    }
+
+    private Predicate<MethodDeclaration> methodFilter() {
+        return method -> {
+            ClassOrInterfaceDeclaration classOfMethod = (ClassOrInterfaceDeclaration) method.getParentNode();
+            return !FILTER_METHODS.contains(method.getName())
+                    && !FILTER_METHODS.contains(classOfMethod.getName() + "." + method.getName());
+        };
+    }
+
+    private Function<MethodDeclaration, Type> methodTypeMutator() {
+        return method -> {
+
+            String typeAsString = method.getType().toStringWithoutComments().trim();
+            if (typeAsString.equals("void")) {
+                typeAsString = "Void";
+            }
+
+            return new ReferenceType(new ClassOrInterfaceType("Executions<" + typeAsString + ">"));
+        };
+    }
+
+    private Function<MethodDeclaration, String> methodBodyFunction() {
+        return method -> "return execute(it -> it." + method.getName() + "("
+                + CreateSyncApiImplementation.getArguments(method) + "));";
+    }
+
+    @Test
+    public void createClass() throws Exception {
+        factory.createClass();
+    }
+}
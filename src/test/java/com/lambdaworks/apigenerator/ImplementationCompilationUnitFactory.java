@@ -0,0 +1,239 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.apigenerator;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import com.github.javaparser.ASTHelper;
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseException;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.ImportDeclaration;
+import com.github.javaparser.ast.PackageDeclaration;
+import com.github.javaparser.ast.TypeParameter;
+import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.ModifierSet;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.comments.JavadocComment;
+import com.github.javaparser.ast.expr.AnnotationExpr;
+import com.github.javaparser.ast.expr.MarkerAnnotationExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.Type;
+import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
+
+/**
+ * Factory to create an abstract class implementing all methods of one or more API templates. Method bodies are supplied by a
+ * {@link Function} so the generated class can delegate to another API without reflection.
+ *
+ * @author Mark Paluch
+ */
+class ImplementationCompilationUnitFactory {
+
+    private final List<File> templateFiles;
+    private final List<File> additionalFiles;
+    private final String targetPackage;
+    private final String targetName;
+    private final int modifiers;
+    private final File target;
+
+    private final String typeDoc;
+    private final List<String> implementedTypes;
+    private final List<String> imports;
+    private final List<String> members;
+    private final Predicate<MethodDeclaration> methodFilter;
+    private final Function<MethodDeclaration, Type> methodReturnTypeFunction;
+    private final Function<MethodDeclaration, String> methodBodyFunction;
+
+    private final Set<String> signatures = new HashSet<>();
+    private final CompilationUnit result = new CompilationUnit();
+    private ClassOrInterfaceDeclaration resultType;
+
+    ImplementationCompilationUnitFactory(List<File> templateFiles, List<File> additionalFiles, File sources,
+            String targetPackage, String targetName, int modifiers, String typeDoc, List<String> implementedTypes,
+            List<String> imports, List<String> members, Predicate<MethodDeclaration> methodFilter,
+            Function<MethodDeclaration, Type> methodReturnTypeFunction,
+            Function<MethodDeclaration, String> methodBodyFunction) {
+
+        this.templateFiles = templateFiles;
+        this.additionalFiles = additionalFiles;
+        this.targetPackage = targetPackage;
+        this.targetName = targetName;
+        this.modifiers = modifiers;
+        this.typeDoc = typeDoc;
+        this.implementedTypes = implementedTypes;
+        this.imports = imports;
+        this.members = members;
+        this.methodFilter = methodFilter;
+        this.methodReturnTypeFunction = methodReturnTypeFunction;
+        this.methodBodyFunction = methodBodyFunction;
+
+        this.target = new File(sources, targetPackage.replace('.', '/') + "/" + targetName + ".java");
+    }
+
+    public void createClass() throws Exception {
+
+        result.setPackage(new PackageDeclaration(ASTHelper.createNameExpr(targetPackage)));
+
+        resultType = new ClassOrInterfaceDeclaration(modifiers | ModifierSet.ABSTRACT, false, targetName);
+        resultType.setTypeParameters(
+                new ArrayList<>(Arrays.asList(new TypeParameter("K", null), new TypeParameter("V", null))));
+        resultType.setImplements(new ArrayList<>());
+        for (String implementedType : implementedTypes) {
+            resultType.getImplements().add(new ClassOrInterfaceType(implementedType));
+        }
+        resultType.setComment(new JavadocComment(typeDoc));
+
+        Set<String> importNames = new TreeSet<>(imports);
+        ASTHelper.addTypeDeclaration(result, resultType);
+        resultType.setParentNode(result);
+
+        for (String member : members) {
+            ASTHelper.addMember(resultType, parseMember(member));
+        }
+
+        for (File templateFile : templateFiles) {
+
+            CompilationUnit template = JavaParser.parse(templateFile);
+
+            if (result.getComment() == null) {
+                result.setComment(template.getComment());
+            }
+
+            if (template.getImports() != null) {
+                for (ImportDeclaration importDeclaration : template.getImports()) {
+                    importNames.add(importDeclaration.getName().toString() + (importDeclaration.isAsterisk() ? ".*" : ""));
+                }
+            }
+
+            new MethodVisitor().visit(template, null);
+        }
+
+        // additional files contribute methods that are not declared by the templates, their types are already imported
+        for (File additionalFile : additionalFiles) {
+            new MethodVisitor().visit(JavaParser.parse(additionalFile), null);
+        }
+
+        String typeSource = resultType.toString();
+
+        result.setImports(new ArrayList<>());
+        for (String importName : importNames) {
+
+            String packageName = importName.substring(0, importName.lastIndexOf('.'));
+            String simpleName = importName.substring(importName.lastIndexOf('.') + 1);
+            if (packageName.equals(targetPackage) || (!simpleName.equals("*") && importNames.contains(packageName + ".*"))
+                    || (!simpleName.equals("*") && !Pattern.compile("\\b" + simpleName + "\\b").matcher(typeSource).find())) {
+                continue;
+            }
+
+            if (importName.endsWith(".*")) {
+                result.getImports().add(
+                        new ImportDeclaration(new NameExpr(importName.substring(0, importName.length() - 2)), false, true));
+            } else {
+                result.getImports().add(new ImportDeclaration(new NameExpr(importName), false, false));
+            }
+        }
+
+        writeResult();
+    }
+
+    /**
+     * Parse a member within the context of the target class so constructors can be parsed as well.
+     */
+    private BodyDeclaration parseMember(String member) throws ParseException {
+
+        String source = "class " + targetName + " {" + member + "}";
+        CompilationUnit compilationUnit = JavaParser.parse(new ByteArrayInputStream(source.getBytes()));
+        return compilationUnit.getTypes().get(0).getMembers().get(0);
+    }
+
+    protected void writeResult() throws IOException {
+        FileOutputStream fos = new FileOutputStream(target);
+        fos.write(result.toString().getBytes());
+        fos.close();
+    }
+
+    /**
+     * Create a signature key to skip methods that are declared by more than one template.
+     */
+    private static String getSignature(MethodDeclaration method) {
+
+        StringBuilder signature = new StringBuilder(method.getName()).append('(');
+        for (Parameter parameter : method.getParameters()) {
+            signature.append(parameter.getType().toStringWithoutComments().trim());
+            if (parameter.isVarArgs()) {
+                signature.append("[]");
+            }
+            signature.append(',');
+        }
+
+        return signature.append(')').toString();
+    }
+
+    /**
+     * Simple visitor implementation for visiting MethodDeclaration nodes.
+     */
+    private class MethodVisitor extends VoidVisitorAdapter<Object> {
+
+        @Override
+        public void visit(MethodDeclaration n, Object arg) {
+
+            if (ModifierSet.isStatic(n.getModifiers()) || n.isDefault() || !methodFilter.test(n)
+                    || !signatures.add(getSignature(n))) {
+                return;
+            }
+
+            MethodDeclaration method = new MethodDeclaration(ModifierSet.PUBLIC, methodReturnTypeFunction.apply(n),
+                    n.getName());
+
+            for (Parameter parameter : n.getParameters()) {
+                Parameter param = ASTHelper.createParameter(parameter.getType(), parameter.getId().getName());
+                param.setVarArgs(parameter.isVarArgs());
+
+                ASTHelper.addParameter(method, param);
+            }
+
+            if (n.getTypeParameters() != null) {
+                method.setTypeParameters(new ArrayList<>());
+                method.getTypeParameters().addAll(n.getTypeParameters());
+            }
+
+            List<AnnotationExpr> annotations = new ArrayList<>();
+            annotations.add(new MarkerAnnotationExpr(new NameExpr("Override")));
+            if (n.getAnnotations() != null) {
+                annotations.addAll(n.getAnnotations());
+            }
+            method.setAnnotations(annotations);
+
+            try {
+                method.setBody(JavaParser.parseBlock("{" + methodBodyFunction.apply(n) + "}"));
+            } catch (Exception e) {
+                throw new IllegalStateException("Cannot create body for " + n.getName(), e);
+            }
+
+            ASTHelper.addMember(resultType, method);
+        }
+    }
+}
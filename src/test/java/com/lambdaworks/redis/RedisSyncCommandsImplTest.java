@@ -0,0 +1,122 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+
+/**
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RedisSyncCommandsImplTest {
+
+    @Mock
+    private StatefulRedisConnection<String, String> connection;
+
+    @Mock
+    private AbstractRedisAsyncCommands<String, String> async;
+
+    @Mock
+    private RedisFuture<String> future;
+
+    @Mock
+    private RedisFuture<List<Object>> execFuture;
+
+    private RedisSyncCommandsImpl<String, String> sut;
+
+    @Before
+    public void before() {
+        sut = new RedisSyncCommandsImpl<>(connection, async);
+    }
+
+    @Test
+    public void shouldAwaitCommandResult() throws Exception {
+
+        when(connection.getTimeout()).thenReturn(1L);
+        when(connection.getTimeoutUnit()).thenReturn(TimeUnit.SECONDS);
+        when(async.set("key", "value")).thenReturn(future);
+        when(future.await(1, TimeUnit.SECONDS)).thenReturn(true);
+        when(future.get()).thenReturn("OK");
+
+        assertThat(sut.set("key", "value")).isEqualTo("OK");
+    }
+
+    @Test
+    public void shouldCancelCommandOnTimeout() throws Exception {
+
+        when(connection.getTimeout()).thenReturn(1L);
+        when(connection.getTimeoutUnit()).thenReturn(TimeUnit.SECONDS);
+        when(async.get("key")).thenReturn(future);
+        when(future.await(1, TimeUnit.SECONDS)).thenReturn(false);
+
+        try {
+            sut.get("key");
+            fail("Missing RedisCommandTimeoutException");
+        } catch (RedisCommandTimeoutException e) {
+            verify(future).cancel(true);
+        }
+    }
+
+    @Test
+    public void shouldNotAwaitCommandsWithinTransaction() throws Exception {
+
+        when(connection.isMulti()).thenReturn(true);
+        when(async.set("key", "value")).thenReturn(future);
+
+        assertThat(sut.set("key", "value")).isNull();
+        verify(future, never()).await(anyLong(), any());
+    }
+
+    @Test
+    public void shouldAwaitTransactionControlCommands() throws Exception {
+
+        when(connection.getTimeout()).thenReturn(1L);
+        when(connection.getTimeoutUnit()).thenReturn(TimeUnit.SECONDS);
+        when(async.exec()).thenReturn(execFuture);
+        when(execFuture.await(1, TimeUnit.SECONDS)).thenReturn(true);
+        when(execFuture.get()).thenReturn(Collections.singletonList("OK"));
+
+        assertThat(sut.exec()).containsOnly("OK");
+        verify(connection, never()).isMulti();
+    }
+
+    @Test
+    public void shouldReturnNonFutureResultsDirectly() {
+
+        when(async.select(1)).thenReturn("OK");
+
+        assertThat(sut.select(1)).isEqualTo("OK");
+        assertThat(sut.getStatefulConnection()).isSameAs(connection);
+    }
+}
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assume.assumeTrue;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -625,6 +626,20 @@ public class AdvancedClusterClientTest extends AbstractClusterTest {
 
     }
 
+    @Test
+    public void clusterScanParallel() throws Exception {
+
+        RedisAdvancedClusterCommands<String, String> sync = commands.getStatefulConnection().sync();
+        sync.mset(KeysAndValues.MAP);
+
+        Set<String> keys = ConcurrentHashMap.newKeySet();
+
+        Long count = commands.scanParallel(keys::add, ScanArgs.Builder.limit(100), 2).get();
+
+        assertThat(keys).containsAll(KeysAndValues.KEYS);
+        assertThat(count).isEqualTo(keys.size());
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void clusterScanCursorFinished() throws Exception {
         syncCommands.scan(ScanCursor.FINISHED);
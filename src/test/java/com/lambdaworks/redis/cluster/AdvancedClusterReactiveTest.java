@@ -412,6 +412,36 @@ public class AdvancedClusterReactiveTest extends AbstractClusterTest {
                 KeysAndValues.KEYS.stream().filter(k -> k.startsWith("a")).collect(Collectors.toList()));
     }
 
+    @Test
+    public void clusterScanParallel() throws Exception {
+
+        RedisAdvancedClusterCommands<String, String> sync = commands.getStatefulConnection().sync();
+        sync.mset(KeysAndValues.MAP);
+
+        List<String> keys = commands.scanParallel(ScanArgs.Builder.matches("a*").limit(10), 2).toList().toBlocking()
+                .single();
+
+        assertThat(keys).containsAll(
+                KeysAndValues.KEYS.stream().filter(k -> k.startsWith("a")).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void clusterScanParallelManyPages() throws Exception {
+
+        RedisAdvancedClusterCommands<String, String> sync = commands.getStatefulConnection().sync();
+
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < 3000; i++) {
+            values.put("page-" + i, "value");
+        }
+        sync.mset(values);
+
+        List<String> keys = commands.scanParallel(ScanArgs.Builder.matches("page-*").limit(1), 2).toList().toBlocking()
+                .single();
+
+        assertThat(new HashSet<>(keys)).isEqualTo(values.keySet());
+    }
+
     private <T> T getSingle(Observable<T> observable) {
         return observable.toBlocking().single();
     }
@@ -21,6 +21,9 @@ import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 
+import com.lambdaworks.redis.HedgedReadOptions;
+import com.lambdaworks.redis.PubSubDispatchOptions;
+
 /**
  * @author Mark Paluch
  */
@@ -31,7 +34,8 @@ public class ClusterClientOptionsTest {
 
         ClusterClientOptions options = ClusterClientOptions.builder().closeStaleConnections(true).refreshClusterView(true)
                 .autoReconnect(false).requestQueueSize(100).suspendReconnectOnProtocolFailure(true).maxRedirects(1234)
-                .validateClusterNodeMembership(false).build();
+                .validateClusterNodeMembership(false).hedgedReadOptions(HedgedReadOptions.enabled()).connectionsPerNode(4)
+                .pubSubDispatchOptions(PubSubDispatchOptions.offloaded()).build();
 
         ClusterClientOptions copy = ClusterClientOptions.copyOf(options);
 
@@ -45,6 +49,9 @@ public class ClusterClientOptionsTest {
         assertThat(copy.isCancelCommandsOnReconnectFailure()).isEqualTo(options.isCancelCommandsOnReconnectFailure());
         assertThat(copy.isSuspendReconnectOnProtocolFailure()).isEqualTo(options.isSuspendReconnectOnProtocolFailure());
         assertThat(copy.getMaxRedirects()).isEqualTo(options.getMaxRedirects());
+        assertThat(copy.getHedgedReadOptions().isEnabled()).isTrue();
+        assertThat(copy.getConnectionsPerNode()).isEqualTo(4);
+        assertThat(copy.getPubSubDispatchOptions().isOffload()).isTrue();
     }
 
     @Test
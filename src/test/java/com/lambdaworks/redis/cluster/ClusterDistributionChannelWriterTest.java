@@ -16,16 +16,65 @@
 package com.lambdaworks.redis.cluster;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
 
+import com.lambdaworks.redis.ClientOptions;
+import com.lambdaworks.redis.RedisChannelWriter;
+import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.StatefulRedisConnectionImpl;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.cluster.models.partitions.Partitions;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+import com.lambdaworks.redis.codec.StringCodec;
 import com.lambdaworks.redis.internal.HostAndPort;
+import com.lambdaworks.redis.output.IntegerOutput;
+import com.lambdaworks.redis.output.StatusOutput;
+import com.lambdaworks.redis.output.ValueOutput;
+import com.lambdaworks.redis.protocol.*;
 
 /**
  * @author Mark Paluch
  */
+@RunWith(MockitoJUnitRunner.class)
 public class ClusterDistributionChannelWriterTest {
 
+    @Mock
+    private RedisChannelWriter<String, String> defaultWriter;
+
+    @Mock
+    private RedisChannelWriter<String, String> nodeWriter1;
+
+    @Mock
+    private RedisChannelWriter<String, String> nodeWriter2;
+
+    @Mock
+    private StatefulRedisConnectionImpl<String, String> nodeConnection1;
+
+    @Mock
+    private StatefulRedisConnectionImpl<String, String> nodeConnection2;
+
+    @Mock
+    private PooledClusterConnectionProvider<String, String> connectionProvider;
+
+    @Mock
+    private HedgedReadDispatcher hedgedReads;
+
     @Test
     public void shouldParseAskTargetCorrectly() throws Exception {
 
@@ -61,4 +110,154 @@ public class ClusterDistributionChannelWriterTest {
         assertThat(moveTarget.getHostText()).isEqualTo("1:2:3:4::6");
         assertThat(moveTarget.getPort()).isEqualTo(6381);
     }
+
+    @Test
+    public void shouldParseMovedSlotCorrectly() throws Exception {
+
+        assertThat(ClusterDistributionChannelWriter.getMovedSlot("MOVED 1234 127.0.0.1:6381")).isEqualTo(1234);
+        assertThat(ClusterDistributionChannelWriter.getMovedSlot("MOVED 0 1:2:3:4::6:6381")).isEqualTo(0);
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void shouldUpdateSlotCacheOnMovedRedirection() {
+
+        ClusterDistributionChannelWriter<String, String> sut = new ClusterDistributionChannelWriter<>(ClientOptions.create(),
+                defaultWriter, ClusterEventListener.NO_OP);
+        sut.setClusterConnectionProvider(connectionProvider);
+
+        int slot = SlotHash.getSlot("a");
+        Partitions partitions = new Partitions();
+        partitions.add(new RedisClusterNode(RedisURI.create("127.0.0.1", 6379), "a", true, null, 0, 0, 0, Arrays
+                .asList(slot), new HashSet<>()));
+        partitions.add(new RedisClusterNode(RedisURI.create("127.0.0.1", 6380), "b", true, null, 0, 0, 0, Arrays
+                .asList(slot + 1), new HashSet<>()));
+        sut.setPartitions(partitions);
+
+        when(connectionProvider.getConnectionAsync(ClusterConnectionProvider.Intent.WRITE, "127.0.0.1", 6380))
+                .thenReturn((CompletableFuture) CompletableFuture.completedFuture(nodeConnection2));
+        when(nodeConnection2.getChannelWriter()).thenReturn(nodeWriter2);
+
+        ClusterCommand<String, String, Long> command = new ClusterCommand<>(del("a"), sut, 5);
+        command.getOutput().setError("MOVED " + slot + " 127.0.0.1:6380");
+
+        sut.write(command);
+
+        assertThat(partitions.getPartitionBySlot(slot).getNodeId()).isEqualTo("b");
+        verify(connectionProvider).invalidateSlot(slot);
+        verify(nodeWriter2).write(command);
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void shouldWriteBatchGroupedByNodeConnection() {
+
+        ClusterDistributionChannelWriter<String, String> sut = new ClusterDistributionChannelWriter<>(ClientOptions.create(),
+                defaultWriter, ClusterEventListener.NO_OP);
+        sut.setClusterConnectionProvider(connectionProvider);
+
+        when(connectionProvider.getConnectionAsync(ClusterConnectionProvider.Intent.WRITE, SlotHash.getSlot("a")))
+                .thenReturn((CompletableFuture) CompletableFuture.completedFuture(nodeConnection1));
+        when(connectionProvider.getConnectionAsync(ClusterConnectionProvider.Intent.WRITE, SlotHash.getSlot("b")))
+                .thenReturn((CompletableFuture) CompletableFuture.completedFuture(nodeConnection2));
+        when(connectionProvider.getConnectionAsync(ClusterConnectionProvider.Intent.WRITE, SlotHash.getSlot("c")))
+                .thenReturn((CompletableFuture) CompletableFuture.completedFuture(nodeConnection1));
+        when(nodeConnection1.getChannelWriter()).thenReturn(nodeWriter1);
+        when(nodeConnection2.getChannelWriter()).thenReturn(nodeWriter2);
+
+        Collection<RedisCommand<String, String, ?>> written = sut.write(Arrays.asList(del("a"), del("b"), del("c"),
+                new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8), null)));
+
+        assertThat(written).hasSize(4).allMatch(ClusterCommand.class::isInstance);
+
+        ArgumentCaptor<Collection> node1 = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Collection> node2 = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Collection> fallback = ArgumentCaptor.forClass(Collection.class);
+
+        verify(nodeWriter1).write(node1.capture());
+        verify(nodeWriter2).write(node2.capture());
+        verify(defaultWriter).write(fallback.capture());
+
+        assertThat(node1.getValue()).hasSize(2);
+        assertThat(node2.getValue()).hasSize(1);
+        assertThat(fallback.getValue()).hasSize(1);
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void shouldWriteHedgedReadToAlternativeConnection() {
+
+        ClusterDistributionChannelWriter<String, String> sut = new ClusterDistributionChannelWriter<>(ClientOptions.create(),
+                defaultWriter, ClusterEventListener.NO_OP, hedgedReads);
+        sut.setClusterConnectionProvider(connectionProvider);
+
+        int slot = SlotHash.getSlot("a");
+        when(hedgedReads.isEnabled()).thenReturn(true);
+        when(connectionProvider.getConnectionAsync(ClusterConnectionProvider.Intent.READ, slot))
+                .thenReturn((CompletableFuture) CompletableFuture.completedFuture(nodeConnection1));
+        when(connectionProvider.getAlternativeReadConnection(slot, nodeConnection1))
+                .thenReturn((StatefulRedisConnection) nodeConnection2);
+        when(nodeConnection1.getChannelWriter()).thenReturn(nodeWriter1);
+        when(nodeConnection2.getChannelWriter()).thenReturn(nodeWriter2);
+
+        Command<String, String, String> command = new Command<>(CommandType.GET, new ValueOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).addKey("a"));
+
+        assertThat(sut.write(command)).isSameAs(command);
+
+        ArgumentCaptor<Consumer> primary = ArgumentCaptor.forClass(Consumer.class);
+        ArgumentCaptor<Consumer> secondary = ArgumentCaptor.forClass(Consumer.class);
+        verify(hedgedReads).dispatch(eq(command), primary.capture(), secondary.capture());
+
+        Command<String, String, String> attempt = new Command<>(CommandType.GET, new ValueOutput<>(StringCodec.UTF8),
+                command.getArgs());
+        primary.getValue().accept(attempt);
+        secondary.getValue().accept(attempt);
+
+        ArgumentCaptor<RedisCommand> node1 = ArgumentCaptor.forClass(RedisCommand.class);
+        ArgumentCaptor<RedisCommand> node2 = ArgumentCaptor.forClass(RedisCommand.class);
+        verify(nodeWriter1).write(node1.capture());
+        verify(nodeWriter2).write(node2.capture());
+
+        assertThat(node1.getValue()).isInstanceOf(ClusterCommand.class);
+        assertThat(((ClusterCommand) node1.getValue()).getDelegate()).isSameAs(attempt);
+        assertThat(((ClusterCommand) node2.getValue()).getDelegate()).isSameAs(attempt);
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void shouldWriteHedgedReadsOfBatchIndividually() {
+
+        ClusterDistributionChannelWriter<String, String> sut = new ClusterDistributionChannelWriter<>(ClientOptions.create(),
+                defaultWriter, ClusterEventListener.NO_OP, hedgedReads);
+        sut.setClusterConnectionProvider(connectionProvider);
+
+        int slot = SlotHash.getSlot("a");
+        when(hedgedReads.isEnabled()).thenReturn(true);
+        when(connectionProvider.getConnectionAsync(ClusterConnectionProvider.Intent.READ, slot))
+                .thenReturn((CompletableFuture) CompletableFuture.completedFuture(nodeConnection1));
+        when(connectionProvider.getConnectionAsync(ClusterConnectionProvider.Intent.WRITE, SlotHash.getSlot("b")))
+                .thenReturn((CompletableFuture) CompletableFuture.completedFuture(nodeConnection2));
+        when(connectionProvider.getAlternativeReadConnection(slot, nodeConnection1))
+                .thenReturn((StatefulRedisConnection) nodeConnection2);
+        when(nodeConnection2.getChannelWriter()).thenReturn(nodeWriter2);
+
+        Command<String, String, String> get = new Command<>(CommandType.GET, new ValueOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).addKey("a"));
+
+        Collection<RedisCommand<String, String, ?>> written = sut.write(Arrays.asList(get, del("b")));
+
+        assertThat(written).hasSize(2).contains(get);
+        verify(hedgedReads).dispatch(eq(get), any(Consumer.class), any(Consumer.class));
+
+        ArgumentCaptor<Collection> node2 = ArgumentCaptor.forClass(Collection.class);
+        verify(nodeWriter2).write(node2.capture());
+        assertThat(node2.getValue()).hasSize(1);
+        verify(nodeWriter1, never()).write(any(Collection.class));
+    }
+
+    private static Command<String, String, Long> del(String key) {
+        return new Command<>(CommandType.DEL, new IntegerOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).addKey(key));
+    }
 }
@@ -25,6 +25,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 
+import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.RedisURI;
 import com.lambdaworks.redis.cluster.models.partitions.ClusterPartitionParser;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
@@ -112,6 +113,35 @@ public class ClusterPartitionParserTest {
         assertThat(p2.getUri().getPort()).isEqualTo(7380);
     }
 
+    @Test
+    public void shouldParseFlagsSlotsAndLineEndings() throws Exception {
+
+        Partitions result = ClusterPartitionParser
+                .parse("c37ab8396be428403d4e55c0d317348be27ed973 127.0.0.1:7381 myself,master,fail? - 0 0 1 connected 1 3-5\r\n"
+                        + "\r\n"
+                        + "3d005a179da7d8dc1adae6409d47b39c369e992b 127.0.0.1:7380 slave,fail,noaddr c37ab8396be428403d4e55c0d317348be27ed973 0 0 1 disconnected\n");
+
+        assertThat(result.getPartitions()).hasSize(2);
+
+        RedisClusterNode p1 = result.getPartitions().get(0);
+        assertThat(p1.getFlags()).containsOnly(RedisClusterNode.NodeFlag.MYSELF, RedisClusterNode.NodeFlag.MASTER,
+                RedisClusterNode.NodeFlag.EVENTUAL_FAIL);
+        assertThat(p1.getSlots()).containsExactly(1, 3, 4, 5);
+        assertThat(p1.isConnected()).isTrue();
+
+        RedisClusterNode p2 = result.getPartitions().get(1);
+        assertThat(p2.getFlags()).containsOnly(RedisClusterNode.NodeFlag.SLAVE, RedisClusterNode.NodeFlag.FAIL,
+                RedisClusterNode.NodeFlag.NOADDR);
+        assertThat(p2.getSlaveOf()).isEqualTo("c37ab8396be428403d4e55c0d317348be27ed973");
+        assertThat(p2.getSlots()).isEmpty();
+        assertThat(p2.isConnected()).isFalse();
+    }
+
+    @Test(expected = RedisException.class)
+    public void shouldRejectMalformedNumbers() throws Exception {
+        ClusterPartitionParser.parse("c37ab8396be428403d4e55c0d317348be27ed973 127.0.0.1:7381 master - 0 0 1 connected 1-x");
+    }
+
     @Test
     public void getNodeByHashShouldReturnCorrectNode() throws Exception {
 
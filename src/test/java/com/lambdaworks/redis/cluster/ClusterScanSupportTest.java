@@ -0,0 +1,111 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.lambdaworks.redis.RedisException;
+import com.lambdaworks.redis.ScanCursor;
+import com.lambdaworks.redis.StreamScanCursor;
+
+/**
+ * @author Mark Paluch
+ */
+public class ClusterScanSupportTest {
+
+    private final List<String> nodeIds = Arrays.asList("node-1", "node-2", "node-3");
+    private final Map<String, List<CompletableFuture<StreamScanCursor>>> inflight = new LinkedHashMap<>();
+    private final AtomicInteger concurrentScans = new AtomicInteger();
+    private int maxConcurrentScans;
+
+    @Test
+    public void parallelStreamScanShouldScanAllNodesWithBoundedParallelism() throws Exception {
+
+        CompletableFuture<Long> result = ClusterScanSupport.parallelStreamScan(nodeIds, 2, this::scan);
+
+        assertThat(inflight).containsOnlyKeys("node-1", "node-2");
+
+        completeScan("node-1", 2, false);
+        completeScan("node-2", 3, true);
+
+        assertThat(inflight).containsOnlyKeys("node-1", "node-2", "node-3");
+        assertThat(inflight.get("node-1")).hasSize(2);
+
+        completeScan("node-1", 4, true);
+        assertThat(result).isNotDone();
+
+        completeScan("node-3", 1, true);
+
+        assertThat(result.get()).isEqualTo(10);
+        assertThat(maxConcurrentScans).isEqualTo(2);
+    }
+
+    @Test
+    public void parallelStreamScanShouldCompleteExceptionallyOnFailure() throws Exception {
+
+        CompletableFuture<Long> result = ClusterScanSupport.parallelStreamScan(nodeIds, 3, this::scan);
+
+        last("node-2").completeExceptionally(new RedisException("failed"));
+        completeScan("node-1", 1, true);
+
+        try {
+            result.get();
+            fail("Missing ExecutionException");
+        } catch (ExecutionException e) {
+            assertThat(e).hasRootCauseInstanceOf(RedisException.class);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parallelStreamScanShouldRejectInvalidParallelism() {
+        ClusterScanSupport.parallelStreamScan(nodeIds, 0, this::scan);
+    }
+
+    private CompletableFuture<StreamScanCursor> scan(String nodeId, ScanCursor cursor) {
+
+        CompletableFuture<StreamScanCursor> future = new CompletableFuture<>();
+        inflight.computeIfAbsent(nodeId, key -> new ArrayList<>()).add(future);
+
+        maxConcurrentScans = Math.max(maxConcurrentScans, concurrentScans.incrementAndGet());
+
+        return future;
+    }
+
+    private void completeScan(String nodeId, long count, boolean finished) {
+
+        StreamScanCursor cursor = new StreamScanCursor();
+        cursor.setCount(count);
+        cursor.setCursor(finished ? "0" : "42");
+        cursor.setFinished(finished);
+
+        concurrentScans.decrementAndGet();
+        last(nodeId).complete(cursor);
+    }
+
+    private CompletableFuture<StreamScanCursor> last(String nodeId) {
+
+        List<CompletableFuture<StreamScanCursor>> futures = inflight.get(nodeId);
+        return futures.get(futures.size() - 1);
+    }
+}
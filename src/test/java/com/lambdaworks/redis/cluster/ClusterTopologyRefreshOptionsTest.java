@@ -38,6 +38,8 @@ public class ClusterTopologyRefreshOptionsTest {
                 .adaptiveRefreshTriggersTimeout(15, TimeUnit.MILLISECONDS)//
                 .closeStaleConnections(false)//
                 .refreshTriggersReconnectAttempts(2)//
+                .topologySource(ClusterTopologyRefreshOptions.TopologySource.CLUSTER_SLOTS)//
+                .maxTopologyRefreshSources(3)//
                 .build();
 
         assertThat(options.getRefreshPeriod()).isEqualTo(10);
@@ -49,6 +51,8 @@ public class ClusterTopologyRefreshOptionsTest {
         assertThat(options.getAdaptiveRefreshTimeoutUnit()).isEqualTo(TimeUnit.MILLISECONDS);
         assertThat(options.getAdaptiveRefreshTriggers()).containsOnly(RefreshTrigger.MOVED_REDIRECT);
         assertThat(options.getRefreshTriggersReconnectAttempts()).isEqualTo(2);
+        assertThat(options.getTopologySource()).isEqualTo(ClusterTopologyRefreshOptions.TopologySource.CLUSTER_SLOTS);
+        assertThat(options.getMaxTopologyRefreshSources()).isEqualTo(3);
     }
 
     @Test
@@ -61,6 +65,8 @@ public class ClusterTopologyRefreshOptionsTest {
                 .adaptiveRefreshTriggersTimeout(15, TimeUnit.MILLISECONDS)//
                 .closeStaleConnections(false)//
                 .refreshTriggersReconnectAttempts(2)//
+                .topologySource(ClusterTopologyRefreshOptions.TopologySource.CLUSTER_SLOTS)//
+                .maxTopologyRefreshSources(3)//
                 .build();
 
         ClusterTopologyRefreshOptions options = ClusterTopologyRefreshOptions.copyOf(master);
@@ -74,6 +80,8 @@ public class ClusterTopologyRefreshOptionsTest {
         assertThat(options.getAdaptiveRefreshTimeoutUnit()).isEqualTo(TimeUnit.MILLISECONDS);
         assertThat(options.getAdaptiveRefreshTriggers()).containsOnly(RefreshTrigger.MOVED_REDIRECT);
         assertThat(options.getRefreshTriggersReconnectAttempts()).isEqualTo(2);
+        assertThat(options.getTopologySource()).isEqualTo(ClusterTopologyRefreshOptions.TopologySource.CLUSTER_SLOTS);
+        assertThat(options.getMaxTopologyRefreshSources()).isEqualTo(3);
     }
 
     @Test
@@ -95,6 +103,10 @@ public class ClusterTopologyRefreshOptionsTest {
                 .isEqualTo(ClusterTopologyRefreshOptions.DEFAULT_ADAPTIVE_REFRESH_TRIGGERS);
         assertThat(options.getRefreshTriggersReconnectAttempts())
                 .isEqualTo(ClusterTopologyRefreshOptions.DEFAULT_REFRESH_TRIGGERS_RECONNECT_ATTEMPTS);
+        assertThat(options.getTopologySource()).isEqualTo(ClusterTopologyRefreshOptions.DEFAULT_TOPOLOGY_SOURCE)
+                .isEqualTo(ClusterTopologyRefreshOptions.TopologySource.CLUSTER_NODES);
+        assertThat(options.getMaxTopologyRefreshSources())
+                .isEqualTo(ClusterTopologyRefreshOptions.DEFAULT_MAX_TOPOLOGY_REFRESH_SOURCES);
     }
 
     @Test
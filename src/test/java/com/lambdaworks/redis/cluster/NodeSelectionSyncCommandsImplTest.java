@@ -0,0 +1,132 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.lambdaworks.redis.RedisCommandExecutionException;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.api.async.RedisAsyncCommands;
+import com.lambdaworks.redis.api.sync.RedisCommands;
+import com.lambdaworks.redis.cluster.api.sync.Executions;
+import com.lambdaworks.redis.cluster.api.sync.NodeSelectionCommands;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+import com.lambdaworks.redis.codec.StringCodec;
+import com.lambdaworks.redis.output.StatusOutput;
+import com.lambdaworks.redis.protocol.AsyncCommand;
+import com.lambdaworks.redis.protocol.Command;
+import com.lambdaworks.redis.protocol.CommandType;
+
+/**
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class NodeSelectionSyncCommandsImplTest {
+
+    private RedisClusterNode node1 = new RedisClusterNode();
+    private RedisClusterNode node2 = new RedisClusterNode();
+
+    @Mock
+    private AbstractNodeSelection<RedisCommands<String, String>, NodeSelectionCommands<String, String>, String, String>
+            selection;
+
+    @Mock
+    private StatefulRedisConnection<String, String> connection1;
+
+    @Mock
+    private StatefulRedisConnection<String, String> connection2;
+
+    @Mock
+    private RedisAsyncCommands<String, String> async1;
+
+    @Mock
+    private RedisAsyncCommands<String, String> async2;
+
+    private NodeSelectionSyncCommandsImpl<String, String> sut;
+
+    @Before
+    public void before() {
+
+        node1.setNodeId("1");
+        node2.setNodeId("2");
+
+        Map<RedisClusterNode, CompletableFuture<? extends StatefulRedisConnection<String, String>>> connections =
+                new LinkedHashMap<>();
+        connections.put(node1, CompletableFuture.completedFuture(connection1));
+        connections.put(node2, CompletableFuture.completedFuture(connection2));
+
+        when(selection.statefulMap()).thenReturn(connections);
+        when(connection1.async()).thenReturn(async1);
+        when(connection2.async()).thenReturn(async2);
+
+        sut = new NodeSelectionSyncCommandsImpl<>(selection, 1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void shouldExecuteCommandOnAllNodes() {
+
+        when(async1.ping()).thenReturn(completed("PONG"));
+        when(async2.ping()).thenReturn(completed("PONG"));
+
+        Executions<String> executions = sut.ping();
+
+        assertThat(executions.nodes()).containsOnly(node1, node2);
+        assertThat(executions.get(node1)).isEqualTo("PONG");
+        assertThat(executions.get(node2)).isEqualTo("PONG");
+    }
+
+    @Test
+    public void shouldFailIfOneNodeFails() {
+
+        AsyncCommand<String, String, String> failed = new AsyncCommand<>(new Command<>(CommandType.PING,
+                new StatusOutput<>(StringCodec.UTF8)));
+        failed.completeExceptionally(new IllegalStateException("node failure"));
+
+        when(async1.ping()).thenReturn(completed("PONG"));
+        when(async2.ping()).thenReturn(failed);
+
+        try {
+            sut.ping();
+            fail("Missing RedisCommandExecutionException");
+        } catch (RedisCommandExecutionException e) {
+            assertThat(e.getSuppressed()).hasSize(1);
+        }
+    }
+
+    private static AsyncCommand<String, String, String> completed(String value) {
+
+        StatusOutput<String, String> output = new StatusOutput<>(StringCodec.UTF8);
+        output.set(ByteBuffer.wrap(value.getBytes()));
+
+        AsyncCommand<String, String, String> command = new AsyncCommand<>(new Command<>(CommandType.PING, output));
+        command.complete();
+        return command;
+    }
+}
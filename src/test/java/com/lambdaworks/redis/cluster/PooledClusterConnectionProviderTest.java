@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -256,6 +257,67 @@ public class PooledClusterConnectionProviderTest {
         verify(clientMock).connectToNodeAsync(eq(CODEC), eq("localhost:2"), any(), any());
     }
 
+    @Test
+    public void shouldResolveSlotConnectionAgainAfterInvalidation() {
+
+        StatefulRedisConnection<String, String> otherConnectionMock = mock(StatefulRedisConnection.class);
+
+        when(clientMock.connectToNodeAsync(eq(CODEC), eq("localhost:1"), any(), any())).thenReturn(
+                Futures.createConnectionFuture(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock)));
+        when(clientMock.connectToNodeAsync(eq(CODEC), eq("localhost:2"), any(), any())).thenReturn(
+                Futures.createConnectionFuture(socketAddressMock, CompletableFuture.completedFuture(otherConnectionMock)));
+
+        assertThat(sut.getConnection(Intent.WRITE, 1)).isSameAs(nodeConnectionMock);
+
+        partitions.updateSlotCache(1, "localhost", 2);
+        assertThat(sut.getConnection(Intent.WRITE, 1)).isSameAs(nodeConnectionMock);
+
+        sut.invalidateSlot(1);
+        assertThat(sut.getConnection(Intent.WRITE, 1)).isSameAs(otherConnectionMock);
+        assertThat(sut.getConnection(Intent.WRITE, 2)).isSameAs(nodeConnectionMock);
+    }
+
+    @Test
+    public void shouldNotCacheConnectionResolvedBeforeInvalidation() {
+
+        StatefulRedisConnection<String, String> otherConnectionMock = mock(StatefulRedisConnection.class);
+        CompletableFuture<StatefulRedisConnection<String, String>> pending = new CompletableFuture<>();
+
+        when(clientMock.connectToNodeAsync(eq(CODEC), eq("localhost:1"), any(), any())).thenReturn(
+                Futures.createConnectionFuture(socketAddressMock, pending));
+        when(clientMock.connectToNodeAsync(eq(CODEC), eq("localhost:2"), any(), any())).thenReturn(
+                Futures.createConnectionFuture(socketAddressMock, CompletableFuture.completedFuture(otherConnectionMock)));
+
+        CompletableFuture<StatefulRedisConnection<String, String>> inFlight = sut.getConnectionAsync(Intent.WRITE, 1);
+
+        partitions.updateSlotCache(1, "localhost", 2);
+        sut.invalidateSlot(1);
+
+        pending.complete(nodeConnectionMock);
+
+        assertThat(inFlight.join()).isSameAs(nodeConnectionMock);
+        assertThat(sut.getConnection(Intent.WRITE, 1)).isSameAs(otherConnectionMock);
+    }
+
+    @Test
+    public void shouldStripeSlotsAcrossConnectionsPerNode() {
+
+        StatefulRedisConnection<String, String> otherConnectionMock = mock(StatefulRedisConnection.class);
+
+        when(clientMock.getClusterClientOptions()).thenReturn(ClusterClientOptions.builder().connectionsPerNode(2).build());
+        when(clientMock.connectToNodeAsync(eq(CODEC), eq("localhost:1"), any(), any())).thenReturn(
+                Futures.createConnectionFuture(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock)),
+                Futures.createConnectionFuture(socketAddressMock, CompletableFuture.completedFuture(otherConnectionMock)));
+
+        assertThat(sut.getConnection(Intent.WRITE, 0)).isSameAs(nodeConnectionMock);
+        assertThat(sut.getConnection(Intent.WRITE, 1)).isSameAs(otherConnectionMock);
+        assertThat(sut.getConnection(Intent.WRITE, 2)).isSameAs(nodeConnectionMock);
+        assertThat(sut.getConnection(Intent.WRITE, 3)).isSameAs(otherConnectionMock);
+
+        verify(clientMock, times(2)).connectToNodeAsync(eq(CODEC), eq("localhost:1"), any(), any());
+        assertThat(sut.getConnectionCount()).isEqualTo(2);
+    }
+
     @Test
     public void shouldCloseConnections() {
 
@@ -18,8 +18,11 @@ package com.lambdaworks.redis.cluster;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -27,6 +30,7 @@ import org.junit.Test;
 import com.lambdaworks.redis.ReadFrom;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+import com.lambdaworks.redis.metrics.ConnectionLoad;
 import com.lambdaworks.redis.models.role.RedisNodeDescription;
 
 /**
@@ -82,6 +86,37 @@ public class ReadFromTest {
         assertThat(result).hasSize(3).containsExactly(nearest, master, slave);
     }
 
+    @Test
+    public void lowestLatencyWithoutLoad() {
+        List<RedisNodeDescription> result = ReadFrom.LOWEST_LATENCY.select(getNodes());
+        assertThat(result).hasSize(3).containsExactly(nearest, master, slave);
+    }
+
+    @Test
+    public void lowestLatencyShouldOrderByCost() {
+
+        Map<RedisNodeDescription, ConnectionLoad> loads = new IdentityHashMap<>();
+        loads.put(nearest, load(TimeUnit.MILLISECONDS.toNanos(20), 0));
+        loads.put(master, load(TimeUnit.MILLISECONDS.toNanos(1), 4));
+        loads.put(slave, load(TimeUnit.MILLISECONDS.toNanos(1), 0));
+
+        List<RedisNodeDescription> result = ReadFrom.LOWEST_LATENCY.select(getNodes(loads));
+        assertThat(result).hasSize(3).containsExactly(slave, master, nearest);
+        assertThat(ReadFrom.LOWEST_LATENCY.isLoadAware()).isTrue();
+        assertThat(ReadFrom.NEAREST.isLoadAware()).isFalse();
+    }
+
+    @Test
+    public void lowestLatencyShouldPreferNodesWithoutLoad() {
+
+        Map<RedisNodeDescription, ConnectionLoad> loads = new IdentityHashMap<>();
+        loads.put(nearest, load(TimeUnit.MILLISECONDS.toNanos(1), 0));
+        loads.put(master, load(TimeUnit.MILLISECONDS.toNanos(1), 0));
+
+        List<RedisNodeDescription> result = ReadFrom.LOWEST_LATENCY.select(getNodes(loads));
+        assertThat(result).hasSize(3).containsExactly(slave, nearest, master);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void valueOfNull() {
         ReadFrom.valueOf(null);
@@ -97,6 +132,11 @@ public class ReadFromTest {
         assertThat(ReadFrom.valueOf("nearest")).isEqualTo(ReadFrom.NEAREST);
     }
 
+    @Test
+    public void valueOfLowestLatency() {
+        assertThat(ReadFrom.valueOf("lowestLatency")).isEqualTo(ReadFrom.LOWEST_LATENCY);
+    }
+
     @Test
     public void valueOfMaster() {
         assertThat(ReadFrom.valueOf("master")).isEqualTo(ReadFrom.MASTER);
@@ -117,6 +157,39 @@ public class ReadFromTest {
         assertThat(ReadFrom.valueOf("slavePreferred")).isEqualTo(ReadFrom.SLAVE_PREFERRED);
     }
 
+    private ReadFrom.Nodes getNodes(Map<RedisNodeDescription, ConnectionLoad> loads) {
+        return new ReadFrom.Nodes() {
+            @Override
+            public List<RedisNodeDescription> getNodes() {
+                return (List) sut.getPartitions();
+            }
+
+            @Override
+            public Iterator<RedisNodeDescription> iterator() {
+                return getNodes().iterator();
+            }
+
+            @Override
+            public ConnectionLoad getLoad(RedisNodeDescription node) {
+                return loads.get(node);
+            }
+        };
+    }
+
+    private static ConnectionLoad load(long completionLatency, int outstandingCommands) {
+        return new ConnectionLoad() {
+            @Override
+            public long getCompletionLatency() {
+                return completionLatency;
+            }
+
+            @Override
+            public int getOutstandingCommands() {
+                return outstandingCommands;
+            }
+        };
+    }
+
     private ReadFrom.Nodes getNodes() {
         return new ReadFrom.Nodes() {
             @Override
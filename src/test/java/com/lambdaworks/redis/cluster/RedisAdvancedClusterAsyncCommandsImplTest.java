@@ -0,0 +1,63 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.lambdaworks.redis.cluster.RedisAdvancedClusterAsyncCommandsImpl.KeyPartitions;
+import com.lambdaworks.redis.codec.StringCodec;
+
+/**
+ * @author Mark Paluch
+ */
+public class RedisAdvancedClusterAsyncCommandsImplTest {
+
+    @Test
+    public void keyPartitionsShouldRestoreKeyOrder() {
+
+        List<String> keys = Arrays.asList("a", "b", "{a}1", "c", "{b}2", "{a}3");
+
+        KeyPartitions<String> partitioned = KeyPartitions.of(StringCodec.UTF8, keys);
+
+        assertThat(partitioned.size()).isEqualTo(3);
+        assertThat(partitioned.keyCount()).isEqualTo(keys.size());
+        assertThat(partitioned.getPartitions().keySet()).containsExactly(SlotHash.getSlot("a"), SlotHash.getSlot("b"),
+                SlotHash.getSlot("c"));
+        assertThat(partitioned.getPartitions().get(SlotHash.getSlot("a"))).containsExactly("a", "{a}1", "{a}3");
+
+        for (int i = 0; i < keys.size(); i++) {
+
+            List<String> partition = partitioned.getPartitions().get(partitioned.getSlot(i));
+            assertThat(partition.get(partitioned.getPosition(i))).isEqualTo(keys.get(i));
+        }
+    }
+
+    @Test
+    public void keyPartitionsShouldConsumeIterables() {
+
+        Iterable<String> keys = () -> Arrays.asList("a", "b").iterator();
+
+        KeyPartitions<String> partitioned = KeyPartitions.of(StringCodec.UTF8, keys);
+
+        assertThat(partitioned.keyCount()).isEqualTo(2);
+        assertThat(partitioned.getPosition(1)).isEqualTo(0);
+    }
+}
@@ -77,6 +77,58 @@ public class PartitionsTest {
         assertThat(partitions.containsAll(Arrays.asList(node1))).isTrue();
     }
 
+    @Test
+    public void updateSlotCache() throws Exception {
+
+        Partitions partitions = new Partitions();
+        partitions.add(node1);
+        partitions.add(node2);
+
+        assertThat(partitions.updateSlotCache(2, "localhost", 6380)).isTrue();
+
+        assertThat(partitions.getPartitionBySlot(2)).isEqualTo(node2);
+        assertThat(partitions.getPartitionBySlot(1)).isEqualTo(node1);
+        assertThat(node1.getSlots()).contains(2);
+    }
+
+    @Test
+    public void updateSlotCacheIgnoresUnknownNode() throws Exception {
+
+        Partitions partitions = new Partitions();
+        partitions.add(node1);
+
+        assertThat(partitions.updateSlotCache(2, "localhost", 6390)).isFalse();
+        assertThat(partitions.updateSlotCache(2, "localhost", 6379)).isFalse();
+
+        assertThat(partitions.getPartitionBySlot(2)).isEqualTo(node1);
+    }
+
+    @Test
+    public void reloadReconcilesUpdatedSlotCache() throws Exception {
+
+        Partitions partitions = new Partitions();
+        partitions.add(node1);
+        partitions.add(node2);
+
+        partitions.updateSlotCache(2, "localhost", 6380);
+        partitions.reload(Arrays.asList(node1, node2));
+
+        assertThat(partitions.getPartitionBySlot(2)).isEqualTo(node1);
+    }
+
+    @Test
+    public void updateCacheDiscardsUpdatedSlotCache() throws Exception {
+
+        Partitions partitions = new Partitions();
+        partitions.add(node1);
+        partitions.add(node2);
+
+        partitions.updateSlotCache(2, "localhost", 6380);
+        partitions.updateCache();
+
+        assertThat(partitions.getPartitionBySlot(2)).isEqualTo(node1);
+    }
+
     @Test
     public void add() throws Exception {
 
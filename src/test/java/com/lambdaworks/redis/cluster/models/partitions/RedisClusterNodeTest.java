@@ -17,6 +17,14 @@ package com.lambdaworks.redis.cluster.models.partitions;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.Test;
 
 import com.lambdaworks.redis.RedisURI;
@@ -34,6 +42,119 @@ public class RedisClusterNodeTest {
 
     }
 
+    @Test
+    public void shouldExposeSlotsAsSortedListView() throws Exception {
+
+        RedisClusterNode node = new RedisClusterNode();
+        node.setSlots(Arrays.asList(7, 1, 3, 3));
+
+        List<Integer> slots = node.getSlots();
+
+        assertThat(slots).containsExactly(1, 3, 7);
+        assertThat(slots.get(2)).isEqualTo(7);
+        assertThat(node.getSlotCount()).isEqualTo(3);
+
+        slots.add(5);
+        slots.remove(Integer.valueOf(1));
+
+        assertThat(node.getSlots()).containsExactly(3, 5, 7);
+        assertThat(node.hasSlot(5)).isTrue();
+        assertThat(node.hasSlot(1)).isFalse();
+
+        node.getSlots().clear();
+        assertThat(node.getSlots()).isEmpty();
+    }
+
+    @Test
+    public void shouldApplySetSemanticsToIndexedSlotListOperations() throws Exception {
+
+        RedisClusterNode node = new RedisClusterNode();
+        node.setSlots(Arrays.asList(1, 3, 7));
+
+        List<Integer> slots = node.getSlots();
+
+        assertThat(slots.set(0, 9)).isEqualTo(1);
+        assertThat(slots).containsExactly(3, 7, 9);
+
+        slots.add(0, 5);
+        assertThat(slots).containsExactly(3, 5, 7, 9);
+
+        Collections.sort(slots);
+        slots.sort(Collections.reverseOrder());
+        assertThat(slots).containsExactly(3, 5, 7, 9);
+
+        assertThat(slots.remove(1)).isEqualTo(5);
+        assertThat(node.getSlots()).containsExactly(3, 7, 9);
+    }
+
+    @Test
+    public void shouldReportWhetherSlotListChanged() throws Exception {
+
+        RedisClusterNode node = new RedisClusterNode();
+        node.setSlots(Arrays.asList(1, 3));
+
+        List<Integer> slots = node.getSlots();
+
+        assertThat(slots.add(2)).isTrue();
+        assertThat(slots.add(3)).isFalse();
+        assertThat(slots.remove((Integer) 4)).isFalse();
+        assertThat(slots).containsExactly(1, 2, 3);
+
+        node.setSlots(Arrays.asList(5, 6));
+        assertThat(slots).hasSize(2);
+        assertThat(slots.get(1)).isEqualTo(6);
+    }
+
+    @Test
+    public void shouldSerializeSlots() throws Exception {
+
+        RedisClusterNode node = new RedisClusterNode();
+        node.setNodeId("1");
+        node.setSlots(Arrays.asList(1, 2, 16383));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(node);
+        }
+
+        RedisClusterNode result;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            result = (RedisClusterNode) in.readObject();
+        }
+
+        assertThat(result.getNodeId()).isEqualTo("1");
+        assertThat(result.getSlots()).containsExactly(1, 2, 16383);
+    }
+
+    @Test
+    public void shouldCopySlots() throws Exception {
+
+        RedisClusterNode node = new RedisClusterNode();
+        node.setSlots(Arrays.asList(1, 2));
+        node.setFlags(Collections.singleton(RedisClusterNode.NodeFlag.MASTER));
+
+        RedisClusterNode copy = new RedisClusterNode(node);
+        copy.getSlots().add(3);
+
+        assertThat(node.getSlots()).containsExactly(1, 2);
+        assertThat(copy.getSlots()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void shouldCompareSlots() throws Exception {
+
+        RedisClusterNode node1 = new RedisClusterNode();
+        node1.setSlots(Arrays.asList(1, 2, 16383));
+
+        RedisClusterNode node2 = new RedisClusterNode();
+        node2.setSlots(Arrays.asList(16383, 2, 1));
+
+        assertThat(node1.hasSameSlotsAs(node2)).isTrue();
+
+        node2.setSlots(Collections.singletonList(1));
+        assertThat(node1.hasSameSlotsAs(node2)).isFalse();
+    }
+
     @Test
     public void testToString() throws Exception {
         RedisClusterNode node = new RedisClusterNode();
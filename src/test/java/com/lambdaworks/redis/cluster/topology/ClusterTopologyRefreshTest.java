@@ -17,12 +17,15 @@ package com.lambdaworks.redis.cluster.topology;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.util.*;
@@ -34,6 +37,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.lambdaworks.Futures;
 import com.lambdaworks.redis.ConnectionFuture;
@@ -46,6 +50,7 @@ import com.lambdaworks.redis.cluster.RedisClusterClient;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
 import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.output.ArrayOutput;
 import com.lambdaworks.redis.protocol.CommandType;
 import com.lambdaworks.redis.resource.ClientResources;
 import com.lambdaworks.redis.resource.DnsResolvers;
@@ -63,6 +68,10 @@ public class ClusterTopologyRefreshTest {
     public static final String NODE_2_VIEW = "1 127.0.0.1:7380 master - 0 1401258245007 2 disconnected 8000-11999\n"
             + "2 127.0.0.1:7381 master,myself - 111 1401258245007 222 connected 7000 12000 12002-16383\n";
 
+    public static final List<Object> CLUSTER_SLOTS_VIEW = Arrays.asList(
+            Arrays.asList(0L, 7999L, Arrays.asList("127.0.0.1", 7380L, "1")),
+            Arrays.asList(8000L, 16383L, Arrays.asList("127.0.0.1", 7381L, "2")));
+
     private ClusterTopologyRefresh sut;
 
     @Mock
@@ -100,7 +109,11 @@ public class ClusterTopologyRefreshTest {
 
             TimedAsyncCommand command = (TimedAsyncCommand) invocation.getArguments()[0];
             if (command.getType() == CommandType.CLUSTER) {
-                command.getOutput().set(ByteBuffer.wrap(NODE_1_VIEW.getBytes()));
+                if (command.getOutput() instanceof ArrayOutput) {
+                    ReflectionTestUtils.setField(command.getOutput(), "output", CLUSTER_SLOTS_VIEW);
+                } else {
+                    command.getOutput().set(ByteBuffer.wrap(NODE_1_VIEW.getBytes()));
+                }
                 command.complete();
             }
 
@@ -119,7 +132,11 @@ public class ClusterTopologyRefreshTest {
 
             TimedAsyncCommand command = (TimedAsyncCommand) invocation.getArguments()[0];
             if (command.getType() == CommandType.CLUSTER) {
-                command.getOutput().set(ByteBuffer.wrap(NODE_2_VIEW.getBytes()));
+                if (command.getOutput() instanceof ArrayOutput) {
+                    ReflectionTestUtils.setField(command.getOutput(), "output", CLUSTER_SLOTS_VIEW);
+                } else {
+                    command.getOutput().set(ByteBuffer.wrap(NODE_2_VIEW.getBytes()));
+                }
                 command.complete();
             }
 
@@ -369,6 +386,69 @@ public class ClusterTopologyRefreshTest {
                 .containsSequence(RedisURI.create("127.0.0.1", 7381), seed.get(0));
     }
 
+    @Test
+    public void shouldLoadViewsFromClusterSlots() throws Exception {
+
+        List<RedisURI> seed = Arrays.asList(RedisURI.create("127.0.0.1", 7380), RedisURI.create("127.0.0.1", 7381));
+
+        when(nodeConnectionFactory.connectToNodeAsync(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7380))))
+                .thenReturn(completedFuture((StatefulRedisConnection) connection1));
+        when(nodeConnectionFactory.connectToNodeAsync(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7381))))
+                .thenReturn(completedFuture((StatefulRedisConnection) connection2));
+
+        Map<RedisURI, Partitions> partitionsMap = sut.loadViewsFromClusterSlots(seed, Integer.MAX_VALUE);
+
+        assertThat(partitionsMap).hasSize(2);
+
+        Partitions partitions = partitionsMap.get(seed.get(0));
+        assertThat(partitions.getPartitionBySlot(0).getNodeId()).isEqualTo("1");
+        assertThat(partitions.getPartitionBySlot(16383).getNodeId()).isEqualTo("2");
+
+        // node 2 answers faster
+        assertThat(partitions).extracting("nodeId").containsExactly("2", "1");
+        assertThat(partitions.getPartition(0).is(RedisClusterNode.NodeFlag.MASTER)).isTrue();
+
+        verify(connection1, never()).dispatch(argThat(command -> command.getType() == CommandType.CLIENT));
+    }
+
+    @Test
+    public void shouldAttributeClusterSlotsLatencyToHostNameSeeds() throws Exception {
+
+        InetAddress loopback = InetAddress.getByAddress("127.0.0.1", new byte[] { 127, 0, 0, 1 });
+        when(clientResources.dnsResolver()).thenReturn(host -> new InetAddress[] { loopback });
+
+        List<RedisURI> seed = Arrays.asList(RedisURI.create("redis-1", 7380), RedisURI.create("redis-2", 7381));
+
+        when(nodeConnectionFactory.connectToNodeAsync(any(RedisCodec.class), eq(new InetSocketAddress(loopback, 7380))))
+                .thenReturn(completedFuture((StatefulRedisConnection) connection1));
+        when(nodeConnectionFactory.connectToNodeAsync(any(RedisCodec.class), eq(new InetSocketAddress(loopback, 7381))))
+                .thenReturn(completedFuture((StatefulRedisConnection) connection2));
+
+        Map<RedisURI, Partitions> partitionsMap = sut.loadViewsFromClusterSlots(seed, Integer.MAX_VALUE);
+
+        Partitions partitions = partitionsMap.get(seed.get(0));
+
+        // node 2 answers faster
+        assertThat(partitions).extracting("nodeId").containsExactly("2", "1");
+        assertThat(((RedisClusterNodeSnapshot) partitions.getPartitionByNodeId("1")).getLatencyNs()).isEqualTo(40L);
+        assertThat(((RedisClusterNodeSnapshot) partitions.getPartitionByNodeId("2")).getLatencyNs()).isEqualTo(10L);
+    }
+
+    @Test
+    public void shouldRotateLimitedClusterSlotsSources() throws Exception {
+
+        List<RedisURI> seed = Arrays.asList(RedisURI.create("127.0.0.1", 7380), RedisURI.create("127.0.0.1", 7381));
+
+        when(nodeConnectionFactory.connectToNodeAsync(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7380))))
+                .thenReturn(completedFuture((StatefulRedisConnection) connection1));
+        when(nodeConnectionFactory.connectToNodeAsync(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7381))))
+                .thenReturn(completedFuture((StatefulRedisConnection) connection2));
+
+        assertThat(sut.loadViewsFromClusterSlots(seed, 1)).containsOnlyKeys(seed.get(0));
+        assertThat(sut.loadViewsFromClusterSlots(seed, 1)).containsOnlyKeys(seed.get(1));
+        assertThat(sut.loadViewsFromClusterSlots(seed, 1)).containsOnlyKeys(seed.get(0));
+    }
+
     protected Requests createClusterNodesRequests(int duration, String nodes) {
 
         RedisURI redisURI = RedisURI.create("redis://localhost:" + duration);
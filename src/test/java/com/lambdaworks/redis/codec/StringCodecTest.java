@@ -79,6 +79,22 @@ public class StringCodecTest {
         assertThat(codec.decodeKey(buffer.nioBuffer())).isEqualTo(teststring);
     }
 
+    @Test
+    public void decodeUtf8FromByteBuf() throws Exception {
+
+        StringCodec codec = new StringCodec(LettuceCharsets.UTF8);
+
+        ByteBuf buffer = Unpooled.buffer(1234);
+        buffer.writeByte('$');
+        codec.encodeValue(teststring, buffer);
+        buffer.writeByte('$');
+
+        ByteBuf slice = buffer.slice(1, buffer.writerIndex() - 2);
+
+        assertThat(codec.decodeValue(slice)).isEqualTo(teststring);
+        assertThat(slice.readerIndex()).isEqualTo(0);
+    }
+
     @Test
     public void encodeAndDecodeUtf8() throws Exception {
 
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.output;
+
+import static com.lambdaworks.redis.protocol.LettuceCharsets.buffer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import com.lambdaworks.redis.codec.StringCodec;
+import com.lambdaworks.redis.protocol.RedisStateMachine;
+
+import io.netty.buffer.Unpooled;
+
+/**
+ * @author Mark Paluch
+ */
+public class RecordingOutputTest {
+
+    @Test
+    public void shouldReplayValue() {
+
+        ValueOutput<String, String> target = new ValueOutput<>(StringCodec.UTF8);
+        RecordingOutput<String, String> sut = new RecordingOutput<>(target);
+
+        sut.setByteBuf(Unpooled.copiedBuffer(buffer("hello")));
+        sut.complete(0);
+
+        assertThat(target.get()).isNull();
+
+        sut.replay(target);
+
+        assertThat(target.get()).isEqualTo("hello");
+    }
+
+    @Test
+    public void shouldReplayDecodedResponse() {
+
+        String response = "*4\r\n+OK\r\n:42\r\n*1\r\n$6\r\nnested\r\n$-1\r\n";
+
+        NestedMultiOutput<String, String> expected = new NestedMultiOutput<>(StringCodec.UTF8);
+        decode(response, expected);
+
+        NestedMultiOutput<String, String> target = new NestedMultiOutput<>(StringCodec.UTF8);
+        RecordingOutput<String, String> sut = new RecordingOutput<>(target);
+        decode(response, sut);
+
+        sut.replay(target);
+
+        assertThat(target.get()).isEqualTo(expected.get()).hasSize(4);
+    }
+
+    @Test
+    public void shouldRecordAndReplayError() {
+
+        StatusOutput<String, String> target = new StatusOutput<>(StringCodec.UTF8);
+        RecordingOutput<String, String> sut = new RecordingOutput<>(target);
+
+        sut.setError(buffer("ERR failed"));
+
+        assertThat(sut.getError()).isEqualTo("ERR failed");
+
+        sut.replay(target);
+
+        assertThat(target.getError()).isEqualTo("ERR failed");
+    }
+
+    @Test
+    public void shouldDiscardRecordedResponseOnErrorReset() {
+
+        ValueOutput<String, String> target = new ValueOutput<>(StringCodec.UTF8);
+        RecordingOutput<String, String> sut = new RecordingOutput<>(target);
+
+        sut.setError(buffer("MOVED 1 127.0.0.1:7380"));
+        sut.setError((String) null);
+        sut.setByteBuf(Unpooled.copiedBuffer(buffer("value")));
+
+        sut.replay(target);
+
+        assertThat(target.hasError()).isFalse();
+        assertThat(target.get()).isEqualTo("value");
+    }
+
+    private static void decode(String response, CommandOutput<String, String, ?> output) {
+
+        assertThat(new RedisStateMachine<String, String>().decode(Unpooled.copiedBuffer(response, StandardCharsets.US_ASCII),
+                output)).isTrue();
+    }
+}
@@ -23,6 +23,7 @@ import java.util.Arrays;
 import org.junit.Test;
 
 import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.codec.StringCodec;
 import com.lambdaworks.redis.codec.Utf8StringCodec;
 
 import io.netty.buffer.ByteBuf;
@@ -224,4 +225,84 @@ public class CommandArgsTest {
 
         assertThat(buffer.toString(LettuceCharsets.ASCII)).isEqualTo(expected.toString(LettuceCharsets.ASCII));
     }
+
+    @Test
+    public void encodedLengthShouldMatchEncodedArguments() {
+
+        CommandArgs<byte[], byte[]> args = new CommandArgs<>(ByteArrayCodec.INSTANCE).addKey("key".getBytes())
+                .addValue(new byte[1000]).addValue(null).add("string").add("chars".toCharArray()).add(0).add(-1).add(1234567)
+                .add(Long.MAX_VALUE).add(Long.MIN_VALUE).add(1.5d).add(CommandKeyword.LIMIT).add(CommandType.GET)
+                .add(new byte[10]);
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(args.encodedLength()).isEqualTo(buffer.readableBytes());
+    }
+
+    @Test
+    public void encodedLengthShouldUseEstimatedSizeOfToByteBufEncoder() {
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.ASCII).addKey("key").addValue("value");
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(args.encodedLength()).isEqualTo(buffer.readableBytes());
+    }
+
+    @Test
+    public void addIntegers() {
+
+        CommandArgs<String, String> args = new CommandArgs<>(codec).add(7).add(-1).add(1234567).add(Long.MAX_VALUE)
+                .add(Long.MIN_VALUE);
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(buffer.toString(LettuceCharsets.ASCII)).isEqualTo("$1\r\n7\r\n" + "$2\r\n-1\r\n" + "$7\r\n1234567\r\n"
+                + "$19\r\n9223372036854775807\r\n" + "$20\r\n-9223372036854775808\r\n");
+    }
+
+    @Test
+    public void addArgumentsBeyondInitialCapacity() {
+
+        CommandArgs<String, String> args = new CommandArgs<>(codec);
+        StringBuilder expected = new StringBuilder();
+
+        for (int i = 0; i < 100; i++) {
+            args.addKey("key" + i).add(i).add("string" + i);
+            expected.append(String.format("$%d\r\nkey%d\r\n", ("key" + i).length(), i));
+            expected.append(String.format("$%d\r\n%d\r\n", Integer.toString(i).length(), i));
+            expected.append(String.format("$%d\r\nstring%d\r\n", ("string" + i).length(), i));
+        }
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(args.count()).isEqualTo(300);
+        assertThat(buffer.toString(LettuceCharsets.ASCII)).isEqualTo(expected.toString());
+        assertThat(CommandArgsAccessor.getFirstInteger(args)).isEqualTo(0L);
+        assertThat(CommandArgsAccessor.getFirstString(args)).isEqualTo("string0");
+    }
+
+    @Test
+    public void addDoubles() {
+
+        double[] values = { 0d, 1d, -5d, 1.5d, -0d, 9999999d, 1e7, 123456789d, Double.NaN, Double.POSITIVE_INFINITY };
+        CommandArgs<String, String> args = new CommandArgs<>(codec);
+        StringBuilder expected = new StringBuilder();
+
+        for (double value : values) {
+            args.add(value);
+            expected.append(String.format("$%d\r\n%s\r\n", Double.toString(value).length(), Double.toString(value)));
+        }
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(buffer.toString(LettuceCharsets.ASCII)).isEqualTo(expected.toString());
+        assertThat(args.encodedLength()).isEqualTo(buffer.readableBytes());
+        assertThat(CommandArgsAccessor.getFirstInteger(args)).isNull();
+    }
 }
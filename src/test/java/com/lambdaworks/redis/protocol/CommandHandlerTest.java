@@ -16,12 +16,17 @@
 package com.lambdaworks.redis.protocol;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Fail.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.*;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.logging.log4j.Level;
@@ -44,18 +49,24 @@ import org.springframework.test.util.ReflectionTestUtils;
 import com.lambdaworks.redis.ClientOptions;
 import com.lambdaworks.redis.ConnectionEvents;
 import com.lambdaworks.redis.RedisChannelHandler;
+import com.lambdaworks.redis.RedisCommandTimeoutException;
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.codec.StringCodec;
 import com.lambdaworks.redis.codec.Utf8StringCodec;
 import com.lambdaworks.redis.metrics.DefaultCommandLatencyCollector;
 import com.lambdaworks.redis.metrics.DefaultCommandLatencyCollectorOptions;
 import com.lambdaworks.redis.output.StatusOutput;
+import com.lambdaworks.redis.output.ValueOutput;
 import com.lambdaworks.redis.resource.ClientResources;
 
 import edu.umd.cs.mtc.MultithreadedTestCase;
 import edu.umd.cs.mtc.TestFramework;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.*;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 import io.netty.util.concurrent.ImmediateEventExecutor;
@@ -182,6 +193,81 @@ public class CommandHandlerTest {
         assertThat(command.isCancelled()).isTrue();
     }
 
+    @Test
+    public void exclusiveLockShouldBeReentrant() throws Exception {
+
+        AtomicLong writers = (AtomicLong) ReflectionTestUtils.getField(sut, "writers");
+
+        sut.lockWritersExclusive();
+        sut.lockWritersExclusive();
+
+        assertThat(writers.get()).isEqualTo(-2);
+        assertThat(ReflectionTestUtils.getField(sut, "exclusiveLockOwner")).isEqualTo(Thread.currentThread());
+
+        sut.incrementWriters();
+        sut.decrementWriters();
+        assertThat(writers.get()).isEqualTo(-2);
+
+        sut.unlockWritersExclusive();
+        assertThat(ReflectionTestUtils.getField(sut, "exclusiveLockOwner")).isEqualTo(Thread.currentThread());
+
+        sut.unlockWritersExclusive();
+        assertThat(writers.get()).isEqualTo(0);
+        assertThat(ReflectionTestUtils.getField(sut, "exclusiveLockOwner")).isNull();
+    }
+
+    @Test
+    public void writersShouldParkWhileExclusiveLockIsHeld() throws Exception {
+
+        AtomicLong writers = (AtomicLong) ReflectionTestUtils.getField(sut, "writers");
+
+        sut.lockWritersExclusive();
+
+        Thread writer = new Thread(sut::incrementWriters);
+        writer.start();
+
+        awaitParked(writer);
+
+        sut.unlockWritersExclusive();
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertThat(writer.isAlive()).isFalse();
+        assertThat(writers.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void exclusiveLockShouldParkWhileWritersAreActive() throws Exception {
+
+        AtomicLong writers = (AtomicLong) ReflectionTestUtils.getField(sut, "writers");
+
+        sut.incrementWriters();
+
+        Thread exclusive = new Thread(sut::lockWritersExclusive);
+        exclusive.start();
+
+        awaitParked(exclusive);
+
+        sut.decrementWriters();
+        exclusive.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertThat(exclusive.isAlive()).isFalse();
+        assertThat(writers.get()).isEqualTo(-1);
+    }
+
+    private static void awaitParked(Thread thread) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+
+        while (thread.getState() != Thread.State.TIMED_WAITING) {
+
+            if (System.currentTimeMillis() > deadline) {
+                fail("Thread " + thread + " did not park");
+            }
+
+            Thread.sleep(1);
+        }
+    }
+
     @Test
     public void testChannelActiveWithBufferedAndQueuedCommands() throws Exception {
 
@@ -440,9 +526,10 @@ public class CommandHandlerTest {
     public void shouldNotWriteCancelledCommands() throws Exception {
 
         command.cancel();
-        sut.write(context, command, null);
+        sut.write(context, command, promise);
 
         verifyZeroInteractions(context);
+        verify(promise).trySuccess();
         assertThat(disconnectedBuffer).isEmpty();
     }
 
@@ -507,6 +594,25 @@ public class CommandHandlerTest {
         assertThat(disconnectedBuffer).isEmpty();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldWriteCommandCollectionWithSingleFlush() throws Exception {
+
+        when(promise.isSuccess()).thenReturn(true);
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        Command<String, String, String> command2 = new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8), null);
+        sut.write(Arrays.asList(command, command2));
+
+        ArgumentCaptor<Object> objectArgumentCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(channel).writeAndFlush(objectArgumentCaptor.capture());
+
+        assertThat((Collection) objectArgumentCaptor.getValue()).hasSize(2);
+        assertThat(stack).extracting(RedisCommand::getType).containsExactly(CommandType.APPEND, CommandType.GET);
+    }
+
     @Test
     public void shouldWriteActiveCommandsInBatch() throws Exception {
 
@@ -539,6 +645,345 @@ public class CommandHandlerTest {
                 .allMatch(o -> CommandWrapper.unwrap((RedisCommand) o) == command2);
     }
 
+    @Test
+    public void shouldConsolidateFlushes() throws Exception {
+
+        sut = new CommandHandler<>(ClientOptions.builder().consolidateFlushes(true).maxCommandsPerFlush(2).build(),
+                clientResources);
+        sut.setRedisChannelHandler(channelHandler);
+
+        List<Runnable> tasks = new ArrayList<>();
+        doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(eventLoop).execute(any(Runnable.class));
+        when(channel.write(any())).thenReturn(promise);
+        when(channel.isWritable()).thenReturn(true);
+        when(promise.isSuccess()).thenReturn(true);
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        for (int i = 0; i < 3; i++) {
+            sut.write(new Command<>(CommandType.APPEND, new StatusOutput<>(StringCodec.UTF8), null));
+        }
+
+        assertThat(tasks).hasSize(1);
+        verify(channel, never()).writeAndFlush(any());
+
+        tasks.get(0).run();
+
+        verify(channel, times(3)).write(any());
+        verify(channel, times(2)).flush();
+    }
+
+    @Test
+    public void shouldKeepOrderOfConsolidatedSingleAndBatchWrites() throws Exception {
+
+        sut = new CommandHandler<>(ClientOptions.builder().consolidateFlushes(true).build(), clientResources);
+        sut.setRedisChannelHandler(channelHandler);
+
+        List<Runnable> tasks = new ArrayList<>();
+        doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(eventLoop).execute(any(Runnable.class));
+        when(channel.write(any())).thenReturn(promise);
+        when(channel.isWritable()).thenReturn(true);
+        when(promise.isSuccess()).thenReturn(true);
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        Command<String, String, String> single = new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8), null);
+        Command<String, String, String> batch1 = new Command<>(CommandType.SET, new StatusOutput<>(StringCodec.UTF8), null);
+        Command<String, String, String> batch2 = new Command<>(CommandType.DEL, new StatusOutput<>(StringCodec.UTF8), null);
+
+        // a caller on the event loop (e.g. a future callback) cannot let the scheduled write run before issuing the batch
+        sut.write(single);
+        sut.write(Arrays.asList(batch1, batch2));
+
+        assertThat(tasks).hasSize(1);
+        verify(channel, never()).writeAndFlush(any());
+
+        tasks.get(0).run();
+
+        assertThat(writtenCommands()).containsExactly(single, batch1, batch2);
+        verify(channel).flush();
+    }
+
+    @Test
+    public void shouldFlushBufferedCommandsThroughConsolidatedWrites() throws Exception {
+
+        sut = new CommandHandler<>(ClientOptions.builder().consolidateFlushes(true).build(), clientResources);
+        sut.setRedisChannelHandler(channelHandler);
+
+        List<Runnable> tasks = new ArrayList<>();
+        doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(eventLoop).execute(any(Runnable.class));
+        when(channel.write(any())).thenReturn(promise);
+        when(channel.isWritable()).thenReturn(true);
+        when(promise.isSuccess()).thenReturn(true);
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        Command<String, String, String> single = new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8), null);
+        Command<String, String, String> buffered = new Command<>(CommandType.SET, new StatusOutput<>(StringCodec.UTF8), null);
+
+        sut.write(single);
+        sut.setAutoFlushCommands(false);
+        sut.write(buffered);
+        sut.flushCommands();
+
+        assertThat(tasks).hasSize(1);
+        verify(channel, never()).writeAndFlush(any());
+
+        tasks.get(0).run();
+
+        assertThat(writtenCommands()).containsExactly(single, buffered);
+        verify(channel).flush();
+    }
+
+    @Test
+    public void shouldRejectConsolidatedWritesExceedingPendingQueue() throws Exception {
+
+        sut = new CommandHandler<>(ClientOptions.builder().consolidateFlushes(true).requestQueueSize(2).build(),
+                clientResources);
+        sut.setRedisChannelHandler(channelHandler);
+
+        List<Runnable> tasks = new ArrayList<>();
+        doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(eventLoop).execute(any(Runnable.class));
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        // concurrent writers passing the queue size check at the same time can exceed the bounded pending queue
+        sut.pendingWrites.add(new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8), null));
+        sut.pendingWrites.add(new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8), null));
+
+        AsyncCommand<String, String, String> rejected = new AsyncCommand<>(
+                new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8), null));
+
+        sut.write(rejected);
+
+        assertThat(rejected.isDone()).isTrue();
+        assertThatThrownBy(rejected::get).hasCauseInstanceOf(RedisException.class);
+        assertThat(sut.pendingWrites).hasSize(2);
+        assertThat(tasks).isEmpty();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private List<RedisCommand<?, ?, ?>> writtenCommands() {
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(channel, atLeastOnce()).write(captor.capture());
+
+        List<RedisCommand<?, ?, ?>> commands = new ArrayList<>();
+        for (Object written : captor.getAllValues()) {
+            commands.add(CommandWrapper.unwrap((RedisCommand) written));
+        }
+        return commands;
+    }
+
+    @Test
+    public void shouldCancelPendingConsolidatedWritesOnReset() throws Exception {
+
+        sut = new CommandHandler<>(ClientOptions.builder().consolidateFlushes(true).build(), clientResources);
+        sut.setRedisChannelHandler(channelHandler);
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        sut.write(command);
+        sut.reset();
+
+        assertThat(command.isCancelled()).isTrue();
+        verify(channel, never()).write(any());
+    }
+
+    @Test
+    public void shouldTimeoutCommands() throws Exception {
+
+        Timer timer = mock(Timer.class);
+        Timeout timeout = mock(Timeout.class);
+        ArgumentCaptor<TimerTask> captor = ArgumentCaptor.forClass(TimerTask.class);
+
+        when(clientResources.timer()).thenReturn(timer);
+        when(timer.newTimeout(captor.capture(), eq(2L), eq(TimeUnit.SECONDS))).thenReturn(timeout);
+        when(channelHandler.getTimeout()).thenReturn(2L);
+        when(channelHandler.getTimeoutUnit()).thenReturn(TimeUnit.SECONDS);
+
+        sut = new CommandHandler<>(ClientOptions.builder().timeoutCommands(true).build(), clientResources);
+        sut.setRedisChannelHandler(channelHandler);
+
+        AsyncCommand<String, String, String> timedOut = new AsyncCommand<>(
+                new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8), null));
+        AsyncCommand<String, String, String> completed = new AsyncCommand<>(
+                new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8), null));
+
+        sut.write(timedOut);
+        sut.write(completed);
+
+        completed.complete();
+        verify(timeout).cancel();
+
+        captor.getAllValues().get(0).run(timeout);
+
+        assertThat(timedOut.isDone()).isTrue();
+        assertThatThrownBy(timedOut::get).hasCauseInstanceOf(RedisCommandTimeoutException.class);
+        assertThat(completed.isCompletedExceptionally()).isFalse();
+    }
+
+    @Test
+    public void shouldReplaceTimeoutOfRedirectedCommands() throws Exception {
+
+        Timer timer = mock(Timer.class);
+        Timeout first = mock(Timeout.class);
+        Timeout second = mock(Timeout.class);
+
+        when(clientResources.timer()).thenReturn(timer);
+        when(timer.newTimeout(any(TimerTask.class), eq(2L), eq(TimeUnit.SECONDS))).thenReturn(first, second);
+        when(channelHandler.getTimeout()).thenReturn(2L);
+        when(channelHandler.getTimeoutUnit()).thenReturn(TimeUnit.SECONDS);
+
+        sut = new CommandHandler<>(ClientOptions.builder().timeoutCommands(true).build(), clientResources);
+        sut.setRedisChannelHandler(channelHandler);
+
+        CommandWrapper<String, String, String> redirected = new CommandWrapper<>(
+                new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8), null));
+
+        sut.write(redirected);
+        sut.write(redirected);
+
+        verify(first).cancel();
+        verify(second, never()).cancel();
+
+        redirected.complete();
+
+        verify(second).cancel();
+    }
+
+    @Test
+    public void shouldDiscardResponsesOfTimedOutCommands() throws Exception {
+
+        AtomicInteger completions = new AtomicInteger();
+        CommandWrapper<String, String, String> timedOut = new CommandWrapper<>(new AsyncCommand<>(
+                new Command<>(CommandType.GET, new ValueOutput<>(StringCodec.UTF8), null)));
+        timedOut.onComplete(result -> completions.incrementAndGet());
+        timedOut.completeExceptionally(new RedisCommandTimeoutException());
+
+        Command<String, String, String> next = new Command<>(CommandType.GET, new ValueOutput<>(StringCodec.UTF8), null);
+
+        stack.add(timedOut);
+        stack.add(next);
+
+        sut.channelRead(context, Unpooled.copiedBuffer("$5\r\nhello\r\n$5\r\nworld\r\n", StandardCharsets.US_ASCII));
+
+        assertThat(completions).hasValue(0);
+        assertThat(next.get()).isEqualTo("world");
+        assertThat(stack).isEmpty();
+    }
+
+    @Test
+    public void shouldSkipDoneCommandsOnWrite() throws Exception {
+
+        AsyncCommand<String, String, String> timedOut = new AsyncCommand<>(
+                new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8), null));
+        timedOut.completeExceptionally(new RedisCommandTimeoutException());
+
+        sut.write(context, timedOut, promise);
+
+        verify(context, never()).write(any(), any());
+        verify(promise).trySuccess();
+        assertThat(stack).isEmpty();
+    }
+
+    @Test
+    public void shouldRejectCommandsIfChannelIsNotWritable() throws Exception {
+
+        sut = new CommandHandler<>(
+                ClientOptions.builder().backpressureBehavior(ClientOptions.BackpressureBehavior.REJECT_COMMANDS).build(),
+                clientResources);
+        sut.setRedisChannelHandler(channelHandler);
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        when(channel.isWritable()).thenReturn(false);
+
+        assertThatThrownBy(() -> sut.write(command)).isInstanceOf(RedisException.class)
+                .hasMessageContaining("not writable");
+        verify(channel, never()).writeAndFlush(any());
+    }
+
+    @Test
+    public void shouldParkCallersUntilChannelIsWritable() throws Exception {
+
+        sut = new CommandHandler<>(
+                ClientOptions.builder().backpressureBehavior(ClientOptions.BackpressureBehavior.PARK_CALLERS).build(),
+                clientResources);
+        sut.setRedisChannelHandler(channelHandler);
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        AtomicBoolean writable = new AtomicBoolean();
+        when(channel.isWritable()).then(invocation -> writable.get());
+        when(channel.isActive()).thenReturn(true);
+        when(promise.isSuccess()).thenReturn(true);
+
+        Thread writer = new Thread(() -> sut.write(command));
+        writer.start();
+
+        while (writer.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+
+        verify(channel, never()).writeAndFlush(any());
+
+        writable.set(true);
+        sut.channelWritabilityChanged(context);
+        writer.join(1000);
+
+        assertThat(writer.isAlive()).isFalse();
+        verify(channel).writeAndFlush(any());
+    }
+
+    @Test
+    public void shouldTimeoutParkedCallers() throws Exception {
+
+        sut = new CommandHandler<>(
+                ClientOptions.builder().backpressureBehavior(ClientOptions.BackpressureBehavior.PARK_CALLERS).build(),
+                clientResources);
+        sut.setRedisChannelHandler(channelHandler);
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        when(channel.isWritable()).thenReturn(false);
+        when(channel.isActive()).thenReturn(true);
+        when(channelHandler.getTimeout()).thenReturn(10L);
+        when(channelHandler.getTimeoutUnit()).thenReturn(TimeUnit.MILLISECONDS);
+
+        assertThatThrownBy(() -> sut.write(command)).isInstanceOf(RedisCommandTimeoutException.class);
+        verify(channel, never()).writeAndFlush(any());
+    }
+
+    @Test
+    public void shouldParkCallersForSubMillisecondTimeouts() throws Exception {
+
+        sut = new CommandHandler<>(
+                ClientOptions.builder().backpressureBehavior(ClientOptions.BackpressureBehavior.PARK_CALLERS).build(),
+                clientResources);
+        sut.setRedisChannelHandler(channelHandler);
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        when(channel.isWritable()).thenReturn(false, false, true);
+        when(channel.isActive()).thenReturn(true);
+        when(channelHandler.getTimeout()).thenReturn(900L);
+        when(channelHandler.getTimeoutUnit()).thenReturn(TimeUnit.MICROSECONDS);
+
+        sut.write(command);
+
+        verify(channel).writeAndFlush(any());
+    }
+
     @Test
     public void shouldIgnoreNonReadableBuffers() throws Exception {
 
@@ -550,6 +995,113 @@ public class CommandHandlerTest {
         verify(byteBufMock, never()).release();
     }
 
+    @Test
+    public void shouldDecodeResponsesSplitAcrossReads() throws Exception {
+
+        Command<String, String, String> first = new Command<>(CommandType.GET, new ValueOutput<>(StringCodec.UTF8), null);
+        Command<String, String, String> second = new Command<>(CommandType.GET, new ValueOutput<>(StringCodec.UTF8), null);
+
+        stack.add(first);
+        stack.add(second);
+
+        sut.channelRead(context, Unpooled.copiedBuffer("$5\r\nhello\r\n$5\r\nwo", StandardCharsets.US_ASCII));
+
+        assertThat(first.isDone()).isTrue();
+        assertThat(first.get()).isEqualTo("hello");
+        assertThat(second.isDone()).isFalse();
+
+        sut.channelRead(context, Unpooled.copiedBuffer("rld\r\n", StandardCharsets.US_ASCII));
+
+        assertThat(second.isDone()).isTrue();
+        assertThat(second.get()).isEqualTo("world");
+        assertThat(stack).isEmpty();
+    }
+
+    @Test
+    public void shouldTrackConnectionLoad() throws Exception {
+
+        LatencyMeteredCommand<String, String, String> command = new LatencyMeteredCommand<>(
+                new Command<>(CommandType.GET, new ValueOutput<>(StringCodec.UTF8), null));
+        command.firstResponse(-1);
+        command.sent(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(5));
+
+        Command<String, String, String> second = new Command<>(CommandType.GET, new ValueOutput<>(StringCodec.UTF8), null);
+
+        stack.add(command);
+        stack.add(second);
+
+        assertThat(sut.getCompletionLatency()).isZero();
+
+        sut.channelRead(context, Unpooled.copiedBuffer("$5\r\nhello\r\n", StandardCharsets.US_ASCII));
+
+        assertThat(command.isDone()).isTrue();
+        assertThat(sut.getOutstandingCommands()).isEqualTo(1);
+
+        sut.channelRead(context, Unpooled.copiedBuffer("$5\r\nworld\r\n", StandardCharsets.US_ASCII));
+
+        assertThat(sut.getOutstandingCommands()).isZero();
+        assertThat(sut.getCompletionLatency()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(5));
+    }
+
+    @Test
+    public void shouldTrackConnectionLoadWithDisabledLatencyCollector() throws Exception {
+
+        when(clientResources.commandLatencyCollector()).thenReturn(DefaultCommandLatencyCollector.disabled());
+        sut = new CommandHandler<>(ClientOptions.create(), clientResources);
+        sut.setRedisChannelHandler(channelHandler);
+        stack = (Queue) ReflectionTestUtils.getField(sut, "stack");
+
+        assertThat(sut.getCompletionLatency()).isZero();
+
+        LatencyMeteredCommand<String, String, String> command = new LatencyMeteredCommand<>(
+                new Command<>(CommandType.GET, new ValueOutput<>(StringCodec.UTF8), null));
+        command.firstResponse(-1);
+        command.sent(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(5));
+
+        stack.add(command);
+
+        sut.channelRead(context, Unpooled.copiedBuffer("$5\r\nhello\r\n", StandardCharsets.US_ASCII));
+
+        assertThat(command.isDone()).isTrue();
+        assertThat(sut.getCompletionLatency()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(5));
+    }
+
+    @Test
+    public void shouldNotWrapCommandsWithoutLatencyConsumers() throws Exception {
+
+        when(clientResources.commandLatencyCollector()).thenReturn(DefaultCommandLatencyCollector.disabled());
+        sut = new CommandHandler<>(ClientOptions.create(), clientResources);
+        sut.setRedisChannelHandler(channelHandler);
+        stack = (Queue) ReflectionTestUtils.getField(sut, "stack");
+
+        when(promise.isSuccess()).thenReturn(true);
+
+        sut.write(context, command, promise);
+
+        assertThat(stack).hasSize(1).allMatch(o -> o == command);
+    }
+
+    @Test
+    public void shouldDecayCompletionLatencyWithoutSamples() throws Exception {
+
+        LatencyMeteredCommand<String, String, String> command = new LatencyMeteredCommand<>(
+                new Command<>(CommandType.GET, new ValueOutput<>(StringCodec.UTF8), null));
+        command.firstResponse(-1);
+        command.sent(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(500));
+
+        stack.add(command);
+
+        sut.channelRead(context, Unpooled.copiedBuffer("$5\r\nhello\r\n", StandardCharsets.US_ASCII));
+
+        long now = System.nanoTime();
+        long latency = sut.getCompletionLatency(now);
+
+        assertThat(latency).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(sut.getCompletionLatency(now + TimeUnit.SECONDS.toNanos(1))).isEqualTo(latency / 2);
+        assertThat(sut.getCompletionLatency(now + TimeUnit.SECONDS.toNanos(10))).isLessThan(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(sut.getCompletionLatency(now + TimeUnit.DAYS.toNanos(1))).isZero();
+    }
+
     @Test(timeout = 5000)
     public void shouldRebuildHugeQueue() throws Exception {
 
@@ -23,10 +23,14 @@ import org.junit.Test;
 
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.codec.StringCodec;
 import com.lambdaworks.redis.codec.Utf8StringCodec;
 import com.lambdaworks.redis.output.CommandOutput;
 import com.lambdaworks.redis.output.StatusOutput;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
 /**
  * @author Will Glozer
  * @author Mark Paluch
@@ -107,6 +111,19 @@ public class CommandInternalsTest {
         assertThat(sut.getArgs().toString()).contains(MyKeywords.DUMMY.name());
     }
 
+    @Test
+    public void encodedLength() {
+
+        Command<String, String, String> command = new Command<>(CommandType.SET, new StatusOutput<>(codec),
+                new CommandArgs<>(StringCodec.ASCII).addKey("key").addValue("value").add(CommandKeyword.LIMIT));
+
+        ByteBuf buffer = Unpooled.buffer();
+        command.encode(buffer);
+
+        assertThat(CommandEncoder.encodedLength(command)).isEqualTo(buffer.readableBytes());
+        assertThat(CommandEncoder.encodedLength(sut)).isEqualTo(sut.getType().getBytes().length + 10);
+    }
+
     @Test
     public void getWithTimeout() {
         sut.getOutput().set(buffer("one"));
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.protocol;
+
+import static com.lambdaworks.redis.protocol.LettuceCharsets.buffer;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.lambdaworks.Wait;
+import com.lambdaworks.redis.HedgedReadOptions;
+import com.lambdaworks.redis.RedisException;
+import com.lambdaworks.redis.codec.StringCodec;
+import com.lambdaworks.redis.event.Event;
+import com.lambdaworks.redis.event.EventBus;
+import com.lambdaworks.redis.event.metrics.CommandLatencyEvent;
+import com.lambdaworks.redis.metrics.CommandLatencyId;
+import com.lambdaworks.redis.metrics.CommandMetrics;
+import com.lambdaworks.redis.output.ValueOutput;
+import com.lambdaworks.redis.resource.ClientResources;
+
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+import rx.subjects.PublishSubject;
+
+/**
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class HedgedReadDispatcherTest {
+
+    @Mock
+    ClientResources clientResources;
+
+    @Mock
+    EventBus eventBus;
+
+    private DefaultEventExecutorGroup executor = new DefaultEventExecutorGroup(1);
+    private PublishSubject<Event> events = PublishSubject.create();
+    private List<RedisCommand<String, String, ?>> primary = new CopyOnWriteArrayList<>();
+    private List<RedisCommand<String, String, ?>> secondary = new CopyOnWriteArrayList<>();
+    private AsyncCommand<String, String, String> command = new AsyncCommand<>(new Command<>(CommandType.GET,
+            new ValueOutput<>(StringCodec.UTF8), new CommandArgs<>(StringCodec.UTF8).addKey("key")));
+
+    @Before
+    public void before() {
+
+        when(clientResources.eventExecutorGroup()).thenReturn(executor);
+        when(clientResources.eventBus()).thenReturn(eventBus);
+        when(eventBus.get()).thenReturn(events);
+    }
+
+    @After
+    public void after() {
+        executor.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void shouldCompleteWithPrimaryResponse() throws Exception {
+
+        HedgedReadDispatcher sut = create(HedgedReadOptions.builder().enabled(true).initialDelay(1, TimeUnit.MINUTES));
+
+        sut.dispatch(command, primary::add, secondary::add);
+        respond(primary.get(0), "primary");
+
+        assertThat(command.get()).isEqualTo("primary");
+        assertThat(secondary).isEmpty();
+    }
+
+    @Test
+    public void shouldCompleteWithSecondaryResponseIfPrimaryIsSlow() throws Exception {
+
+        HedgedReadDispatcher sut = create(HedgedReadOptions.builder().enabled(true).initialDelay(1, TimeUnit.MILLISECONDS));
+
+        sut.dispatch(command, primary::add, secondary::add);
+
+        Wait.untilTrue(() -> !secondary.isEmpty()).waitOrTimeout();
+
+        respond(secondary.get(0), "secondary");
+        respond(primary.get(0), "primary");
+
+        assertThat(command.get()).isEqualTo("secondary");
+        assertThat(primary).hasSize(1);
+        assertThat(secondary).hasSize(1);
+    }
+
+    @Test
+    public void shouldCompleteWithErrorResponse() {
+
+        HedgedReadDispatcher sut = create(HedgedReadOptions.builder().enabled(true).initialDelay(1, TimeUnit.MINUTES));
+
+        sut.dispatch(command, primary::add, secondary::add);
+
+        primary.get(0).getOutput().setError(buffer("WRONGTYPE Operation against a key holding the wrong kind of value"));
+        primary.get(0).complete();
+
+        assertThat(command.isCompletedExceptionally()).isTrue();
+        assertThat(command.getError()).startsWith("WRONGTYPE");
+    }
+
+    @Test
+    public void shouldHedgeImmediatelyIfPrimaryFails() throws Exception {
+
+        HedgedReadDispatcher sut = create(HedgedReadOptions.builder().enabled(true).initialDelay(1, TimeUnit.MINUTES));
+
+        sut.dispatch(command, primary::add, secondary::add);
+        primary.get(0).completeExceptionally(new RedisException("Connection reset by peer"));
+
+        assertThat(command.isDone()).isFalse();
+        assertThat(secondary).hasSize(1);
+
+        respond(secondary.get(0), "secondary");
+
+        assertThat(command.get()).isEqualTo("secondary");
+    }
+
+    @Test
+    public void shouldFailIfPrimaryAndSecondaryFail() {
+
+        HedgedReadDispatcher sut = create(HedgedReadOptions.builder().enabled(true).initialDelay(1, TimeUnit.MINUTES));
+
+        sut.dispatch(command, primary::add, secondary::add);
+        primary.get(0).completeExceptionally(new RedisException("Connection closed"));
+        secondary.get(0).completeExceptionally(new RedisException("Connection closed"));
+
+        assertThat(command.isCompletedExceptionally()).isTrue();
+    }
+
+    @Test
+    public void shouldFailIfWritesFail() {
+
+        HedgedReadDispatcher sut = create(HedgedReadOptions.builder().enabled(true).initialDelay(1, TimeUnit.MINUTES));
+
+        sut.dispatch(command, attempt -> {
+            throw new RedisException("Connection closed");
+        }, attempt -> {
+            throw new RedisException("Connection closed");
+        });
+
+        assertThat(command.isCompletedExceptionally()).isTrue();
+    }
+
+    @Test
+    public void shouldNotHedgeCancelledCommand() throws Exception {
+
+        HedgedReadDispatcher sut = create(HedgedReadOptions.builder().enabled(true).initialDelay(1, TimeUnit.MILLISECONDS));
+
+        sut.dispatch(command, primary::add, secondary::add);
+        command.cancel();
+
+        Thread.sleep(50);
+
+        assertThat(primary).hasSize(1);
+        assertThat(secondary).isEmpty();
+    }
+
+    @Test
+    public void shouldNotHedgeCompletedCommand() throws Exception {
+
+        HedgedReadDispatcher sut = create(HedgedReadOptions.builder().enabled(true).initialDelay(1, TimeUnit.MINUTES));
+
+        Command<String, String, String> plain = new Command<>(CommandType.GET, new ValueOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).addKey("key"));
+
+        sut.dispatch(plain, primary::add, secondary::add);
+        plain.cancel();
+        primary.get(0).completeExceptionally(new RedisException("Connection closed"));
+
+        assertThat(secondary).isEmpty();
+    }
+
+    @Test
+    public void shouldDeriveDelayFromLatencyPercentile() {
+
+        HedgedReadDispatcher sut = create(HedgedReadOptions.builder().enabled(true).percentile(97)
+                .initialDelay(5, TimeUnit.MILLISECONDS).minDelay(1, TimeUnit.MILLISECONDS));
+
+        assertThat(sut.getDelay(CommandType.GET)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(5));
+
+        Map<CommandLatencyId, CommandMetrics> latencies = new HashMap<>();
+        latencies.put(CommandLatencyId.create(new InetSocketAddress(1), new InetSocketAddress(2), CommandType.GET),
+                metrics(1, 2000, 4000));
+        latencies.put(CommandLatencyId.create(new InetSocketAddress(1), new InetSocketAddress(3), CommandType.GET),
+                metrics(3, 6000, 8000));
+        latencies.put(CommandLatencyId.create(new InetSocketAddress(1), new InetSocketAddress(2), CommandType.HGET),
+                metrics(3, 100, 200));
+
+        events.onNext(new CommandLatencyEvent(latencies));
+
+        assertThat(sut.getDelay(CommandType.GET)).isEqualTo(TimeUnit.MICROSECONDS.toNanos(7000));
+        assertThat(sut.getDelay(CommandType.HGET)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(sut.getDelay(CommandType.MGET)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(5));
+
+        sut.close();
+        events.onNext(new CommandLatencyEvent(new HashMap<>()));
+
+        assertThat(sut.getDelay(CommandType.GET)).isEqualTo(TimeUnit.MICROSECONDS.toNanos(7000));
+    }
+
+    private HedgedReadDispatcher create(HedgedReadOptions.Builder builder) {
+        return new HedgedReadDispatcher(builder.build(), clientResources);
+    }
+
+    private static CommandMetrics metrics(long count, long p95, long p99) {
+
+        Map<Double, Long> percentiles = new HashMap<>();
+        percentiles.put(95.0, p95);
+        percentiles.put(99.0, p99);
+
+        return new CommandMetrics(count, TimeUnit.MICROSECONDS, null, new CommandMetrics.CommandLatency(0, p99, percentiles));
+    }
+
+    private static void respond(RedisCommand<String, String, ?> attempt, String value) {
+
+        attempt.getOutput().set(buffer(value));
+        attempt.complete();
+    }
+}
@@ -18,7 +18,10 @@ package com.lambdaworks.redis.protocol;
 import static com.lambdaworks.redis.protocol.RedisStateMachine.State;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -31,9 +34,11 @@ import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.codec.StringCodec;
 import com.lambdaworks.redis.codec.Utf8StringCodec;
 import com.lambdaworks.redis.output.*;
 
@@ -108,6 +113,85 @@ public class StateMachineTest {
         assertThat(output.get()).isEqualTo("foo");
     }
 
+    @Test
+    public void bulkUsingByteBufDecoder() throws Exception {
+        CommandOutput<String, String, String> output = new ValueOutput<>(StringCodec.UTF8);
+        assertThat(output.isByteBufDecoding()).isTrue();
+        assertThat(rsm.decode(buffer("$-1\r\n"), output)).isTrue();
+        assertThat(output.get()).isNull();
+
+        ByteBuf buffer = buffer("$3\r\nfo");
+        assertThat(rsm.decode(buffer, output)).isFalse();
+        buffer.writeBytes("o\r\n".getBytes(charset));
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(output.get()).isEqualTo("foo");
+        assertThat(buffer.isReadable()).isFalse();
+    }
+
+    @Test
+    public void bulkUsingOverriddenCodecDecoder() throws Exception {
+
+        StringCodec upperCase = new StringCodec() {
+            @Override
+            public String decodeValue(ByteBuffer bytes) {
+                return super.decodeValue(bytes).toUpperCase();
+            }
+        };
+
+        CommandOutput<String, String, String> output = new ValueOutput<>(upperCase);
+        assertThat(output.isByteBufDecoding()).isFalse();
+        assertThat(rsm.decode(buffer("$3\r\nfoo\r\n"), output)).isTrue();
+        assertThat(output.get()).isEqualTo("FOO");
+    }
+
+    @Test
+    public void multiUsingByteBufDecoder() throws Exception {
+        CommandOutput<String, String, List<String>> output = new ValueListOutput<>(StringCodec.UTF8);
+        ByteBuf buffer = buffer("*3\r\n$-1\r\n$2\r\nok\r\n$0\r\n\r\n");
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(output.get()).isEqualTo(Arrays.asList(null, "ok", ""));
+    }
+
+    @Test
+    public void bulkInChunks() throws Exception {
+        ChunkedOutput output = new ChunkedOutput(codec);
+
+        ByteBuf buffer = buffer("$10\r\n0123");
+        assertThat(rsm.decode(buffer, output)).isFalse();
+        assertThat(buffer.isReadable()).isFalse();
+
+        buffer.writeBytes("456789\r".getBytes(charset));
+        assertThat(rsm.decode(buffer, output)).isFalse();
+        assertThat(output.get()).isNull();
+
+        buffer.writeBytes("\n".getBytes(charset));
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(output.chunks).containsExactly("0123", "456789");
+        assertThat(output.get()).isEqualTo("0123456789");
+    }
+
+    @Test
+    public void shrinksResponseElementBufferAfterOversizedBulk() throws Exception {
+        CommandOutput<String, String, String> output = new ValueOutput<>(codec);
+        char[] value = new char[100 * 1024];
+        Arrays.fill(value, 'x');
+
+        assertThat(rsm.decode(buffer("$" + value.length + "\r\n" + new String(value) + "\r\n"), output)).isTrue();
+        assertThat(output.get()).hasSize(value.length);
+
+        ByteBuf responseElementBuffer = (ByteBuf) ReflectionTestUtils.getField(rsm, "responseElementBuffer");
+        assertThat(responseElementBuffer.capacity()).isEqualTo(1024);
+    }
+
+    @Test
+    public void multiInChunks() throws Exception {
+        ChunkedOutput output = new ChunkedOutput(codec);
+        ByteBuf buffer = buffer("*3\r\n$2\r\nok\r\n$-1\r\n$0\r\n\r\n");
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(output.chunks).containsExactly("ok");
+        assertThat(output.values).containsExactly("ok", null, "");
+    }
+
     @Test
     public void multi() throws Exception {
         CommandOutput<String, String, List<String>> output = new ValueListOutput<>(codec);
@@ -165,6 +249,41 @@ public class StateMachineTest {
         assertThat(State.Type.valueOf("SINGLE")).isEqualTo(State.Type.SINGLE);
     }
 
+    static class ChunkedOutput extends CommandOutput<String, String, String> implements ValueChunkConsumer {
+
+        final List<String> chunks = new ArrayList<>();
+        final List<String> values = new ArrayList<>();
+        final StringBuilder value = new StringBuilder();
+
+        ChunkedOutput(RedisCodec<String, String> codec) {
+            super(codec, null);
+        }
+
+        @Override
+        public void set(ByteBuffer bytes) {
+            values.add(bytes == null ? null : codec.decodeValue(bytes));
+        }
+
+        @Override
+        public boolean isChunked(int length) {
+            return true;
+        }
+
+        @Override
+        public void onChunk(ByteBuf chunk) {
+            String content = chunk.toString(StandardCharsets.UTF_8);
+            chunks.add(content);
+            value.append(content);
+        }
+
+        @Override
+        public void onValueComplete() {
+            output = value.toString();
+            values.add(output);
+            value.setLength(0);
+        }
+    }
+
     protected ByteBuf buffer(String content) {
         return Unpooled.copiedBuffer(content, charset);
     }
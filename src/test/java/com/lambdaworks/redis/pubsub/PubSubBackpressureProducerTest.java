@@ -0,0 +1,167 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.pubsub;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import rx.BackpressureOverflow;
+import rx.exceptions.MissingBackpressureException;
+import rx.observers.TestSubscriber;
+
+import com.lambdaworks.redis.pubsub.api.rx.PubSubBackpressure;
+
+/**
+ * @author Mark Paluch
+ */
+public class PubSubBackpressureProducerTest {
+
+    private TestSubscriber<String> subscriber = TestSubscriber.create(0);
+    private AtomicInteger suspended = new AtomicInteger();
+    private AtomicInteger resumed = new AtomicInteger();
+
+    @Test
+    public void shouldEmitAccordingToDemand() {
+
+        PubSubBackpressureProducer<String> sut = create(PubSubBackpressure.buffer(10));
+
+        sut.onNext("a", "1");
+        sut.onNext("a", "2");
+        subscriber.assertNoValues();
+
+        sut.request(1);
+        subscriber.assertValues("1");
+
+        sut.request(2);
+        sut.onNext("a", "3");
+        subscriber.assertValues("1", "2", "3");
+        assertThat(sut.size()).isZero();
+    }
+
+    @Test
+    public void shouldSuspendReadingWhileBufferIsFull() {
+
+        PubSubBackpressureProducer<String> sut = create(PubSubBackpressure.buffer(4));
+
+        for (int i = 0; i < 4; i++) {
+            sut.onNext("a", "" + i);
+        }
+
+        assertThat(suspended).hasValue(1);
+        assertThat(sut.size()).isEqualTo(4);
+
+        sut.request(1);
+        assertThat(resumed).hasValue(0);
+
+        sut.request(1);
+        assertThat(resumed).hasValue(1);
+        subscriber.assertValues("0", "1");
+    }
+
+    @Test
+    public void shouldSignalOverflowOfFullBufferAfterRetainedMessages() {
+
+        PubSubBackpressureProducer<String> sut = create(PubSubBackpressure.buffer(2));
+
+        sut.onNext("a", "1");
+        sut.onNext("a", "2");
+        sut.onNext("a", "3");
+
+        assertThat(sut.size()).isEqualTo(2);
+        assertThat(resumed).hasValue(1);
+        subscriber.assertNoErrors();
+
+        sut.request(10);
+
+        subscriber.assertValues("1", "2");
+        subscriber.assertError(MissingBackpressureException.class);
+    }
+
+    @Test
+    public void shouldApplyOverflowStrategyToFullBuffer() {
+
+        PubSubBackpressureProducer<String> sut = create(
+                PubSubBackpressure.buffer(2, BackpressureOverflow.ON_OVERFLOW_DROP_LATEST));
+
+        sut.onNext("a", "1");
+        sut.onNext("a", "2");
+        sut.onNext("a", "3");
+
+        assertThat(sut.size()).isEqualTo(2);
+
+        sut.request(10);
+
+        subscriber.assertValues("1", "2");
+        subscriber.assertNoErrors();
+    }
+
+    @Test
+    public void shouldRetainLatestMessagePerChannel() {
+
+        PubSubBackpressureProducer<String> sut = create(PubSubBackpressure.latest());
+
+        sut.onNext("a", "a1");
+        sut.onNext("b", "b1");
+        sut.onNext("a", "a2");
+        sut.onNext("b".getBytes(), "b2");
+        sut.onNext("b".getBytes(), "b3");
+
+        sut.request(10);
+
+        subscriber.assertValues("b1", "a2", "b3");
+        assertThat(suspended).hasValue(0);
+    }
+
+    @Test
+    public void shouldDropOldestOnOverflow() {
+
+        PubSubBackpressureProducer<String> sut = create(PubSubBackpressure.dropOldest(2));
+
+        sut.onNext("a", "1");
+        sut.onNext("a", "2");
+        sut.onNext("a", "3");
+
+        sut.request(10);
+
+        subscriber.assertValues("2", "3");
+        assertThat(suspended).hasValue(0);
+    }
+
+    @Test
+    public void shouldResumeReadingOnTerminate() {
+
+        PubSubBackpressureProducer<String> sut = create(PubSubBackpressure.buffer(1));
+
+        sut.onNext("a", "1");
+        assertThat(suspended).hasValue(1);
+
+        subscriber.unsubscribe();
+        sut.request(1);
+        sut.onNext("a", "2");
+
+        assertThat(resumed).hasValue(1);
+        assertThat(sut.size()).isZero();
+        subscriber.assertNoValues();
+    }
+
+    private PubSubBackpressureProducer<String> create(PubSubBackpressure backpressure) {
+        return new PubSubBackpressureProducer<>(subscriber, backpressure, suspended::incrementAndGet,
+                resumed::incrementAndGet);
+    }
+}
@@ -18,11 +18,14 @@ package com.lambdaworks.redis.pubsub;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Fail.fail;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.Collection;
-import java.util.Queue;
+import java.util.*;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -144,4 +147,82 @@ public class PubSubCommandHandlerTest {
 
         assertThat(ReflectionTestUtils.getField(command, "exception")).isInstanceOf(IllegalStateException.class);
     }
+
+    @Test
+    public void shouldSuspendAndResumeReading() throws Exception {
+
+        ChannelConfig config = mock(ChannelConfig.class);
+        when(channel.config()).thenReturn(config);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArguments()[0]).run();
+            return null;
+        }).when(eventLoop).execute(any(Runnable.class));
+
+        sut.channelRegistered(context);
+
+        sut.suspendReading();
+        sut.suspendReading();
+        sut.resumeReading();
+
+        verify(config).setAutoRead(false);
+        verify(config, never()).setAutoRead(true);
+
+        sut.resumeReading();
+
+        verify(config).setAutoRead(true);
+    }
+
+    @Test
+    public void shouldPropagateMessagesOfOneReadAsBatch() throws Exception {
+
+        List<String> messages = new ArrayList<>();
+        List<Integer> batchSizes = new ArrayList<>();
+
+        when(context.fireChannelRead(any())).thenAnswer(invocation -> {
+
+            List<PubSubOutput<String, String, String>> batch = (List) invocation.getArguments()[0];
+            batchSizes.add(batch.size());
+            batch.forEach(output -> messages.add(output.type() + ":" + output.channel() + ":" + output.get()));
+            return context;
+        });
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+        ReflectionTestUtils.setField(sut, "pristine", false);
+
+        sut.channelRead(context, Unpooled.wrappedBuffer(("*3\r\n$7\r\nmessage\r\n$1\r\na\r\n$1\r\n1\r\n"
+                + "*3\r\n$7\r\nmessage\r\n$1\r\nb\r\n$1\r\n2\r\n").getBytes()));
+
+        assertThat(batchSizes).containsExactly(2);
+        assertThat(messages).containsExactly("message:a:1", "message:b:2");
+    }
+
+    @Test
+    public void shouldReuseOutputsAcrossReads() throws Exception {
+
+        List<String> messages = new ArrayList<>();
+        Set<Object> outputs = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        when(context.fireChannelRead(any())).thenAnswer(invocation -> {
+
+            List<PubSubOutput<String, String, String>> batch = (List) invocation.getArguments()[0];
+            batch.forEach(output -> {
+                outputs.add(output);
+                messages.add(output.channel() + ":" + output.get());
+            });
+            return context;
+        });
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+        ReflectionTestUtils.setField(sut, "pristine", false);
+
+        sut.channelRead(context,
+                Unpooled.wrappedBuffer("*3\r\n$7\r\nmessage\r\n$1\r\na\r\n$1\r\n1\r\n*3\r\n$7\r\nmes".getBytes()));
+        sut.channelRead(context, Unpooled.wrappedBuffer("sage\r\n$1\r\nb\r\n$1\r\n2\r\n".getBytes()));
+        sut.channelRead(context, Unpooled.wrappedBuffer("*3\r\n$7\r\nmessage\r\n$1\r\nc\r\n$1\r\n3\r\n".getBytes()));
+
+        assertThat(messages).containsExactly("a:1", "b:2", "c:3");
+        assertThat(outputs).hasSize(2);
+    }
 }
@@ -115,6 +115,23 @@ public class PubSubCommandTest extends AbstractRedisClientTest implements RedisP
         assertThat(messages.take()).isEqualTo(message);
     }
 
+    @Test(timeout = 2000)
+    public void batchListener() throws Exception {
+
+        StatefulRedisPubSubConnection<String, String> connection = client.connectPubSub();
+        BlockingQueue<String> batched = LettuceFactories.newBlockingQueue();
+
+        connection.addBatchListener(batch -> batch.stream().filter(output -> output.type() == PubSubOutput.Type.message)
+                .forEach(output -> batched.add(output.channel() + ":" + output.get())));
+
+        connection.sync().subscribe(channel);
+        redis.publish(channel, message);
+
+        assertThat(batched.take()).isEqualTo(channel + ":" + message);
+
+        connection.close();
+    }
+
     @Test(timeout = 2000)
     public void pipelinedMessage() throws Exception {
         pubsub.subscribe(channel);
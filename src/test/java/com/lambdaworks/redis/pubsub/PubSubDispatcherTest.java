@@ -0,0 +1,224 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.pubsub;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.lambdaworks.Wait;
+import com.lambdaworks.redis.PubSubDispatchOptions;
+import com.lambdaworks.redis.PubSubDispatchOptions.OverflowPolicy;
+
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+
+/**
+ * @author Mark Paluch
+ */
+public class PubSubDispatcherTest {
+
+    private DefaultEventExecutorGroup executor = new DefaultEventExecutorGroup(2);
+    private List<Integer> received = new CopyOnWriteArrayList<>();
+
+    @After
+    public void after() {
+        executor.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void inlineDispatcherShouldRunOnCallingThread() {
+
+        Thread caller = Thread.currentThread();
+        List<Thread> threads = new ArrayList<>();
+
+        PubSubDispatcher.inline().dispatch("channel", () -> threads.add(Thread.currentThread()));
+
+        assertThat(PubSubDispatcher.inline().isOffloading()).isFalse();
+        assertThat(threads).containsExactly(caller);
+    }
+
+    @Test
+    public void shouldRetainOrderPerShardKey() {
+
+        PubSubDispatcher sut = new PubSubDispatcher(PubSubDispatchOptions.builder().offload(true).shards(4)
+                .queueCapacity(16).overflowPolicy(OverflowPolicy.BLOCK).build(), executor);
+
+        List<Integer> other = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+
+            int value = i;
+            sut.dispatch("channel", () -> received.add(value));
+            sut.dispatch("other".getBytes(), () -> other.add(value));
+        }
+
+        Wait.untilEquals(1000, received::size).waitOrTimeout();
+        Wait.untilEquals(1000, other::size).waitOrTimeout();
+
+        List<Integer> expected = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        assertThat(received).isEqualTo(expected);
+        assertThat(other).isEqualTo(expected);
+        assertThat(sut.getDroppedCount()).isZero();
+    }
+
+    @Test
+    public void shouldDropNewestOnOverflow() throws Exception {
+
+        PubSubDispatcher sut = new PubSubDispatcher(PubSubDispatchOptions.builder().offload(true).shards(1)
+                .queueCapacity(2).overflowPolicy(OverflowPolicy.DROP_NEWEST).build(), executor);
+
+        dispatchWhileBlocked(sut);
+
+        assertThat(received).containsExactly(1, 2, 3);
+        assertThat(sut.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldDropOldestOnOverflow() throws Exception {
+
+        PubSubDispatcher sut = new PubSubDispatcher(PubSubDispatchOptions.builder().offload(true).shards(1)
+                .queueCapacity(2).overflowPolicy(OverflowPolicy.DROP_OLDEST).build(), executor);
+
+        dispatchWhileBlocked(sut);
+
+        assertThat(received).containsExactly(1, 3, 4);
+        assertThat(sut.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldSuspendReadingInsteadOfBlockingOnOverflow() throws Exception {
+
+        PubSubDispatcher sut = new PubSubDispatcher(PubSubDispatchOptions.builder().offload(true).shards(1)
+                .queueCapacity(2).overflowPolicy(OverflowPolicy.BLOCK).build(), executor);
+
+        AtomicInteger suspended = new AtomicInteger();
+        AtomicInteger resumed = new AtomicInteger();
+        sut.setReadControl(suspended::incrementAndGet, resumed::incrementAndGet);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        sut.dispatch("channel", () -> block(started, release));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        sut.dispatch("channel", () -> received.add(2));
+        assertThat(suspended.get()).isZero();
+
+        sut.dispatch("channel", () -> received.add(3));
+        sut.dispatch("channel", () -> received.add(4));
+
+        assertThat(suspended.get()).isEqualTo(1);
+        assertThat(resumed.get()).isZero();
+
+        release.countDown();
+
+        Wait.untilEquals(4, received::size).waitOrTimeout();
+        Wait.untilEquals(1, resumed::get).waitOrTimeout();
+
+        assertThat(received).containsExactly(1, 2, 3, 4);
+        assertThat(suspended.get()).isEqualTo(1);
+        assertThat(sut.getDroppedCount()).isZero();
+    }
+
+    @Test
+    public void shouldResumeReadingOnClose() throws Exception {
+
+        PubSubDispatcher sut = new PubSubDispatcher(PubSubDispatchOptions.builder().offload(true).shards(1)
+                .queueCapacity(1).overflowPolicy(OverflowPolicy.BLOCK).build(), executor);
+
+        AtomicInteger suspended = new AtomicInteger();
+        AtomicInteger resumed = new AtomicInteger();
+        sut.setReadControl(suspended::incrementAndGet, resumed::incrementAndGet);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        sut.dispatch("channel", () -> block(started, release));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        sut.dispatch("channel", () -> received.add(2));
+
+        assertThat(suspended.get()).isEqualTo(1);
+
+        sut.close();
+        release.countDown();
+
+        assertThat(resumed.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldDiscardQueuedNotificationsOnClose() throws Exception {
+
+        PubSubDispatcher sut = new PubSubDispatcher(PubSubDispatchOptions.builder().offload(true).shards(1).build(),
+                executor);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        sut.dispatch("channel", () -> block(started, release));
+        started.await(1, TimeUnit.SECONDS);
+        sut.dispatch("channel", () -> received.add(2));
+
+        sut.close();
+        sut.dispatch("channel", () -> received.add(3));
+        release.countDown();
+
+        assertThat(received).containsExactly(1);
+    }
+
+    @Test
+    public void shouldHashByteArraysByContent() {
+        assertThat(PubSubDispatcher.hash("channel".getBytes())).isEqualTo(PubSubDispatcher.hash("channel".getBytes()));
+    }
+
+    private void dispatchWhileBlocked(PubSubDispatcher sut) throws InterruptedException {
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        sut.dispatch("channel", () -> block(started, release));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        sut.dispatch("channel", () -> received.add(2));
+        sut.dispatch("channel", () -> received.add(3));
+        sut.dispatch("channel", () -> received.add(4));
+
+        release.countDown();
+
+        Wait.untilEquals(3, received::size).waitOrTimeout();
+    }
+
+    private void block(CountDownLatch started, CountDownLatch release) {
+
+        received.add(1);
+        started.countDown();
+
+        try {
+            release.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.pubsub;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.codec.StringCodec;
+
+/**
+ * @author Mark Paluch
+ */
+public class PubSubRoutingIndexTest {
+
+    private PubSubRoutingIndex<String, String> sut = new PubSubRoutingIndex<>();
+    private List<String> received = new ArrayList<>();
+
+    @Test
+    public void shouldRouteMessagesByChannel() {
+
+        sut.addChannelListener("a", new RecordingListener("a-listener", received));
+        sut.addChannelListener("b", new RecordingListener("b-listener", received));
+
+        sut.notifyListeners(output(StringCodec.UTF8, "message", "a", "1"));
+        sut.notifyListeners(output(StringCodec.UTF8, "message", "c", "2"));
+
+        assertThat(received).containsExactly("a-listener:a:1");
+    }
+
+    @Test
+    public void shouldRoutePatternMessagesByPattern() {
+
+        sut.addChannelListener("news.sports", new RecordingListener("channel-listener", received));
+        sut.addPatternListener("news.*", new RecordingListener("pattern-listener", received));
+
+        sut.notifyListeners(output(StringCodec.UTF8, "pmessage", "news.*", "news.sports", "1"));
+
+        assertThat(received).containsExactly("pattern-listener:news.*:news.sports:1");
+    }
+
+    @Test
+    public void shouldRouteSubscriptionNotifications() {
+
+        sut.addChannelListener("a", new RecordingListener("channel-listener", received));
+        sut.addPatternListener("a*", new RecordingListener("pattern-listener", received));
+
+        PubSubOutput<String, String, String> subscribe = output(StringCodec.UTF8, "subscribe", "a");
+        subscribe.set(1);
+        PubSubOutput<String, String, String> psubscribe = output(StringCodec.UTF8, "psubscribe", "a*");
+        psubscribe.set(2);
+
+        sut.notifyListeners(subscribe);
+        sut.notifyListeners(psubscribe);
+
+        assertThat(received).containsExactly("channel-listener:subscribed:a:1", "pattern-listener:psubscribed:a*:2");
+    }
+
+    @Test
+    public void shouldRouteByteArrayChannelsByContent() {
+
+        PubSubRoutingIndex<byte[], byte[]> sut = new PubSubRoutingIndex<>();
+        List<String> received = new ArrayList<>();
+
+        sut.addChannelListener("a".getBytes(), new RedisPubSubAdapter<byte[], byte[]>() {
+            @Override
+            public void message(byte[] channel, byte[] message) {
+                received.add(new String(channel) + ":" + new String(message));
+            }
+        });
+
+        sut.notifyListeners(output(ByteArrayCodec.INSTANCE, "message", "a", "1"));
+
+        assertThat(received).containsExactly("a:1");
+    }
+
+    @Test
+    public void shouldRemoveListeners() {
+
+        RecordingListener listener = new RecordingListener("listener", received);
+
+        sut.addChannelListener("a", listener);
+        sut.addPatternListener("a*", listener);
+        assertThat(sut.isEmpty()).isFalse();
+
+        sut.removeChannelListener("a", listener);
+        sut.removePatternListener("a*", listener);
+
+        sut.notifyListeners(output(StringCodec.UTF8, "message", "a", "1"));
+
+        assertThat(sut.isEmpty()).isTrue();
+        assertThat(received).isEmpty();
+    }
+
+    private static <K, V> PubSubOutput<K, V, V> output(RedisCodec<K, V> codec, String... elements) {
+
+        PubSubOutput<K, V, V> output = new PubSubOutput<>(codec);
+
+        for (String element : elements) {
+            output.set(ByteBuffer.wrap(element.getBytes()));
+        }
+
+        return output;
+    }
+
+    private static class RecordingListener extends RedisPubSubAdapter<String, String> {
+
+        private final String name;
+        private final List<String> received;
+
+        RecordingListener(String name, List<String> received) {
+            this.name = name;
+            this.received = received;
+        }
+
+        @Override
+        public void message(String channel, String message) {
+            received.add(name + ":" + channel + ":" + message);
+        }
+
+        @Override
+        public void message(String pattern, String channel, String message) {
+            received.add(name + ":" + pattern + ":" + channel + ":" + message);
+        }
+
+        @Override
+        public void subscribed(String channel, long count) {
+            received.add(name + ":subscribed:" + channel + ":" + count);
+        }
+
+        @Override
+        public void psubscribed(String pattern, long count) {
+            received.add(name + ":psubscribed:" + pattern + ":" + count);
+        }
+    }
+}
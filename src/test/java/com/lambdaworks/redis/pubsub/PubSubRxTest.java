@@ -32,6 +32,7 @@ import org.junit.Test;
 import rx.Observable;
 import rx.Subscription;
 import rx.observables.BlockingObservable;
+import rx.observers.TestSubscriber;
 
 import com.lambdaworks.Delay;
 import com.lambdaworks.TestClientResources;
@@ -45,6 +46,7 @@ import com.lambdaworks.redis.internal.LettuceFactories;
 import com.lambdaworks.redis.internal.LettuceLists;
 import com.lambdaworks.redis.pubsub.api.rx.ChannelMessage;
 import com.lambdaworks.redis.pubsub.api.rx.PatternMessage;
+import com.lambdaworks.redis.pubsub.api.rx.PubSubBackpressure;
 import com.lambdaworks.redis.pubsub.api.rx.RedisPubSubReactiveCommands;
 import com.lambdaworks.redis.pubsub.api.sync.RedisPubSubCommands;
 
@@ -109,6 +111,30 @@ public class PubSubRxTest extends AbstractRedisClientTest implements RedisPubSub
         assertThat(channelMessage.getMessage()).isEqualTo(message);
     }
 
+    @Test
+    public void observeChannelsWithBackpressure() throws Exception {
+
+        block(pubsub.subscribe(channel));
+
+        TestSubscriber<ChannelMessage<String, String>> subscriber = TestSubscriber.create(1);
+        pubsub.observeChannels(PubSubBackpressure.latest()).subscribe(subscriber);
+
+        redis.publish(channel, "1");
+        redis.publish(channel, "2");
+        redis.publish(channel, "3");
+
+        Wait.untilEquals(1, () -> subscriber.getOnNextEvents().size()).waitOrTimeout();
+        Delay.delay(Duration.ofMillis(200));
+
+        subscriber.requestMore(10);
+        Wait.untilEquals(2, () -> subscriber.getOnNextEvents().size()).waitOrTimeout();
+
+        assertThat(subscriber.getOnNextEvents().get(0).getMessage()).isEqualTo("1");
+        assertThat(subscriber.getOnNextEvents().get(1).getMessage()).isEqualTo("3");
+
+        subscriber.unsubscribe();
+    }
+
     @Test
     public void observeChannelsUnsubscribe() {
 
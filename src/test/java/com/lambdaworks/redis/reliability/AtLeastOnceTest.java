@@ -386,8 +386,12 @@ public class AtLeastOnceTest extends AbstractRedisClientTest {
 
     private <K, V> RedisChannelHandler<K, V> getRedisChannelHandler(RedisConnection<K, V> sync) {
 
-        InvocationHandler invocationHandler = Proxy.getInvocationHandler(sync);
-        return (RedisChannelHandler<K, V>) ReflectionTestUtils.getField(invocationHandler, "connection");
+        if (Proxy.isProxyClass(sync.getClass())) {
+            InvocationHandler invocationHandler = Proxy.getInvocationHandler(sync);
+            return (RedisChannelHandler<K, V>) ReflectionTestUtils.getField(invocationHandler, "connection");
+        }
+
+        return (RedisChannelHandler<K, V>) ReflectionTestUtils.getField(sync, "connection");
     }
 
     private <T> T getHandler(Class<T> handlerType, RedisChannelHandler<?, ?> channelHandler) {
@@ -58,6 +58,12 @@ public class JmhMain {
         // Runner(prepareOptions().mode(Mode.Throughput).timeUnit(TimeUnit.SECONDS).include(".*CommandHandlerBenchmark.*").build()).run();
     }
 
+    private static void runSyncApiBenchmark() throws RunnerException {
+
+        new Runner(prepareOptions().mode(Mode.AverageTime).timeUnit(TimeUnit.NANOSECONDS).include(".*SyncApiBenchmark.*")
+                .build()).run();
+    }
+
     private static void runCommandEncoderBenchmark() throws RunnerException {
 
         new Runner(prepareOptions().mode(Mode.AverageTime).timeUnit(TimeUnit.NANOSECONDS)
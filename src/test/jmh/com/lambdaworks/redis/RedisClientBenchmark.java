@@ -22,6 +22,8 @@ import org.openjdk.jmh.annotations.*;
 import rx.Observable;
 
 import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.api.sync.RedisCommands;
+import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
 import com.lambdaworks.redis.codec.ByteArrayCodec;
 
 /**
@@ -36,6 +38,7 @@ public class RedisClientBenchmark {
 
     private RedisClient redisClient;
     private StatefulRedisConnection<byte[], byte[]> connection;
+    private RedisCommands<byte[], byte[]> proxy;
     private RedisFuture commands[];
     private Observable observables[];
 
@@ -44,6 +47,8 @@ public class RedisClientBenchmark {
 
         redisClient = RedisClient.create(RedisURI.create(TestSettings.host(), TestSettings.port()));
         connection = redisClient.connect(ByteArrayCodec.INSTANCE);
+        proxy = ((StatefulRedisConnectionImpl<byte[], byte[]>) connection).syncHandler(connection.async(),
+                RedisCommands.class, RedisClusterCommands.class);
         commands = new RedisFuture[BATCH_SIZE];
         observables = new Observable[BATCH_SIZE];
     }
@@ -96,6 +101,11 @@ public class RedisClientBenchmark {
         connection.sync().set(KEY, KEY);
     }
 
+    @Benchmark
+    public void syncSetProxy() {
+        proxy.set(KEY, KEY);
+    }
+
     @Benchmark
     public void syncList() {
         connection.async().del(FOO);
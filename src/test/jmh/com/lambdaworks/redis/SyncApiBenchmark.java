@@ -0,0 +1,83 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.lambdaworks.redis.api.sync.RedisCommands;
+import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.protocol.RedisCommand;
+
+/**
+ * Benchmark comparing the generated synchronous API against the {@link java.lang.reflect.Proxy}-based synchronous API without
+ * I/O. Commands are completed as soon as they are written. See {@link RedisClientBenchmark#syncSet()} and
+ * {@link RedisClientBenchmark#syncSetProxy()} for the comparison against a Redis server.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class SyncApiBenchmark {
+
+    private final static byte[] KEY = "benchmark".getBytes();
+
+    private RedisCommands<byte[], byte[]> sync;
+    private RedisCommands<byte[], byte[]> proxy;
+
+    @Setup
+    public void setup() {
+
+        StatefulRedisConnectionImpl<byte[], byte[]> connection = new StatefulRedisConnectionImpl<>(
+                new CompletingRedisChannelWriter(), ByteArrayCodec.INSTANCE, 1, TimeUnit.MINUTES);
+
+        sync = connection.sync();
+        proxy = connection.syncHandler(connection.async(), RedisCommands.class, RedisClusterCommands.class);
+    }
+
+    @Benchmark
+    public String syncSet() {
+        return sync.set(KEY, KEY);
+    }
+
+    @Benchmark
+    public String syncSetProxy() {
+        return proxy.set(KEY, KEY);
+    }
+
+    @Benchmark
+    public byte[] syncGet() {
+        return sync.get(KEY);
+    }
+
+    @Benchmark
+    public byte[] syncGetProxy() {
+        return proxy.get(KEY);
+    }
+
+    private static class CompletingRedisChannelWriter extends EmptyRedisChannelWriter {
+
+        @Override
+        public RedisCommand write(RedisCommand command) {
+            command.complete();
+            return command;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.cluster;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.cluster.models.partitions.ClusterPartitionParser;
+import com.lambdaworks.redis.cluster.models.partitions.Partitions;
+
+/**
+ * Benchmark for {@link ClusterPartitionParser} using a {@code CLUSTER NODES} output of a 100 node cluster (50 masters, 50
+ * slaves). Masters own a fragmented slot range to resemble a cluster that was resharded a couple of times.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class ClusterPartitionParserBenchmark {
+
+    private static final int MASTERS = 50;
+    private static final int SLOT_RANGES_PER_MASTER = 4;
+
+    private String clusterNodes;
+
+    @Setup
+    public void setup() {
+
+        Random random = new Random(42);
+        String[] masterIds = new String[MASTERS];
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < MASTERS; i++) {
+            masterIds[i] = nodeId(random);
+        }
+
+        int ranges = MASTERS * SLOT_RANGES_PER_MASTER;
+        int slotsPerRange = SlotHash.SLOT_COUNT / ranges;
+
+        for (int i = 0; i < MASTERS; i++) {
+
+            builder.append(masterIds[i]).append(" 10.0.0.").append(i + 1).append(":6379@16379 ");
+            builder.append(i == 0 ? "myself,master" : "master").append(" - 0 1508938384000 ").append(i + 1)
+                    .append(" connected");
+
+            for (int range = i; range < ranges; range += MASTERS) {
+
+                int from = range * slotsPerRange;
+                int to = range == ranges - 1 ? SlotHash.SLOT_COUNT - 1 : from + slotsPerRange - 1;
+                builder.append(' ').append(from).append('-').append(to);
+            }
+
+            builder.append('\n');
+        }
+
+        for (int i = 0; i < MASTERS; i++) {
+
+            builder.append(nodeId(random)).append(" 10.0.1.").append(i + 1).append(":6379@16379 slave ")
+                    .append(masterIds[i]).append(" 0 1508938384000 ").append(i + 1).append(" connected\n");
+        }
+
+        clusterNodes = builder.toString();
+    }
+
+    @Benchmark
+    public Partitions parse() {
+        return ClusterPartitionParser.parse(clusterNodes);
+    }
+
+    private static String nodeId(Random random) {
+
+        StringBuilder builder = new StringBuilder(40);
+        for (int i = 0; i < 40; i++) {
+            builder.append(Character.forDigit(random.nextInt(16), 16));
+        }
+        return builder.toString();
+    }
+}
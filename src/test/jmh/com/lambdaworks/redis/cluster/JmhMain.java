@@ -34,6 +34,7 @@ public class JmhMain {
     public static void main(String... args) throws RunnerException {
 
         // runClusterDistributionChannelWriterBenchmark();
+        // runClusterPartitionParserBenchmark();
         runSlotHashBenchmark();
     }
 
@@ -45,6 +46,14 @@ public class JmhMain {
                 .build()).run();
     }
 
+    private static void runClusterPartitionParserBenchmark() throws RunnerException {
+
+        new Runner(prepareOptions().mode(Mode.AverageTime) //
+                .timeUnit(TimeUnit.MICROSECONDS) //
+                .include(".*ClusterPartitionParserBenchmark.*") //
+                .build()).run();
+    }
+
     private static void runSlotHashBenchmark() throws RunnerException {
 
         new Runner(prepareOptions().mode(Mode.AverageTime) //
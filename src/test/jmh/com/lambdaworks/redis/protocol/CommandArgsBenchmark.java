@@ -0,0 +1,102 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.protocol;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * Benchmark for building and encoding {@link CommandArgs} of bulk commands. Run with the GC profiler to compare allocation
+ * rates. Test cases:
+ * <ul>
+ * <li>Build {@code ZADD key score member [score member ...]} arguments with integral and fractional scores</li>
+ * <li>Build {@code HMSET key field value [field value ...]} arguments</li>
+ * <li>Build and encode {@code ZADD} arguments</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class CommandArgsBenchmark {
+
+    private final static ByteArrayCodec CODEC = ByteArrayCodec.INSTANCE;
+    private final static byte[] KEY = "key".getBytes();
+    private final static byte[] VALUE = "value".getBytes();
+
+    @Param({ "10", "1000" })
+    int members;
+
+    private ByteBuf target;
+
+    @Setup
+    public void setup() {
+        target = PooledByteBufAllocator.DEFAULT.directBuffer(members * 64);
+    }
+
+    @TearDown
+    public void tearDown() {
+        target.release();
+    }
+
+    @Benchmark
+    public void createZadd(Blackhole blackhole) {
+        blackhole.consume(createZadd());
+    }
+
+    @Benchmark
+    public void createZaddWithFractionalScores(Blackhole blackhole) {
+
+        CommandArgs<byte[], byte[]> args = new CommandArgs<>(CODEC).addKey(KEY);
+        for (int i = 0; i < members; i++) {
+            args.add(i + 0.5d).addValue(VALUE);
+        }
+
+        blackhole.consume(args);
+    }
+
+    @Benchmark
+    public void createHmset(Blackhole blackhole) {
+
+        CommandArgs<byte[], byte[]> args = new CommandArgs<>(CODEC).addKey(KEY);
+        for (int i = 0; i < members; i++) {
+            args.addKey(KEY).addValue(VALUE);
+        }
+
+        blackhole.consume(args);
+    }
+
+    @Benchmark
+    public void createAndEncodeZadd() {
+
+        target.clear();
+        createZadd().encode(target);
+    }
+
+    private CommandArgs<byte[], byte[]> createZadd() {
+
+        CommandArgs<byte[], byte[]> args = new CommandArgs<>(CODEC).addKey(KEY);
+        for (int i = 0; i < members; i++) {
+            args.add((double) i).addValue(VALUE);
+        }
+
+        return args;
+    }
+}
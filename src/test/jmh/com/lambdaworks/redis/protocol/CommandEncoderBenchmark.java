@@ -0,0 +1,115 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.protocol;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.codec.StringCodec;
+import com.lambdaworks.redis.output.StatusOutput;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * Benchmark for {@link CommandEncoder} encoding {@code MSET} commands with small and large argument lists. Test cases:
+ * <ul>
+ * <li>Encode a single command and a batch of commands using String and ByteArray codecs</li>
+ * <li>Encode into a buffer sized by {@link CommandEncoder#allocateBuffer} and into a default-sized buffer</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class CommandEncoderBenchmark {
+
+    private final static ByteArrayCodec BYTE_ARRAY_CODEC = new ByteArrayCodec();
+    private final static StringCodec STRING_CODEC = StringCodec.UTF8;
+    private final static int BATCH_SIZE = 16;
+
+    private final static EmptyContext CHANNEL_HANDLER_CONTEXT = new EmptyContext() {
+        @Override
+        public ByteBufAllocator alloc() {
+            return PooledByteBufAllocator.DEFAULT;
+        }
+    };
+
+    @Param({ "2", "100", "10000" })
+    int argumentCount;
+
+    private final CommandEncoder commandEncoder = new CommandEncoder();
+
+    private Command<byte[], byte[], String> byteArrayCommand;
+    private Command<String, String, String> stringCommand;
+    private List<Command<byte[], byte[], String>> batch;
+
+    @Setup
+    public void setup() {
+
+        byteArrayCommand = createCommand(BYTE_ARRAY_CODEC, "key".getBytes(), "value".getBytes());
+        stringCommand = createCommand(STRING_CODEC, "key", "value");
+
+        batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(byteArrayCommand);
+        }
+    }
+
+    @Benchmark
+    public void encodeUsingByteArrayCodec() throws Exception {
+        encode(byteArrayCommand);
+    }
+
+    @Benchmark
+    public void encodeUsingStringCodec() throws Exception {
+        encode(stringCommand);
+    }
+
+    @Benchmark
+    public void encodeBatchUsingByteArrayCodec() throws Exception {
+        encode(batch);
+    }
+
+    @Benchmark
+    public void encodeUsingByteArrayCodecIntoDefaultBuffer() throws Exception {
+
+        ByteBuf target = CHANNEL_HANDLER_CONTEXT.alloc().ioBuffer();
+        commandEncoder.encode(CHANNEL_HANDLER_CONTEXT, byteArrayCommand, target);
+        target.release();
+    }
+
+    private void encode(Object msg) throws Exception {
+
+        ByteBuf target = commandEncoder.allocateBuffer(CHANNEL_HANDLER_CONTEXT, msg, true);
+        commandEncoder.encode(CHANNEL_HANDLER_CONTEXT, msg, target);
+        target.release();
+    }
+
+    private <K, V> Command<K, V, String> createCommand(RedisCodec<K, V> codec, K key, V value) {
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec);
+        for (int i = 0; i < argumentCount; i += 2) {
+            args.addKey(key).addValue(value);
+        }
+
+        return new Command<>(CommandType.MSET, new StatusOutput<>(codec), args);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.protocol;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.ClientOptions;
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.output.ValueOutput;
+
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+/**
+ * Multi-threaded benchmark for {@link CommandHandler} writer coordination. Test cases:
+ * <ul>
+ * <li>concurrent user command writes with 1, 8 and 64 threads</li>
+ * <li>concurrent user command writes contending with a thread acquiring the exclusive lock by flushing commands</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class CommandHandlerConcurrencyBenchmark {
+
+    private final static ByteArrayCodec CODEC = new ByteArrayCodec();
+    private final static ClientOptions CLIENT_OPTIONS = ClientOptions.builder().build();
+    private final static byte[] KEY = "key".getBytes();
+    private final static EmptyPromise EMPTY = new EmptyPromise();
+
+    private CommandHandler commandHandler;
+    private Command command;
+
+    @Setup
+    public void setup() {
+
+        commandHandler = new CommandHandler(CLIENT_OPTIONS, EmptyClientResources.INSTANCE);
+        command = new Command(CommandType.GET, new ValueOutput<>(CODEC), new CommandArgs(CODEC).addKey(KEY));
+
+        commandHandler.setState(CommandHandler.LifecycleState.CONNECTED);
+        commandHandler.channel = new MyLocalChannel();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        commandHandler.reset();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void measureUserWrite1Thread() {
+        commandHandler.write(command);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void measureUserWrite8Threads() {
+        commandHandler.write(command);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void measureUserWrite64Threads() {
+        commandHandler.write(command);
+    }
+
+    @Benchmark
+    @Group("writeAndFlush")
+    @GroupThreads(7)
+    public void measureUserWriteWithConcurrentFlush() {
+        commandHandler.write(command);
+    }
+
+    @Benchmark
+    @Group("writeAndFlush")
+    @GroupThreads(1)
+    public void measureFlushWithConcurrentUserWrite() {
+        commandHandler.flushCommands();
+    }
+
+    private final static class MyLocalChannel extends EmbeddedChannel {
+
+        @Override
+        public boolean isActive() {
+            return true;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public ChannelFuture write(Object msg) {
+            return EMPTY;
+        }
+
+        @Override
+        public ChannelFuture write(Object msg, ChannelPromise promise) {
+            return promise;
+        }
+
+        @Override
+        public ChannelFuture writeAndFlush(Object msg) {
+            return EMPTY;
+        }
+
+        @Override
+        public ChannelFuture writeAndFlush(Object msg, ChannelPromise promise) {
+            return promise;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.protocol;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.ClientOptions;
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.output.ValueOutput;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * Benchmark for {@link CommandHandler#channelRead(io.netty.channel.ChannelHandlerContext, Object)} decoding deep pipelines
+ * of bulk replies that arrive in multiple socket reads.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class CommandHandlerDecodeBenchmark {
+
+    private final static ByteArrayCodec CODEC = new ByteArrayCodec();
+    private final static ClientOptions CLIENT_OPTIONS = ClientOptions.create();
+    private final static EmptyContext CHANNEL_HANDLER_CONTEXT = new EmptyContext();
+    private final static byte[] KEY = "key".getBytes();
+    private final static int READ_SIZE = 16 * 1024;
+
+    @Param({ "1", "100", "1000" })
+    int pipelineDepth;
+
+    @Param({ "64", "8192", "65536" })
+    int valueSize;
+
+    private CommandHandler<byte[], byte[]> commandHandler;
+    private Command<byte[], byte[], byte[]> command;
+    private ByteBuf response;
+    private List<ByteBuf> reads;
+
+    @Setup
+    public void setup() {
+
+        commandHandler = new CommandHandler<>(CLIENT_OPTIONS, EmptyClientResources.INSTANCE);
+        command = new Command<>(CommandType.GET, new ValueOutput<>(CODEC), new CommandArgs<>(CODEC).addKey(KEY));
+
+        byte[] value = new byte[valueSize];
+        Arrays.fill(value, (byte) 'x');
+        byte[] header = ("$" + valueSize + "\r\n").getBytes();
+
+        response = PooledByteBufAllocator.DEFAULT.directBuffer((header.length + valueSize + 2) * pipelineDepth);
+        for (int i = 0; i < pipelineDepth; i++) {
+            response.writeBytes(header).writeBytes(value).writeByte('\r').writeByte('\n');
+        }
+
+        reads = new ArrayList<>();
+        for (int offset = 0; offset < response.writerIndex(); offset += READ_SIZE) {
+            reads.add(response.slice(offset, Math.min(READ_SIZE, response.writerIndex() - offset)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        commandHandler.close();
+        response.release();
+    }
+
+    @Benchmark
+    public void measureDecodePipeline() throws Exception {
+
+        for (int i = 0; i < pipelineDepth; i++) {
+            commandHandler.stack.add(command);
+        }
+
+        for (ByteBuf read : reads) {
+            commandHandler.channelRead(CHANNEL_HANDLER_CONTEXT, read.retainedDuplicate());
+        }
+    }
+}
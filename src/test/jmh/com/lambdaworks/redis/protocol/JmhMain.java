@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.util.concurrent.TimeUnit;
 
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
@@ -37,8 +38,11 @@ public class JmhMain {
         // run selectively
         // runCommandBenchmark();
         runCommandHandlerBenchmark();
+        // runCommandHandlerConcurrencyBenchmark();
         // runRedisStateMachineBenchmark();
         // runCommandEncoderBenchmark();
+        // runCommandHandlerDecodeBenchmark();
+        // runCommandArgsBenchmark();
 
         // or all
         // runBenchmarks();
@@ -65,6 +69,19 @@ public class JmhMain {
         // Runner(prepareOptions().mode(Mode.Throughput).timeUnit(TimeUnit.SECONDS).include(".*CommandHandlerBenchmark.*").build()).run();
     }
 
+    private static void runCommandHandlerConcurrencyBenchmark() throws RunnerException {
+
+        new Runner(new OptionsBuilder().forks(1).warmupIterations(5).measurementIterations(5).timeout(TimeValue.seconds(2))
+                .mode(Mode.AverageTime).timeUnit(TimeUnit.NANOSECONDS).include(".*CommandHandlerConcurrencyBenchmark.*")
+                .build()).run();
+    }
+
+    private static void runCommandHandlerDecodeBenchmark() throws RunnerException {
+
+        new Runner(prepareOptions().mode(Mode.AverageTime).timeUnit(TimeUnit.MICROSECONDS)
+                .include(".*CommandHandlerDecodeBenchmark.*").build()).run();
+    }
+
     private static void runCommandEncoderBenchmark() throws RunnerException {
 
         new Runner(prepareOptions().mode(Mode.AverageTime).timeUnit(TimeUnit.NANOSECONDS)
@@ -73,10 +90,16 @@ public class JmhMain {
         // Runner(prepareOptions().mode(Mode.Throughput).timeUnit(TimeUnit.SECONDS).include(".*CommandHandlerBenchmark.*").build()).run();
     }
 
+    private static void runCommandArgsBenchmark() throws RunnerException {
+
+        new Runner(prepareOptions().mode(Mode.AverageTime).timeUnit(TimeUnit.NANOSECONDS).include(".*CommandArgsBenchmark.*")
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+
     private static void runRedisStateMachineBenchmark() throws RunnerException {
 
         new Runner(prepareOptions().mode(Mode.AverageTime).timeUnit(TimeUnit.NANOSECONDS)
-                .include(".*RedisStateMachineBenchmark.*").build()).run();
+                .include(".*RedisStateMachineBenchmark.*").addProfiler(GCProfiler.class).build()).run();
         // new
         // Runner(prepareOptions().mode(Mode.Throughput).timeUnit(TimeUnit.SECONDS).include(".*CommandHandlerBenchmark.*").build()).run();
     }
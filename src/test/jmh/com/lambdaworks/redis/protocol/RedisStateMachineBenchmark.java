@@ -57,6 +57,9 @@ public class RedisStateMachineBenchmark {
             }, new CommandArgs(BYTE_ARRAY_CODEC).addKey(new byte[] { 1, 2, 3, 4 }));
 
     private ByteBuf masterBuffer;
+    private ByteBuf multiBuffer;
+
+    private final static int MULTI_ELEMENTS = 10000;
 
     private final RedisStateMachine<byte[], byte[]> stateMachine = new RedisStateMachine<>();
     private final byte[] payload = ("*3\r\n" + //
@@ -71,11 +74,18 @@ public class RedisStateMachineBenchmark {
     public void setup() {
         masterBuffer = PooledByteBufAllocator.DEFAULT.ioBuffer(32);
         masterBuffer.writeBytes(payload);
+
+        multiBuffer = PooledByteBufAllocator.DEFAULT.ioBuffer(MULTI_ELEMENTS * 16);
+        multiBuffer.writeBytes(("*" + MULTI_ELEMENTS + "\r\n").getBytes());
+        for (int i = 0; i < MULTI_ELEMENTS; i++) {
+            multiBuffer.writeBytes("$5\r\nvalue\r\n".getBytes());
+        }
     }
 
     @TearDown
     public void tearDown() {
         masterBuffer.release();
+        multiBuffer.release();
     }
 
     @Benchmark
@@ -84,6 +94,16 @@ public class RedisStateMachineBenchmark {
         masterBuffer.readerIndex(0);
     }
 
+    /**
+     * Decodes a {@code MULTI} reply of {@code 10000} bulk elements. Run with the GC profiler to report allocated bytes per
+     * operation.
+     */
+    @Benchmark
+    public void measureDecodeMulti() {
+        stateMachine.decode(multiBuffer, byteArrayCommand, byteArrayCommand.getOutput());
+        multiBuffer.readerIndex(0);
+    }
+
     public static void main(String[] args) {
 
         RedisStateMachineBenchmark b = new RedisStateMachineBenchmark();